@@ -27,6 +27,7 @@ package net.runelite.cache;
 
 import net.runelite.cache.definitions.ObjectDefinition;
 import net.runelite.cache.fs.Store;
+import net.runelite.cache.fs.jagex.DiskStorage;
 import net.runelite.cache.region.Location;
 import net.runelite.cache.region.Position;
 import net.runelite.cache.region.Region;
@@ -39,8 +40,13 @@ import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileOutputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 import java.util.BitSet;
 import java.util.Collection;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.zip.CRC32;
 
 /**
  * Collision map dumper
@@ -50,8 +56,25 @@ import java.util.Collection;
  * and replace "mapsquare" with "region" and "key" with "keys".
  * Compile the client with "mvn install -f pom.xml -DskipTests -U".
  * Run "java net.runelite.cache.CollisionMapDumper --cachedir ../cache --xteapath ../keys.json --outputdir ../output"
+ * <p>
+ * Besides a file per region, the output directory receives {@value #MAP_FILE_NAME}, the single file the shortest path
+ * plugin loads. All its values are little-endian:
+ * <ul>
+ * <li>a header of eight ints: {@link #MAP_FILE_MAGIC}, {@link #MAP_FILE_VERSION}, the CRC32 of everything after the
+ * header, the region extents minX, minY, maxX and maxY, and one unused int</li>
+ * <li>a table with two ints per region within the extents, row by row starting at minX, minY: the byte offset of the
+ * region's flags and the number of 64-bit words they take, both 0 for regions without collision data</li>
+ * <li>the flags of each region as the words of its {@link BitSet}, uncompressed and 8-byte aligned so the file can be
+ * memory-mapped and read a word at a time</li>
+ * </ul>
  */
 public class CollisionMapDumper {
+    public static final String MAP_FILE_NAME = "collision-map.bin";
+    // "CMAP" in little-endian byte order
+    public static final int MAP_FILE_MAGIC = 0x50414D43;
+    public static final int MAP_FILE_VERSION = 1;
+    private static final int MAP_FILE_HEADER_SIZE = 32;
+
     private final RegionLoader regionLoader;
     private final ObjectManager objectManager;
 
@@ -93,7 +116,7 @@ public class CollisionMapDumper {
         File outDir = new File(outputDirectory);
         outDir.mkdirs();
 
-        try (Store store = new Store(base)) {
+        try (Store store = new Store(new DiskStorage(base, true))) {
             store.load();
 
             CollisionMapDumper dumper = new CollisionMapDumper(store, xteaKeyManager);
@@ -104,15 +127,88 @@ public class CollisionMapDumper {
             int n = 0;
             int total = regions.size();
 
+            Map<Integer, byte[]> regionFlags = new TreeMap<>();
             for (Region region : regions) {
-                dumper.makeCollisionMap(region, outputDirectory, ++n, total);
+                byte[] flags = dumper.makeCollisionMap(region, outputDirectory, ++n, total);
+                if (flags.length > 0) {
+                    regionFlags.put(region.getRegionX() | region.getRegionY() << 16, flags);
+                }
             }
+
+            writeMapFile(regionFlags, new File(outDir, MAP_FILE_NAME));
+            System.out.println("Exported " + regionFlags.size() + " regions to " + MAP_FILE_NAME);
+        }
+    }
+
+    /**
+     * Writes the collision flags of all regions to a single file in the format described above.
+     *
+     * @param regionFlags the flags of each region as returned by {@link BitSet#toByteArray()}, keyed by
+     *                    {@code regionX | regionY << 16}
+     */
+    public static void writeMapFile(Map<Integer, byte[]> regionFlags, File file) throws IOException {
+        int minX = Integer.MAX_VALUE;
+        int minY = Integer.MAX_VALUE;
+        int maxX = 0;
+        int maxY = 0;
+        int dataSize = 0;
+        for (Map.Entry<Integer, byte[]> entry : regionFlags.entrySet()) {
+            int x = entry.getKey() & 0xFFFF;
+            int y = entry.getKey() >>> 16;
+            minX = Math.min(minX, x);
+            minY = Math.min(minY, y);
+            maxX = Math.max(maxX, x);
+            maxY = Math.max(maxY, y);
+            dataSize += wordCount(entry.getValue()) * Long.BYTES;
+        }
+        if (regionFlags.isEmpty()) {
+            minX = minY = 0;
         }
+
+        int width = maxX - minX + 1;
+        int height = maxY - minY + 1;
+        int tableSize = regionFlags.isEmpty() ? 0 : width * height * 2 * Integer.BYTES;
+        ByteBuffer buffer = ByteBuffer.allocate(MAP_FILE_HEADER_SIZE + tableSize + dataSize).order(ByteOrder.LITTLE_ENDIAN);
+        buffer.putInt(MAP_FILE_MAGIC);
+        buffer.putInt(MAP_FILE_VERSION);
+        buffer.putInt(0);
+        buffer.putInt(minX);
+        buffer.putInt(minY);
+        buffer.putInt(maxX);
+        buffer.putInt(maxY);
+        buffer.putInt(0);
+
+        int offset = MAP_FILE_HEADER_SIZE + tableSize;
+        for (Map.Entry<Integer, byte[]> entry : regionFlags.entrySet()) {
+            int x = entry.getKey() & 0xFFFF;
+            int y = entry.getKey() >>> 16;
+            byte[] flags = entry.getValue();
+            int words = wordCount(flags);
+            int slot = MAP_FILE_HEADER_SIZE + ((x - minX) + (y - minY) * width) * 2 * Integer.BYTES;
+            buffer.putInt(slot, offset);
+            buffer.putInt(slot + Integer.BYTES, words);
+            // BitSet bytes are already little-endian words, so the padding to whole words is all that's needed
+            buffer.position(offset);
+            buffer.put(flags);
+            offset += words * Long.BYTES;
+        }
+
+        CRC32 crc = new CRC32();
+        crc.update(buffer.array(), MAP_FILE_HEADER_SIZE, buffer.capacity() - MAP_FILE_HEADER_SIZE);
+        buffer.putInt(2 * Integer.BYTES, (int) crc.getValue());
+
+        try (FileOutputStream out = new FileOutputStream(file)) {
+            out.write(buffer.array());
+        }
+    }
+
+    private static int wordCount(byte[] flags) {
+        return (flags.length + Long.BYTES - 1) / Long.BYTES;
     }
 
     public CollisionMapDumper load() throws IOException {
         objectManager.load();
-        regionLoader.loadRegions();
+        regionLoader.loadRegionsParallel();
         regionLoader.calculateBounds();
 
         return this;
@@ -122,7 +218,7 @@ public class CollisionMapDumper {
         return objectManager.getObject(id);
     }
 
-    private void makeCollisionMap(Region region, String outputDirectory, int n, int total) {
+    private byte[] makeCollisionMap(Region region, String outputDirectory, int n, int total) {
         int baseX = region.getBaseX();
         int baseY = region.getBaseY();
 
@@ -149,6 +245,7 @@ public class CollisionMapDumper {
                 System.out.println("Unable to write compressed output bytes for " + name + ". " + e);
             }
         }
+        return buf;
     }
 
     private void addNeighborCollisions(FlagMap flagMap, Region region, int dx, int dy) {
@@ -52,7 +52,7 @@ public class HeightMapDumper
 	public void load(KeyProvider keyProvider) throws IOException
 	{
 		regionLoader = new RegionLoader(store, keyProvider);
-		regionLoader.loadRegions();
+		regionLoader.loadRegionsParallel();
 		regionLoader.calculateBounds();
 	}
 
@@ -56,6 +56,7 @@ import net.runelite.cache.fs.FSFile;
 import net.runelite.cache.fs.Index;
 import net.runelite.cache.fs.Storage;
 import net.runelite.cache.fs.Store;
+import net.runelite.cache.fs.jagex.DiskStorage;
 import net.runelite.cache.item.RSTextureProvider;
 import net.runelite.cache.models.JagexColor;
 import net.runelite.cache.region.Location;
@@ -188,7 +189,7 @@ public class MapImageDumper
 		File outDir = new File(outputDirectory);
 		outDir.mkdirs();
 
-		try (Store store = new Store(base))
+		try (Store store = new Store(new DiskStorage(base, true)))
 		{
 			store.load();
 
@@ -1767,7 +1768,7 @@ public class MapImageDumper
 
 	private void loadRegions() throws IOException
 	{
-		regionLoader.loadRegions();
+		regionLoader.loadRegionsParallel();
 		regionLoader.calculateBounds();
 
 		log.debug("North most region: {}", regionLoader.getLowestY().getBaseY());
@@ -26,7 +26,9 @@ package net.runelite.cache.fs;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.Setter;
@@ -61,6 +63,8 @@ public class Index
 	private int compression; // compression method of this index's data in 255
 
 	private final List<Archive> archives = new ArrayList<>();
+	// name hash -> first archive with that hash, rebuilt on the next lookup after archives or their names change
+	private volatile Map<Integer, Archive> archivesByNameHash;
 
 	public Index(int id)
 	{
@@ -83,6 +87,7 @@ public class Index
 		idx = -idx - 1;
 		Archive archive = new Archive(this, id);
 		this.archives.add(idx, archive);
+		archivesByNameHash = null;
 		return archive;
 	}
 
@@ -127,20 +132,43 @@ public class Index
 
 	public boolean removeArchive(Archive archive)
 	{
+		archivesByNameHash = null;
 		return archives.remove(archive);
 	}
 
 	public Archive findArchiveByName(String name)
 	{
-		int hash = Djb2.hash(name);
-		for (Archive a : archives)
+		return getArchivesByNameHash().get(Djb2.hash(name));
+	}
+
+	void nameHashChanged()
+	{
+		archivesByNameHash = null;
+	}
+
+	private Map<Integer, Archive> getArchivesByNameHash()
+	{
+		Map<Integer, Archive> byNameHash = archivesByNameHash;
+		if (byNameHash != null)
+		{
+			return byNameHash;
+		}
+
+		synchronized (this)
 		{
-			if (a.getNameHash() == hash)
+			byNameHash = archivesByNameHash;
+			if (byNameHash == null)
 			{
-				return a;
+				byNameHash = new HashMap<>(archives.size() * 2);
+				for (Archive a : archives)
+				{
+					// archives are sorted by id, so the lowest id wins like it did with the linear scan
+					byNameHash.putIfAbsent(a.getNameHash(), a);
+				}
+				archivesByNameHash = byNameHash;
 			}
+			return byNameHash;
 		}
-		return null;
 	}
 
 	public IndexData toIndexData()
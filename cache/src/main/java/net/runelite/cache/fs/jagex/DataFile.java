@@ -30,6 +30,8 @@ import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.io.RandomAccessFile;
 import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -38,12 +40,55 @@ public class DataFile implements Closeable
 	private static final Logger logger = LoggerFactory.getLogger(DataFile.class);
 
 	private static final int SECTOR_SIZE = 520;
+	// a whole number of sectors, so a sector never spans two mappings
+	private static final int SECTORS_PER_MAPPING = 1 << 21;
+	private static final long MAPPING_SIZE = (long) SECTOR_SIZE * SECTORS_PER_MAPPING;
 
 	private final RandomAccessFile dat;
+	private final FileChannel channel;
+	private final boolean readOnly;
+	private final MappedByteBuffer[] mappings;
 
 	public DataFile(File file) throws FileNotFoundException
 	{
 		this.dat = new RandomAccessFile(file, "rw");
+		this.channel = dat.getChannel();
+		this.readOnly = false;
+		this.mappings = null;
+	}
+
+	/**
+	 * Opens a data file for reading only. The file is memory mapped, and sectors appended after
+	 * it was opened are read from the file instead.
+	 */
+	public static DataFile openReadOnly(File file) throws IOException
+	{
+		RandomAccessFile dat = new RandomAccessFile(file, "r");
+		try
+		{
+			return new DataFile(dat);
+		}
+		catch (IOException | RuntimeException e)
+		{
+			// mapping can fail, e.g. when the address space is exhausted
+			dat.close();
+			throw e;
+		}
+	}
+
+	private DataFile(RandomAccessFile dat) throws IOException
+	{
+		this.dat = dat;
+		this.channel = dat.getChannel();
+		this.readOnly = true;
+
+		long size = channel.size();
+		this.mappings = new MappedByteBuffer[(int) ((size + MAPPING_SIZE - 1) / MAPPING_SIZE)];
+		for (int i = 0; i < mappings.length; ++i)
+		{
+			long position = i * MAPPING_SIZE;
+			mappings[i] = channel.map(FileChannel.MapMode.READ_ONLY, position, Math.min(MAPPING_SIZE, size - position));
+		}
 	}
 
 	@Override
@@ -54,6 +99,11 @@ public class DataFile implements Closeable
 
 	public void clear() throws IOException
 	{
+		if (readOnly)
+		{
+			throw new IOException("Data file is read only");
+		}
+
 		dat.setLength(0L);
 	}
 
@@ -66,11 +116,13 @@ public class DataFile implements Closeable
 	 * @return
 	 * @throws IOException
 	 */
-	public synchronized byte[] read(int indexId, int archiveId, int sector, int size) throws IOException
+	public byte[] read(int indexId, int archiveId, int sector, int size) throws IOException
 	{
-		if (sector <= 0L || dat.length() / SECTOR_SIZE < (long) sector)
+		// reads are positional and don't move the file pointer, so they need no lock and can run alongside a write
+		long length = channel.size();
+		if (sector <= 0L || length / SECTOR_SIZE < (long) sector)
 		{
-			logger.warn("bad read, dat length {}, requested sector {}", dat.length(), sector);
+			logger.warn("bad read, dat length {}, requested sector {}", length, sector);
 			return null;
 		}
 
@@ -87,8 +139,6 @@ public class DataFile implements Closeable
 				return null;
 			}
 
-			dat.seek(SECTOR_SIZE * sector);
-
 			int dataBlockSize = size - readBytesCount;
 			byte headerSize;
 			int currentIndex;
@@ -102,7 +152,7 @@ public class DataFile implements Closeable
 					dataBlockSize = SECTOR_SIZE - headerSize;
 				}
 
-				int i = dat.read(readBuffer, 0, headerSize + dataBlockSize);
+				int i = readSector(sector, readBuffer, headerSize + dataBlockSize);
 				if (i != headerSize + dataBlockSize)
 				{
 					logger.warn("Short read when reading file data for {}/{}", indexId, archiveId);
@@ -127,7 +177,7 @@ public class DataFile implements Closeable
 					dataBlockSize = SECTOR_SIZE - headerSize;
 				}
 
-				int i = dat.read(readBuffer, 0, headerSize + dataBlockSize);
+				int i = readSector(sector, readBuffer, headerSize + dataBlockSize);
 				if (i != headerSize + dataBlockSize)
 				{
 					logger.warn("short read");
@@ -153,7 +203,7 @@ public class DataFile implements Closeable
 				return null;
 			}
 
-			if (nextSector < 0 || dat.length() / SECTOR_SIZE < (long) nextSector)
+			if (nextSector < 0 || length / SECTOR_SIZE < (long) nextSector)
 			{
 				logger.warn("Invalid next sector");
 				return null;
@@ -169,8 +219,39 @@ public class DataFile implements Closeable
 		return buffer.array();
 	}
 
+	private int readSector(int sector, byte[] buffer, int length) throws IOException
+	{
+		if (mappings != null && sector / SECTORS_PER_MAPPING < mappings.length)
+		{
+			ByteBuffer mapping = mappings[sector / SECTORS_PER_MAPPING].duplicate();
+			int offset = (sector % SECTORS_PER_MAPPING) * SECTOR_SIZE;
+			if (offset + length <= mapping.limit())
+			{
+				mapping.position(offset);
+				mapping.get(buffer, 0, length);
+				return length;
+			}
+		}
+
+		ByteBuffer dst = ByteBuffer.wrap(buffer, 0, length);
+		long position = (long) SECTOR_SIZE * sector;
+		while (dst.hasRemaining())
+		{
+			if (channel.read(dst, position + dst.position()) < 0)
+			{
+				break;
+			}
+		}
+		return dst.position();
+	}
+
 	public synchronized DataFileWriteResult write(int indexId, int archiveId, byte[] compressedData) throws IOException
 	{
+		if (readOnly)
+		{
+			throw new IOException("Data file is read only");
+		}
+
 		int sector;
 		int startSector;
 
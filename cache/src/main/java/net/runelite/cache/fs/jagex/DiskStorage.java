@@ -53,10 +53,19 @@ public class DiskStorage implements Storage
 	private final List<IndexFile> indexFiles = new ArrayList<>();
 
 	public DiskStorage(File folder) throws IOException
+	{
+		this(folder, false);
+	}
+
+	/**
+	 * @param readOnly memory map the data file for concurrent reads, the storage can't be saved
+	 */
+	public DiskStorage(File folder, boolean readOnly) throws IOException
 	{
 		this.folder = folder;
 
-		this.data = new DataFile(new File(folder, MAIN_FILE_CACHE_DAT));
+		File dataFile = new File(folder, MAIN_FILE_CACHE_DAT);
+		this.data = readOnly ? DataFile.openReadOnly(dataFile) : new DataFile(dataFile);
 		this.index255 = new IndexFile(255, new File(folder, MAIN_FILE_CACHE_IDX + "255"));
 	}
 
@@ -83,7 +92,8 @@ public class DiskStorage implements Storage
 		}
 	}
 
-	private IndexFile getIndex(int i) throws FileNotFoundException
+	// synchronized as archives may be loaded from several threads, see RegionLoader#loadRegionsParallel
+	private synchronized IndexFile getIndex(int i) throws FileNotFoundException
 	{
 		if (i == 255)
 		{
@@ -28,6 +28,7 @@ import java.io.IOException;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.stream.IntStream;
 import lombok.extern.slf4j.Slf4j;
 import net.runelite.cache.IndexType;
 import net.runelite.cache.definitions.LocationsDefinition;
@@ -80,7 +81,50 @@ public class RegionLoader
 		}
 	}
 
+	/**
+	 * Loads all regions like {@link #loadRegions()}, but reads, decrypts and parses them on the common fork-join pool.
+	 * The regions are added in id order afterwards, so the result is the same as a sequential load.
+	 */
+	public void loadRegionsParallel() throws IOException
+	{
+		if (!this.regions.isEmpty())
+		{
+			return;
+		}
+
+		Region[] loaded = new Region[MAX_REGION];
+		IntStream.range(0, MAX_REGION).parallel().forEach(i ->
+		{
+			try
+			{
+				loaded[i] = this.readRegion(i);
+			}
+			catch (IOException ex)
+			{
+				log.debug("Can't decrypt region " + i, ex);
+			}
+		});
+
+		for (int i = 0; i < MAX_REGION; ++i)
+		{
+			if (loaded[i] != null)
+			{
+				regions.put(i, loaded[i]);
+			}
+		}
+	}
+
 	public Region loadRegionFromArchive(int i) throws IOException
+	{
+		Region region = readRegion(i);
+		if (region != null)
+		{
+			regions.put(i, region);
+		}
+		return region;
+	}
+
+	private Region readRegion(int i) throws IOException
 	{
 		int x = i >> 8;
 		int y = i & 0xFF;
@@ -111,8 +155,6 @@ public class RegionLoader
 			region.loadLocations(locDef);
 		}
 
-		regions.put(i, region);
-
 		return region;
 	}
 
@@ -0,0 +1,66 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache.fs;
+
+import net.runelite.cache.util.Djb2;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class IndexTest
+{
+	@Test
+	public void testFindArchiveByName()
+	{
+		Index index = new Index(5);
+		Archive m50 = index.addArchive(2);
+		m50.setNameHash(Djb2.hash("m50_50"));
+		Archive l50 = index.addArchive(1);
+		l50.setNameHash(Djb2.hash("l50_50"));
+
+		Assert.assertSame(m50, index.findArchiveByName("m50_50"));
+		Assert.assertSame(l50, index.findArchiveByName("l50_50"));
+		Assert.assertNull(index.findArchiveByName("m51_50"));
+
+		// lookups see archives added and renamed after the first lookup
+		Archive m51 = index.addArchive(3);
+		m51.setNameHash(Djb2.hash("m51_50"));
+		Assert.assertSame(m51, index.findArchiveByName("m51_50"));
+
+		index.removeArchive(m50);
+		Assert.assertNull(index.findArchiveByName("m50_50"));
+	}
+
+	@Test
+	public void testFindArchiveByNameDuplicate()
+	{
+		Index index = new Index(5);
+		index.addArchive(7).setNameHash(Djb2.hash("m50_50"));
+		Archive first = index.addArchive(3);
+		first.setNameHash(Djb2.hash("m50_50"));
+
+		// the archive with the lowest id is found, as with the previous linear scan
+		Assert.assertSame(first, index.findArchiveByName("m50_50"));
+	}
+}
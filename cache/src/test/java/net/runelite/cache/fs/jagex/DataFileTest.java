@@ -26,6 +26,7 @@ package net.runelite.cache.fs.jagex;
 
 import java.io.File;
 import java.io.IOException;
+import java.util.stream.IntStream;
 import net.runelite.cache.StoreLocation;
 import net.runelite.cache.fs.Container;
 import org.junit.Assert;
@@ -167,4 +168,53 @@ public class DataFileTest
 		Assert.assertEquals("testtesttesttest1", str);
 		Assert.assertEquals(42, res2.revision);
 	}
+
+	@Test
+	public void testReadOnly() throws IOException
+	{
+		File file = folder.newFile();
+		byte[][] data = new byte[64][];
+		DataFileWriteResult[] results = new DataFileWriteResult[data.length];
+
+		try (DataFile df = new DataFile(file))
+		{
+			for (int i = 0; i < data.length; ++i)
+			{
+				data[i] = new byte[i * 97];
+				for (int j = 0; j < data[i].length; ++j)
+				{
+					data[i][j] = (byte) (i + j);
+				}
+				results[i] = df.write(42, i, data[i]);
+			}
+		}
+
+		try (DataFile df = DataFile.openReadOnly(file))
+		{
+			IntStream.range(0, data.length * 16).parallel().forEach(n ->
+			{
+				int i = n % data.length;
+				try
+				{
+					byte[] read = df.read(42, i, results[i].sector, results[i].compressedLength);
+					Assert.assertArrayEquals(data[i], read);
+				}
+				catch (IOException ex)
+				{
+					throw new RuntimeException(ex);
+				}
+			});
+
+			Assert.assertNull(df.read(42, 1, results[2].sector, results[2].compressedLength));
+		}
+	}
+
+	@Test(expected = IOException.class)
+	public void testReadOnlyWrite() throws IOException
+	{
+		try (DataFile df = DataFile.openReadOnly(folder.newFile()))
+		{
+			df.write(42, 3, "test".getBytes());
+		}
+	}
 }
@@ -24,6 +24,11 @@
  */
 package net.runelite.client.config;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileNotFoundException;
@@ -31,23 +36,42 @@ import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStreamReader;
 import java.io.OutputStreamWriter;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
 import java.nio.channels.FileChannel;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
 import java.nio.file.StandardCopyOption;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Properties;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.CRC32;
 import lombok.extern.slf4j.Slf4j;
 
+/**
+ * A config properties file with an append-only journal next to it.
+ * <p>
+ * A patch is appended to the journal as one checksummed record instead of rewriting the properties file. Loading
+ * replays the journal over the properties, stopping at the first incomplete or corrupt record, which the next append
+ * truncates. Once the journal grows past {@link #COMPACT_THRESHOLD} the next patch folds it into the properties file
+ * and empties it. The journal is only touched while holding the config's lock file, so clients sharing a config
+ * still have their patches merged.
+ */
 @Slf4j
 class ConfigData
 {
+	private static final String JOURNAL_SUFFIX = ".journal";
+	private static final long COMPACT_THRESHOLD = 512 * 1024;
+	// record header: payload length and payload CRC32
+	private static final int RECORD_HEADER_SIZE = 8;
+
 	private final File configPath;
 
 	private final ConcurrentHashMap<String, String> properties;
@@ -58,13 +82,21 @@ class ConfigData
 		this.configPath = configPath;
 
 		Properties props = new Properties();
-		try (FileInputStream in = new FileInputStream(configPath);
-			InputStreamReader reader = new InputStreamReader(in, StandardCharsets.UTF_8))
-		{
-			props.load(reader);
-		}
-		catch (FileNotFoundException ignored)
+		try
 		{
+			if (journalFile(configPath).exists())
+			{
+				// the journal may be compacted into the properties file while we read, so read both under the lock
+				withLock(configPath, () ->
+				{
+					loadProperties(configPath, props);
+					replayJournal(configPath, props);
+				});
+			}
+			else
+			{
+				loadProperties(configPath, props);
+			}
 		}
 		catch (Exception ex)
 		{
@@ -130,75 +162,321 @@ class ConfigData
 
 	void patch(Map<String, String> patch)
 	{
-		// load + patch + store instead of just flushing the in-memory properties to disk so that
+		// append the patch to the journal instead of just flushing the in-memory properties to disk so that
 		// multiple clients editing one config data (such as rs profile config) get their data merged
 		// correctly
+		try
+		{
+			withLock(configPath, () ->
+			{
+				File journal = journalFile(configPath);
+				if (configPath.length() == 0)
+				{
+					// this probably doesn't happen outside of the very first save (when no file exists)
+					// but to be safe in the event the prop is deleted off disk, flush the entire properties
+					// from memory
+					Properties tempProps = new Properties();
+					tempProps.putAll(properties);
+					storeProperties(configPath, tempProps);
+					truncateJournal(journal);
+					return;
+				}
 
-		File lckFile = new File(configPath.getParentFile(), configPath.getName() + ".lck");
-		try (FileOutputStream lockOut = new FileOutputStream(lckFile);
-			FileChannel lckChannel = lockOut.getChannel())
+				if (!patch.isEmpty())
+				{
+					appendJournal(journal, patch);
+				}
+
+				if (journal.length() > COMPACT_THRESHOLD)
+				{
+					compactLocked(configPath);
+				}
+			});
+		}
+		catch (IOException ex)
+		{
+			log.error("unable to save configuration file", ex);
+		}
+	}
+
+	/**
+	 * Folds the journal of the config file into the properties file, so the properties file alone holds
+	 * the whole config, for example before it is copied.
+	 */
+	static void compact(File configPath)
+	{
+		if (!journalFile(configPath).exists())
+		{
+			return;
+		}
+
+		try
+		{
+			withLock(configPath, () -> compactLocked(configPath));
+		}
+		catch (IOException ex)
+		{
+			log.error("unable to compact configuration file", ex);
+		}
+	}
+
+	static File journalFile(File configPath)
+	{
+		return new File(configPath.getParentFile(), configPath.getName() + JOURNAL_SUFFIX);
+	}
+
+	private static void compactLocked(File configPath) throws IOException
+	{
+		File journal = journalFile(configPath);
+		if (journal.length() == 0)
+		{
+			return;
+		}
+
+		Properties tempProps = new Properties();
+		loadProperties(configPath, tempProps);
+		replayJournal(configPath, tempProps);
+		storeProperties(configPath, tempProps);
+
+		truncateJournal(journal);
+		log.debug("compacted config journal of {}", configPath);
+	}
+
+	private static void truncateJournal(File journal) throws IOException
+	{
+		if (!journal.exists())
+		{
+			return;
+		}
+
+		try (RandomAccessFile raf = new RandomAccessFile(journal, "rw"))
+		{
+			raf.setLength(0L);
+			raf.getChannel().force(true);
+		}
+	}
+
+	private static void loadProperties(File configPath, Properties props) throws IOException
+	{
+		try (FileInputStream in = new FileInputStream(configPath);
+			InputStreamReader reader = new InputStreamReader(in, StandardCharsets.UTF_8))
+		{
+			props.load(reader);
+		}
+		catch (FileNotFoundException e)
+		{
+			log.debug("config file {} does not exist", configPath);
+		}
+	}
+
+	private static void storeProperties(File configPath, Properties props) throws IOException
+	{
+		File tempFile = File.createTempFile("runelite_config", null, configPath.getParentFile());
+		try (FileOutputStream out = new FileOutputStream(tempFile);
+			FileChannel channel = out.getChannel();
+			OutputStreamWriter writer = new OutputStreamWriter(out, StandardCharsets.UTF_8))
+		{
+			channel.lock();
+			props.store(writer, "RuneLite configuration");
+			writer.flush();
+			channel.force(true);
+		}
+
+		try
 		{
-			lckChannel.lock();
+			Files.move(tempFile.toPath(), configPath.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+		}
+		catch (AtomicMoveNotSupportedException ex)
+		{
+			log.debug("atomic move not supported", ex);
+			Files.move(tempFile.toPath(), configPath.toPath(), StandardCopyOption.REPLACE_EXISTING);
+		}
+	}
+
+	private static void appendJournal(File journal, Map<String, String> patch) throws IOException
+	{
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		DataOutputStream payload = new DataOutputStream(bytes);
+		payload.writeInt(patch.size());
+		for (Map.Entry<String, String> entry : patch.entrySet())
+		{
+			writeString(payload, entry.getKey());
+			writeString(payload, entry.getValue());
+		}
+		payload.flush();
+
+		byte[] data = bytes.toByteArray();
+		CRC32 crc = new CRC32();
+		crc.update(data);
+
+		ByteBuffer record = ByteBuffer.allocate(RECORD_HEADER_SIZE + data.length);
+		record.putInt(data.length);
+		record.putInt((int) crc.getValue());
+		record.put(data);
+		record.flip();
 
-			Properties tempProps = new Properties();
-			try (FileInputStream in = new FileInputStream(configPath);
-				InputStreamReader reader = new InputStreamReader(in, StandardCharsets.UTF_8))
+		byte[] existing = readJournal(journal);
+		long end = readRecords(journal, existing, null);
+		try (RandomAccessFile raf = new RandomAccessFile(journal, "rw");
+			FileChannel channel = raf.getChannel())
+		{
+			// drop a record left incomplete or corrupt by a client that died while appending, the records after it
+			// would never be replayed
+			if (end != channel.size())
 			{
-				tempProps.load(reader);
+				log.warn("truncating invalid config journal record in {}", journal);
+				channel.truncate(end);
 			}
-			catch (FileNotFoundException e)
+
+			while (record.hasRemaining())
 			{
-				log.debug("config file {} does not exist", configPath);
+				end += channel.write(record, end);
 			}
+		}
+	}
 
-			if (tempProps.isEmpty())
+	private static byte[] readJournal(File journal) throws IOException
+	{
+		try
+		{
+			return Files.readAllBytes(journal.toPath());
+		}
+		catch (NoSuchFileException e)
+		{
+			return new byte[0];
+		}
+	}
+
+	private static void replayJournal(File configPath, Properties props) throws IOException
+	{
+		File journal = journalFile(configPath);
+		readRecords(journal, readJournal(journal), props);
+	}
+
+	/**
+	 * Reads the records at the start of the journal, applying them to {@code props} unless it is null, up to the first
+	 * incomplete, corrupt or malformed record.
+	 *
+	 * @return the length of the valid records
+	 */
+	private static int readRecords(File journal, byte[] data, Properties props)
+	{
+		ByteBuffer buffer = ByteBuffer.wrap(data);
+		CRC32 crc = new CRC32();
+		Map<String, String> changes = new LinkedHashMap<>();
+		int valid = 0;
+		int records = 0;
+		while (buffer.remaining() >= RECORD_HEADER_SIZE)
+		{
+			int length = buffer.getInt();
+			int checksum = buffer.getInt();
+			if (length < 0 || length > buffer.remaining())
 			{
-				// this probably doesn't happen outside of the very first save (when no file exists)
-				// but to be safe in the event the prop is deleted off disk, flush the entire properties
-				// from memory
-				tempProps.putAll(properties);
+				break;
 			}
-			else
+
+			crc.reset();
+			crc.update(data, buffer.position(), length);
+			if ((int) crc.getValue() != checksum)
 			{
-				// apply patches
-				for (Map.Entry<String, String> entry : patch.entrySet())
+				break;
+			}
+
+			changes.clear();
+			try
+			{
+				DataInputStream in = new DataInputStream(new ByteArrayInputStream(data, buffer.position(), length));
+				for (int count = in.readInt(); count > 0; --count)
 				{
-					if (entry.getValue() == null)
+					String key = readString(in);
+					changes.put(key, readString(in));
+				}
+			}
+			catch (IOException ex)
+			{
+				break;
+			}
+
+			if (props != null)
+			{
+				changes.forEach((key, value) ->
+				{
+					if (value == null)
 					{
-						tempProps.remove(entry.getKey());
+						props.remove(key);
 					}
 					else
 					{
-						tempProps.put(entry.getKey(), entry.getValue());
+						props.put(key, value);
 					}
-				}
+				});
 			}
 
-			File tempFile = File.createTempFile("runelite_config", null, configPath.getParentFile());
-			try (FileOutputStream out = new FileOutputStream(tempFile);
-				FileChannel channel = out.getChannel();
-				OutputStreamWriter writer = new OutputStreamWriter(out, StandardCharsets.UTF_8))
-			{
-				channel.lock();
-				tempProps.store(writer, "RuneLite configuration");
-				writer.flush();
-				channel.force(true);
-			}
+			buffer.position(buffer.position() + length);
+			valid = buffer.position();
+			++records;
+		}
 
-			try
+		if (valid != data.length)
+		{
+			log.warn("config journal {} ends with an incomplete or corrupt record, ignoring the rest of it", journal);
+		}
+		log.debug("read {} config journal records from {}", records, journal);
+		return valid;
+	}
+
+	private static void writeString(DataOutputStream out, String s) throws IOException
+	{
+		if (s == null)
+		{
+			out.writeInt(-1);
+			return;
+		}
+
+		byte[] b = s.getBytes(StandardCharsets.UTF_8);
+		out.writeInt(b.length);
+		out.write(b);
+	}
+
+	private static String readString(DataInputStream in) throws IOException
+	{
+		int length = in.readInt();
+		if (length < 0)
+		{
+			return null;
+		}
+
+		if (length > in.available())
+		{
+			throw new EOFException();
+		}
+
+		byte[] b = new byte[length];
+		in.readFully(b);
+		return new String(b, StandardCharsets.UTF_8);
+	}
+
+	private interface LockedAction
+	{
+		void run() throws IOException;
+	}
+
+	private static void withLock(File configPath, LockedAction action) throws IOException
+	{
+		File lckFile = new File(configPath.getParentFile(), configPath.getName() + ".lck");
+		// file locks are held by the whole JVM, so threads of this client wait on the monitor instead
+		synchronized (ConfigData.class)
+		{
+			try (FileOutputStream lockOut = new FileOutputStream(lckFile);
+				FileChannel lckChannel = lockOut.getChannel())
 			{
-				Files.move(tempFile.toPath(), configPath.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+				lckChannel.lock();
+				action.run();
 			}
-			catch (AtomicMoveNotSupportedException ex)
+			finally
 			{
-				log.debug("atomic move not supported", ex);
-				Files.move(tempFile.toPath(), configPath.toPath(), StandardCopyOption.REPLACE_EXISTING);
+				lckFile.delete();
 			}
 		}
-		catch (IOException ex)
-		{
-			log.error("unable to save configuration file", ex);
-		}
-		lckFile.delete();
 	}
 }
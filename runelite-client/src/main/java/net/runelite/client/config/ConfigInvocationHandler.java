@@ -24,11 +24,13 @@
  */
 package net.runelite.client.config;
 
-import com.google.common.cache.Cache;
-import com.google.common.cache.CacheBuilder;
 import java.lang.reflect.InvocationHandler;
 import java.lang.reflect.Method;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 import lombok.extern.slf4j.Slf4j;
 import net.runelite.client.util.ReflectUtil;
 
@@ -37,11 +39,51 @@ class ConfigInvocationHandler implements InvocationHandler
 {
 	// Special object to represent null values in the cache
 	private static final Object NULL = new Object();
+	// Special object to represent a value which has not been read yet
+	private static final Object UNSET = new Object();
 
 	private final ConfigManager manager;
-	private final Cache<Method, Object> cache = CacheBuilder.newBuilder()
-		.maximumSize(256)
-		.build();
+	// Decoded value of each config item of each proxy class. The same method may belong to proxies of
+	// different groups when config interfaces extend each other, so the table is per proxy class.
+	private final ClassValue<Map<Method, Slot>> slots = new ClassValue<>()
+	{
+		@Override
+		protected Map<Method, Slot> computeValue(Class<?> type)
+		{
+			return new ConcurrentHashMap<>();
+		}
+	};
+	// "group.key" -> slots of the config items reading that key
+	private final Map<String, List<Slot>> slotsByKey = new ConcurrentHashMap<>();
+
+	/**
+	 * A cached config item value, read at most once per change of its key.
+	 */
+	private static final class Slot
+	{
+		private volatile Object value = UNSET;
+		// bumped on invalidation, so a value read before a change is not stored after it
+		private int version;
+
+		synchronized int version()
+		{
+			return version;
+		}
+
+		synchronized void store(int version, Object value)
+		{
+			if (this.version == version)
+			{
+				this.value = value == null ? NULL : value;
+			}
+		}
+
+		synchronized void invalidate()
+		{
+			++version;
+			value = UNSET;
+		}
+	}
 
 	ConfigInvocationHandler(ConfigManager manager)
 	{
@@ -52,12 +94,17 @@ class ConfigInvocationHandler implements InvocationHandler
 	public Object invoke(Object proxy, Method method, Object[] args) throws Throwable
 	{
 		// Use cached configuration value if available
+		Slot slot = null;
 		if (args == null)
 		{
-			Object cachedValue = cache.getIfPresent(method);
-			if (cachedValue != null)
+			slot = slots.get(proxy.getClass()).get(method);
+			if (slot != null)
 			{
-				return cachedValue == NULL ? null : cachedValue;
+				Object cachedValue = slot.value;
+				if (cachedValue != UNSET)
+				{
+					return cachedValue == NULL ? null : cachedValue;
+				}
 			}
 		}
 
@@ -95,7 +142,13 @@ class ConfigInvocationHandler implements InvocationHandler
 
 		if (args == null)
 		{
-			log.trace("cache miss (size: {}, group: {}, key: {})", cache.size(), group.value(), item.keyName());
+			log.trace("cache miss (group: {}, key: {})", group.value(), item.keyName());
+
+			if (slot == null)
+			{
+				slot = slots.get(proxy.getClass()).computeIfAbsent(method, m -> newSlot(group.value(), item.keyName()));
+			}
+			int version = slot.version();
 
 			// Getting configuration item
 			String value = manager.getConfiguration(group.value(), item.keyName());
@@ -105,11 +158,11 @@ class ConfigInvocationHandler implements InvocationHandler
 				if (method.isDefault())
 				{
 					Object defaultValue = callDefaultMethod(proxy, method, null);
-					cache.put(method, defaultValue == null ? NULL : defaultValue);
+					slot.store(version, defaultValue);
 					return defaultValue;
 				}
 
-				cache.put(method, NULL);
+				slot.store(version, null);
 				return null;
 			}
 
@@ -117,7 +170,7 @@ class ConfigInvocationHandler implements InvocationHandler
 			try
 			{
 				Object objectValue = manager.stringToObject(value, method.getGenericReturnType());
-				cache.put(method, objectValue == null ? NULL : objectValue);
+				slot.store(version, objectValue);
 				return objectValue;
 			}
 			catch (Exception e)
@@ -184,9 +237,32 @@ class ConfigInvocationHandler implements InvocationHandler
 			.invokeWithArguments(args);
 	}
 
+	private Slot newSlot(String group, String key)
+	{
+		Slot slot = new Slot();
+		slotsByKey.computeIfAbsent(group + "." + key, k -> new CopyOnWriteArrayList<>()).add(slot);
+		return slot;
+	}
+
+	/**
+	 * Clears the cached values of the config items reading the given key
+	 */
+	void invalidate(String group, String key)
+	{
+		List<Slot> keySlots = slotsByKey.get(group + "." + key);
+		if (keySlots != null)
+		{
+			log.trace("cache invalidate {}.{}", group, key);
+			keySlots.forEach(Slot::invalidate);
+		}
+	}
+
 	void invalidate()
 	{
 		log.trace("cache invalidate");
-		cache.invalidateAll();
+		for (List<Slot> keySlots : slotsByKey.values())
+		{
+			keySlots.forEach(Slot::invalidate);
+		}
 	}
 }
@@ -710,6 +710,7 @@ public class ConfigManager
 
 			this.profile = profile;
 			configProfile = new ConfigData(ProfileManager.profileConfigFile(profile));
+			handler.invalidate();
 		}
 
 		eventBus.post(new ProfileChanged());
@@ -817,6 +818,7 @@ public class ConfigManager
 				File configFile = ProfileManager.profileConfigFile(profile);
 				// remote configuration replaces local
 				configFile.delete();
+				ConfigData.journalFile(configFile).delete();
 
 				ConfigData configData = new ConfigData(configFile);
 				configData.putAll(remoteConfiguration.getConfig());
@@ -969,7 +971,11 @@ public class ConfigManager
 		}
 
 		log.debug("Setting configuration value for {} to {}", wholeKey, value);
-		handler.invalidate();
+		if (profile == null)
+		{
+			// config proxies only read values outside of rs profiles
+			handler.invalidate(groupName, key);
+		}
 
 		ConfigChanged configChanged = new ConfigChanged();
 		configChanged.setGroup(groupName);
@@ -1061,7 +1067,10 @@ public class ConfigManager
 		}
 
 		log.debug("Unsetting configuration value for {}", wholeKey);
-		handler.invalidate();
+		if (profile == null)
+		{
+			handler.invalidate(groupName, key);
+		}
 
 		ConfigChanged configChanged = new ConfigChanged();
 		configChanged.setGroup(groupName);
@@ -197,11 +197,13 @@ public class ProfileManager {
 
 			try
 			{
+				ConfigData.compact(oldFile);
 				Files.move(
 					oldFile.toPath(),
 					newFile.toPath(),
 					StandardCopyOption.REPLACE_EXISTING
 				);
+				Files.deleteIfExists(ConfigData.journalFile(oldFile).toPath());
 				log.info("Renamed profile file {} to {}", oldFile.getName(), newFile.getName());
 			}
 			catch (IOException e)
@@ -222,4 +224,11 @@ public class ProfileManager {
     public static File profileConfigFile(ConfigProfile profile) {
         return new File(PROFILES_DIR, profile.getName() + "-" + profile.getId() + ".properties");
     }
+
+    /**
+     * Folds the profile's config journal into its properties file, so the file can be copied on its own.
+     */
+    public static void compactProfileConfig(ConfigProfile profile) {
+        ConfigData.compact(profileConfigFile(profile));
+    }
 }
@@ -26,8 +26,6 @@
 package net.runelite.client.eventbus;
 
 import com.google.common.base.Preconditions;
-import com.google.common.collect.ImmutableMultimap;
-import com.google.common.collect.Iterables;
 import java.lang.invoke.CallSite;
 import java.lang.invoke.LambdaMetafactory;
 import java.lang.invoke.MethodHandle;
@@ -35,12 +33,30 @@ import java.lang.invoke.MethodHandles;
 import java.lang.invoke.MethodType;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.function.Consumer;
+import java.util.function.Predicate;
 import javax.annotation.Nonnull;
 import javax.annotation.concurrent.ThreadSafe;
 import lombok.EqualsAndHashCode;
+import lombok.Getter;
 import lombok.RequiredArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
 import lombok.Value;
 import lombok.extern.slf4j.Slf4j;
 import net.runelite.client.util.ReflectUtil;
@@ -53,6 +69,9 @@ import org.slf4j.MarkerFactory;
 public class EventBus
 {
 	private static final Marker DEDUPLICATE = MarkerFactory.getMarker("DEDUPLICATE");
+	private static final Comparator<Subscriber> SUBSCRIBER_ORDER = Comparator.comparingDouble(Subscriber::getPriority).reversed()
+		.thenComparing(s -> s.object.getClass().getName());
+	private static final Subscriber[] NO_SUBSCRIBERS = new Subscriber[0];
 
 	@Value
 	public static class Subscriber
@@ -62,6 +81,9 @@ public class EventBus
 		private final float priority;
 		@EqualsAndHashCode.Exclude
 		private final Consumer<Object> lambda;
+		@EqualsAndHashCode.Exclude
+		@ToString.Exclude
+		private final Profile profile = new Profile();
 
 		void invoke(final Object arg) throws Exception
 		{
@@ -76,10 +98,63 @@ public class EventBus
 		}
 	}
 
+	/**
+	 * Invocation statistics of a subscriber, recorded while profiling is enabled
+	 */
+	public static final class Profile
+	{
+		private final LongAdder invocations = new LongAdder();
+		private final LongAdder totalNanos = new LongAdder();
+		private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+
+		void record(long nanos)
+		{
+			invocations.increment();
+			totalNanos.add(nanos);
+			maxNanos.accumulate(nanos);
+		}
+
+		void reset()
+		{
+			invocations.reset();
+			totalNanos.reset();
+			maxNanos.reset();
+		}
+
+		public long getInvocations()
+		{
+			return invocations.sum();
+		}
+
+		public long getTotalNanos()
+		{
+			return totalNanos.sum();
+		}
+
+		public long getMaxNanos()
+		{
+			return maxNanos.get();
+		}
+	}
+
 	private final Consumer<Throwable> exceptionHandler;
 
-	@Nonnull
-	private ImmutableMultimap<Class<?>, Subscriber> subscribers = ImmutableMultimap.of();
+	/**
+	 * Subscribers of each event class in dispatch order. The arrays are replaced rather than modified,
+	 * so {@link #post(Object)} reads them without locking.
+	 */
+	private final Map<Class<?>, Subscriber[]> subscribers = new ConcurrentHashMap<>();
+	/**
+	 * Event classes each subscriber object is registered for, so unregistering only touches those
+	 */
+	private final Map<Object, Set<Class<?>>> subscriptions = new IdentityHashMap<>();
+
+	/**
+	 * Whether the time spent in each subscriber is recorded in its {@link Subscriber#getProfile() profile}
+	 */
+	@Getter
+	@Setter
+	private volatile boolean profiling;
 
 	/**
 	 * Instantiates EventBus with default exception handler
@@ -98,10 +173,7 @@ public class EventBus
 	 */
 	public synchronized void register(@Nonnull final Object object)
 	{
-		final ImmutableMultimap.Builder<Class<?>, Subscriber> builder = ImmutableMultimap.builder();
-		builder.putAll(subscribers);
-		builder.orderValuesBy(Comparator.comparingDouble(Subscriber::getPriority).reversed()
-			.thenComparing(s -> s.object.getClass().getName()));
+		final List<Map.Entry<Class<?>, Subscriber>> newSubscribers = new ArrayList<>();
 
 		for (Class<?> clazz = object.getClass(); clazz != null; clazz = clazz.getSuperclass())
 		{
@@ -159,25 +231,22 @@ public class EventBus
 				}
 
 				final Subscriber subscriber = new Subscriber(object, method, sub.priority(), lambda);
-				builder.put(parameterClazz, subscriber);
+				newSubscribers.add(new AbstractMap.SimpleImmutableEntry<>(parameterClazz, subscriber));
 				log.debug("Registering {} - {}", parameterClazz, subscriber);
 			}
 		}
 
-		subscribers = builder.build();
+		// added once every method checked out, so a bad method leaves none of the object's subscribers registered
+		for (Map.Entry<Class<?>, Subscriber> entry : newSubscribers)
+		{
+			add(entry.getKey(), entry.getValue());
+		}
 	}
 
 	public synchronized <T> Subscriber register(Class<T> clazz, Consumer<T> subFn, float priority)
 	{
-		final ImmutableMultimap.Builder<Class<?>, Subscriber> builder = ImmutableMultimap.builder();
-		builder.putAll(subscribers);
-		builder.orderValuesBy(Comparator.comparingDouble(Subscriber::getPriority).reversed()
-			.thenComparing(s -> s.object.getClass().getName()));
-
 		Subscriber sub = new Subscriber(subFn, null, priority, (Consumer<Object>) subFn);
-		builder.put(clazz, sub);
-
-		subscribers = builder.build();
+		add(clazz, sub);
 
 		return sub;
 	}
@@ -189,10 +258,7 @@ public class EventBus
 	 */
 	public synchronized void unregister(@Nonnull final Object object)
 	{
-		subscribers = ImmutableMultimap.copyOf(Iterables.filter(
-			subscribers.entries(),
-			e -> e.getValue().getObject() != object
-		));
+		remove(object, s -> s.getObject() == object);
 	}
 
 	public synchronized void unregister(Subscriber sub)
@@ -202,10 +268,88 @@ public class EventBus
 			return;
 		}
 
-		subscribers = ImmutableMultimap.copyOf(Iterables.filter(
-			subscribers.entries(),
-			e -> sub != e.getValue()
-		));
+		remove(sub.getObject(), s -> s == sub);
+	}
+
+	private void add(Class<?> clazz, Subscriber subscriber)
+	{
+		final Subscriber[] current = subscribers.getOrDefault(clazz, NO_SUBSCRIBERS);
+
+		// insert after every subscriber ordered before or equal to it, so equal subscribers keep their registration order
+		int idx = current.length;
+		while (idx > 0 && SUBSCRIBER_ORDER.compare(current[idx - 1], subscriber) > 0)
+		{
+			--idx;
+		}
+
+		final Subscriber[] updated = new Subscriber[current.length + 1];
+		System.arraycopy(current, 0, updated, 0, idx);
+		updated[idx] = subscriber;
+		System.arraycopy(current, idx, updated, idx + 1, current.length - idx);
+		subscribers.put(clazz, updated);
+
+		subscriptions.computeIfAbsent(subscriber.getObject(), k -> new HashSet<>()).add(clazz);
+	}
+
+	private void remove(Object object, Predicate<Subscriber> filter)
+	{
+		final Set<Class<?>> classes = subscriptions.get(object);
+		if (classes == null)
+		{
+			return;
+		}
+
+		for (Iterator<Class<?>> it = classes.iterator(); it.hasNext(); )
+		{
+			final Class<?> clazz = it.next();
+			final Subscriber[] current = subscribers.get(clazz);
+			final Subscriber[] updated = Arrays.stream(current)
+				.filter(filter.negate())
+				.toArray(Subscriber[]::new);
+
+			if (updated.length == 0)
+			{
+				subscribers.remove(clazz);
+			}
+			else if (updated.length != current.length)
+			{
+				subscribers.put(clazz, updated);
+			}
+
+			if (Arrays.stream(updated).noneMatch(s -> s.getObject() == object))
+			{
+				it.remove();
+			}
+		}
+
+		if (classes.isEmpty())
+		{
+			subscriptions.remove(object);
+		}
+	}
+
+	/**
+	 * Returns the subscribers of each event class, in dispatch order.
+	 */
+	public Map<Class<?>, List<Subscriber>> getSubscribers()
+	{
+		final Map<Class<?>, List<Subscriber>> snapshot = new HashMap<>();
+		subscribers.forEach((clazz, subs) -> snapshot.put(clazz, Collections.unmodifiableList(Arrays.asList(subs))));
+		return snapshot;
+	}
+
+	/**
+	 * Clears the profiles of all subscribers.
+	 */
+	public void resetProfiles()
+	{
+		for (Subscriber[] subs : subscribers.values())
+		{
+			for (Subscriber sub : subs)
+			{
+				sub.profile.reset();
+			}
+		}
 	}
 
 	/**
@@ -216,8 +360,16 @@ public class EventBus
 	 */
 	public void post(@Nonnull final Object event)
 	{
-		for (final Subscriber subscriber : subscribers.get(event.getClass()))
+		final Subscriber[] subs = subscribers.get(event.getClass());
+		if (subs == null)
+		{
+			return;
+		}
+
+		final boolean profile = profiling;
+		for (final Subscriber subscriber : subs)
 		{
+			final long start = profile ? System.nanoTime() : 0L;
 			try
 			{
 				subscriber.invoke(event);
@@ -226,6 +378,11 @@ public class EventBus
 			{
 				exceptionHandler.accept(e);
 			}
+
+			if (profile)
+			{
+				subscriber.profile.record(System.nanoTime() - start);
+			}
 		}
 	}
 }
\ No newline at end of file
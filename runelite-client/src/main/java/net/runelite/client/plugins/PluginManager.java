@@ -32,6 +32,7 @@ import com.google.common.graph.Graphs;
 import com.google.common.graph.MutableGraph;
 import com.google.common.reflect.ClassPath;
 import com.google.common.reflect.ClassPath.ClassInfo;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import com.google.inject.Module;
 import com.google.inject.*;
 import lombok.Getter;
@@ -57,13 +58,21 @@ import javax.inject.Named;
 import javax.inject.Provider;
 import javax.inject.Singleton;
 import javax.swing.*;
+import java.io.BufferedReader;
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
 import java.lang.invoke.*;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.util.*;
+import java.nio.charset.StandardCharsets;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.function.BiConsumer;
 import java.util.stream.Collectors;
 
@@ -75,6 +84,10 @@ public class PluginManager
 	 * Base package where the core plugins are
 	 */
 	private static final String PLUGIN_PACKAGE = "net.runelite.client.plugins";
+	/**
+	 * Core plugin classes, written by the build-plugin-index goal of runelite-maven-plugin
+	 */
+	private static final String PLUGIN_INDEX = "plugins.index";
 	private static final File SIDELOADED_PLUGINS = new File(RuneLite.RUNELITE_DIR, "sideloaded-plugins");
 
 	private final boolean developerMode;
@@ -264,16 +277,61 @@ public class PluginManager
 	public void loadCorePlugins() throws IOException, PluginInstantiationException
 	{
 		SplashScreen.stage(.59, null, "Loading plugins");
-		ClassPath classPath = ClassPath.from(getClass().getClassLoader());
+		List<Class<?>> plugins = loadPluginIndex();
+		if (plugins == null)
+		{
+			ClassPath classPath = ClassPath.from(getClass().getClassLoader());
 
-		List<Class<?>> plugins = classPath.getTopLevelClassesRecursive(PLUGIN_PACKAGE).stream()
-			.map(ClassInfo::load)
-			.collect(Collectors.toList());
+			plugins = classPath.getTopLevelClassesRecursive(PLUGIN_PACKAGE).stream()
+				.map(ClassInfo::load)
+				.collect(Collectors.toList());
+		}
 
 		loadPlugins(plugins, (loaded, total) ->
 			SplashScreen.stage(.60, .70, null, "Loading plugins", loaded, total, false));
 	}
 
+	/**
+	 * Loads the classes listed in the plugin index, or returns null if there is no index. The index is
+	 * ignored in developer mode, as classes compiled by an IDE may be newer than it.
+	 */
+	private List<Class<?>> loadPluginIndex() throws IOException
+	{
+		if (developerMode)
+		{
+			return null;
+		}
+
+		try (InputStream in = PluginManager.class.getResourceAsStream(PLUGIN_INDEX))
+		{
+			if (in == null)
+			{
+				log.debug("No plugin index, scanning the classpath for plugins");
+				return null;
+			}
+
+			BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+			List<Class<?>> plugins = new ArrayList<>();
+			for (String name; (name = reader.readLine()) != null; )
+			{
+				if (name.isEmpty())
+				{
+					continue;
+				}
+
+				try
+				{
+					plugins.add(Class.forName(name, false, getClass().getClassLoader()));
+				}
+				catch (ClassNotFoundException ex)
+				{
+					log.warn("Plugin {} from the plugin index was not found", name);
+				}
+			}
+			return plugins;
+		}
+	}
+
 	public void loadSideLoadPlugins()
 	{
 		if (!developerMode)
@@ -371,32 +429,111 @@ public class PluginManager
 
 		List<Class<? extends Plugin>> sortedPlugins = topologicalSort(graph);
 
-		int loaded = 0;
-		List<Plugin> newPlugins = new ArrayList<>();
+		// Group the plugins by the length of their longest dependency chain. A plugin only depends on plugins of
+		// earlier groups, so the plugins of a group can be instantiated in parallel once the earlier groups are.
+		Map<Class<? extends Plugin>, Integer> depths = new HashMap<>();
+		List<List<Class<? extends Plugin>>> groups = new ArrayList<>();
 		for (Class<? extends Plugin> pluginClazz : sortedPlugins)
 		{
-			Plugin plugin;
-			try
+			int depth = 0;
+			for (Class<? extends Plugin> dependency : graph.predecessors(pluginClazz))
 			{
-				plugin = instantiate(this.plugins, (Class<Plugin>) pluginClazz);
-				newPlugins.add(plugin);
-				this.plugins.add(plugin);
+				depth = Math.max(depth, depths.get(dependency) + 1);
 			}
-			catch (PluginInstantiationException ex)
+			depths.put(pluginClazz, depth);
+
+			if (depth == groups.size())
 			{
-				log.error("Error instantiating plugin!", ex);
+				groups.add(new ArrayList<>());
 			}
+			groups.get(depth).add(pluginClazz);
+		}
 
-			loaded++;
-			if (onPluginLoaded != null)
+		int loaded = 0;
+		List<Plugin> newPlugins = new ArrayList<>();
+		// Threads are created by this thread, so they share its context class loader. Plugins loaded on the
+		// event dispatch thread are instantiated there, as their constructors may wait on it.
+		ExecutorService executor = sortedPlugins.size() > 1 && !SwingUtilities.isEventDispatchThread()
+			? Executors.newFixedThreadPool(Math.min(sortedPlugins.size(), Runtime.getRuntime().availableProcessors()),
+				new ThreadFactoryBuilder().setNameFormat("plugin-loader-%d").setDaemon(true).build())
+			: null;
+		try
+		{
+			for (List<Class<? extends Plugin>> group : groups)
+			{
+				List<Future<Plugin>> futures = new ArrayList<>(group.size());
+				if (executor != null)
+				{
+					for (Class<? extends Plugin> pluginClazz : group)
+					{
+						futures.add(executor.submit(() -> instantiate(this.plugins, (Class<Plugin>) pluginClazz)));
+					}
+				}
+
+				for (int i = 0; i < group.size(); ++i)
+				{
+					try
+					{
+						Plugin plugin = executor == null
+							? instantiate(this.plugins, (Class<Plugin>) group.get(i))
+							: getInstantiated(futures.get(i));
+						newPlugins.add(plugin);
+						this.plugins.add(plugin);
+					}
+					catch (PluginInstantiationException ex)
+					{
+						log.error("Error instantiating plugin!", ex);
+					}
+
+					loaded++;
+					if (onPluginLoaded != null)
+					{
+						onPluginLoaded.accept(loaded, sortedPlugins.size());
+					}
+				}
+			}
+		}
+		finally
+		{
+			if (executor != null)
 			{
-				onPluginLoaded.accept(loaded, sortedPlugins.size());
+				executor.shutdownNow();
 			}
 		}
 
 		return newPlugins;
 	}
 
+	private static Plugin getInstantiated(Future<Plugin> future) throws PluginInstantiationException
+	{
+		try
+		{
+			return future.get();
+		}
+		catch (InterruptedException ex)
+		{
+			Thread.currentThread().interrupt();
+			throw new PluginInstantiationException(ex);
+		}
+		catch (ExecutionException ex)
+		{
+			Throwable cause = ex.getCause();
+			if (cause instanceof PluginInstantiationException)
+			{
+				throw (PluginInstantiationException) cause;
+			}
+			if (cause instanceof RuntimeException)
+			{
+				throw (RuntimeException) cause;
+			}
+			if (cause instanceof Error)
+			{
+				throw (Error) cause;
+			}
+			throw new PluginInstantiationException(cause);
+		}
+	}
+
 	public boolean startPlugin(Plugin plugin) throws PluginInstantiationException
 	{
 		// plugins always start in the EDT
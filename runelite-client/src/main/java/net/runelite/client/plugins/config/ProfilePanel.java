@@ -452,6 +452,7 @@ class ProfilePanel extends PluginPanel {
         {
             // save config to disk so the export copies the full config
             configManager.sendConfig();
+            ProfileManager.compactProfileConfig(profile);
 
             File source = ProfileManager.profileConfigFile(profile);
             if (!source.exists()) {
@@ -1009,6 +1010,7 @@ class ProfilePanel extends PluginPanel {
                 File to = ProfileManager.profileConfigFile(clonedProfile);
 
                 if (from.exists()) {
+                    ProfileManager.compactProfileConfig(profile);
                     try {
                         Files.copy(
                                 from.toPath(),
@@ -66,6 +66,7 @@ class DevToolsPanel extends PluginPanel
 	private final VarInspector varInspector;
 	private final ScriptInspector scriptInspector;
 	private final InventoryInspector inventoryInspector;
+	private final EventBusInspector eventBusInspector;
 	private final InfoBoxManager infoBoxManager;
 	private final ScheduledExecutorService scheduledExecutorService;
 
@@ -79,6 +80,7 @@ class DevToolsPanel extends PluginPanel
 		VarInspector varInspector,
 		ScriptInspector scriptInspector,
 		InventoryInspector inventoryInspector,
+		EventBusInspector eventBusInspector,
 		Notifier notifier,
 		InfoBoxManager infoBoxManager,
 		ScheduledExecutorService scheduledExecutorService)
@@ -91,6 +93,7 @@ class DevToolsPanel extends PluginPanel
 		this.widgetInspector = widgetInspector;
 		this.varInspector = varInspector;
 		this.inventoryInspector = inventoryInspector;
+		this.eventBusInspector = eventBusInspector;
 		this.scriptInspector = scriptInspector;
 		this.notifier = notifier;
 		this.infoBoxManager = infoBoxManager;
@@ -211,6 +214,9 @@ class DevToolsPanel extends PluginPanel
 
 		container.add(plugin.getMenus());
 
+		container.add(plugin.getEventBusInspector());
+		plugin.getEventBusInspector().addFrame(eventBusInspector);
+
 		try
 		{
 			FlatUIDefaultsInspector.class.getName();
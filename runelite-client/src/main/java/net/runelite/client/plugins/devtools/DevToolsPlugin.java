@@ -217,6 +217,7 @@ public class DevToolsPlugin extends Plugin
 	private DevToolsButton tileFlags;
 	private DevToolsButton shell;
 	private DevToolsButton menus;
+	private DevToolsButton eventBusInspector;
 	private DevToolsButton uiDefaultsInspector;
 	private DevToolsButton mouseClick;
 	private DevToolsButton mouseMovement;
@@ -273,6 +274,7 @@ public class DevToolsPlugin extends Plugin
 		tileFlags = new DevToolsButton("Tile flags");
 		shell = new DevToolsButton("Shell");
 		menus = new DevToolsButton("Menus");
+		eventBusInspector = new DevToolsButton("Event Bus");
 
 		uiDefaultsInspector = new DevToolsButton("Swing Defaults");
 
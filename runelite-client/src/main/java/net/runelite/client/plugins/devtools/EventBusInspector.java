@@ -0,0 +1,182 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.plugins.devtools;
+
+import java.awt.BorderLayout;
+import java.awt.Dimension;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import javax.inject.Inject;
+import javax.swing.JButton;
+import javax.swing.JCheckBox;
+import javax.swing.JPanel;
+import javax.swing.JScrollPane;
+import javax.swing.JTable;
+import javax.swing.RowSorter;
+import javax.swing.SortOrder;
+import javax.swing.Timer;
+import javax.swing.table.AbstractTableModel;
+import net.runelite.client.eventbus.EventBus;
+
+/**
+ * Shows how often and for how long each event subscriber runs while event bus profiling is enabled.
+ */
+class EventBusInspector extends DevToolsFrame
+{
+	private static final String[] COLUMNS = {"Event", "Subscriber", "Calls", "Total (ms)", "Average (µs)", "Max (µs)"};
+
+	private final EventBus eventBus;
+	private final SubscriberTableModel model = new SubscriberTableModel();
+	private final JCheckBox profiling = new JCheckBox("Profiling");
+	private final Timer refreshTimer;
+
+	@Inject
+	EventBusInspector(EventBus eventBus)
+	{
+		this.eventBus = eventBus;
+
+		setTitle("RuneLite Event Bus Inspector");
+		setLayout(new BorderLayout());
+
+		final JTable table = new JTable(model);
+		table.setAutoCreateRowSorter(true);
+		table.getRowSorter().setSortKeys(List.of(new RowSorter.SortKey(3, SortOrder.DESCENDING)));
+
+		final JScrollPane scrollPane = new JScrollPane(table);
+		scrollPane.setPreferredSize(new Dimension(800, 500));
+		add(scrollPane, BorderLayout.CENTER);
+
+		profiling.addActionListener(e -> eventBus.setProfiling(profiling.isSelected()));
+
+		final JButton resetBtn = new JButton("Reset");
+		resetBtn.addActionListener(e ->
+		{
+			eventBus.resetProfiles();
+			refresh();
+		});
+
+		final JPanel bottomRow = new JPanel();
+		bottomRow.add(profiling);
+		bottomRow.add(resetBtn);
+		add(bottomRow, BorderLayout.SOUTH);
+
+		refreshTimer = new Timer(1000, e -> refresh());
+
+		pack();
+	}
+
+	private void refresh()
+	{
+		final List<Object[]> rows = new ArrayList<>();
+		for (Map.Entry<Class<?>, List<EventBus.Subscriber>> entry : eventBus.getSubscribers().entrySet())
+		{
+			for (EventBus.Subscriber subscriber : entry.getValue())
+			{
+				final EventBus.Profile profile = subscriber.getProfile();
+				final long invocations = profile.getInvocations();
+				final long totalNanos = profile.getTotalNanos();
+				rows.add(new Object[]{
+					entry.getKey().getSimpleName(),
+					subscriber.getMethod() != null
+						? subscriber.getMethod().getDeclaringClass().getSimpleName() + "." + subscriber.getMethod().getName()
+						: subscriber.getObject().getClass().getName(),
+					invocations,
+					totalNanos / 1_000_000.0,
+					invocations == 0 ? 0.0 : totalNanos / 1_000.0 / invocations,
+					profile.getMaxNanos() / 1_000.0
+				});
+			}
+		}
+		model.setRows(rows);
+	}
+
+	@Override
+	public void open()
+	{
+		profiling.setSelected(eventBus.isProfiling());
+		refresh();
+		refreshTimer.start();
+		super.open();
+	}
+
+	@Override
+	public void close()
+	{
+		refreshTimer.stop();
+		eventBus.setProfiling(false);
+		super.close();
+	}
+
+	private static class SubscriberTableModel extends AbstractTableModel
+	{
+		private List<Object[]> rows = new ArrayList<>();
+
+		void setRows(List<Object[]> rows)
+		{
+			this.rows = rows;
+			fireTableDataChanged();
+		}
+
+		@Override
+		public int getRowCount()
+		{
+			return rows.size();
+		}
+
+		@Override
+		public int getColumnCount()
+		{
+			return COLUMNS.length;
+		}
+
+		@Override
+		public String getColumnName(int column)
+		{
+			return COLUMNS[column];
+		}
+
+		@Override
+		public Class<?> getColumnClass(int column)
+		{
+			switch (column)
+			{
+				case 0:
+				case 1:
+					return String.class;
+				case 2:
+					return Long.class;
+				default:
+					return Double.class;
+			}
+		}
+
+		@Override
+		public Object getValueAt(int row, int column)
+		{
+			return rows.get(row)[column];
+		}
+	}
+}
@@ -67,6 +67,7 @@ import static net.runelite.client.plugins.microbot.util.Global.sleep;
 import static net.runelite.client.plugins.microbot.util.Global.sleepUntil;
 import static net.runelite.client.plugins.microbot.util.Global.sleepUntilNotNull;
 
+import net.runelite.client.plugins.microbot.util.gamestate.Rs2GameState;
 import net.runelite.client.plugins.microbot.util.inventory.Rs2ItemModel;
 import net.runelite.client.plugins.microbot.util.item.Rs2ItemManager;
 import net.runelite.client.plugins.microbot.util.menu.NewMenuEntry;
@@ -221,11 +222,21 @@ public class Microbot {
 
 	public static int getVarbitValue(@Varbit int varbit)
 	{
+		Integer watched = Rs2GameState.getVarbitValue(varbit);
+		if (watched != null)
+		{
+			return watched;
+		}
 		return getClientThread().runOnClientThreadOptional(() -> getClient().getVarbitValue(varbit)).orElse(0);
 	}
 
 	public static int getVarbitPlayerValue(@Varp int varpId)
 	{
+		Integer watched = Rs2GameState.getVarpValue(varpId);
+		if (watched != null)
+		{
+			return watched;
+		}
 		return getClientThread().runOnClientThreadOptional(() -> getClient().getVarpValue(varpId)).orElse(0);
 	}
 
@@ -25,15 +25,22 @@ import net.runelite.client.plugins.microbot.qualityoflife.scripts.pouch.PouchOve
 import net.runelite.client.plugins.microbot.ui.MicrobotPluginConfigurationDescriptor;
 import net.runelite.client.plugins.microbot.ui.MicrobotPluginListPanel;
 import net.runelite.client.plugins.microbot.ui.MicrobotTopLevelConfigPanel;
+import net.runelite.client.plugins.microbot.util.GameSignals;
 import net.runelite.client.plugins.microbot.util.bank.Rs2Bank;
+import net.runelite.client.plugins.microbot.util.cache.Rs2CompositionCache;
 import net.runelite.client.plugins.microbot.util.equipment.Rs2Equipment;
+import net.runelite.client.plugins.microbot.util.gameobject.Rs2SceneObjectIndex;
+import net.runelite.client.plugins.microbot.util.gamestate.Rs2GameState;
+import net.runelite.client.plugins.microbot.util.grounditem.Rs2GroundItemIndex;
 import net.runelite.client.plugins.microbot.util.inventory.Rs2Gembag;
 import net.runelite.client.plugins.microbot.util.inventory.Rs2Inventory;
 import net.runelite.client.plugins.microbot.util.inventory.Rs2RunePouch;
 import net.runelite.client.plugins.microbot.util.overlay.GembagOverlay;
 import net.runelite.client.plugins.microbot.util.player.Rs2Player;
+import net.runelite.client.plugins.microbot.util.poi.PoiRequirements;
 import net.runelite.client.plugins.microbot.util.reflection.Rs2Reflection;
 import net.runelite.client.plugins.microbot.util.shop.Rs2Shop;
+import net.runelite.client.plugins.microbot.util.tile.Rs2Reachability;
 import net.runelite.client.ui.ClientToolbar;
 import net.runelite.client.ui.NavigationButton;
 import net.runelite.client.ui.overlay.Overlay;
@@ -97,6 +104,8 @@ public class MicrobotPlugin extends Plugin
 	@Inject
 	private PouchOverlay pouchOverlay;
 	private GameChatAppender gameChatAppender;
+	// Only touched on the client thread
+	private boolean varbitsChanged;
 
 	@Override
 	protected void startUp() throws AWTException
@@ -150,6 +159,12 @@ public class MicrobotPlugin extends Plugin
 		new InputSelector(clientToolbar);
 
 		Microbot.getPouchScript().startUp();
+		// Otherwise the indexes are only built on the next login or scene load
+		Microbot.getClientThread().invoke(() ->
+		{
+			Rs2SceneObjectIndex.rebuild();
+			Rs2GroundItemIndex.rebuild();
+		});
 
 		if (overlayManager != null)
 		{
@@ -173,6 +188,7 @@ public class MicrobotPlugin extends Plugin
 	public void onStatChanged(StatChanged statChanged)
 	{
 		Microbot.setIsGainingExp(true);
+		PoiRequirements.onStatChanged(statChanged);
 	}
 
 	@Subscribe
@@ -187,6 +203,7 @@ public class MicrobotPlugin extends Plugin
 	public void onItemContainerChanged(ItemContainerChanged event)
 	{
 		Microbot.getPouchScript().onItemContainerChanged(event);
+		PoiRequirements.onItemContainerChanged(event);
 		if (event.getContainerId() == InventoryID.BANK)
 		{
 			Rs2Bank.updateLocalBank(event);
@@ -202,6 +219,7 @@ public class MicrobotPlugin extends Plugin
 		else if (Arrays.stream(getShopContainerIds()).anyMatch(sid -> Objects.equals(event.getContainerId(), sid))) {
 			Rs2Shop.storeShopItemsInMemory(event, event.getContainerId());
 		}
+		GameSignals.fire(GameSignals.Signal.ITEM_CONTAINER_CHANGED);
 	}
 
 	/**
@@ -265,6 +283,12 @@ public class MicrobotPlugin extends Plugin
 			Rs2Bank.emptyBankState();
 			Microbot.loggedIn = false;
 		}
+		Rs2SceneObjectIndex.onGameStateChanged(gameStateChanged);
+		Rs2GroundItemIndex.onGameStateChanged(gameStateChanged);
+		Rs2CompositionCache.onGameStateChanged(gameStateChanged);
+		Rs2GameState.onGameStateChanged(gameStateChanged);
+		Rs2Reachability.onGameStateChanged(gameStateChanged);
+		PoiRequirements.onGameStateChanged(gameStateChanged);
 	}
 
 	@Subscribe
@@ -273,12 +297,89 @@ public class MicrobotPlugin extends Plugin
 		Rs2Player.handlePotionTimers(event);
 		Rs2Player.handleTeleblockTimer(event);
 		Rs2RunePouch.onVarbitChanged(event);
+		Rs2GameState.onVarbitChanged(event);
+		PoiRequirements.onVarbitChanged(event);
+		// Many varbits can change at once, waiters are woken for all of them on the next client tick
+		varbitsChanged = true;
+	}
+
+	@Subscribe
+	public void onGameObjectSpawned(GameObjectSpawned event)
+	{
+		Rs2SceneObjectIndex.onGameObjectSpawned(event);
+		Rs2Reachability.invalidate();
+	}
+
+	@Subscribe
+	public void onGameObjectDespawned(GameObjectDespawned event)
+	{
+		Rs2SceneObjectIndex.onGameObjectDespawned(event);
+		Rs2Reachability.invalidate();
+	}
+
+	@Subscribe
+	public void onGroundObjectSpawned(GroundObjectSpawned event)
+	{
+		Rs2SceneObjectIndex.onGroundObjectSpawned(event);
+		Rs2Reachability.invalidate();
+	}
+
+	@Subscribe
+	public void onGroundObjectDespawned(GroundObjectDespawned event)
+	{
+		Rs2SceneObjectIndex.onGroundObjectDespawned(event);
+		Rs2Reachability.invalidate();
+	}
+
+	@Subscribe
+	public void onWallObjectSpawned(WallObjectSpawned event)
+	{
+		Rs2SceneObjectIndex.onWallObjectSpawned(event);
+		Rs2Reachability.invalidate();
+	}
+
+	@Subscribe
+	public void onWallObjectDespawned(WallObjectDespawned event)
+	{
+		Rs2SceneObjectIndex.onWallObjectDespawned(event);
+		Rs2Reachability.invalidate();
+	}
+
+	@Subscribe
+	public void onDecorativeObjectSpawned(DecorativeObjectSpawned event)
+	{
+		Rs2SceneObjectIndex.onDecorativeObjectSpawned(event);
+	}
+
+	@Subscribe
+	public void onDecorativeObjectDespawned(DecorativeObjectDespawned event)
+	{
+		Rs2SceneObjectIndex.onDecorativeObjectDespawned(event);
+	}
+
+	@Subscribe
+	public void onItemSpawned(ItemSpawned event)
+	{
+		Rs2GroundItemIndex.onItemSpawned(event);
+	}
+
+	@Subscribe
+	public void onItemDespawned(ItemDespawned event)
+	{
+		Rs2GroundItemIndex.onItemDespawned(event);
+	}
+
+	@Subscribe
+	public void onItemQuantityChanged(ItemQuantityChanged event)
+	{
+		Rs2GroundItemIndex.onItemQuantityChanged(event);
 	}
 
 	@Subscribe
 	public void onAnimationChanged(AnimationChanged event)
 	{
 		Rs2Player.handleAnimationChanged(event);
+		GameSignals.fire(GameSignals.Signal.ANIMATION_CHANGED);
 	}
 
 	@Subscribe(priority = 999)
@@ -392,7 +493,18 @@ public class MicrobotPlugin extends Plugin
 	public void onWidgetLoaded(WidgetLoaded event)
 	{
 		Rs2RunePouch.onWidgetLoaded(event);
-		
+		GameSignals.fire(GameSignals.Signal.WIDGET_LOADED);
+	}
+
+	@Subscribe
+	public void onClientTick(ClientTick event)
+	{
+		if (varbitsChanged)
+		{
+			varbitsChanged = false;
+			GameSignals.fire(GameSignals.Signal.VARBIT_CHANGED);
+		}
+		GameSignals.fire(GameSignals.Signal.CLIENT_TICK);
 	}
 
 	@Subscribe
@@ -451,6 +563,8 @@ public class MicrobotPlugin extends Plugin
 	@Subscribe
 	public void onGameTick(GameTick event)
 	{
+		Rs2GameState.onGameTick(event);
+		GameSignals.fire(GameSignals.Signal.GAME_TICK);
 		Rs2Bank.loadInitialBankStateFromConfig();
 	}
 
@@ -16,13 +16,12 @@ import net.runelite.client.plugins.microbot.util.walker.Rs2Walker;
 import net.runelite.client.plugins.microbot.util.widget.Rs2Widget;
 import java.time.Duration;
 import java.time.LocalTime;
-import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 
 @Slf4j
 public abstract class Script extends Global implements IScript {
-    protected ScheduledExecutorService scheduledExecutorService = Executors.newScheduledThreadPool(10);
+    protected ScheduledExecutorService scheduledExecutorService = ScriptScheduler.newExecutor(getClass());
     protected ScheduledFuture<?> scheduledFuture;
     protected ScheduledFuture<?> mainScheduledFuture;
     public static boolean hasLeveledUp = false;
@@ -32,6 +31,18 @@ public abstract class Script extends Global implements IScript {
         return mainScheduledFuture != null && !mainScheduledFuture.isDone();
     }
 
+    /**
+     * Get the run counts and timings of the tasks this script scheduled
+     *
+     * @return the execution stats, or null if the script replaced its executor with its own
+     */
+    public ScriptScheduler.ExecutionStats getExecutionStats() {
+        if (scheduledExecutorService instanceof ScriptScheduler.ScriptExecutor) {
+            return ((ScriptScheduler.ScriptExecutor) scheduledExecutorService).getStats();
+        }
+        return null;
+    }
+
     @Getter
     protected static WorldPoint initialPlayerLocation;
     public LocalTime startTime;
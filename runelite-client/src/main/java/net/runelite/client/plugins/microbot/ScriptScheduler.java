@@ -0,0 +1,334 @@
+package net.runelite.client.plugins.microbot;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.Executors;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.RunnableScheduledFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Runs the loops of all {@link Script}s on shared threads instead of a thread pool per script.
+ * <p>
+ * A single timer thread keeps track of when tasks are due and hands them to a worker pool. The pool keeps as many
+ * threads as there are cores and only grows beyond that while more script loops are running at once, since loops
+ * block in {@code sleepUntil} and would otherwise starve each other. Idle threads are released after a minute.
+ * <p>
+ * Each script gets its own {@link ScriptExecutor}, a {@link ScheduledExecutorService} view that tracks only that
+ * script's tasks, so shutting it down or cancelling its futures never affects other scripts.
+ */
+@Slf4j
+public final class ScriptScheduler {
+    private static final int CORE_WORKERS = Runtime.getRuntime().availableProcessors();
+    static final int MAX_WORKERS = Math.max(64, CORE_WORKERS * 4);
+    // How long a task waits for a worker when all of them are busy before it is offered again
+    private static final long REJECTED_RETRY_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+
+    private static final ScheduledThreadPoolExecutor timer;
+    private static final ThreadPoolExecutor workers;
+
+    static {
+        timer = new ScheduledThreadPoolExecutor(1, new ThreadFactoryBuilder()
+                .setNameFormat("microbot-script-timer")
+                .setDaemon(true)
+                .build());
+        timer.setRemoveOnCancelPolicy(true);
+
+        workers = new ThreadPoolExecutor(CORE_WORKERS, MAX_WORKERS, 60, TimeUnit.SECONDS, new SynchronousQueue<>(),
+                new ThreadFactoryBuilder()
+                        .setNameFormat("microbot-script-%d")
+                        .setDaemon(true)
+                        .build());
+        workers.allowCoreThreadTimeOut(true);
+    }
+
+    private ScriptScheduler() {
+    }
+
+    /**
+     * Creates the executor for one script; {@code name} is used as thread name while its tasks run.
+     */
+    public static ScriptExecutor newExecutor(String name) {
+        return new ScriptExecutor(name);
+    }
+
+    /**
+     * Creates the executor for one script, named after its class. Anonymous and local classes have no simple name, so
+     * they are named after their binary name without the package instead.
+     */
+    public static ScriptExecutor newExecutor(Class<?> type) {
+        String name = type.getSimpleName();
+        if (name.isEmpty()) {
+            name = type.getName().substring(type.getName().lastIndexOf('.') + 1);
+        }
+        return newExecutor(name);
+    }
+
+    /** Returns the number of worker threads currently running script tasks */
+    public static int getActiveWorkers() {
+        return workers.getActiveCount();
+    }
+
+    /** Returns the number of worker threads that currently exist, busy or idle */
+    public static int getWorkerCount() {
+        return workers.getPoolSize();
+    }
+
+    /**
+     * Run counts and timings of the tasks of one {@link ScriptExecutor}.
+     */
+    public static class ExecutionStats {
+        private final AtomicLong runs = new AtomicLong();
+        private final AtomicLong totalNanos = new AtomicLong();
+        private final AtomicLong maxNanos = new AtomicLong();
+        private volatile long lastNanos;
+
+        private void record(long nanos) {
+            runs.incrementAndGet();
+            totalNanos.addAndGet(nanos);
+            maxNanos.accumulateAndGet(nanos, Math::max);
+            lastNanos = nanos;
+        }
+
+        public long getRuns() {
+            return runs.get();
+        }
+
+        public long getTotalNanos() {
+            return totalNanos.get();
+        }
+
+        public long getMaxNanos() {
+            return maxNanos.get();
+        }
+
+        public long getLastNanos() {
+            return lastNanos;
+        }
+
+        public long getAverageNanos() {
+            long count = runs.get();
+            return count == 0 ? 0 : totalNanos.get() / count;
+        }
+    }
+
+    /**
+     * The tasks of a single script on the shared scheduler. Follows the {@link ScheduledThreadPoolExecutor} defaults:
+     * periodic tasks are cancelled by {@link #shutdown()}, delayed one-shot tasks still run.
+     */
+    public static final class ScriptExecutor extends AbstractExecutorService implements ScheduledExecutorService {
+        private final String name;
+        private final Set<ScriptTask<?>> tasks = ConcurrentHashMap.newKeySet();
+        @Getter
+        private final ExecutionStats stats = new ExecutionStats();
+        private volatile boolean shutdown;
+
+        private ScriptExecutor(String name) {
+            this.name = name;
+        }
+
+        @Override
+        public ScheduledFuture<?> schedule(Runnable command, long delay, TimeUnit unit) {
+            return submit(new ScriptTask<>(this, Executors.callable(command, null), triggerTime(delay, unit), 0));
+        }
+
+        @Override
+        public <V> ScheduledFuture<V> schedule(Callable<V> callable, long delay, TimeUnit unit) {
+            return submit(new ScriptTask<>(this, callable, triggerTime(delay, unit), 0));
+        }
+
+        @Override
+        public ScheduledFuture<?> scheduleAtFixedRate(Runnable command, long initialDelay, long period, TimeUnit unit) {
+            if (period <= 0) {
+                throw new IllegalArgumentException("period must be positive");
+            }
+            return submit(new ScriptTask<>(this, Executors.callable(command, null), triggerTime(initialDelay, unit), unit.toNanos(period)));
+        }
+
+        @Override
+        public ScheduledFuture<?> scheduleWithFixedDelay(Runnable command, long initialDelay, long delay, TimeUnit unit) {
+            if (delay <= 0) {
+                throw new IllegalArgumentException("delay must be positive");
+            }
+            // A negative period marks a fixed delay, as in ScheduledThreadPoolExecutor
+            return submit(new ScriptTask<>(this, Executors.callable(command, null), triggerTime(initialDelay, unit), -unit.toNanos(delay)));
+        }
+
+        @Override
+        public void execute(Runnable command) {
+            schedule(command, 0, TimeUnit.NANOSECONDS);
+        }
+
+        @Override
+        public void shutdown() {
+            shutdown = true;
+            for (ScriptTask<?> task : tasks) {
+                if (task.isPeriodic()) {
+                    task.cancel(false);
+                }
+            }
+        }
+
+        @Override
+        public List<Runnable> shutdownNow() {
+            shutdown = true;
+            List<Runnable> pending = new ArrayList<>();
+            for (ScriptTask<?> task : tasks) {
+                if (!task.isStarted()) {
+                    pending.add(task);
+                }
+                task.cancel(true);
+            }
+            return pending;
+        }
+
+        @Override
+        public boolean isShutdown() {
+            return shutdown;
+        }
+
+        @Override
+        public boolean isTerminated() {
+            return shutdown && tasks.isEmpty();
+        }
+
+        @Override
+        public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+            long deadline = System.nanoTime() + unit.toNanos(timeout);
+            while (!isTerminated()) {
+                if (System.nanoTime() >= deadline) {
+                    return false;
+                }
+                Thread.sleep(10);
+            }
+            return true;
+        }
+
+        private <V> ScriptTask<V> submit(ScriptTask<V> task) {
+            if (shutdown) {
+                throw new RejectedExecutionException(name + " has been shut down");
+            }
+            tasks.add(task);
+            task.arm();
+            return task;
+        }
+
+        private static long triggerTime(long delay, TimeUnit unit) {
+            return System.nanoTime() + unit.toNanos(Math.max(delay, 0));
+        }
+    }
+
+    /**
+     * A task of a {@link ScriptExecutor}. The timer only fires it; the task itself runs on a worker thread.
+     */
+    private static final class ScriptTask<V> extends FutureTask<V> implements RunnableScheduledFuture<V> {
+        private final ScriptExecutor owner;
+        // Positive for a fixed rate, negative for a fixed delay and 0 for a one-shot task
+        private final long period;
+        private volatile long time;
+        private volatile ScheduledFuture<?> trigger;
+        @Getter
+        private volatile boolean started;
+
+        private ScriptTask(ScriptExecutor owner, Callable<V> callable, long time, long period) {
+            super(callable);
+            this.owner = owner;
+            this.time = time;
+            this.period = period;
+        }
+
+        private void arm() {
+            trigger = timer.schedule(this::dispatch, time - System.nanoTime(), TimeUnit.NANOSECONDS);
+            if (isDone()) {
+                trigger.cancel(false);
+            }
+        }
+
+        private void dispatch() {
+            if (isDone()) {
+                return;
+            }
+            try {
+                workers.execute(this);
+            } catch (RejectedExecutionException e) {
+                // Skip this run rather than failing the task, which would stop the script for good
+                log.warn("No worker available for {}, all {} script threads are busy, retrying", owner.name, MAX_WORKERS);
+                time = System.nanoTime() + REJECTED_RETRY_NANOS;
+                arm();
+            }
+        }
+
+        @Override
+        public void run() {
+            started = true;
+            Thread thread = Thread.currentThread();
+            String threadName = thread.getName();
+            thread.setName(owner.name);
+            long start = System.nanoTime();
+            try {
+                if (!isPeriodic()) {
+                    super.run();
+                } else if (runAndReset()) {
+                    if (owner.isShutdown()) {
+                        cancel(false);
+                    } else {
+                        time = period > 0 ? time + period : System.nanoTime() - period;
+                        arm();
+                    }
+                }
+            } finally {
+                owner.stats.record(System.nanoTime() - start);
+                thread.setName(threadName);
+            }
+        }
+
+        @Override
+        public boolean cancel(boolean mayInterruptIfRunning) {
+            boolean cancelled = super.cancel(mayInterruptIfRunning);
+            ScheduledFuture<?> pending = trigger;
+            if (pending != null) {
+                pending.cancel(false);
+            }
+            return cancelled;
+        }
+
+        @Override
+        protected void done() {
+            owner.tasks.remove(this);
+        }
+
+        @Override
+        public boolean isPeriodic() {
+            return period != 0;
+        }
+
+        @Override
+        public long getDelay(TimeUnit unit) {
+            return unit.convert(time - System.nanoTime(), TimeUnit.NANOSECONDS);
+        }
+
+        @Override
+        public int compareTo(Delayed other) {
+            if (other == this) {
+                return 0;
+            }
+            return Long.compare(getDelay(TimeUnit.NANOSECONDS), other.getDelay(TimeUnit.NANOSECONDS));
+        }
+    }
+}
@@ -20,6 +20,7 @@ import net.runelite.client.plugins.microbot.util.npc.Rs2NpcManager;
 import net.runelite.client.plugins.microbot.util.npc.Rs2NpcModel;
 import net.runelite.client.plugins.microbot.util.player.Rs2Player;
 import net.runelite.client.plugins.microbot.util.walker.Rs2Walker;
+import net.runelite.client.util.NameMatcher;
 
 import java.util.*;
 import java.util.concurrent.TimeUnit;
@@ -59,9 +60,7 @@ public class AttackNpcScript extends Script {
 
                 attackableArea = new Rs2WorldArea(config.centerLocation().toWorldArea());
                 attackableArea = attackableArea.offset(config.attackRadius());
-                List<String> npcsToAttack = Arrays.stream(config.attackableNpcs().split(","))
-                        .map(x -> x.trim().toLowerCase())
-                        .collect(Collectors.toList());
+                NameMatcher npcsToAttack = NameMatcher.ofCsv(NameMatcher.Mode.EXACT, config.attackableNpcs());
 
                 filteredAttackableNpcs.set(
                         Rs2Npc.getAttackableNpcs(config.attackReachableNpcs())
@@ -69,7 +68,7 @@ public class AttackNpcScript extends Script {
                                 .filter(npc -> {
                                     String name = npc.getName();
                                     if (name == null || name.isEmpty()) return false;
-                                    return !npcsToAttack.isEmpty() && npcsToAttack.stream().anyMatch(name::equalsIgnoreCase);
+                                    return npcsToAttack.matches(name);
                                 })
                                 .sorted(Comparator.comparingInt((Rs2NpcModel npc) -> Objects.equals(npc.getInteracting(), Microbot.getClient().getLocalPlayer()) ? 0 : 1)
                                         .thenComparingInt(npc -> Rs2Player.getRs2WorldPoint().distanceToPath(npc.getWorldLocation())))
@@ -79,10 +78,8 @@ public class AttackNpcScript extends Script {
 
                 for (var attackableNpc: filteredAttackableNpcs.get()) {
                     if (attackableNpc == null || attackableNpc.getName() == null) continue;
-                    for (var npcToAttack: npcsToAttack) {
-                        if (npcToAttack.equalsIgnoreCase(attackableNpc.getName())) {
-                            attackableNpcs.add(attackableNpc);
-                        }
+                    if (npcsToAttack.matches(attackableNpc.getName())) {
+                        attackableNpcs.add(attackableNpc);
                     }
                 }
 
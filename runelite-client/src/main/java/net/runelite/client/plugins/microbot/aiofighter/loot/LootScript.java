@@ -8,11 +8,16 @@ import net.runelite.client.plugins.microbot.aiofighter.AIOFighterPlugin;
 import net.runelite.client.plugins.microbot.aiofighter.enums.DefaultLooterStyle;
 import net.runelite.client.plugins.microbot.aiofighter.enums.State;
 import net.runelite.client.plugins.microbot.util.combat.Rs2Combat;
+import net.runelite.client.plugins.microbot.util.grounditem.IndexedGroundItem;
 import net.runelite.client.plugins.microbot.util.grounditem.LootingParameters;
 import net.runelite.client.plugins.microbot.util.grounditem.Rs2GroundItem;
+import net.runelite.client.plugins.microbot.util.grounditem.Rs2GroundItemIndex;
 import net.runelite.client.plugins.microbot.util.inventory.Rs2Inventory;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
 
 @Slf4j
 public class LootScript extends Script {
@@ -37,19 +42,36 @@ public class LootScript extends Script {
 
 
                 if (!config.toggleLootItems()) return;
+                List<Predicate<IndexedGroundItem>> rules = new ArrayList<>();
                 if (config.looterStyle().equals(DefaultLooterStyle.MIXED) || config.looterStyle().equals(DefaultLooterStyle.ITEM_LIST)) {
-                    lootItemsOnName(config);
+                    rules.add(itemListRule(config));
                 }
 
                 if (config.looterStyle().equals(DefaultLooterStyle.GE_PRICE_RANGE) || config.looterStyle().equals(DefaultLooterStyle.MIXED)) {
-                    lootItemsByValue(config);
+                    rules.add(valueRule(config));
+                }
+                if (config.toggleBuryBones()) rules.add(bonesRule(config));
+                if (config.toggleScatter()) rules.add(ashesRule(config));
+                if (config.toggleLootRunes()) rules.add(runesRule(config));
+                if (config.toggleLootCoins()) rules.add(coinsRule(config));
+                if (config.toggleLootUntradables()) rules.add(untradeableItemsRule(config));
+                if (config.toggleLootArrows()) rules.add(arrowsRule(config));
+
+                // Items of every enabled rule are looted together, most valuable first
+                Predicate<IndexedGroundItem> rule = rules.stream().reduce(Predicate::or).orElse(null);
+                if (rule == null || !Rs2GroundItemIndex.ensureReady() || Rs2GroundItemIndex.peek(rule) == null) return;
+
+                LootingParameters params = new LootingParameters(
+                        config.attackRadius(),
+                        1,
+                        1,
+                        minFreeSlots,
+                        config.toggleDelayedLooting(),
+                        config.toggleOnlyLootMyItems()
+                );
+                if (Rs2GroundItem.loot(params, rule)) {
+                    Microbot.pauseAllScripts.compareAndSet(true, false);
                 }
-                lootBones(config);
-                lootAshes(config);
-                lootRunes(config);
-                lootCoins(config);
-                lootUntradeableItems(config);
-                lootArrows(config);
 
             } catch(Exception ex) {
                 Microbot.log("Looterscript: " + ex.getMessage());
@@ -59,113 +81,89 @@ public class LootScript extends Script {
         return true;
     }
 
-    private void lootArrows(AIOFighterConfig config) {
-        if (config.toggleLootArrows()) {
-            LootingParameters arrowParams = new LootingParameters(
-                    config.attackRadius(),
-                    1,
-                    10,
-                    minFreeSlots,
-                    config.toggleDelayedLooting(),
-                    config.toggleOnlyLootMyItems(),
-                    "arrow"
-            );
-            if (Rs2GroundItem.lootItemsBasedOnNames(arrowParams)) {
-                Microbot.pauseAllScripts.compareAndSet(true, false);
-            }
-        }
+    private Predicate<IndexedGroundItem> arrowsRule(AIOFighterConfig config) {
+        LootingParameters params = new LootingParameters(
+                config.attackRadius(),
+                1,
+                10,
+                minFreeSlots,
+                config.toggleDelayedLooting(),
+                config.toggleOnlyLootMyItems(),
+                "arrow"
+        );
+        return Rs2GroundItem.namesRule(params);
     }
 
-    private void lootBones(AIOFighterConfig config) {
-        if (config.toggleBuryBones()) {
-            LootingParameters bonesParams = new LootingParameters(
-                    config.attackRadius(),
-                    1,
-                    1,
-                    minFreeSlots,
-                    config.toggleDelayedLooting(),
-                    config.toggleOnlyLootMyItems(),
-                    "bones"
-            );
-            if (Rs2GroundItem.lootItemsBasedOnNames(bonesParams)) {
-                Microbot.pauseAllScripts.compareAndSet(true, false);
-            }
-        }
+    private Predicate<IndexedGroundItem> bonesRule(AIOFighterConfig config) {
+        LootingParameters params = new LootingParameters(
+                config.attackRadius(),
+                1,
+                1,
+                minFreeSlots,
+                config.toggleDelayedLooting(),
+                config.toggleOnlyLootMyItems(),
+                "bones"
+        );
+        return Rs2GroundItem.namesRule(params);
     }
 
-    private void lootAshes(AIOFighterConfig config) {
-        if (config.toggleScatter()) {
-            LootingParameters ashesParams = new LootingParameters(
-                    config.attackRadius(),
-                    1,
-                    1,
-                    minFreeSlots,
-                    config.toggleDelayedLooting(),
-                    config.toggleOnlyLootMyItems(),
-                    " ashes"
-            );
-            if (Rs2GroundItem.lootItemsBasedOnNames(ashesParams)) {
-                Microbot.pauseAllScripts.compareAndSet(true, false);
-            }
-        }
+    private Predicate<IndexedGroundItem> ashesRule(AIOFighterConfig config) {
+        LootingParameters params = new LootingParameters(
+                config.attackRadius(),
+                1,
+                1,
+                minFreeSlots,
+                config.toggleDelayedLooting(),
+                config.toggleOnlyLootMyItems(),
+                " ashes"
+        );
+        return Rs2GroundItem.namesRule(params);
     }
 
     // loot runes
-    private void lootRunes(AIOFighterConfig config) {
-        if (config.toggleLootRunes()) {
-            LootingParameters runesParams = new LootingParameters(
-                    config.attackRadius(),
-                    1,
-                    1,
-                    minFreeSlots,
-                    config.toggleDelayedLooting(),
-                    config.toggleOnlyLootMyItems(),
-                    " rune"
-            );
-            if (Rs2GroundItem.lootItemsBasedOnNames(runesParams)) {
-                Microbot.pauseAllScripts.compareAndSet(true, false);
-            }
-        }
+    private Predicate<IndexedGroundItem> runesRule(AIOFighterConfig config) {
+        LootingParameters params = new LootingParameters(
+                config.attackRadius(),
+                1,
+                1,
+                minFreeSlots,
+                config.toggleDelayedLooting(),
+                config.toggleOnlyLootMyItems(),
+                " rune"
+        );
+        return Rs2GroundItem.namesRule(params);
     }
 
     // loot coins
-    private void lootCoins(AIOFighterConfig config) {
-        if (config.toggleLootCoins()) {
-            LootingParameters coinsParams = new LootingParameters(
-                    config.attackRadius(),
-                    1,
-                    1,
-                    minFreeSlots,
-                    config.toggleDelayedLooting(),
-                    config.toggleOnlyLootMyItems(),
-                    "coins"
-            );
-            if (Rs2GroundItem.lootCoins(coinsParams)) {
-                Microbot.pauseAllScripts.compareAndSet(true, false);
-            }
-        }
+    private Predicate<IndexedGroundItem> coinsRule(AIOFighterConfig config) {
+        LootingParameters params = new LootingParameters(
+                config.attackRadius(),
+                1,
+                1,
+                minFreeSlots,
+                config.toggleDelayedLooting(),
+                config.toggleOnlyLootMyItems(),
+                "coins"
+        );
+        return Rs2GroundItem.coinsRule(params);
     }
 
     // loot untreadable items
-    private void lootUntradeableItems(AIOFighterConfig config) {
-        if (config.toggleLootUntradables()) {
-            LootingParameters untradeableItemsParams = new LootingParameters(
-                    config.attackRadius(),
-                    1,
-                    1,
-                    minFreeSlots,
-                    config.toggleDelayedLooting(),
-                    config.toggleOnlyLootMyItems(),
-                    "untradeable"
-            );
-            if (Rs2GroundItem.lootUntradables(untradeableItemsParams)) {
-                Microbot.pauseAllScripts.compareAndSet(true, false);
-            }
-        }
+    private Predicate<IndexedGroundItem> untradeableItemsRule(AIOFighterConfig config) {
+        LootingParameters params = new LootingParameters(
+                config.attackRadius(),
+                1,
+                1,
+                minFreeSlots,
+                config.toggleDelayedLooting(),
+                config.toggleOnlyLootMyItems(),
+                "untradeable"
+        );
+        return Rs2GroundItem.untradablesRule(params);
     }
 
-    private void lootItemsByValue(AIOFighterConfig config) {
-        LootingParameters valueParams = new LootingParameters(
+    private Predicate<IndexedGroundItem> valueRule(AIOFighterConfig config) {
+        LootingParameters params = new LootingParameters(
                 config.minPriceOfItemsToLoot(),
                 config.maxPriceOfItemsToLoot(),
                 config.attackRadius(),
@@ -174,13 +172,11 @@ public class LootScript extends Script {
                 config.toggleDelayedLooting(),
                 config.toggleOnlyLootMyItems()
         );
-        if (Rs2GroundItem.lootItemBasedOnValue(valueParams)) {
-            Microbot.pauseAllScripts.compareAndSet(true, false);
-        }
+        return Rs2GroundItem.valueRule(params);
     }
 
-    private void lootItemsOnName(AIOFighterConfig config) {
-        LootingParameters valueParams = new LootingParameters(
+    private Predicate<IndexedGroundItem> itemListRule(AIOFighterConfig config) {
+        LootingParameters params = new LootingParameters(
                 config.attackRadius(),
                 1,
                 1,
@@ -189,9 +185,7 @@ public class LootScript extends Script {
                 config.toggleOnlyLootMyItems(),
                 config.listOfItemsToLoot().trim().split(",")
         );
-        if (Rs2GroundItem.lootItemsBasedOnNames(valueParams)) {
-            Microbot.pauseAllScripts.compareAndSet(true, false);
-        }
+        return Rs2GroundItem.namesRule(params);
     }
 
     public void shutdown() {
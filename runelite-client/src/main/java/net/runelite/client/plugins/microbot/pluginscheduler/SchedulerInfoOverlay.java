@@ -68,7 +68,7 @@ public class SchedulerInfoOverlay extends OverlayPanel {
             }
 
             // Next plugin info
-            PluginScheduleEntry nextPlugin = plugin.getUpComingPlugin();
+            PluginScheduleEntry nextPlugin = plugin.getDisplayedUpComingPlugin();
             if (nextPlugin != null) {
                 addNextPluginInfo(nextPlugin);
             } else {
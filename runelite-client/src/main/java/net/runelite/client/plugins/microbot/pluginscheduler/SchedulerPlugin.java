@@ -20,9 +20,17 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 import javax.inject.Inject;
@@ -33,6 +41,7 @@ import javax.swing.Timer;
 
 import org.slf4j.event.Level;
 import java.nio.file.Files;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import com.google.inject.Provides;
 
 import lombok.Getter;
@@ -104,21 +113,25 @@ public class SchedulerPlugin extends Plugin {
     @Inject
     private ClientToolbar clientToolbar;
     @Inject
-    private ScheduledExecutorService executorService;
-    @Inject
     private OverlayManager overlayManager;
 
     private NavigationButton navButton;
     private SchedulerPanel panel;
-    private ScheduledFuture<?> updateTask;
+    private volatile ScheduledFuture<?> updateTask;
+    // Runs the main loop, so evaluating the schedule never blocks the Swing EDT. Every change to the scheduler
+    // state or the schedule entries runs on its thread, see runOnEvaluationThread
+    private ScheduledExecutorService evaluationExecutor;
+    private volatile Thread evaluationThread;
+    // How long the EDT waits for an action whose result it shows, before the action finishes in the background
+    private static final long EVALUATION_WAIT_SECONDS = 2;
     private SchedulerWindow schedulerWindow;
     @Inject
     private SchedulerInfoOverlay overlay;
     @Getter
-    private PluginScheduleEntry currentPlugin;
+    private volatile PluginScheduleEntry currentPlugin;
     @Getter
-    private PluginScheduleEntry lastPlugin;
-    private void setCurrentPlugin(PluginScheduleEntry plugin) {
+    private volatile PluginScheduleEntry lastPlugin;
+    void setCurrentPlugin(PluginScheduleEntry plugin) {
         // Update last plugin when setting new one
         if (this.currentPlugin != null && plugin != this.currentPlugin) {
             this.lastPlugin = this.currentPlugin;
@@ -127,11 +140,29 @@ public class SchedulerPlugin extends Plugin {
     }
 
     /**
-     * Returns the list of scheduled plugins
+     * Returns the list of scheduled plugins.
+     * The list is copy-on-write, so the main loop always iterates a consistent view while the UI edits it.
      * @return List of PluginScheduleEntry objects
      */
     @Getter
-    private List<PluginScheduleEntry> scheduledPlugins = new ArrayList<>();
+    private volatile List<PluginScheduleEntry> scheduledPlugins = new CopyOnWriteArrayList<>();
+
+    // Result of the last pass of the main loop, read by the UI instead of evaluating the schedule again
+    private volatile PluginScheduleEntry upComingPlugin;
+    // What the UI was last refreshed with, to only force a full refresh when it changed
+    private SchedulerState publishedState;
+    private PluginScheduleEntry publishedCurrentPlugin;
+    private PluginScheduleEntry publishedUpComingPlugin;
+    private int publishedEntryCount = -1;
+
+    // Cost of evaluating the schedule in the main loop
+    @Getter
+    private volatile long lastEvaluationNanos;
+    @Getter
+    private volatile long maxEvaluationNanos;
+    @Getter
+    private volatile long evaluationCount;
+    private volatile long totalEvaluationNanos;
 
     // private final Map<String, PluginScheduleEntry> nextPluginCache = new
     // HashMap<>();
@@ -140,7 +171,7 @@ public class SchedulerPlugin extends Plugin {
     private static final int MAX_INIT_CHECKS = 10;
 
     @Getter
-    private SchedulerState currentState = SchedulerState.UNINITIALIZED;
+    private volatile SchedulerState currentState = SchedulerState.UNINITIALIZED;
     private SchedulerState prvState = SchedulerState.UNINITIALIZED;
     private GameState lastGameState = GameState.UNKNOWN;
 
@@ -191,20 +222,147 @@ public class SchedulerPlugin extends Plugin {
         // Check initialization status before fully enabling scheduler
         //checkInitialization();
 
-        // Run the main loop
-        updateTask = executorService.scheduleWithFixedDelay(() -> {
-            SwingUtilities.invokeLater(() -> {
-                // Only run scheduling logic if fully initialized
-                if (currentState.isSchedulerActive()) {
-                    checkSchedule();
-                } else if (currentState == SchedulerState.INITIALIZING
-                        || currentState == SchedulerState.UNINITIALIZED) {
-                    // Retry initialization check if not already checking
-                    checkInitialization();
+        // Run the main loop on its own thread, only its results are handed to the EDT
+        ThreadFactory threadFactory = new ThreadFactoryBuilder()
+                .setNameFormat("plugin-scheduler-evaluation")
+                .setDaemon(true)
+                .build();
+        evaluationExecutor = Executors.newSingleThreadScheduledExecutor(
+                runnable -> evaluationThread = threadFactory.newThread(runnable));
+        updateTask = evaluationExecutor.scheduleWithFixedDelay(this::runMainLoop, 0, 1, TimeUnit.SECONDS);
+    }
+
+    /**
+     * One pass of the main loop: evaluates the schedule and publishes the result to the UI.
+     */
+    private void runMainLoop() {
+        try {
+            long start = System.nanoTime();
+            // Only run scheduling logic if fully initialized
+            if (currentState.isSchedulerActive()) {
+                checkSchedule();
+            } else if (currentState == SchedulerState.INITIALIZING
+                    || currentState == SchedulerState.UNINITIALIZED) {
+                // Retry initialization check if not already checking
+                checkInitialization();
+            }
+            upComingPlugin = getUpComingPlugin();
+            recordEvaluation(System.nanoTime() - start);
+            publishToUi();
+        } catch (Exception e) {
+            // An exception would cancel the periodic task and stop the main loop for good
+            log.error("Error in scheduler main loop", e);
+        }
+    }
+
+    private void recordEvaluation(long nanos) {
+        lastEvaluationNanos = nanos;
+        maxEvaluationNanos = Math.max(maxEvaluationNanos, nanos);
+        totalEvaluationNanos += nanos;
+        evaluationCount++;
+    }
+
+    /**
+     * Returns the average time a pass of the main loop spent evaluating the schedule
+     */
+    public long getAverageEvaluationNanos() {
+        long count = evaluationCount;
+        return count == 0 ? 0 : totalEvaluationNanos / count;
+    }
+
+    /**
+     * Refreshes the panels on the EDT. A full refresh is only forced when what they show changed since the last
+     * pass, otherwise they just update their clocks.
+     */
+    private void publishToUi() {
+        SchedulerState state = currentState;
+        PluginScheduleEntry current = currentPlugin;
+        PluginScheduleEntry upComing = upComingPlugin;
+        int entryCount = scheduledPlugins.size();
+        boolean changed = state != publishedState || current != publishedCurrentPlugin
+                || upComing != publishedUpComingPlugin || entryCount != publishedEntryCount;
+        publishedState = state;
+        publishedCurrentPlugin = current;
+        publishedUpComingPlugin = upComing;
+        publishedEntryCount = entryCount;
+        SwingUtilities.invokeLater(changed ? this::forceUpdatePanels : this::updatePanels);
+    }
+
+    /**
+     * Re-evaluates the upcoming plugin on the main loop thread, e.g. after the schedule was edited.
+     */
+    private void requestUiUpdate() {
+        ScheduledExecutorService executor = evaluationExecutor;
+        if (executor == null || executor.isShutdown()) {
+            return;
+        }
+        executor.execute(() -> {
+            try {
+                upComingPlugin = getUpComingPlugin();
+                publishToUi();
+            } catch (Exception e) {
+                log.error("Error updating scheduler UI", e);
+            }
+        });
+    }
+
+    /**
+     * Runs a change to the scheduler state or the schedule entries on the main loop thread, so it never races with
+     * a pass of the main loop. Runs it right away when called on that thread or when the loop is not running.
+     */
+    public void runOnEvaluationThread(Runnable action) {
+        if (Thread.currentThread() == evaluationThread || evaluationExecutor == null) {
+            action.run();
+            return;
+        }
+        queueOnEvaluationThread(action);
+    }
+
+    /**
+     * Runs a change on the main loop thread after everything already queued there, e.g. to retry it later.
+     */
+    private void queueOnEvaluationThread(Runnable action) {
+        ScheduledExecutorService executor = evaluationExecutor;
+        if (executor == null) {
+            SwingUtilities.invokeLater(action);
+            return;
+        }
+        try {
+            executor.execute(() -> {
+                try {
+                    action.run();
+                } catch (Exception e) {
+                    log.error("Error in scheduler action", e);
                 }
-                updatePanels();
             });
-        }, 0, 1, TimeUnit.SECONDS);
+        } catch (RejectedExecutionException e) {
+            log.debug("Scheduler is shutting down, dropping action");
+        }
+    }
+
+    /**
+     * Runs a change on the main loop thread and waits for its result, for actions whose outcome the UI shows.
+     * Returns {@code fallback} if the loop is busy for longer than {@link #EVALUATION_WAIT_SECONDS}; the action still
+     * completes in the background and the panels pick up its result on their next refresh.
+     */
+    private <T> T callOnEvaluationThread(Supplier<T> action, T fallback) {
+        ScheduledExecutorService executor = evaluationExecutor;
+        if (Thread.currentThread() == evaluationThread || executor == null) {
+            return action.get();
+        }
+        try {
+            Future<T> result = executor.submit(action::get);
+            return result.get(EVALUATION_WAIT_SECONDS, TimeUnit.SECONDS);
+        } catch (TimeoutException e) {
+            log.warn("Scheduler main loop is busy, the action completes in the background");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            log.error("Error in scheduler action", e.getCause());
+        } catch (RejectedExecutionException e) {
+            log.debug("Scheduler is shutting down, dropping action");
+        }
+        return fallback;
     }
 
     /**
@@ -297,6 +455,24 @@ public class SchedulerPlugin extends Plugin {
 
     @Override
     protected void shutDown() {
+        // Let the loop finish what is queued, the changes below then run right here
+        if (updateTask != null) {
+            updateTask.cancel(false);
+            updateTask = null;
+        }
+        ScheduledExecutorService executor = evaluationExecutor;
+        if (executor != null) {
+            executor.shutdown();
+            try {
+                if (!executor.awaitTermination(EVALUATION_WAIT_SECONDS, TimeUnit.SECONDS)) {
+                    executor.shutdownNow();
+                }
+            } catch (InterruptedException e) {
+                executor.shutdownNow();
+                Thread.currentThread().interrupt();
+            }
+            evaluationExecutor = null;
+        }
         saveScheduledPlugins();
         clientToolbar.removeNavigation(navButton);
         overlayManager.remove(overlay);
@@ -309,10 +485,7 @@ public class SchedulerPlugin extends Plugin {
             this.loginMonitor.interrupt();
             this.loginMonitor = null;
         }
-        if (updateTask != null) {
-            updateTask.cancel(false);
-            updateTask = null;
-        }
+        upComingPlugin = null;
 
         if (schedulerWindow != null) {
             schedulerWindow.dispose(); // This will stop the timer
@@ -326,27 +499,26 @@ public class SchedulerPlugin extends Plugin {
      * Starts the scheduler
      */
     public void startScheduler() {
-        Microbot.log("Starting scheduler request...", Level.INFO);
-        Microbot.getClientThread().runOnClientThreadOptional(() -> {
-            // If already active, nothing to do
-            if (currentState.isSchedulerActive()) {
-                log.info("Scheduler already active");
-                return true;
-            }
-            // If initialized, start immediately
-            if (SchedulerState.READY == currentState || currentState == SchedulerState.HOLD) {
-                setState(SchedulerState.SCHEDULING);
-                log.info("Plugin Scheduler started");
+        runOnEvaluationThread(() -> {
+            Microbot.log("Starting scheduler request...", Level.INFO);
+            Microbot.getClientThread().runOnClientThreadOptional(() -> {
+                // If already active, nothing to do
+                if (currentState.isSchedulerActive()) {
+                    log.info("Scheduler already active");
+                    return true;
+                }
+                // If initialized, start immediately
+                if (SchedulerState.READY == currentState || currentState == SchedulerState.HOLD) {
+                    setState(SchedulerState.SCHEDULING);
+                    log.info("Plugin Scheduler started");
                 
-                // Check schedule immediately when started
-                SwingUtilities.invokeLater(() -> {
-                    checkSchedule();
-                });
+                    // Check schedule immediately when started
+                    queueOnEvaluationThread(this::checkSchedule);
+                    return true;
+                }
                 return true;
-            }
-            return true;
+            });
         });
-        return;
     }
 
     /**
@@ -356,7 +528,7 @@ public class SchedulerPlugin extends Plugin {
         if (loginMonitor != null && loginMonitor.isAlive()) {
             loginMonitor.interrupt();
         }
-        Microbot.getClientThread().runOnClientThreadOptional(() -> {
+        runOnEvaluationThread(() -> Microbot.getClientThread().runOnClientThreadOptional(() -> {
             if (!currentState.isSchedulerActive()) {
                 return false; // Already stopped
             }
@@ -399,7 +571,7 @@ public class SchedulerPlugin extends Plugin {
 
             log.info("Scheduler stopped - status: {}", currentState);
             return false;
-        });
+        }));
     }
     private boolean checkBreakAndLoginStatus() {     
         if (currentPlugin!=null){
@@ -450,7 +622,7 @@ public class SchedulerPlugin extends Plugin {
         }
         return false;
     }
-    private void checkSchedule() {            
+    void checkSchedule() {            
         // Update break status
         if (SchedulerState.LOGIN == currentState ||
                 SchedulerState.WAITING_FOR_LOGIN == currentState ||
@@ -580,11 +752,13 @@ public class SchedulerPlugin extends Plugin {
 
     }
     public void resumeBreak() {
-        if (currentState == SchedulerState.PLAYSCHEDULE_BREAK){
-            // If we are in a play schedule break, we need to reset the state, because otherwise we would break agin, because we are still outside the play schedule
-            Microbot.getConfigManager().setConfiguration(SchedulerPlugin.configGroup, "usePlaySchedule", false);
-        }
-        interruptBreak();
+        runOnEvaluationThread(() -> {
+            if (currentState == SchedulerState.PLAYSCHEDULE_BREAK){
+                // If we are in a play schedule break, we need to reset the state, because otherwise we would break agin, because we are still outside the play schedule
+                Microbot.getConfigManager().setConfiguration(SchedulerPlugin.configGroup, "usePlaySchedule", false);
+            }
+            interruptBreak();
+        });
     }
     /**
      * Interrupts an active break to allow a plugin to start
@@ -636,7 +810,7 @@ public class SchedulerPlugin extends Plugin {
             Thread.currentThread().interrupt();
         }
         if (BreakHandlerScript.isBreakActive()) {
-            SwingUtilities.invokeLater(() -> {
+            queueOnEvaluationThread(() -> {
                 log.info("\n\t--Break was not interrupted successfully");
                 interruptBreak();
             });
@@ -671,16 +845,18 @@ public class SchedulerPlugin extends Plugin {
     public List<String> hardResetAllUserConditions() {
         List<String> resetPlugins = new ArrayList<>();
         
-        for (PluginScheduleEntry entry : scheduledPlugins) {
-            if (entry != null) {
-                // Get the condition managers from the entry
-                try {
-                    entry.hardResetConditions();
-                } catch (Exception e) {
-                    log.error("Error resetting conditions for plugin " + entry.getCleanName(), e);
+        runOnEvaluationThread(() -> {
+            for (PluginScheduleEntry entry : scheduledPlugins) {
+                if (entry != null) {
+                    // Get the condition managers from the entry
+                    try {
+                        entry.hardResetConditions();
+                    } catch (Exception e) {
+                        log.error("Error resetting conditions for plugin " + entry.getCleanName(), e);
+                    }
                 }
             }
-        }
+        });
         
         return resetPlugins;
     }
@@ -906,7 +1082,7 @@ public class SchedulerPlugin extends Plugin {
   
     public void startPluginScheduleEntry(PluginScheduleEntry scheduledPlugin) {
         
-        Microbot.getClientThread().runOnClientThreadOptional(() -> {
+        runOnEvaluationThread(() -> Microbot.getClientThread().runOnClientThreadOptional(() -> {
 
             if (scheduledPlugin == null)
                 return false;
@@ -972,7 +1148,7 @@ public class SchedulerPlugin extends Plugin {
                 }
                 return true;
             }
-        });
+        }));
     }
 
     private void startAddStopConditionDialog(PluginScheduleEntry scheduledPlugin,
@@ -1045,7 +1221,7 @@ public class SchedulerPlugin extends Plugin {
                         conditionTimeoutSeconds = 60; // Default if config value is invalid
                     }
 
-                    final Timer conditionTimer = new Timer(conditionTimeoutSeconds * 1000, evt -> {
+                    final Timer conditionTimer = new Timer(conditionTimeoutSeconds * 1000, evt -> runOnEvaluationThread(() -> {
                         // Check if any time conditions have been added
                         if (scheduledPlugin.getStopConditionManager().getConditions().isEmpty()) {
                             log.info("No conditions added within timeout period. Returning to previous state.");                            
@@ -1067,22 +1243,26 @@ public class SchedulerPlugin extends Plugin {
                             setState(SchedulerState.STARTING_PLUGIN);
                             continueStartingPluginScheduleEntry(scheduledPlugin);
                         }
-                    });
+                    }));
                     conditionTimer.setRepeats(false);
                     conditionTimer.start();
                 }
             } else if (result == JOptionPane.NO_OPTION) {
-                setState(SchedulerState.STARTING_PLUGIN);
-                // User confirms to run without stop conditions
-                continueStartingPluginScheduleEntry(scheduledPlugin);
-                scheduledPlugin.setNeedsStopCondition(false);
-                log.info("User confirmed to run plugin without stop conditions: {}", scheduledPlugin.getCleanName());
+                runOnEvaluationThread(() -> {
+                    setState(SchedulerState.STARTING_PLUGIN);
+                    // User confirms to run without stop conditions
+                    continueStartingPluginScheduleEntry(scheduledPlugin);
+                    scheduledPlugin.setNeedsStopCondition(false);
+                    log.info("User confirmed to run plugin without stop conditions: {}", scheduledPlugin.getCleanName());
+                });
             } else {
                 // User canceled or dialog timed out - abort starting
                 log.info("Plugin start canceled by user or timed out: {}", scheduledPlugin.getCleanName());
-                scheduledPlugin.setNeedsStopCondition(false);
-                setCurrentPlugin(null);                
-                setState(stateBeforeScheduling);
+                runOnEvaluationThread(() -> {
+                    scheduledPlugin.setNeedsStopCondition(false);
+                    setCurrentPlugin(null);                
+                    setState(stateBeforeScheduling);
+                });
             }
             return null;
         });
@@ -1092,21 +1272,25 @@ public class SchedulerPlugin extends Plugin {
      * Resets any pending plugin start operation
      */
     public void resetPendingStart() {
-        if (currentState == SchedulerState.STARTING_PLUGIN || currentState == SchedulerState.WAITING_FOR_LOGIN || 
-                currentState == SchedulerState.WAITING_FOR_STOP_CONDITION) {
-            setCurrentPlugin(null);
+        runOnEvaluationThread(() -> {
+            if (currentState == SchedulerState.STARTING_PLUGIN || currentState == SchedulerState.WAITING_FOR_LOGIN || 
+                    currentState == SchedulerState.WAITING_FOR_STOP_CONDITION) {
+                setCurrentPlugin(null);
             
-            setState(SchedulerState.SCHEDULING);
-        }
+                setState(SchedulerState.SCHEDULING);
+            }
+        });
     }
     public void continuePendingStart(PluginScheduleEntry scheduledPlugin) {
-        if (currentState == SchedulerState.WAITING_FOR_STOP_CONDITION ) {            
-            if (currentPlugin != null && !currentPlugin.isRunning()  && currentPlugin.equals(scheduledPlugin)) {
-                setState(SchedulerState.STARTING_PLUGIN);   
-                log.info("Continuing pending start for plugin: " + scheduledPlugin.getCleanName());
-                this.continueStartingPluginScheduleEntry(scheduledPlugin);                
+        runOnEvaluationThread(() -> {
+            if (currentState == SchedulerState.WAITING_FOR_STOP_CONDITION ) {            
+                if (currentPlugin != null && !currentPlugin.isRunning()  && currentPlugin.equals(scheduledPlugin)) {
+                    setState(SchedulerState.STARTING_PLUGIN);   
+                    log.info("Continuing pending start for plugin: " + scheduledPlugin.getCleanName());
+                    this.continueStartingPluginScheduleEntry(scheduledPlugin);                
+                }
             }
-        }
+        });
     }
     /**
      * Continues the plugin starting process after stop condition checks
@@ -1145,27 +1329,29 @@ public class SchedulerPlugin extends Plugin {
     }
 
     public void forceStopCurrentPluginScheduleEntry(boolean successful) {
-        if (currentPlugin != null && currentPlugin.isRunning()) {
-            log.info("Force Stopping current plugin: " + currentPlugin.getCleanName());
-            if (currentState == SchedulerState.RUNNING_PLUGIN) {
-                setState(SchedulerState.HARD_STOPPING_PLUGIN);
-            }
-            currentPlugin.stop(successful, StopReason.HARD_STOP, "Plugin was forcibly stopped by user request");
-            // Wait a short time to see if the plugin stops immediately
-            if (currentPlugin != null) {
+        runOnEvaluationThread(() -> {
+            if (currentPlugin != null && currentPlugin.isRunning()) {
+                log.info("Force Stopping current plugin: " + currentPlugin.getCleanName());
+                if (currentState == SchedulerState.RUNNING_PLUGIN) {
+                    setState(SchedulerState.HARD_STOPPING_PLUGIN);
+                }
+                currentPlugin.stop(successful, StopReason.HARD_STOP, "Plugin was forcibly stopped by user request");
+                // Wait a short time to see if the plugin stops immediately
+                if (currentPlugin != null) {
 
-                if (!currentPlugin.isRunning()) {
-                    log.info("Plugin stopped successfully: " + currentPlugin.getCleanName());
+                    if (!currentPlugin.isRunning()) {
+                        log.info("Plugin stopped successfully: " + currentPlugin.getCleanName());
 
-                } else {
-                    SwingUtilities.invokeLater(() -> {
-                        forceStopCurrentPluginScheduleEntry(successful);
-                    });
-                    log.info("Failed to hard stop plugin: " + currentPlugin.getCleanName());
+                    } else {
+                        queueOnEvaluationThread(() -> {
+                            forceStopCurrentPluginScheduleEntry(successful);
+                        });
+                        log.info("Failed to hard stop plugin: " + currentPlugin.getCleanName());
+                    }
                 }
             }
-        }
-        updatePanels();
+            updatePanels();
+        });
     }
 
     /**
@@ -1173,6 +1359,10 @@ public class SchedulerPlugin extends Plugin {
      * Throttled to prevent excessive refresh calls.
      */
     void updatePanels() {
+        if (!SwingUtilities.isEventDispatchThread()) {
+            SwingUtilities.invokeLater(this::updatePanels);
+            return;
+        }
         long currentTime = System.currentTimeMillis();
         
         // Throttle panel updates to prevent excessive refreshes
@@ -1196,6 +1386,10 @@ public class SchedulerPlugin extends Plugin {
      * Use this for critical state changes that require immediate UI updates.
      */
     void forceUpdatePanels() {
+        if (!SwingUtilities.isEventDispatchThread()) {
+            SwingUtilities.invokeLater(this::forceUpdatePanels);
+            return;
+        }
         if (panel != null) {
             panel.refresh();
         }
@@ -1206,23 +1400,32 @@ public class SchedulerPlugin extends Plugin {
     }
 
     public void addScheduledPlugin(PluginScheduleEntry plugin) {        
-        scheduledPlugins.add(plugin);
-        // Register the stop completion callback
-        registerStopCompletionCallback(plugin);
+        runOnEvaluationThread(() -> {
+            scheduledPlugins.add(plugin);
+            // Register the stop completion callback
+            registerStopCompletionCallback(plugin);
+            requestUiUpdate();
+        });
     }
 
     public void removeScheduledPlugin(PluginScheduleEntry plugin) {
-        plugin.setEnabled(false);
-        scheduledPlugins.remove(plugin);
+        runOnEvaluationThread(() -> {
+            plugin.setEnabled(false);
+            scheduledPlugins.remove(plugin);
+            requestUiUpdate();
+        });
     }
 
     public void updateScheduledPlugin(PluginScheduleEntry oldPlugin, PluginScheduleEntry newPlugin) {
-        int index = scheduledPlugins.indexOf(oldPlugin);
-        if (index >= 0) {
-            scheduledPlugins.set(index, newPlugin);
-            // Register the stop completion callback for the new plugin
-            registerStopCompletionCallback(newPlugin);
-        }
+        runOnEvaluationThread(() -> {
+            int index = scheduledPlugins.indexOf(oldPlugin);
+            if (index >= 0) {
+                scheduledPlugins.set(index, newPlugin);
+                // Register the stop completion callback for the new plugin
+                registerStopCompletionCallback(newPlugin);
+                requestUiUpdate();
+            }
+        });
     }
 
 
@@ -1238,54 +1441,56 @@ public class SchedulerPlugin extends Plugin {
      */
     public void saveUserConditionsToScheduledPlugin(PluginScheduleEntry plugin, List<Condition> userStopConditions,
             List<Condition> userStartConditions, boolean requireAll, boolean stopOnConditionsMet, File saveFile) {
-        if (plugin == null)
-            return;
-        List<Condition> stopPluginConditions  = plugin.getStopConditionManager().getPluginCondition().getConditions();
+        runOnEvaluationThread(() -> {
+            if (plugin == null)
+                return;
+            List<Condition> stopPluginConditions  = plugin.getStopConditionManager().getPluginCondition().getConditions();
         
-        // Remove any existing stop conditions which are not user-defined
-        for (Condition condition : userStopConditions) {
-            if (stopPluginConditions.contains(condition)) {
-                userStopConditions.remove(condition);
+            // Remove any existing stop conditions which are not user-defined
+            for (Condition condition : userStopConditions) {
+                if (stopPluginConditions.contains(condition)) {
+                    userStopConditions.remove(condition);
+                }
             }
-        }
-        // Clear existing conditions
-        plugin.getStopConditionManager().getUserConditions().clear();
+            // Clear existing conditions
+            plugin.getStopConditionManager().getUserConditions().clear();
 
-        // Add new user conditions
-        for (Condition condition : userStopConditions) {
-            plugin.addStopCondition(condition);
-        }
+            // Add new user conditions
+            for (Condition condition : userStopConditions) {
+                plugin.addStopCondition(condition);
+            }
         
-        // Add start conditions if provided
-        if (userStartConditions != null && !userStartConditions.isEmpty()) {
-            List<Condition> startPluginConditions  = plugin.getStartConditionManager().getPluginCondition().getConditions();        
-            // Remove any existing start conditions which are not user-defined -> is a plugin condition, avoid duplication
-            for (Condition condition : userStartConditions) {
-                if (startPluginConditions.contains(condition)) {
-                    userStartConditions.remove(condition);
+            // Add start conditions if provided
+            if (userStartConditions != null && !userStartConditions.isEmpty()) {
+                List<Condition> startPluginConditions  = plugin.getStartConditionManager().getPluginCondition().getConditions();        
+                // Remove any existing start conditions which are not user-defined -> is a plugin condition, avoid duplication
+                for (Condition condition : userStartConditions) {
+                    if (startPluginConditions.contains(condition)) {
+                        userStartConditions.remove(condition);
+                    }
                 }
-            }
-            plugin.getStartConditionManager().getUserConditions().clear();
+                plugin.getStartConditionManager().getUserConditions().clear();
 
-            for (Condition condition : userStartConditions) {
-                plugin.addStartCondition(condition);
+                for (Condition condition : userStartConditions) {
+                    plugin.addStartCondition(condition);
+                }
             }
-        }
 
-        // Set condition manager properties
-        if (requireAll) {
-            plugin.getStopConditionManager().setRequireAll();
-        } else {
-            plugin.getStopConditionManager().setRequireAny();
-        }
+            // Set condition manager properties
+            if (requireAll) {
+                plugin.getStopConditionManager().setRequireAll();
+            } else {
+                plugin.getStopConditionManager().setRequireAny();
+            }
 
-        // Save to specified file if provided, otherwise to config
-        if (saveFile != null) {
-            saveScheduledPluginsToFile(saveFile);
-        } else {
-            // Save to config
-            saveScheduledPlugins();
-        }
+            // Save to specified file if provided, otherwise to config
+            if (saveFile != null) {
+                saveScheduledPluginsToFile(saveFile);
+            } else {
+                // Save to config
+                saveScheduledPlugins();
+            }
+        });
     }
     
     /**
@@ -1316,23 +1521,31 @@ public class SchedulerPlugin extends Plugin {
      * @return true if load was successful, false otherwise
      */
     public boolean loadScheduledPluginsFromFile(File file) {
+        List<PluginScheduleEntry> loadedPlugins;
         try {
-            stopScheduler();
-            if(currentPlugin != null && currentPlugin.isRunning()){
-                forceStopCurrentPluginScheduleEntry(false);
-                log.info("Stopping current plugin before loading new schedule");                
-            }
-            sleepUntil(() -> (currentPlugin == null || !currentPlugin.isRunning()), 2000);
             // Read JSON from file
             String json = Files.readString(file.toPath());
             log.info("Loading scheduled plugins from file: {}", file.getAbsolutePath());
             
             // Parse JSON
-            List<PluginScheduleEntry> loadedPlugins = PluginScheduleEntry.fromJson(json,  this.VERSION); 
+            loadedPlugins = PluginScheduleEntry.fromJson(json,  this.VERSION); 
             if (loadedPlugins == null) {
                 log.error("Failed to parse JSON from file");
                 return false;
             }
+        } catch (Exception e) {
+            log.error("Error loading scheduled plugins from file", e);
+            return false;
+        }
+
+        // The running schedule is replaced on the main loop thread, after the current plugin stopped
+        stopScheduler();
+        runOnEvaluationThread(() -> {
+            if(currentPlugin != null && currentPlugin.isRunning()){
+                forceStopCurrentPluginScheduleEntry(false);
+                log.info("Stopping current plugin before loading new schedule");                
+            }
+            sleepUntil(() -> (currentPlugin == null || !currentPlugin.isRunning()), 2000);
             
             // Resolve plugin references
             for (PluginScheduleEntry entry : loadedPlugins) {
@@ -1342,15 +1555,13 @@ public class SchedulerPlugin extends Plugin {
             }
             
             // Replace current plugins
-            scheduledPlugins = loadedPlugins;
+            scheduledPlugins = new CopyOnWriteArrayList<>(loadedPlugins);
+            requestUiUpdate();
             
             // Update UI
             SwingUtilities.invokeLater(this::updatePanels);
-            return true;
-        } catch (Exception e) {
-            log.error("Error loading scheduled plugins from file", e);
-            return false;
-        }
+        });
+        return true;
     }
     
     /**
@@ -1374,39 +1585,41 @@ public class SchedulerPlugin extends Plugin {
      */
     public void saveUserConditionsToPlugin(PluginScheduleEntry plugin, List<Condition> stopConditions,
             List<Condition> startConditions, boolean requireAll, boolean stopOnConditionsMet, File saveFile) {
-        if (plugin == null)
-            return;
+        runOnEvaluationThread(() -> {
+            if (plugin == null)
+                return;
 
-        // Clear existing stop conditions
-        plugin.getStopConditionManager().getUserConditions().clear();
+            // Clear existing stop conditions
+            plugin.getStopConditionManager().getUserConditions().clear();
 
-        // Add new stop conditions
-        for (Condition condition : stopConditions) {
-            plugin.addStopCondition(condition);
-        }
+            // Add new stop conditions
+            for (Condition condition : stopConditions) {
+                plugin.addStopCondition(condition);
+            }
         
-        // Add start conditions if provided
-        if (startConditions != null) {
-            plugin.getStartConditionManager().getUserConditions().clear();
-            for (Condition condition : startConditions) {
-                plugin.addStartCondition(condition);
+            // Add start conditions if provided
+            if (startConditions != null) {
+                plugin.getStartConditionManager().getUserConditions().clear();
+                for (Condition condition : startConditions) {
+                    plugin.addStartCondition(condition);
+                }
             }
-        }
 
-        // Set condition manager properties
-        if (requireAll) {
-            plugin.getStopConditionManager().setRequireAll();
-        } else {
-            plugin.getStopConditionManager().setRequireAny();
-        }
+            // Set condition manager properties
+            if (requireAll) {
+                plugin.getStopConditionManager().setRequireAll();
+            } else {
+                plugin.getStopConditionManager().setRequireAny();
+            }
 
-        // Save to specified file if provided, otherwise to config
-        if (saveFile != null) {
-            saveScheduledPluginsToFile(saveFile);
-        } else {
-            // Save to config
-            saveScheduledPlugins();
-        }
+            // Save to specified file if provided, otherwise to config
+            if (saveFile != null) {
+                saveScheduledPluginsToFile(saveFile);
+            } else {
+                // Save to config
+                saveScheduledPlugins();
+            }
+        });
     }
 
     /**
@@ -1423,16 +1636,17 @@ public class SchedulerPlugin extends Plugin {
     }
 
     public void saveScheduledPlugins() {
-        // Convert to JSON and save to config
-        String json = PluginScheduleEntry.toJson(scheduledPlugins, this.VERSION);
-
-        // log.info("Saving scheduled plugins to config: {}", json);
-        // config.setScheduledPlugins(json);
-        if (Microbot.getConfigManager() == null) {
-            return;
-        }
-        Microbot.getConfigManager().setConfiguration(SchedulerPlugin.configGroup, "scheduledPlugins", json);
+        runOnEvaluationThread(() -> {
+            // Convert to JSON and save to config
+            String json = PluginScheduleEntry.toJson(scheduledPlugins, this.VERSION);
 
+            // log.info("Saving scheduled plugins to config: {}", json);
+            // config.setScheduledPlugins(json);
+            if (Microbot.getConfigManager() == null) {
+                return;
+            }
+            Microbot.getConfigManager().setConfiguration(SchedulerPlugin.configGroup, "scheduledPlugins", json);
+        });
     }
 
     private void loadScheduledPlugin() {
@@ -1446,7 +1660,7 @@ public class SchedulerPlugin extends Plugin {
             log.debug("Loading scheduled plugins from config: {}\n\n", json);
 
             if (json != null && !json.isEmpty()) {
-                scheduledPlugins = PluginScheduleEntry.fromJson(json,  this.VERSION);
+                scheduledPlugins = new CopyOnWriteArrayList<>(PluginScheduleEntry.fromJson(json,  this.VERSION));
 
                 // Apply stop settings from config to all loaded plugins
                 for (PluginScheduleEntry plugin : scheduledPlugins) {
@@ -1498,7 +1712,7 @@ public class SchedulerPlugin extends Plugin {
             }
         } catch (Exception e) {
             log.error("Error loading scheduled plugins", e);
-            scheduledPlugins = new ArrayList<>();
+            scheduledPlugins = new CopyOnWriteArrayList<>();
         }
     }
 
@@ -1556,6 +1770,14 @@ public class SchedulerPlugin extends Plugin {
         return getNextScheduledPlugin(false, null).orElse(null);
     }
 
+    /**
+     * Returns the upcoming plugin found by the last pass of the main loop. The panels and the overlay use this
+     * instead of {@link #getUpComingPlugin()}, which evaluates every schedule entry on each refresh.
+     */
+    public PluginScheduleEntry getDisplayedUpComingPlugin() {
+        return updateTask != null ? upComingPlugin : getUpComingPlugin();
+    }
+
     /**
      * Core method to find the next plugin based on various criteria.
      * This uses sortPluginScheduleEntries with weighted selection to handle
@@ -1812,39 +2034,41 @@ public class SchedulerPlugin extends Plugin {
      */
     public void saveConditionsToPlugin(PluginScheduleEntry plugin, List<Condition> stopConditions,
             List<Condition> startConditions, boolean requireAll, boolean stopOnConditionsMet, File saveFile) {
-        if (plugin == null)
-            return;
+        runOnEvaluationThread(() -> {
+            if (plugin == null)
+                return;
 
-        // Clear existing stop conditions
-        plugin.getStopConditionManager().getConditions().clear();
+            // Clear existing stop conditions
+            plugin.getStopConditionManager().getConditions().clear();
 
-        // Add new stop conditions
-        for (Condition condition : stopConditions) {
-            plugin.addStopCondition(condition);
-        }
+            // Add new stop conditions
+            for (Condition condition : stopConditions) {
+                plugin.addStopCondition(condition);
+            }
         
-        // Add start conditions if provided
-        if (startConditions != null) {
-            plugin.getStartConditionManager().getConditions().clear();
-            for (Condition condition : startConditions) {
-                plugin.addStartCondition(condition);
+            // Add start conditions if provided
+            if (startConditions != null) {
+                plugin.getStartConditionManager().getConditions().clear();
+                for (Condition condition : startConditions) {
+                    plugin.addStartCondition(condition);
+                }
             }
-        }
 
-        // Set condition manager properties
-        if (requireAll) {
-            plugin.getStopConditionManager().setRequireAll();
-        } else {
-            plugin.getStopConditionManager().setRequireAny();
-        }
+            // Set condition manager properties
+            if (requireAll) {
+                plugin.getStopConditionManager().setRequireAll();
+            } else {
+                plugin.getStopConditionManager().setRequireAny();
+            }
 
-        // Save to specified file if provided, otherwise to config
-        if (saveFile != null) {
-            saveScheduledPluginsToFile(saveFile);
-        } else {
-            // Save to config
-            saveScheduledPlugins();
-        }
+            // Save to specified file if provided, otherwise to config
+            if (saveFile != null) {
+                saveScheduledPluginsToFile(saveFile);
+            } else {
+                // Save to config
+                saveScheduledPlugins();
+            }
+        });
     }
 
   
@@ -2040,32 +2264,28 @@ public class SchedulerPlugin extends Plugin {
                         login();
                     }
                     if (Microbot.isLoggedIn()) {
-                        // Successfully logged in, now increment the run count                        
-                        if (currentPlugin != null) {
-                            log.info("Login successful, finalizing plugin start: {}", currentPlugin.getName());
-                            if (currentPlugin.isRunning()) {
-                                // If we were running the plugin, continue with that
-                                log.info("Continuing to run plugin after login: {}", currentPlugin.getName());
-                                setState(SchedulerState.RUNNING_PLUGIN);
+                        runOnEvaluationThread(() -> {
+                            // Successfully logged in, now increment the run count                        
+                            if (currentPlugin != null) {
+                                log.info("Login successful, finalizing plugin start: {}", currentPlugin.getName());
+                                if (currentPlugin.isRunning()) {
+                                    // If we were running the plugin, continue with that
+                                    log.info("Continuing to run plugin after login: {}", currentPlugin.getName());
+                                    setState(SchedulerState.RUNNING_PLUGIN);
                                
                                
 
-                            }else if(!currentPlugin.isRunning()){
-                                // If we were starting the plugin, continue with that
-                                setState(SchedulerState.STARTING_PLUGIN);
-                                log.info("Continuing to start plugin after login: {}", currentPlugin.getName());
-                                Microbot.getClientThread().invokeLater(() -> {
+                                }else if(!currentPlugin.isRunning()){
+                                    // If we were starting the plugin, continue with that
+                                    setState(SchedulerState.STARTING_PLUGIN);
+                                    log.info("Continuing to start plugin after login: {}", currentPlugin.getName());
                                     continueStartingPluginScheduleEntry(currentPlugin);
-                                // setState(SchedulerState.RUNNING_PLUGIN);
-                            });    
-                            
-                            }
-                           
-                            return;
-                        }else{
-                            log.info("Login successful, but no plugin to start back to scheduling");
-                            setState(SchedulerState.SCHEDULING);
-                        }                       
+                                }
+                            }else{
+                                log.info("Login successful, but no plugin to start back to scheduling");
+                                setState(SchedulerState.SCHEDULING);
+                            }                       
+                        });
                         return;
                     }
                     if (Microbot.getClient().getGameState() != GameState.LOGGED_IN &&
@@ -2078,7 +2298,7 @@ public class SchedulerPlugin extends Plugin {
                 // If we get here, login failed too many times
                 log.error("Failed to login after {} attempts",
                         MAX_LOGIN_ATTEMPTS);
-                SwingUtilities.invokeLater(() -> {
+                runOnEvaluationThread(() -> {
                     // Clean up and set proper state
                     if (currentPlugin != null && currentPlugin.isRunning()) {
                         currentPlugin.stop(false, StopReason.SCHEDULED_STOP, "Plugin stopped due to scheduled time conditions");
@@ -2282,7 +2502,7 @@ public class SchedulerPlugin extends Plugin {
     /**
      * Sets the current scheduler state and updates UI
      */
-    private void setState(SchedulerState newState) {
+    void setState(SchedulerState newState) {
         if (currentState != newState) {
             prvState = currentState;
             log.debug("Scheduler state changed: {} -> {}", currentState, newState);
@@ -2419,76 +2639,80 @@ public class SchedulerPlugin extends Plugin {
 
     @Subscribe
     public void onPluginScheduleEntryFinishedEvent(PluginScheduleEntryFinishedEvent event) {
-        if (currentPlugin != null && event.getPlugin() == currentPlugin.getPlugin()) {
-            log.info("Plugin '{}' self-reported as finished: {} (Success: {})",
-                    currentPlugin.getCleanName(),
-                    event.getReason(),
-                    event.isSuccess());
-            if (config.notificationsOn()){                
-                String notificationMessage = "Plugin '" + currentPlugin.getCleanName() + "' finished: " + event.getReason();
-                if (event.isSuccess()) {
-                    notificationMessage += " (Success)";
-                } else {
-                    notificationMessage += " (Failed)";
-                }
-                notifier.notify(Notification.ON, notificationMessage);
+        runOnEvaluationThread(() -> {
+            if (currentPlugin != null && event.getPlugin() == currentPlugin.getPlugin()) {
+                log.info("Plugin '{}' self-reported as finished: {} (Success: {})",
+                        currentPlugin.getCleanName(),
+                        event.getReason(),
+                        event.isSuccess());
+                if (config.notificationsOn()){                
+                    String notificationMessage = "Plugin '" + currentPlugin.getCleanName() + "' finished: " + event.getReason();
+                    if (event.isSuccess()) {
+                        notificationMessage += " (Success)";
+                    } else {
+                        notificationMessage += " (Failed)";
+                    }
+                    notifier.notify(Notification.ON, notificationMessage);
                 
-            }
+                }
             
-            // Stop the plugin with the success state from the event
-            if (currentState == SchedulerState.RUNNING_PLUGIN) {
-                setState(SchedulerState.SOFT_STOPPING_PLUGIN);
-            }
+                // Stop the plugin with the success state from the event
+                if (currentState == SchedulerState.RUNNING_PLUGIN) {
+                    setState(SchedulerState.SOFT_STOPPING_PLUGIN);
+                }
             
-            // Format the reason message for better readability
-            String eventReason = event.getReason();
-            String formattedReason = SchedulerPluginUtil.formatReasonMessage(eventReason);
+                // Format the reason message for better readability
+                String eventReason = event.getReason();
+                String formattedReason = SchedulerPluginUtil.formatReasonMessage(eventReason);
             
-            String reasonMessage = event.isSuccess() ? 
-                "Plugin completed its task successfully:\n\t\t\"" + formattedReason+"\"":
-                "Plugin reported completion but indicated an unsuccessful run:\n" + formattedReason;
+                String reasonMessage = event.isSuccess() ? 
+                    "Plugin completed its task successfully:\n\t\t\"" + formattedReason+"\"":
+                    "Plugin reported completion but indicated an unsuccessful run:\n" + formattedReason;
                 
-            currentPlugin.stop(event.isSuccess(), StopReason.PLUGIN_FINISHED, reasonMessage);
-        }
+                currentPlugin.stop(event.isSuccess(), StopReason.PLUGIN_FINISHED, reasonMessage);
+            }
+        });
     }
 
     @Subscribe
     public void onGameStateChanged(GameStateChanged gameStateChanged) {        
+        runOnEvaluationThread(() -> {
 
-        // Track login time
-        if (gameStateChanged.getGameState() == GameState.LOGGED_IN
-                && (lastGameState == GameState.LOGIN_SCREEN || lastGameState == GameState.HOPPING)) {
-            loginTime = Instant.now();            
-            // Reset idle counter on login
-            idleTime = 0;
-        }
+            // Track login time
+            if (gameStateChanged.getGameState() == GameState.LOGGED_IN
+                    && (lastGameState == GameState.LOGIN_SCREEN || lastGameState == GameState.HOPPING)) {
+                loginTime = Instant.now();            
+                // Reset idle counter on login
+                idleTime = 0;
+            }
 
-        if (gameStateChanged.getGameState() == GameState.LOGGED_IN) {
-            // If the game state is LOGGED_IN, start the scheduler
+            if (gameStateChanged.getGameState() == GameState.LOGGED_IN) {
+                // If the game state is LOGGED_IN, start the scheduler
 
-        } else if (gameStateChanged.getGameState() == GameState.LOGIN_SCREEN) {
-            // If the game state is LOGIN_SCREEN, stop the current plugin
+            } else if (gameStateChanged.getGameState() == GameState.LOGIN_SCREEN) {
+                // If the game state is LOGIN_SCREEN, stop the current plugin
 
-            // Clear login time when logging out
-            loginTime = null;
-        } else if (gameStateChanged.getGameState() == GameState.HOPPING) {
-            // If the game state is HOPPING, stop the current plugin
+                // Clear login time when logging out
+                loginTime = null;
+            } else if (gameStateChanged.getGameState() == GameState.HOPPING) {
+                // If the game state is HOPPING, stop the current plugin
 
-        } else if (gameStateChanged.getGameState() == GameState.CONNECTION_LOST) {
-            // If the game state is CONNECTION_LOST, stop the current plugin
-            // Clear login time when connection is lost
-            loginTime = null;
+            } else if (gameStateChanged.getGameState() == GameState.CONNECTION_LOST) {
+                // If the game state is CONNECTION_LOST, stop the current plugin
+                // Clear login time when connection is lost
+                loginTime = null;
 
-        } else if (gameStateChanged.getGameState() == GameState.LOGIN_SCREEN_AUTHENTICATOR) {
-            // If the game state is LOGGING_IN, stop the current plugin
+            } else if (gameStateChanged.getGameState() == GameState.LOGIN_SCREEN_AUTHENTICATOR) {
+                // If the game state is LOGGING_IN, stop the current plugin
 
-            // Clear login time when logging out
-            loginTime = null;
-            stopScheduler();
+                // Clear login time when logging out
+                loginTime = null;
+                stopScheduler();
 
-        }
+            }
 
-        this.lastGameState = gameStateChanged.getGameState();
+            this.lastGameState = gameStateChanged.getGameState();
+        });
     }
 
     @Subscribe
@@ -2504,10 +2728,12 @@ public class SchedulerPlugin extends Plugin {
             }
             
             // Update plugin configurations
-            for (PluginScheduleEntry plugin : scheduledPlugins) {
-                plugin.setSoftStopRetryInterval(Duration.ofSeconds(config.softStopRetrySeconds()));
-                plugin.setHardStopTimeout(Duration.ofSeconds(config.hardStopTimeoutSeconds()));
-            }
+            runOnEvaluationThread(() -> {
+                for (PluginScheduleEntry plugin : scheduledPlugins) {
+                    plugin.setSoftStopRetryInterval(Duration.ofSeconds(config.softStopRetrySeconds()));
+                    plugin.setHardStopTimeout(Duration.ofSeconds(config.hardStopTimeoutSeconds()));
+                }
+            });
         }
     }
 
@@ -2550,80 +2776,82 @@ public class SchedulerPlugin extends Plugin {
 
     @Subscribe
     public void onPluginChanged(PluginChanged event) {
-        if (currentPlugin != null && event.getPlugin() == currentPlugin.getPlugin()) {
-            // The plugin changed state - check if it's no longer running
-            boolean isRunningNow = currentPlugin.isRunning();
-            boolean wasStartedByScheduler = currentPlugin.isHasStarted();
-
-            // If plugin was running but is now stopped
-            if (!isRunningNow) {
-                log.info("\n\tPlugin '{}' state change detected: \n\t -from running to stopped", currentPlugin.getCleanName());
-
-                // Check if this was an expected stop based on our current state
-                boolean wasExpectedStop = (currentState == SchedulerState.SOFT_STOPPING_PLUGIN ||
-                        currentState == SchedulerState.HARD_STOPPING_PLUGIN);
-
-                // If the stop wasn't initiated by us, it was unexpected (error or manual stop)
-                if (!wasExpectedStop && currentState == SchedulerState.RUNNING_PLUGIN) {
-                    log.warn("Plugin '{}' stopped unexpectedly while in {} state",
-                            currentPlugin.getCleanName(), currentState.name());
-
-                    // Set error information
-                    currentPlugin.setLastStopReason("Plugin stopped unexpectedly");
-                    currentPlugin.setLastRunSuccessful(false);
-                    currentPlugin.setLastStopReasonType(PluginScheduleEntry.StopReason.ERROR);
-                    // Disable the plugin to prevent it from running again until issue is fixed
-                    currentPlugin.setEnabled(false);
-
-                    // Set state to error
+        runOnEvaluationThread(() -> {
+            if (currentPlugin != null && event.getPlugin() == currentPlugin.getPlugin()) {
+                // The plugin changed state - check if it's no longer running
+                boolean isRunningNow = currentPlugin.isRunning();
+                boolean wasStartedByScheduler = currentPlugin.isHasStarted();
+
+                // If plugin was running but is now stopped
+                if (!isRunningNow) {
+                    log.info("\n\tPlugin '{}' state change detected: \n\t -from running to stopped", currentPlugin.getCleanName());
+
+                    // Check if this was an expected stop based on our current state
+                    boolean wasExpectedStop = (currentState == SchedulerState.SOFT_STOPPING_PLUGIN ||
+                            currentState == SchedulerState.HARD_STOPPING_PLUGIN);
+
+                    // If the stop wasn't initiated by us, it was unexpected (error or manual stop)
+                    if (!wasExpectedStop && currentState == SchedulerState.RUNNING_PLUGIN) {
+                        log.warn("Plugin '{}' stopped unexpectedly while in {} state",
+                                currentPlugin.getCleanName(), currentState.name());
+
+                        // Set error information
+                        currentPlugin.setLastStopReason("Plugin stopped unexpectedly");
+                        currentPlugin.setLastRunSuccessful(false);
+                        currentPlugin.setLastStopReasonType(PluginScheduleEntry.StopReason.ERROR);
+                        // Disable the plugin to prevent it from running again until issue is fixed
+                        currentPlugin.setEnabled(false);
+
+                        // Set state to error
                     
-                } else if (currentState == SchedulerState.SOFT_STOPPING_PLUGIN) {                    
-                    // If we were soft stopping and it completed, make sure stop reason is set
-                    if (currentPlugin.getLastStopReasonType() == PluginScheduleEntry.StopReason.NONE) {
-                        // Set stop reason if it wasn't already set
-                        if (currentPlugin.getLastStopReasonType() == PluginScheduleEntry.StopReason.NONE) {                        
-                            currentPlugin.setLastStopReasonType(PluginScheduleEntry.StopReason.SCHEDULED_STOP);
-                            currentPlugin.setLastStopReason("Scheduled stop completed successfully");
-                            currentPlugin.setLastRunSuccessful(true);
+                    } else if (currentState == SchedulerState.SOFT_STOPPING_PLUGIN) {                    
+                        // If we were soft stopping and it completed, make sure stop reason is set
+                        if (currentPlugin.getLastStopReasonType() == PluginScheduleEntry.StopReason.NONE) {
+                            // Set stop reason if it wasn't already set
+                            if (currentPlugin.getLastStopReasonType() == PluginScheduleEntry.StopReason.NONE) {                        
+                                currentPlugin.setLastStopReasonType(PluginScheduleEntry.StopReason.SCHEDULED_STOP);
+                                currentPlugin.setLastStopReason("Scheduled stop completed successfully");
+                                currentPlugin.setLastRunSuccessful(true);
+                            }
+                        }
+                    } else if (currentState == SchedulerState.HARD_STOPPING_PLUGIN) {                    
+                        // Hard stop completed
+                        if (currentPlugin.getLastStopReasonType() == PluginScheduleEntry.StopReason.NONE) {
+                            currentPlugin.setLastStopReasonType(PluginScheduleEntry.StopReason.HARD_STOP);
+                            currentPlugin.setLastStopReason("Plugin was forcibly stopped after timeout");
+                            currentPlugin.setLastRunSuccessful(false);
                         }
                     }
-                } else if (currentState == SchedulerState.HARD_STOPPING_PLUGIN) {                    
-                    // Hard stop completed
-                    if (currentPlugin.getLastStopReasonType() == PluginScheduleEntry.StopReason.NONE) {
-                        currentPlugin.setLastStopReasonType(PluginScheduleEntry.StopReason.HARD_STOP);
-                        currentPlugin.setLastStopReason("Plugin was forcibly stopped after timeout");
-                        currentPlugin.setLastRunSuccessful(false);
-                    }
-                }
                   
-                // Return to scheduling state regardless of stop reason
-                if (currentState != SchedulerState.HOLD) {
-                    log.info("Plugin '{}' stopped \n\t- returning to scheduling state with reason: \n\t\t\"{}\"",
-                            currentPlugin.getCleanName(),
-                            currentPlugin.getLastStopReason());
+                    // Return to scheduling state regardless of stop reason
+                    if (currentState != SchedulerState.HOLD) {
+                        log.info("Plugin '{}' stopped \n\t- returning to scheduling state with reason: \n\t\t\"{}\"",
+                                currentPlugin.getCleanName(),
+                                currentPlugin.getLastStopReason());
                    
-                    setState(SchedulerState.SCHEDULING);
-                }
-                currentPlugin.cancelStop();
-                setCurrentPlugin(null);
-               // Microbot.getClientThread().invokeLater(() -> {
-                    // Check if the plugin is still stopping
-                 //   checkIfStopFinished();
-                //});
+                        setState(SchedulerState.SCHEDULING);
+                    }
+                    currentPlugin.cancelStop();
+                    setCurrentPlugin(null);
+                   // Microbot.getClientThread().invokeLater(() -> {
+                        // Check if the plugin is still stopping
+                     //   checkIfStopFinished();
+                    //});
                
 
-            } else if (isRunningNow && wasStartedByScheduler && currentState == SchedulerState.SCHEDULING) {
-                // Plugin was started by scheduler and is now running - this is expected
-                log.info("Plugin '{}' started by scheduler and is now running", event.getPlugin().getName());
+                } else if (isRunningNow && wasStartedByScheduler && currentState == SchedulerState.SCHEDULING) {
+                    // Plugin was started by scheduler and is now running - this is expected
+                    log.info("Plugin '{}' started by scheduler and is now running", event.getPlugin().getName());
                
-            } else if (isRunningNow && wasStartedByScheduler && currentState != SchedulerState.STARTING_PLUGIN) {
-                // Plugin was started outside our control or restarted - this is unexpected but
-                // we'll monitor it
-                log.info("Plugin '{}' started or restarted outside scheduler control", event.getPlugin().getName());
-            }
+                } else if (isRunningNow && wasStartedByScheduler && currentState != SchedulerState.STARTING_PLUGIN) {
+                    // Plugin was started outside our control or restarted - this is unexpected but
+                    // we'll monitor it
+                    log.info("Plugin '{}' started or restarted outside scheduler control", event.getPlugin().getName());
+                }
 
-            SwingUtilities.invokeLater(this::updatePanels);
-        }
+                SwingUtilities.invokeLater(this::updatePanels);
+            }
+        });
     }
     void checkIfStopFinished(){
         
@@ -2632,7 +2860,7 @@ public class SchedulerPlugin extends Plugin {
         // Check if the plugin is still stopping
         if (currentPlugin.isStopping()) {
             log.info("Plugin '{}' is still stopping, waiting for it to finish", currentPlugin.getCleanName());
-            SwingUtilities.invokeLater(() -> {
+            queueOnEvaluationThread(() -> {
                 // Check if the plugin is still stopping
                 checkIfStopFinished();
             });
@@ -2720,73 +2948,78 @@ public class SchedulerPlugin extends Plugin {
      * @return true if the plugin was started successfully, false otherwise with a reason message
      */
     public String manualStartPlugin(PluginScheduleEntry pluginEntry) {
-        // Check if plugin is null
-        if (pluginEntry == null) {
-            return "Invalid plugin selected";
-        }        
-        if (pluginEntry.getMainTimeStartCondition()!=null && pluginEntry.getMainTimeStartCondition().canTriggerAgain()){
-            TimeCondition mainTimeStartCondition = pluginEntry.getMainTimeStartCondition();
-            ZonedDateTime now = ZonedDateTime.now(ZoneId.systemDefault());
-            boolean isSatisfied  = mainTimeStartCondition.isSatisfiedAt(now);
-            if (!isSatisfied) {
-                //return "Cannot start plugin: Main time condition is not satisfied";
-                log.warn("\n\tMain time condition is not satisfied, setting next trigger time to now \n\t{}",mainTimeStartCondition.toString()
-                    );
+        return callOnEvaluationThread(() -> {
+            // Check if plugin is null
+            if (pluginEntry == null) {
+                return "Invalid plugin selected";
+            }        
+            if (pluginEntry.getMainTimeStartCondition()!=null && pluginEntry.getMainTimeStartCondition().canTriggerAgain()){
+                TimeCondition mainTimeStartCondition = pluginEntry.getMainTimeStartCondition();
+                ZonedDateTime now = ZonedDateTime.now(ZoneId.systemDefault());
+                boolean isSatisfied  = mainTimeStartCondition.isSatisfiedAt(now);
+                if (!isSatisfied) {
+                    //return "Cannot start plugin: Main time condition is not satisfied";
+                    log.warn("\n\tMain time condition is not satisfied, setting next trigger time to now \n\t{}",mainTimeStartCondition.toString()
+                        );
+                }
+                mainTimeStartCondition.setNextTriggerTime(now);
+            }
+            // Check if scheduler is in a safe state to start a plugin
+            if (currentState != SchedulerState.SCHEDULING && !currentState.isBreaking()
+                    && currentState != SchedulerState.WAITING_FOR_SCHEDULE) {
+                return "Cannot start plugin in current state: \n\t" + currentState.getDisplayName();
+            }
+            if(currentState == SchedulerState.SCHEDULER_PAUSED || currentState == SchedulerState.RUNNING_PLUGIN_PAUSED){
+                return "Cannot start plugin: \n\tScheduler is paused";
             }
-            mainTimeStartCondition.setNextTriggerTime(now);
-        }
-        // Check if scheduler is in a safe state to start a plugin
-        if (currentState != SchedulerState.SCHEDULING && !currentState.isBreaking()
-                && currentState != SchedulerState.WAITING_FOR_SCHEDULE) {
-            return "Cannot start plugin in current state: \n\t" + currentState.getDisplayName();
-        }
-        if(currentState == SchedulerState.SCHEDULER_PAUSED || currentState == SchedulerState.RUNNING_PLUGIN_PAUSED){
-            return "Cannot start plugin: \n\tScheduler is paused";
-        }
         
-        // Check if a plugin is already running
-        if (isScheduledPluginRunning()) {
-            return "Cannot start plugin: \n\tAnother plugin is already running";
-        }
+            // Check if a plugin is already running
+            if (isScheduledPluginRunning()) {
+                return "Cannot start plugin: \n\tAnother plugin is already running";
+            }
         
-        // Check if the plugin is in the scheduled plugins list
-        if (!scheduledPlugins.contains(pluginEntry)) {
-            return "Cannot start plugin: \n\tPlugin is not in the scheduled plugins list";
-        }
+            // Check if the plugin is in the scheduled plugins list
+            if (!scheduledPlugins.contains(pluginEntry)) {
+                return "Cannot start plugin: \n\tPlugin is not in the scheduled plugins list";
+            }
         
-        // Check if the plugin is enabled
-        if (!pluginEntry.isEnabled()) {
-            return "Cannot start plugin: \n\tPlugin is disabled";
-        }
+            // Check if the plugin is enabled
+            if (!pluginEntry.isEnabled()) {
+                return "Cannot start plugin: \n\tPlugin is disabled";
+            }
 
-        // Check time until next scheduled plugin
-        PluginScheduleEntry nextUpComingPlugin = getUpComingPlugin();
-        if (nextUpComingPlugin != null && !nextUpComingPlugin.equals(pluginEntry)) {
-            Optional<ZonedDateTime> nextStartTime = nextUpComingPlugin.getCurrentStartTriggerTime();
-            if (nextStartTime.isPresent()) {
-                Duration timeUntilNext = Duration.between(
-                    ZonedDateTime.now(ZoneId.systemDefault()), nextStartTime.get());
+            // Check time until next scheduled plugin
+            PluginScheduleEntry nextUpComingPlugin = getUpComingPlugin();
+            if (nextUpComingPlugin != null && !nextUpComingPlugin.equals(pluginEntry)) {
+                Optional<ZonedDateTime> nextStartTime = nextUpComingPlugin.getCurrentStartTriggerTime();
+                if (nextStartTime.isPresent()) {
+                    Duration timeUntilNext = Duration.between(
+                        ZonedDateTime.now(ZoneId.systemDefault()), nextStartTime.get());
                 
-                int minThreshold = config.minManualStartThresholdMinutes();
+                    int minThreshold = config.minManualStartThresholdMinutes();
                 
-                if (timeUntilNext.toMinutes() < minThreshold) {
-                    return "Cannot start plugin: \n\tNext scheduled plugin due in less than " + 
-                           minThreshold + " minute(s)";
+                    if (timeUntilNext.toMinutes() < minThreshold) {
+                        return "Cannot start plugin: \n\tNext scheduled plugin due in less than " + 
+                               minThreshold + " minute(s)";
+                    }
                 }
             }
-        }
-        
-        // If we're on a break, interrupt it
-        if (currentState.isBreaking()) {
-            log.info("\n--Interrupting break to manually start plugin: \n\t\n--\"{}\"", pluginEntry.getCleanName());
-            interruptBreak();
-        }
         
-        // Start the plugin
-        log.info("Manually starting plugin: {}", pluginEntry.getCleanName());
-        startPluginScheduleEntry(pluginEntry);
+            // Interrupting a break takes a while, so the plugin is started after replying to the caller
+            queueOnEvaluationThread(() -> {
+                // If we're on a break, interrupt it
+                if (currentState.isBreaking()) {
+                    log.info("\n--Interrupting break to manually start plugin: \n\t\n--\"{}\"", pluginEntry.getCleanName());
+                    interruptBreak();
+                }
+
+                // Start the plugin
+                log.info("Manually starting plugin: {}", pluginEntry.getCleanName());
+                startPluginScheduleEntry(pluginEntry);
+            });
         
-        return ""; // Empty string means success
+            return ""; // Empty string means success
+        }, "");
     }
     
     /**
@@ -2839,62 +3072,66 @@ public class SchedulerPlugin extends Plugin {
         scheduledPlugins.stream().map( PluginScheduleEntry::resume);
     }
     public boolean pauseRunningPlugin(){
-        if (currentState != SchedulerState.RUNNING_PLUGIN ||  getCurrentPlugin() == null) {            
-            return false; // Not running a plugin
-        }           
-        if (currentState != SchedulerState.RUNNING_PLUGIN){
-            log.error("Scheduler state is not RUNNING_PLUGIN, but {}", currentState);
-            return false; // Not paused
-        }
-        // Use the PluginPauseEvent to pause the current plugin
-        PluginPauseEvent.setPaused(true);
+        return callOnEvaluationThread(() -> {
+            if (currentState != SchedulerState.RUNNING_PLUGIN ||  getCurrentPlugin() == null) {            
+                return false; // Not running a plugin
+            }           
+            if (currentState != SchedulerState.RUNNING_PLUGIN){
+                log.error("Scheduler state is not RUNNING_PLUGIN, but {}", currentState);
+                return false; // Not paused
+            }
+            // Use the PluginPauseEvent to pause the current plugin
+            PluginPauseEvent.setPaused(true);
         
         
         
-        setState(SchedulerState.RUNNING_PLUGIN_PAUSED);
+            setState(SchedulerState.RUNNING_PLUGIN_PAUSED);
         
-        // Also pause time conditions on the current plugin
-        getCurrentPlugin().pause();                    
-        log.info("Paused currently running plugin: {}", getCurrentPlugin().getName());
-        SwingUtilities.invokeLater(this::forceUpdatePanels);
-        return true;
+            // Also pause time conditions on the current plugin
+            getCurrentPlugin().pause();                    
+            log.info("Paused currently running plugin: {}", getCurrentPlugin().getName());
+            SwingUtilities.invokeLater(this::forceUpdatePanels);
+            return true;
+        }, false);
     }
 
     public boolean resumeRunningPlugin(){
-        if(isOnBreak() ){
-            log.info("Interrupting break to resume running plugin: {}", getCurrentPlugin().getName());
-            interruptBreak();            
-        
-        }
-         if ( ( currentState != SchedulerState.RUNNING_PLUGIN_PAUSED && !currentState.isBreaking())|| getCurrentPlugin() == null) {
-            log.error("resumeRunningPlugin -  Scheduler state is", currentState);
-            return false; // Not paused
-        }
-        if (prvState != SchedulerState.RUNNING_PLUGIN ){
-            log.error("Prv Scheduler state is not RUNNING_PLUGIN_PAUSED, but {}", prvState);
-            return false; // Not paused
-        }                              
-        if (isCurrentPluginPaused() == false) {
-            log.error("Current plugin is not paused, but {}", currentState);
-            return false; // Not paused
-        }          
+        return callOnEvaluationThread(() -> {
+            if(isOnBreak() ){
+                log.info("Interrupting break to resume running plugin: {}", getCurrentPlugin().getName());
+                interruptBreak();            
+        
+            }
+             if ( ( currentState != SchedulerState.RUNNING_PLUGIN_PAUSED && !currentState.isBreaking())|| getCurrentPlugin() == null) {
+                log.error("resumeRunningPlugin -  Scheduler state is", currentState);
+                return false; // Not paused
+            }
+            if (prvState != SchedulerState.RUNNING_PLUGIN ){
+                log.error("Prv Scheduler state is not RUNNING_PLUGIN_PAUSED, but {}", prvState);
+                return false; // Not paused
+            }                              
+            if (isCurrentPluginPaused() == false) {
+                log.error("Current plugin is not paused, but {}", currentState);
+                return false; // Not paused
+            }          
       
-        // Restore previous state
-        setState(SchedulerState.RUNNING_PLUGIN);
+            // Restore previous state
+            setState(SchedulerState.RUNNING_PLUGIN);
         
-        // Use the PluginPauseEvent to resume the current plugin
-        PluginPauseEvent.setPaused(false);
+            // Use the PluginPauseEvent to resume the current plugin
+            PluginPauseEvent.setPaused(false);
         
-        // resume time conditions on the current plugin
-        getCurrentPlugin().resume();
+            // resume time conditions on the current plugin
+            getCurrentPlugin().resume();
 
         
 
-        boolean anyPausedPluginEntry = anyPluginEntryPaused();
-        log.info("resumed currently running plugin: {} -> are any paused plugin? -{} - Pause Event? -{}", getCurrentPlugin().getName(),anyPausedPluginEntry,
-            PluginPauseEvent.isPaused());        
-        SwingUtilities.invokeLater(this::forceUpdatePanels);
-        return true;
+            boolean anyPausedPluginEntry = anyPluginEntryPaused();
+            log.info("resumed currently running plugin: {} -> are any paused plugin? -{} - Pause Event? -{}", getCurrentPlugin().getName(),anyPausedPluginEntry,
+                PluginPauseEvent.isPaused());        
+            SwingUtilities.invokeLater(this::forceUpdatePanels);
+            return true;
+        }, false);
     }
 
     /**
@@ -2905,24 +3142,26 @@ public class SchedulerPlugin extends Plugin {
      * @return true if successfully paused, false otherwise
      */
     public boolean pauseScheduler() {
-        if (isPaused()) {
-            return false; // Already paused
-        }                                      
-        if (getCurrentPlugin() != null && currentState == SchedulerState.RUNNING_PLUGIN) {
-             // Use the PluginPauseEvent to pause the current plugin
-            PluginPauseEvent.setPaused(true);
-        }
+        return callOnEvaluationThread(() -> {
+            if (isPaused()) {
+                return false; // Already paused
+            }                                      
+            if (getCurrentPlugin() != null && currentState == SchedulerState.RUNNING_PLUGIN) {
+                 // Use the PluginPauseEvent to pause the current plugin
+                PluginPauseEvent.setPaused(true);
+            }
                             
-        setState(SchedulerState.SCHEDULER_PAUSED);
+            setState(SchedulerState.SCHEDULER_PAUSED);
 
             
-        // Pause time conditions for all scheduled plugins
-        for (PluginScheduleEntry entry : scheduledPlugins) {
-            entry.pause();
-        }
+            // Pause time conditions for all scheduled plugins
+            for (PluginScheduleEntry entry : scheduledPlugins) {
+                entry.pause();
+            }
                                            
-        SwingUtilities.invokeLater(this::forceUpdatePanels);
-        return true;
+            SwingUtilities.invokeLater(this::forceUpdatePanels);
+            return true;
+        }, false);
     }
     
     /**
@@ -2931,50 +3170,52 @@ public class SchedulerPlugin extends Plugin {
      * @return true if successfully resumed, false otherwise
      */ 
     public boolean resumeScheduler() {
-        if (!isPaused()) {
-            return false; // Not paused
-        }
-        SchedulerState prvStateLocal = this.prvState;
-        if (getCurrentPlugin() != null && prvStateLocal == SchedulerState.RUNNING_PLUGIN) {
-             // Use the PluginPauseEvent to pause the current plugin
-            PluginPauseEvent.setPaused(false);
-        }
+        return callOnEvaluationThread(() -> {
+            if (!isPaused()) {
+                return false; // Not paused
+            }
+            SchedulerState prvStateLocal = this.prvState;
+            if (getCurrentPlugin() != null && prvStateLocal == SchedulerState.RUNNING_PLUGIN) {
+                 // Use the PluginPauseEvent to pause the current plugin
+                PluginPauseEvent.setPaused(false);
+            }
             
-        if(isOnBreak() && prvStateLocal == SchedulerState.RUNNING_PLUGIN && currentState.isBreaking() ){
-           interruptBreak(); 
-           setState( SchedulerState.RUNNING_PLUGIN);
-           log.info("resuming the plugin scheduler and interrupted break");
-        }else if (currentState == SchedulerState.SCHEDULER_PAUSED  || currentState.isBreaking()) {                       
-            // Restore previous state
-            if (currentState.isBreaking() && !isOnBreak()){            
-                if(currentPlugin!=null ){
-                    setState( SchedulerState.RUNNING_PLUGIN);
-                    currentPlugin.resume();
-                    log.info("resumed scheduler in to running plugin, previous state: {}", prvStateLocal);
+            if(isOnBreak() && prvStateLocal == SchedulerState.RUNNING_PLUGIN && currentState.isBreaking() ){
+               interruptBreak(); 
+               setState( SchedulerState.RUNNING_PLUGIN);
+               log.info("resuming the plugin scheduler and interrupted break");
+            }else if (currentState == SchedulerState.SCHEDULER_PAUSED  || currentState.isBreaking()) {                       
+                // Restore previous state
+                if (currentState.isBreaking() && !isOnBreak()){            
+                    if(currentPlugin!=null ){
+                        setState( SchedulerState.RUNNING_PLUGIN);
+                        currentPlugin.resume();
+                        log.info("resumed scheduler in to running plugin, previous state: {}", prvStateLocal);
+                    }else{
+                        setState(SchedulerState.SCHEDULING);
+                        log.info("resumed scheduler in to waiting for schedule, previous state: {}", prvStateLocal);
+                    }
+                }else if (isOnBreak()){
+                    setState(SchedulerState.BREAK);              
+                    log.info("resumed scheduler in to break, previous state: {}", prvStateLocal);
                 }else{
-                    setState(SchedulerState.SCHEDULING);
-                    log.info("resumed scheduler in to waiting for schedule, previous state: {}", prvStateLocal);
+                    setState(prvStateLocal);
                 }
-            }else if (isOnBreak()){
-                setState(SchedulerState.BREAK);              
-                log.info("resumed scheduler in to break, previous state: {}", prvStateLocal);
-            }else{
-                setState(prvStateLocal);
-            }
             
-        }else{
-            log.error("Cannot resume scheduler, current state is: {}", currentState);
-            return false; // Not paused
-        }
-        // resume time conditions for all scheduled plugins
-        for (PluginScheduleEntry entry : scheduledPlugins) {
-            entry.resume();
-        }      
-        boolean anyPausedPluginEntry = anyPluginEntryPaused();
-        log.info("resumed the scheduler plugin: {} -> are any paused plugin? -{} - Pause Event? -{}", getCurrentPlugin().getName(),anyPausedPluginEntry,
-            PluginPauseEvent.isPaused());      
-        SwingUtilities.invokeLater(this::forceUpdatePanels);
-        return true;
+            }else{
+                log.error("Cannot resume scheduler, current state is: {}", currentState);
+                return false; // Not paused
+            }
+            // resume time conditions for all scheduled plugins
+            for (PluginScheduleEntry entry : scheduledPlugins) {
+                entry.resume();
+            }      
+            boolean anyPausedPluginEntry = anyPluginEntryPaused();
+            log.info("resumed the scheduler plugin: {} -> are any paused plugin? -{} - Pause Event? -{}", getCurrentPlugin().getName(),anyPausedPluginEntry,
+                PluginPauseEvent.isPaused());      
+            SwingUtilities.invokeLater(this::forceUpdatePanels);
+            return true;
+        }, false);
     }
     
     
@@ -14,6 +14,8 @@ import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -89,6 +91,16 @@ public abstract class TimeCondition implements Condition {
         
         return Optional.of(nextTriggerTime);
     }
+
+    /**
+     * Returns the state this condition computes its trigger times from. As long as it stays equal, a trigger time
+     * computed earlier that still lies in the future can be reused instead of evaluating the condition again.
+     *
+     * @return List of the trigger, reset and pause state of this condition
+     */
+    public List<Object> getTriggerState() {
+        return Arrays.asList(nextTriggerTime, currentValidResetCount, lastValidResetTime, isPaused, totalPauseDuration);
+    }
     public TimeCondition() {
         // Default constructor
         this(0);                
@@ -13,10 +13,12 @@ import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Supplier;
 
 import org.lwjgl.opencl.CL;
 
+import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.Getter;
@@ -143,6 +145,12 @@ public class PluginScheduleEntry implements AutoCloseable {
     private transient Thread stopMonitorThread;
     private transient volatile boolean isMonitoringStop = false;
 
+    // Longest time a cached start trigger time is reused without evaluating the conditions again
+    private static final long MAX_TRIGGER_CACHE_AGE_NANOS = TimeUnit.SECONDS.toNanos(60);
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private transient volatile CachedTriggerTime cachedStartTriggerTime;
+
        
     private int priority = 0; // Higher numbers = higher priority
     private boolean isDefault = false; // Flag to indicate if this is a default plugin        
@@ -925,7 +933,52 @@ public class PluginScheduleEntry implements AutoCloseable {
         if (startConditionManager == null) {
             return Optional.empty();
         }
-        return startConditionManager.getCurrentTriggerTime();
+        if (!startConditionManager.hasOnlyTimeConditions()) {
+            return startConditionManager.getCurrentTriggerTime();
+        }
+
+        // Time conditions only change at their trigger time or when their state changes, so an upcoming trigger
+        // time stays valid until then and is not recomputed on every scheduler pass
+        List<Object> triggerState = getStartTriggerState();
+        long now = System.nanoTime();
+        CachedTriggerTime cached = cachedStartTriggerTime;
+        if (cached != null
+                && now - cached.computedAtNanos < MAX_TRIGGER_CACHE_AGE_NANOS
+                && cached.triggerTime.isAfter(ZonedDateTime.now(ZoneId.systemDefault()))
+                && cached.triggerState.equals(triggerState)) {
+            return Optional.of(cached.triggerTime);
+        }
+
+        Optional<ZonedDateTime> triggerTime = startConditionManager.getCurrentTriggerTime();
+        cachedStartTriggerTime = triggerTime.isPresent() && triggerTime.get().isAfter(ZonedDateTime.now(ZoneId.systemDefault()))
+                ? new CachedTriggerTime(triggerState, triggerTime.get(), now)
+                : null;
+        return triggerTime;
+    }
+
+    /**
+     * Collects the state the start trigger time is computed from: the logical structure, the conditions in it and
+     * the trigger state of each of them.
+     */
+    private List<Object> getStartTriggerState() {
+        List<Object> state = new ArrayList<>();
+        state.add(System.identityHashCode(startConditionManager.getUserLogicalCondition()));
+        state.add(System.identityHashCode(startConditionManager.getPluginCondition()));
+        for (TimeCondition condition : startConditionManager.getTimeConditions()) {
+            state.add(System.identityHashCode(condition));
+            state.add(condition.getTriggerState());
+        }
+        return state;
+    }
+
+    /**
+     * A start trigger time together with the condition state it was computed from
+     */
+    @AllArgsConstructor
+    private static final class CachedTriggerTime {
+        private final List<Object> triggerState;
+        private final ZonedDateTime triggerTime;
+        private final long computedAtNanos;
     }
     
     /**
@@ -489,7 +489,9 @@ public class ScheduleFormPanel extends JPanel {
         // Add property change listeners
         selectedPluginEnabledCheckbox.addItemListener(e -> {
             if (selectedPlugin != null) {
-                selectedPlugin.setEnabled(selectedPluginEnabledCheckbox.isSelected());
+                PluginScheduleEntry entry = selectedPlugin;
+                boolean selected = selectedPluginEnabledCheckbox.isSelected();
+                plugin.runOnEvaluationThread(() -> entry.setEnabled(selected));
                 if (tabbedPane.getSelectedIndex() == 1) {
                     updateSelectedPlugin();
                 }                
@@ -500,7 +502,9 @@ public class ScheduleFormPanel extends JPanel {
         
         selectedPluginRandomCheckbox.addItemListener(e -> {
             if (selectedPlugin != null) {
-                selectedPlugin.setAllowRandomScheduling(selectedPluginRandomCheckbox.isSelected());
+                PluginScheduleEntry entry = selectedPlugin;
+                boolean selected = selectedPluginRandomCheckbox.isSelected();
+                plugin.runOnEvaluationThread(() -> entry.setAllowRandomScheduling(selected));
                 if (tabbedPane.getSelectedIndex() == 1) {
                     updateSelectedPlugin();
                 }       
@@ -509,7 +513,9 @@ public class ScheduleFormPanel extends JPanel {
         
         selectedPluginTimeStopCheckbox.addItemListener(e -> {
             if (selectedPlugin != null) {
-                selectedPlugin.setNeedsStopCondition(selectedPluginTimeStopCheckbox.isSelected());
+                PluginScheduleEntry entry = selectedPlugin;
+                boolean selected = selectedPluginTimeStopCheckbox.isSelected();
+                plugin.runOnEvaluationThread(() -> entry.setNeedsStopCondition(selected));
                 if (tabbedPane.getSelectedIndex() == 1) {
                     updateSelectedPlugin();
                 }       
@@ -519,7 +525,9 @@ public class ScheduleFormPanel extends JPanel {
         // Add listener for the new Allow Continue checkbox
         selectedPluginAllowContinueCheckbox.addItemListener(e -> {
             if (selectedPlugin != null) {
-                selectedPlugin.setAllowContinue(selectedPluginAllowContinueCheckbox.isSelected());
+                PluginScheduleEntry entry = selectedPlugin;
+                boolean selected = selectedPluginAllowContinueCheckbox.isSelected();
+                plugin.runOnEvaluationThread(() -> entry.setAllowContinue(selected));
                 if (tabbedPane.getSelectedIndex() == 1) {
                     updateSelectedPlugin();
                 }       
@@ -528,7 +536,9 @@ public class ScheduleFormPanel extends JPanel {
         
         selectedPluginDefaultCheckbox.addItemListener(e -> {
             if (selectedPlugin != null) {
-                selectedPlugin.setDefault(selectedPluginDefaultCheckbox.isSelected());
+                PluginScheduleEntry entry = selectedPlugin;
+                boolean selected = selectedPluginDefaultCheckbox.isSelected();
+                plugin.runOnEvaluationThread(() -> entry.setDefault(selected));
                 if (tabbedPane.getSelectedIndex() == 1) {
                     updateSelectedPlugin();
                 }       
@@ -983,13 +993,17 @@ public class ScheduleFormPanel extends JPanel {
         if (existingPlugin != null) {            
             log.debug("Updating existing plugin entry");
                 
-            // Update the existing plugin with new values
-            existingPlugin.updatePrimaryTimeCondition(timeCondition);
-            existingPlugin.setAllowRandomScheduling(randomScheduling);
-            existingPlugin.setNeedsStopCondition(needsStopCondition);
-            existingPlugin.setAllowContinue(allowContinue);
-            existingPlugin.setPriority(priority);
-            existingPlugin.setDefault(isDefault);
+            // Update the existing plugin with new values on the scheduler thread, it may be evaluating the entry
+            PluginScheduleEntry existing = existingPlugin;
+            TimeCondition primaryCondition = timeCondition;
+            plugin.runOnEvaluationThread(() -> {
+                existing.updatePrimaryTimeCondition(primaryCondition);
+                existing.setAllowRandomScheduling(randomScheduling);
+                existing.setNeedsStopCondition(needsStopCondition);
+                existing.setAllowContinue(allowContinue);
+                existing.setPriority(priority);
+                existing.setDefault(isDefault);
+            });
             entry = existingPlugin;
         } else {
 
@@ -1007,11 +1021,11 @@ public class ScheduleFormPanel extends JPanel {
             entry.setDefault(isDefault);
         }
         if (entry != null) {
-            randomSchedulingCheckbox.setSelected(entry.isAllowRandomScheduling());
-            timeBasedStopConditionCheckbox.setSelected(entry.isNeedsStopCondition());
-            allowContinueCheckbox.setSelected(entry.isAllowContinue());
-            prioritySpinner.setValue(entry.getPriority());
-            defaultPluginCheckbox.setSelected(entry.isDefault());
+            randomSchedulingCheckbox.setSelected(randomScheduling);
+            timeBasedStopConditionCheckbox.setSelected(needsStopCondition);
+            allowContinueCheckbox.setSelected(allowContinue);
+            prioritySpinner.setValue(priority);
+            defaultPluginCheckbox.setSelected(isDefault);
             updatePropertiesPanel(entry);
         }
         return entry;
@@ -1030,13 +1044,16 @@ public class ScheduleFormPanel extends JPanel {
         int priority = (Integer) selectedPluginPrioritySpinner.getValue();
         boolean isDefault = selectedPluginDefaultCheckbox.isSelected();
         
-        // Update the plugin
-        selectedPlugin.setEnabled(enabled);
-        selectedPlugin.setAllowRandomScheduling(randomScheduling);
-        selectedPlugin.setNeedsStopCondition(needsStopCondition);
-        selectedPlugin.setAllowContinue(allowContinue);
-        selectedPlugin.setPriority(priority);
-        selectedPlugin.setDefault(isDefault);
+        // Update the plugin on the scheduler thread, it may be evaluating the entry right now
+        PluginScheduleEntry entry = selectedPlugin;
+        plugin.runOnEvaluationThread(() -> {
+            entry.setEnabled(enabled);
+            entry.setAllowRandomScheduling(randomScheduling);
+            entry.setNeedsStopCondition(needsStopCondition);
+            entry.setAllowContinue(allowContinue);
+            entry.setPriority(priority);
+            entry.setDefault(isDefault);
+        });
         
         // Save the changes
         plugin.saveScheduledPlugins();
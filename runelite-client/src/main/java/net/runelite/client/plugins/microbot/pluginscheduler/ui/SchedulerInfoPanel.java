@@ -32,6 +32,7 @@ public class SchedulerInfoPanel extends JPanel {
     // Scheduler status components
     private final JLabel statusLabel;
     private final JLabel runtimeLabel;
+    private final JLabel evaluationLabel;
     private ZonedDateTime schedulerStartTime;
     
     // Control buttons
@@ -102,6 +103,14 @@ public class SchedulerInfoPanel extends JPanel {
         gbc.gridx++;
         runtimeLabel = UIUtils.createValueLabel("00:00:00");
         statusPanel.add(runtimeLabel, gbc);
+
+        gbc.gridx = 0;
+        gbc.gridy++;
+        statusPanel.add(new JLabel("Evaluation:"), gbc);
+        gbc.gridx++;
+        evaluationLabel = UIUtils.createValueLabel("-");
+        evaluationLabel.setToolTipText("Time the last scheduler pass spent evaluating the schedule");
+        statusPanel.add(evaluationLabel, gbc);
         
         // Create control buttons panel
         gbc.gridx = 0;
@@ -408,7 +417,7 @@ public class SchedulerInfoPanel extends JPanel {
         // Get current plugin states
         PluginScheduleEntry currentPlugin = plugin.getCurrentPlugin();
         PluginScheduleEntry previousPlugin = plugin.getLastPlugin();
-        PluginScheduleEntry nextUpComingPlugin = plugin.getUpComingPlugin();
+        PluginScheduleEntry nextUpComingPlugin = plugin.getDisplayedUpComingPlugin();
         
         // Update current plugin info if it changed or is running (for runtime updates)
         if (currentPlugin != lastTrackedCurrentPlugin) {
@@ -579,6 +588,13 @@ public class SchedulerInfoPanel extends JPanel {
             schedulerStartTime = null;
             runtimeLabel.setText("00:00:00");
         }
+
+        if (plugin.getEvaluationCount() > 0) {
+            evaluationLabel.setText(String.format("%.1f ms (avg %.1f, max %.1f)",
+                    plugin.getLastEvaluationNanos() / 1_000_000.0,
+                    plugin.getAverageEvaluationNanos() / 1_000_000.0,
+                    plugin.getMaxEvaluationNanos() / 1_000_000.0));
+        }
     }
     
     /**
@@ -682,7 +698,7 @@ public class SchedulerInfoPanel extends JPanel {
      * Updates information about the next scheduled plugin
      */
     private void updateNextUpComingPluginInfo() {
-        PluginScheduleEntry nextUpComingPlugin = plugin.getUpComingPlugin();
+        PluginScheduleEntry nextUpComingPlugin = plugin.getDisplayedUpComingPlugin();
         
         if (nextUpComingPlugin != null) {                        
             // Update name
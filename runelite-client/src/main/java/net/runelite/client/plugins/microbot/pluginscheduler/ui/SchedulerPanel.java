@@ -340,7 +340,7 @@ public class SchedulerPanel extends PluginPanel {
         // Get current state information
         SchedulerState currentState = plugin.getCurrentState();
         PluginScheduleEntry currentPlugin = plugin.getCurrentPlugin();
-        PluginScheduleEntry nextUpComingPlugin = plugin.getUpComingPlugin();
+        PluginScheduleEntry nextUpComingPlugin = plugin.getDisplayedUpComingPlugin();
         
         // Update current plugin info if it changed
         if (currentPlugin != lastTrackedCurrentPlugin) {
@@ -607,7 +607,7 @@ public class SchedulerPanel extends PluginPanel {
     }
     
     void updateNextPluginInfo() {
-        PluginScheduleEntry nextUpComingPlugin = plugin.getUpComingPlugin();
+        PluginScheduleEntry nextUpComingPlugin = plugin.getDisplayedUpComingPlugin();
 
         if (nextUpComingPlugin != null) {
             // Set the plugin name
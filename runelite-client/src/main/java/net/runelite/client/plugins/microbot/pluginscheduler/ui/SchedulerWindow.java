@@ -295,11 +295,13 @@ public class SchedulerWindow extends JFrame implements ConditionUpdateCallback {
         
         try {
             // Clear conditions from the plugin's condition manager
-            if (isStopCondition) {
-                pluginEntry.getStopConditionManager().clearUserConditions();
-            } else {
-                pluginEntry.getStartConditionManager().clearUserConditions();
-            }
+            plugin.runOnEvaluationThread(() -> {
+                if (isStopCondition) {
+                    pluginEntry.getStopConditionManager().clearUserConditions();
+                } else {
+                    pluginEntry.getStartConditionManager().clearUserConditions();
+                }
+            });
             
             // Save changes to config
             this.plugin.saveScheduledPlugins();
@@ -2,7 +2,9 @@ package net.runelite.client.plugins.microbot.shortestpath;
 
 import lombok.Getter;
 import lombok.Setter;
+import net.runelite.client.plugins.microbot.shortestpath.pathfinder.PathCache;
 import net.runelite.client.plugins.microbot.shortestpath.pathfinder.Pathfinder;
+import net.runelite.client.plugins.microbot.shortestpath.pathfinder.PathfinderConfig;
 import net.runelite.client.ui.overlay.OverlayPanel;
 import net.runelite.client.ui.overlay.OverlayPosition;
 import net.runelite.client.ui.overlay.components.ComponentConstants;
@@ -55,6 +57,8 @@ public class DebugOverlayPanel extends OverlayPanel {
 
         components.add(separator);
 
+        components.add(makeLine("Engine:", stats.getAlgorithm().toString()));
+
         String pathLength = Integer.toString(pathfinder.getPath().size());
         components.add(makeLine("Path Length:", pathLength));
 
@@ -75,6 +79,21 @@ public class DebugOverlayPanel extends OverlayPanel {
         String time = String.format("%.2fms", milliTime);
         components.add(makeLine("Time:", time));
 
+        PathfinderConfig pathfinderConfig = ShortestPathPlugin.getPathfinderConfig();
+        PathCache cache = pathfinderConfig.getPathCache();
+        long lookups = cache.getHits() + cache.getMisses();
+        String hitRate = lookups == 0 ? "-" : String.format("%d / %d (%.0f%%)", cache.getHits(), lookups, 100.0 * cache.getHits() / lookups);
+        components.add(makeLine("Cache hits:", hitRate));
+        components.add(makeLine("Cache saved:", String.format("%.2fms", cache.getSavedNanos() / 1000000.0)));
+
+        // Latest completed search per engine, so both can be compared on the same route
+        components.add(separator);
+        for (PathfinderAlgorithm algorithm : PathfinderAlgorithm.values()) {
+            Pathfinder.PathfinderStats last = pathfinderConfig.getLastStats(algorithm);
+            String result = last == null ? "-" : String.format("%.2fms / %d", last.getElapsedTimeNanos() / 1000000.0, last.getTotalNodesChecked());
+            components.add(makeLine(algorithm.name() + ":", result));
+        }
+
         return super.render(graphics);
     }
 
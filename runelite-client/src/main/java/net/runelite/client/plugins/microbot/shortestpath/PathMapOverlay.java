@@ -51,6 +51,7 @@ public class PathMapOverlay extends Overlay {
             graphics.setColor(plugin.colourCollisionMap);
             Rectangle extent = getWorldMapExtent(client.getWidget(ComponentID.WORLD_MAP_MAPVIEW).getBounds());
             final CollisionMap map = plugin.getMap();
+            map.captureOverlay();
             final int z = client.getPlane();
             for (int x = extent.x; x < (extent.x + extent.width + 1); x++) {
                 for (int y = extent.y - extent.height; y < (extent.y + 1); y++) {
@@ -69,6 +69,7 @@ public class PathTileOverlay extends Overlay {
 
     private void renderCollisionMap(Graphics2D graphics) {
         CollisionMap map = plugin.getMap();
+        map.captureOverlay();
         for (Tile[] row : client.getScene().getTiles()[client.getPlane()]) {
             for (Tile tile : row) {
                 if (tile == null) {
@@ -4,7 +4,7 @@ import java.util.Arrays;
 import java.util.Collection;
 
 // This class is not intended as a general purpose replacement for a hashmap; it lacks convenience features
-// found in regular maps and has no way to remove elements or get a list of keys/values.
+// found in regular maps and has no way to get a list of keys/values.
 public class PrimitiveIntHashMap<V> {
     private static final int MINIMUM_SIZE = 8;
 
@@ -48,6 +48,29 @@ public class PrimitiveIntHashMap<V> {
         recreateArrays();
     }
 
+    /* Creates a copy of the map. The values are shared with the original, not copied. */
+    public PrimitiveIntHashMap(PrimitiveIntHashMap<V> other) {
+        this.loadFactor = other.loadFactor;
+        this.size = other.size;
+        this.capacity = other.capacity;
+        this.maxSize = other.maxSize;
+        this.mask = other.mask;
+        recreateArrays();
+
+        for (int i = 0; i < other.buckets.length; ++i) {
+            IntNode<V>[] bucket = other.buckets[i];
+            if (bucket == null) {
+                continue;
+            }
+
+            IntNode<V>[] copy = createBucket(bucket.length);
+            for (int ind = 0; ind < bucket.length && bucket[ind] != null; ++ind) {
+                copy[ind] = new IntNode<>(bucket[ind].key, bucket[ind].value);
+            }
+            buckets[i] = copy;
+        }
+    }
+
     public int size() {
         return size;
     }
@@ -107,6 +130,27 @@ public class PrimitiveIntHashMap<V> {
         return null;
     }
 
+    /* Removes the mapping for the specified key, returning the previous value or null if there was none. */
+    public V remove(int key) {
+        int bucketIndex = getBucket(key);
+        int index = bucketIndex(key, bucketIndex);
+        if (index == -1) {
+            return null;
+        }
+
+        // Move the last node of the bucket into the gap, since lookups stop at the first empty slot
+        IntNode<V>[] bucket = buckets[bucketIndex];
+        V previous = bucket[index].value;
+        int last = index;
+        while (last + 1 < bucket.length && bucket[last + 1] != null) {
+            ++last;
+        }
+        bucket[index] = bucket[last];
+        bucket[last] = null;
+        size--;
+        return previous;
+    }
+
     // This hash seems to be most effective for packed WorldPoint's
     private static int hash(int value) {
         return value ^ (value >>> 5) ^ (value >>> 25);
@@ -207,7 +251,6 @@ public class PrimitiveIntHashMap<V> {
 
                     if (bInd >= newBucket.length) {
                         growBucket(bucketIndex)[newBucket.length] = oldBucket[ind];
-                        return;
                     }
                 }
             }
@@ -353,6 +353,21 @@ public interface ShortestPathConfig extends Config {
         return 5;
     }
 
+    @ConfigItem(
+            keyName = "pathfinderAlgorithm",
+            name = "Pathfinding engine",
+            description = "The search engine used to calculate paths.<br>" +
+                    "The legacy engine floods outwards from the start.<br>" +
+                    "A* uses an admissible heuristic and primitive per-region arrays.<br>" +
+                    "Hierarchical A* plans the route over regions and transports first, then runs A* inside that corridor",
+            position = 28,
+            section = sectionSettings
+    )
+    default PathfinderAlgorithm pathfinderAlgorithm()
+    {
+        return PathfinderAlgorithm.LEGACY;
+    }
+
     @ConfigSection(
             name = "Display",
             description = "Options for displaying the path on the world map, minimap and scene tiles",
@@ -28,9 +28,19 @@ import lombok.Setter;
 import net.runelite.api.Point;
 import net.runelite.api.*;
 import net.runelite.api.coords.WorldPoint;
+import net.runelite.api.events.GameObjectDespawned;
+import net.runelite.api.events.GameObjectSpawned;
+import net.runelite.api.events.GameStateChanged;
 import net.runelite.api.events.GameTick;
+import net.runelite.api.events.GroundObjectDespawned;
+import net.runelite.api.events.GroundObjectSpawned;
+import net.runelite.api.events.ItemContainerChanged;
 import net.runelite.api.events.MenuEntryAdded;
 import net.runelite.api.events.MenuOpened;
+import net.runelite.api.events.StatChanged;
+import net.runelite.api.events.VarbitChanged;
+import net.runelite.api.events.WallObjectDespawned;
+import net.runelite.api.events.WallObjectSpawned;
 import net.runelite.api.widgets.ComponentID;
 import net.runelite.api.widgets.Widget;
 import net.runelite.api.worldmap.WorldMap;
@@ -48,6 +58,7 @@ import net.runelite.client.plugins.microbot.Microbot;
 import net.runelite.client.plugins.microbot.shortestpath.pathfinder.CollisionMap;
 import net.runelite.client.plugins.microbot.shortestpath.pathfinder.Pathfinder;
 import net.runelite.client.plugins.microbot.shortestpath.pathfinder.PathfinderConfig;
+import net.runelite.client.plugins.microbot.shortestpath.pathfinder.SceneCollisionOverlay;
 import net.runelite.client.plugins.microbot.shortestpath.pathfinder.SplitFlagMap;
 import net.runelite.client.plugins.microbot.util.player.Rs2Player;
 import net.runelite.client.plugins.microbot.util.tile.Rs2Tile;
@@ -202,6 +213,7 @@ public class ShortestPathPlugin extends Plugin implements KeyListener {
         Map<WorldPoint, Set<Transport>> transports = Transport.loadAllFromResources();
         List<Restriction> restrictions = Restriction.loadAllFromResources();
         pathfinderConfig = new PathfinderConfig(map, transports, restrictions, client, config);
+        SceneCollisionOverlay.markDirty();
 
         panel = injector.getInstance(ShortestPathPanel.class);
         final BufferedImage icon = ImageUtil.loadImageResource(ShortestPathPlugin.class, "panel_icon.png");
@@ -243,6 +255,7 @@ public class ShortestPathPlugin extends Plugin implements KeyListener {
         panel = null;
 
         shortestPathScript.shutdown();
+        SceneCollisionOverlay.clear();
 
         exit();
         keyManager.unregisterKeyListener(this);
@@ -308,7 +321,7 @@ public class ShortestPathPlugin extends Plugin implements KeyListener {
         return false;
     }
 
-    private final Pattern TRANSPORT_OPTIONS_REGEX = Pattern.compile("^(avoidWilderness|use\\w+|useTeleportationItems)$");
+    private final Pattern TRANSPORT_OPTIONS_REGEX = Pattern.compile("^(avoidWilderness|use\\w+|useTeleportationItems|pathfinderAlgorithm)$");
 
     @Subscribe
     public void onConfigChanged(ConfigChanged event) {
@@ -438,6 +451,65 @@ public class ShortestPathPlugin extends Plugin implements KeyListener {
 		pathStyle = override("pathStyle", config.pathStyle());
 	}
 
+    @Subscribe
+    public void onVarbitChanged(VarbitChanged event) {
+        if (pathfinderConfig != null) {
+            pathfinderConfig.onVarbitChanged(event);
+        }
+    }
+
+    @Subscribe
+    public void onStatChanged(StatChanged event) {
+        if (pathfinderConfig != null) {
+            pathfinderConfig.onStatChanged(event);
+        }
+    }
+
+    @Subscribe
+    public void onItemContainerChanged(ItemContainerChanged event) {
+        if (pathfinderConfig != null) {
+            pathfinderConfig.onItemContainerChanged(event);
+        }
+    }
+
+    @Subscribe
+    public void onGameStateChanged(GameStateChanged event) {
+        SceneCollisionOverlay.onGameStateChanged(event.getGameState());
+        if (pathfinderConfig != null) {
+            pathfinderConfig.onGameStateChanged(event);
+        }
+    }
+
+    @Subscribe
+    public void onGameObjectSpawned(GameObjectSpawned event) {
+        SceneCollisionOverlay.markDirty();
+    }
+
+    @Subscribe
+    public void onGameObjectDespawned(GameObjectDespawned event) {
+        SceneCollisionOverlay.markDirty();
+    }
+
+    @Subscribe
+    public void onWallObjectSpawned(WallObjectSpawned event) {
+        SceneCollisionOverlay.markDirty();
+    }
+
+    @Subscribe
+    public void onWallObjectDespawned(WallObjectDespawned event) {
+        SceneCollisionOverlay.markDirty();
+    }
+
+    @Subscribe
+    public void onGroundObjectSpawned(GroundObjectSpawned event) {
+        SceneCollisionOverlay.markDirty();
+    }
+
+    @Subscribe
+    public void onGroundObjectDespawned(GroundObjectDespawned event) {
+        SceneCollisionOverlay.markDirty();
+    }
+
     @Subscribe
     public void onMenuOpened(MenuOpened event) {
         lastMenuOpenedPoint = client.getMouseCanvasPosition();
@@ -445,6 +517,8 @@ public class ShortestPathPlugin extends Plugin implements KeyListener {
 
     @Subscribe
     public void onGameTick(GameTick tick) {
+        SceneCollisionOverlay.onGameTick(client);
+
         Player localPlayer = client.getLocalPlayer();
         if (localPlayer == null || pathfinder == null) {
             return;
@@ -582,6 +656,19 @@ public class ShortestPathPlugin extends Plugin implements KeyListener {
 		return defaultValue;
 	}
 
+	public static PathfinderAlgorithm override(String configOverrideKey, PathfinderAlgorithm defaultValue) {
+		if (!configOverride.isEmpty()) {
+			Object value = configOverride.get(configOverrideKey);
+			if (value instanceof String) {
+				PathfinderAlgorithm algorithm = PathfinderAlgorithm.fromType((String) value);
+				if (algorithm != null) {
+					return algorithm;
+				}
+			}
+		}
+		return defaultValue;
+	}
+
 	private TileCounter override(String configOverrideKey, TileCounter defaultValue) {
 		if (!configOverride.isEmpty()) {
 			Object value = configOverride.get(configOverrideKey);
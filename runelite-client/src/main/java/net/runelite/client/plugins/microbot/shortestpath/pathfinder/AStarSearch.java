@@ -0,0 +1,537 @@
+package net.runelite.client.plugins.microbot.shortestpath.pathfinder;
+
+import lombok.Getter;
+import net.runelite.api.coords.WorldPoint;
+import net.runelite.client.plugins.microbot.shortestpath.PrimitiveIntHashMap;
+import net.runelite.client.plugins.microbot.shortestpath.Transport;
+import net.runelite.client.plugins.microbot.shortestpath.TransportType;
+import net.runelite.client.plugins.microbot.shortestpath.WorldPointUtil;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+import static net.runelite.api.Constants.REGION_SIZE;
+
+/**
+ * A* search over the collision map that does not allocate per expanded tile.
+ * <p>
+ * The g-cost, parent and heap position of every tile live in primitive arrays, one slab per region,
+ * using the same region indexing as {@link VisitedTiles} and {@link SplitFlagMap}. Slabs are kept between
+ * searches and reset lazily through a generation counter. Tiles are identified by an int made of the
+ * region index and the region-local plane/y/x, which is what the indexed binary heap stores.
+ * <p>
+ * The heuristic is the Chebyshev distance to the nearest target, capped by the cheapest
+ * "use any transport and walk from its destination" cost, which keeps it admissible and consistent
+ * when teleports and other transports can jump across the map.
+ * <p>
+ * Instances are not thread-safe; {@link PathfinderConfig#getSearch()} hands out one per pathfinding thread.
+ */
+public class AStarSearch {
+    // Enum.values() makes copies every time which hurts performance in the hotpath
+    private static final OrdinalDirection[] ORDINAL_VALUES = OrdinalDirection.values();
+
+    // Local tile index within a region slab: 2 plane bits, 6 y bits and 6 x bits
+    private static final int LOCAL_BITS = 14;
+    private static final int LOCAL_MASK = (1 << LOCAL_BITS) - 1;
+    private static final int TILES_PER_PLANE = REGION_SIZE * REGION_SIZE;
+
+    private static final int UNREACHED = Integer.MAX_VALUE;
+    private static final int NOT_QUEUED = -1;
+    private static final int CLOSED = -2;
+    private static final int NO_TILE = -1;
+
+    // Slabs are dropped after a search that touched more regions than this, to bound the retained memory
+    private static final int MAX_RETAINED_SLABS = 256;
+    private static final int CUTOFF_CHECK_INTERVAL = 256;
+
+    private final CollisionMap map;
+    private final SplitFlagMap.RegionExtent regionExtents;
+    private final int widthInclusive;
+    private final int heightInclusive;
+    private final byte[] regionPlanes;
+    private final RegionSlab[] slabs;
+    private int slabCount;
+    private int generation;
+
+    private int[] heap = new int[4096];
+    private long[] heapKeys = new long[4096];
+    private int heapSize;
+
+    // Per-search constants, hoisted out of the inner loop
+    private int[] targetX, targetY, targetPlane, targetPacked;
+    private int transportBound;
+    private int teleportCost;
+    private boolean ignoreTeleports;
+    private boolean checkWilderness;
+    // The scene overlay of the search if it has tiles to dodge, such as the ToA puzzle room traps
+    private SceneCollisionOverlay avoidedTiles;
+    private PrimitiveIntHashMap<Set<Transport>> transportsPacked;
+    private final PrimitiveIntHashMap<Boolean> restrictedPacked = new PrimitiveIntHashMap<>(256);
+    // Regions the search may enter, indexed like the slabs; null to search everywhere
+    private boolean[] corridor;
+
+    @Getter
+    private int nodesChecked;
+    @Getter
+    private int transportsChecked;
+    @Getter
+    private boolean targetReached;
+
+    public AStarSearch(CollisionMap map) {
+        this.map = map;
+        regionExtents = SplitFlagMap.getRegionExtents();
+        widthInclusive = regionExtents.getWidth() + 1;
+        heightInclusive = regionExtents.getHeight() + 1;
+        regionPlanes = map.getPlanes();
+        slabs = new RegionSlab[widthInclusive * heightInclusive];
+        if (slabs.length > (1 << (Integer.SIZE - 1 - LOCAL_BITS))) {
+            throw new IllegalStateException("Collision map has too many regions to index: " + slabs.length);
+        }
+    }
+
+    /**
+     * Searches from the pathfinder's start towards the nearest of its targets.
+     *
+     * @return the path to the reached target, or to the tile closest to a target if the search
+     * was cut off or exhausted; {@code null} if the pathfinder was cancelled
+     */
+    List<WorldPoint> search(Pathfinder pathfinder, PathfinderConfig config) {
+        return search(pathfinder, config, null);
+    }
+
+    /**
+     * Searches like {@link #search(Pathfinder, PathfinderConfig)}, but only through the regions flagged in
+     * {@code corridor}, as planned by {@link RegionGraph#findCorridor}.
+     */
+    List<WorldPoint> search(Pathfinder pathfinder, PathfinderConfig config, boolean[] corridor) {
+        return search(pathfinder, config, corridor, config.getCalculationCutoffMillis());
+    }
+
+    /**
+     * Searches like {@link #search(Pathfinder, PathfinderConfig, boolean[])}, but gives up after
+     * {@code cutoffDurationMillis} without getting closer to a target instead of the configured cutoff.
+     */
+    List<WorldPoint> search(Pathfinder pathfinder, PathfinderConfig config, boolean[] corridor, long cutoffDurationMillis) {
+        this.corridor = corridor;
+        prepare(pathfinder, config);
+
+        final WorldPoint start = pathfinder.getStart();
+        final int startId = tileId(start.getX(), start.getY(), start.getPlane());
+        if (startId == NO_TILE) {
+            return new ArrayList<>(Collections.singletonList(start));
+        }
+
+        long cutoffTimeMillis = System.currentTimeMillis() + cutoffDurationMillis;
+        int bestId = startId;
+        int bestDistance = Integer.MAX_VALUE;
+        long bestHeuristic = Integer.MAX_VALUE;
+        int goalId = NO_TILE;
+
+        open(startId, 0, NO_TILE, heuristic(start.getX(), start.getY()), false);
+
+        int expanded = 0;
+        while (heapSize > 0 && !pathfinder.isCancelled()) {
+            if ((++expanded & (CUTOFF_CHECK_INTERVAL - 1)) == 0 && System.currentTimeMillis() > cutoffTimeMillis) {
+                break;
+            }
+
+            final int id = poll();
+            final RegionSlab slab = slabs[id >>> LOCAL_BITS];
+            final int local = id & LOCAL_MASK;
+            slab.heapIndex[local] = CLOSED;
+
+            final int x = tileX(id);
+            final int y = tileY(id);
+            final int z = tilePlane(id);
+            final int packed = WorldPointUtil.packWorldPoint(x, y, z);
+
+            if (pathfinder.updateWildernessLevel(packed)) {
+                // The teleports usable from this tile were published in a new transport map
+                transportsPacked = config.getTransportsPacked();
+                final int previousBound = transportBound;
+                computeTransportBound(config);
+                if (transportBound != previousBound) {
+                    rekeyHeap();
+                }
+            }
+
+            boolean reached = false;
+            for (int i = 0; i < targetPacked.length; i++) {
+                if (targetPacked[i] == packed) {
+                    reached = true;
+                    break;
+                }
+                if (targetPlane[i] != z) {
+                    continue;
+                }
+
+                final int dx = Math.abs(x - targetX[i]);
+                final int dy = Math.abs(y - targetY[i]);
+                final int distance = Math.max(dx, dy);
+                final long heuristic = distance + (long) (dx + dy);
+                if (heuristic < bestHeuristic || (heuristic <= bestHeuristic && distance < bestDistance)) {
+                    bestId = id;
+                    bestDistance = distance;
+                    bestHeuristic = heuristic;
+                    cutoffTimeMillis = System.currentTimeMillis() + cutoffDurationMillis;
+                }
+            }
+
+            if (reached) {
+                goalId = id;
+                break;
+            }
+
+            expand(id, x, y, z, packed, slab.cost[local]);
+        }
+
+        if (pathfinder.isCancelled()) {
+            release();
+            return null;
+        }
+
+        targetReached = goalId != NO_TILE;
+        List<WorldPoint> path = buildPath(goalId != NO_TILE ? goalId : bestId);
+        release();
+        return path;
+    }
+
+    private void prepare(Pathfinder pathfinder, PathfinderConfig config) {
+        ++generation;
+        heapSize = 0;
+        nodesChecked = 0;
+        transportsChecked = 0;
+        targetReached = false;
+
+        final Set<WorldPoint> targets = pathfinder.getTargets();
+        targetX = new int[targets.size()];
+        targetY = new int[targets.size()];
+        targetPlane = new int[targets.size()];
+        targetPacked = new int[targets.size()];
+        int i = 0;
+        for (WorldPoint target : targets) {
+            targetX[i] = target.getX();
+            targetY[i] = target.getY();
+            targetPlane[i] = target.getPlane();
+            targetPacked[i] = WorldPointUtil.packWorldPoint(target);
+            ++i;
+        }
+
+        teleportCost = config.getDistanceBeforeUsingTeleport();
+        ignoreTeleports = config.isIgnoreTeleportAndItems();
+        checkWilderness = config.isAvoidWilderness() && !PathfinderConfig.isInWilderness(targets);
+        transportsPacked = config.getTransportsPacked();
+
+        restrictedPacked.clear();
+        for (Integer point : config.getRestrictedPointsPacked()) {
+            restrictedPacked.put(point, Boolean.TRUE);
+        }
+
+        SceneCollisionOverlay overlay = map.captureOverlay();
+        avoidedTiles = overlay != null && overlay.hasAvoidedTiles() ? overlay : null;
+
+        computeTransportBound(config);
+    }
+
+    private void computeTransportBound(PathfinderConfig config) {
+        transportBound = Integer.MAX_VALUE;
+        for (Set<Transport> transports : config.getTransports().values()) {
+            boundTransports(transports);
+        }
+        boundTransports(config.getUsableTeleports());
+    }
+
+    /** Lowers the heuristic cap to the cheapest "take this transport, then walk to a target" cost */
+    private void boundTransports(Collection<Transport> transports) {
+        for (Transport transport : transports) {
+            final WorldPoint destination = transport.getDestination();
+            final int cost = transportCost(transport);
+            if (destination == null || cost == UNREACHED) {
+                continue;
+            }
+            final long bound = (long) cost + targetDistance(destination.getX(), destination.getY());
+            if (bound < transportBound) {
+                transportBound = (int) bound;
+            }
+        }
+    }
+
+    private int transportCost(Transport transport) {
+        if (TransportType.isTeleport(transport.getType())) {
+            return ignoreTeleports ? UNREACHED : Math.max(1, teleportCost + transport.getDuration());
+        }
+        return Math.max(1, transport.getDuration());
+    }
+
+    private void expand(int id, int x, int y, int z, int packed, int cost) {
+        // Only guard wilderness entry when walking from outside the wilderness, see PathfinderConfig.avoidWilderness
+        final boolean guardWilderness = checkWilderness && !PathfinderConfig.isInWilderness(packed);
+
+        // Transports are pre-filtered by PathfinderConfig.refreshTransports
+        final Set<Transport> transports = transportsPacked.get(packed);
+        if (transports != null) {
+            for (Transport transport : transports) {
+                final WorldPoint destination = transport.getDestination();
+                final int transportCost = transportCost(transport);
+                if (destination == null || transportCost == UNREACHED) {
+                    continue;
+                }
+                if (guardWilderness && PathfinderConfig.isInWilderness(WorldPointUtil.packWorldPoint(destination))) {
+                    continue;
+                }
+                relax(destination.getX(), destination.getY(), destination.getPlane(), cost + transportCost, id, true);
+            }
+        }
+
+        final int traversable = map.traversableMask(x, y, z);
+        final boolean ignoreCollision = CollisionMap.isCollisionIgnored(packed);
+        for (int i = 0; i < ORDINAL_VALUES.length; i++) {
+            final OrdinalDirection d = ORDINAL_VALUES[i];
+            final int nx = x + d.x;
+            final int ny = y + d.y;
+            final int neighborPacked = WorldPointUtil.packWorldPoint(nx, ny, z);
+            if (restrictedPacked.get(neighborPacked) != null) {
+                continue;
+            }
+            if (guardWilderness && PathfinderConfig.isInWilderness(neighborPacked)) {
+                continue;
+            }
+
+            if (ignoreCollision) {
+                relax(nx, ny, z, cost + 1, id, false);
+                continue;
+            }
+
+            if (avoidedTiles != null && avoidedTiles.isAvoided(neighborPacked) && !isTarget(neighborPacked)) {
+                continue;
+            }
+
+            if ((traversable & (1 << i)) != 0) {
+                relax(nx, ny, z, cost + 1, id, false);
+            } else if (Math.abs(d.x + d.y) == 1 && map.isBlocked(nx, ny, z)) {
+                // The transport starts from a blocked adjacent tile, e.g. fairy ring
+                final Set<Transport> neighborTransports = transportsPacked.get(neighborPacked);
+                if (neighborTransports == null) {
+                    continue;
+                }
+                for (Transport transport : neighborTransports) {
+                    final WorldPoint origin = transport.getOrigin();
+                    if (origin != null) {
+                        relax(origin.getX(), origin.getY(), origin.getPlane(), cost + 1, id, false);
+                    }
+                }
+            }
+        }
+    }
+
+    private void relax(int x, int y, int z, int cost, int parentId, boolean transport) {
+        final int id = tileId(x, y, z);
+        if (id == NO_TILE) {
+            return;
+        }
+
+        final RegionSlab slab = slabs[id >>> LOCAL_BITS];
+        final int local = id & LOCAL_MASK;
+        final int position = slab.heapIndex[local];
+        if (position == CLOSED || cost >= slab.cost[local]) {
+            return;
+        }
+
+        if (position == NOT_QUEUED) {
+            open(id, cost, parentId, heuristic(x, y), transport);
+        } else {
+            slab.cost[local] = cost;
+            slab.parent[local] = parentId;
+            siftUp(position, id, key(cost, heuristic(x, y)));
+        }
+    }
+
+    private void open(int id, int cost, int parentId, int heuristic, boolean transport) {
+        final RegionSlab slab = slabs[id >>> LOCAL_BITS];
+        final int local = id & LOCAL_MASK;
+        slab.cost[local] = cost;
+        slab.parent[local] = parentId;
+        push(id, key(cost, heuristic));
+
+        if (transport) {
+            ++transportsChecked;
+        } else {
+            ++nodesChecked;
+        }
+    }
+
+    private boolean isTarget(int packed) {
+        for (int target : targetPacked) {
+            if (target == packed) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private int targetDistance(int x, int y) {
+        int best = Integer.MAX_VALUE;
+        for (int i = 0; i < targetX.length; i++) {
+            final int distance = Math.max(Math.abs(x - targetX[i]), Math.abs(y - targetY[i]));
+            if (distance < best) {
+                best = distance;
+            }
+        }
+        return best;
+    }
+
+    private int heuristic(int x, int y) {
+        return Math.min(transportBound, targetDistance(x, y));
+    }
+
+    /** Orders by f-cost, breaking ties towards the tile closest to a target */
+    private static long key(int cost, int heuristic) {
+        return ((long) (cost + heuristic) << 32) | heuristic;
+    }
+
+    /** Returns the tile id for a world tile, initialising its region slab, or {@link #NO_TILE} if it has no collision data */
+    private int tileId(int x, int y, int z) {
+        final int regionX = x / REGION_SIZE - regionExtents.getMinX();
+        final int regionY = y / REGION_SIZE - regionExtents.getMinY();
+        if (regionX < 0 || regionX >= widthInclusive || regionY < 0 || regionY >= heightInclusive || z < 0) {
+            return NO_TILE;
+        }
+
+        final int regionIndex = regionX + regionY * widthInclusive;
+        final byte planes = regionPlanes[regionIndex];
+        if (z >= planes || (corridor != null && !corridor[regionIndex])) {
+            return NO_TILE;
+        }
+
+        RegionSlab slab = slabs[regionIndex];
+        if (slab == null) {
+            slab = new RegionSlab(planes);
+            slabs[regionIndex] = slab;
+            ++slabCount;
+        }
+        if (slab.generation != generation) {
+            slab.reset(generation);
+        }
+
+        return (regionIndex << LOCAL_BITS) | (z * TILES_PER_PLANE) | ((y % REGION_SIZE) * REGION_SIZE) | (x % REGION_SIZE);
+    }
+
+    private int tileX(int id) {
+        final int regionX = (id >>> LOCAL_BITS) % widthInclusive + regionExtents.getMinX();
+        return regionX * REGION_SIZE + (id % REGION_SIZE);
+    }
+
+    private int tileY(int id) {
+        final int regionY = (id >>> LOCAL_BITS) / widthInclusive + regionExtents.getMinY();
+        return regionY * REGION_SIZE + ((id / REGION_SIZE) % REGION_SIZE);
+    }
+
+    private static int tilePlane(int id) {
+        return (id & LOCAL_MASK) / TILES_PER_PLANE;
+    }
+
+    private List<WorldPoint> buildPath(int id) {
+        List<WorldPoint> path = new ArrayList<>();
+        while (id != NO_TILE) {
+            path.add(new WorldPoint(tileX(id), tileY(id), tilePlane(id)));
+            id = slabs[id >>> LOCAL_BITS].parent[id & LOCAL_MASK];
+        }
+        Collections.reverse(path);
+        return path;
+    }
+
+    private void release() {
+        heapSize = 0;
+        corridor = null;
+        if (slabCount > MAX_RETAINED_SLABS) {
+            Arrays.fill(slabs, null);
+            slabCount = 0;
+        }
+    }
+
+    /** Recomputes the key of every queued tile after the heuristic changed, then restores the heap order */
+    private void rekeyHeap() {
+        for (int i = 0; i < heapSize; i++) {
+            final int id = heap[i];
+            heapKeys[i] = key(slabs[id >>> LOCAL_BITS].cost[id & LOCAL_MASK], heuristic(tileX(id), tileY(id)));
+        }
+        for (int i = (heapSize >>> 1) - 1; i >= 0; i--) {
+            siftDown(i, heap[i], heapKeys[i]);
+        }
+    }
+
+    private void push(int id, long key) {
+        if (heapSize == heap.length) {
+            heap = Arrays.copyOf(heap, heapSize * 2);
+            heapKeys = Arrays.copyOf(heapKeys, heapSize * 2);
+        }
+        siftUp(heapSize++, id, key);
+    }
+
+    private int poll() {
+        final int id = heap[0];
+        final int last = --heapSize;
+        if (last > 0) {
+            siftDown(0, heap[last], heapKeys[last]);
+        }
+        return id;
+    }
+
+    private void siftUp(int position, int id, long key) {
+        while (position > 0) {
+            final int parent = (position - 1) >>> 1;
+            if (heapKeys[parent] <= key) {
+                break;
+            }
+            place(position, heap[parent], heapKeys[parent]);
+            position = parent;
+        }
+        place(position, id, key);
+    }
+
+    private void siftDown(int position, int id, long key) {
+        final int half = heapSize >>> 1;
+        while (position < half) {
+            int child = 2 * position + 1;
+            final int right = child + 1;
+            if (right < heapSize && heapKeys[right] < heapKeys[child]) {
+                child = right;
+            }
+            if (key <= heapKeys[child]) {
+                break;
+            }
+            place(position, heap[child], heapKeys[child]);
+            position = child;
+        }
+        place(position, id, key);
+    }
+
+    private void place(int position, int id, long key) {
+        heap[position] = id;
+        heapKeys[position] = key;
+        slabs[id >>> LOCAL_BITS].heapIndex[id & LOCAL_MASK] = position;
+    }
+
+    private static class RegionSlab {
+        private final int[] cost;
+        private final int[] parent;
+        private final int[] heapIndex;
+        private int generation = -1;
+
+        RegionSlab(byte planeCount) {
+            cost = new int[planeCount * TILES_PER_PLANE];
+            parent = new int[planeCount * TILES_PER_PLANE];
+            heapIndex = new int[planeCount * TILES_PER_PLANE];
+        }
+
+        void reset(int generation) {
+            Arrays.fill(cost, UNREACHED);
+            Arrays.fill(heapIndex, NOT_QUEUED);
+            this.generation = generation;
+        }
+    }
+}
@@ -1,13 +1,10 @@
 package net.runelite.client.plugins.microbot.shortestpath.pathfinder;
 
-import net.runelite.api.TileObject;
 import net.runelite.api.coords.WorldPoint;
+import net.runelite.client.plugins.microbot.shortestpath.PrimitiveIntHashMap;
 import net.runelite.client.plugins.microbot.shortestpath.Transport;
 import net.runelite.client.plugins.microbot.shortestpath.TransportType;
 import net.runelite.client.plugins.microbot.shortestpath.WorldPointUtil;
-import net.runelite.client.plugins.microbot.util.coords.Rs2WorldPoint;
-import net.runelite.client.plugins.microbot.util.gameobject.Rs2GameObject;
-import net.runelite.client.plugins.microbot.util.player.Rs2Player;
 
 import java.util.*;
 
@@ -16,6 +13,8 @@ public class CollisionMap {
     private static final OrdinalDirection[] ORDINAL_VALUES = OrdinalDirection.values();
 
     private final SplitFlagMap collisionData;
+    // The live scene collision of the running search, captured once rather than read on every lookup
+    private SceneCollisionOverlay overlay;
 
     public byte[] getPlanes() {
         return collisionData.getRegionMapPlaneCounts();
@@ -25,7 +24,23 @@ public class CollisionMap {
         this.collisionData = collisionData;
     }
 
+    /**
+     * Captures the current scene collision overlay for the lookups that follow, so a search sees a single
+     * consistent scene. Call it once before every search; maps that never call it only use the static data.
+     */
+    public SceneCollisionOverlay captureOverlay() {
+        overlay = SceneCollisionOverlay.getCurrent();
+        return overlay;
+    }
+
     private boolean get(int x, int y, int z, int flag) {
+        // The live collision of the loaded scene takes precedence over the static data
+        if (overlay != null) {
+            final int live = overlay.get(x, y, z, flag);
+            if (live != SceneCollisionOverlay.UNKNOWN) {
+                return live == 1;
+            }
+        }
         return collisionData.get(x, y, z, flag);
     }
 
@@ -65,6 +80,42 @@ public class CollisionMap {
         return !n(x, y, z) && !s(x, y, z) && !e(x, y, z) && !w(x, y, z);
     }
 
+    /**
+     * Returns the directions that can be walked to from a tile as a bitmask,
+     * where bit {@code i} corresponds to {@code OrdinalDirection.values()[i]}.
+     * Tiles that are blocked on every side (e.g. the player standing inside an object)
+     * may walk to any neighbour that is not itself fully blocked.
+     */
+    public int traversableMask(int x, int y, int z) {
+        if (isBlocked(x, y, z)) {
+            boolean westBlocked = isBlocked(x - 1, y, z);
+            boolean eastBlocked = isBlocked(x + 1, y, z);
+            boolean southBlocked = isBlocked(x, y - 1, z);
+            boolean northBlocked = isBlocked(x, y + 1, z);
+            boolean southWestBlocked = isBlocked(x - 1, y - 1, z);
+            boolean southEastBlocked = isBlocked(x + 1, y - 1, z);
+            boolean northWestBlocked = isBlocked(x - 1, y + 1, z);
+            boolean northEastBlocked = isBlocked(x + 1, y + 1, z);
+            return (!westBlocked ? 1 : 0)
+                    | (!eastBlocked ? 1 << 1 : 0)
+                    | (!southBlocked ? 1 << 2 : 0)
+                    | (!northBlocked ? 1 << 3 : 0)
+                    | (!southWestBlocked && !westBlocked && !southBlocked ? 1 << 4 : 0)
+                    | (!southEastBlocked && !eastBlocked && !southBlocked ? 1 << 5 : 0)
+                    | (!northWestBlocked && !westBlocked && !northBlocked ? 1 << 6 : 0)
+                    | (!northEastBlocked && !eastBlocked && !northBlocked ? 1 << 7 : 0);
+        }
+
+        return (w(x, y, z) ? 1 : 0)
+                | (e(x, y, z) ? 1 << 1 : 0)
+                | (s(x, y, z) ? 1 << 2 : 0)
+                | (n(x, y, z) ? 1 << 3 : 0)
+                | (sw(x, y, z) ? 1 << 4 : 0)
+                | (se(x, y, z) ? 1 << 5 : 0)
+                | (nw(x, y, z) ? 1 << 6 : 0)
+                | (ne(x, y, z) ? 1 << 7 : 0);
+    }
+
     private static int packedPointFromOrdinal(int startPacked, OrdinalDirection direction) {
         final int x = WorldPointUtil.unpackWorldX(startPacked);
         final int y = WorldPointUtil.unpackWorldY(startPacked);
@@ -74,7 +125,6 @@ public class CollisionMap {
 
     // This is only safe if pathfinding is single-threaded
     private final List<Node> neighbors = new ArrayList<>(16);
-    private final boolean[] traversable = new boolean[8];
 
     public static final List<WorldPoint> ignoreCollision = Arrays.asList(
             new WorldPoint(3142, 3457, 0),
@@ -97,6 +147,18 @@ public class CollisionMap {
             new WorldPoint(3672, 3862, 0)
     );
 
+    private static final PrimitiveIntHashMap<Boolean> IGNORE_COLLISION_PACKED = new PrimitiveIntHashMap<>(ignoreCollision.size());
+
+    static {
+        for (WorldPoint point : ignoreCollision) {
+            IGNORE_COLLISION_PACKED.put(WorldPointUtil.packWorldPoint(point), Boolean.TRUE);
+        }
+    }
+
+    static boolean isCollisionIgnored(int packedPoint) {
+        return IGNORE_COLLISION_PACKED.get(packedPoint) != null;
+    }
+
     public List<Node> getNeighbors(Node node, VisitedTiles visited, PathfinderConfig config, Set<WorldPoint> targets) {
         final int x = WorldPointUtil.unpackWorldX(node.packedPosition);
         final int y = WorldPointUtil.unpackWorldY(node.packedPosition);
@@ -121,66 +183,28 @@ public class CollisionMap {
             //END microbot variables
         }
 
-        if (isBlocked(x, y, z)) {
-            boolean westBlocked = isBlocked(x - 1, y, z);
-            boolean eastBlocked = isBlocked(x + 1, y, z);
-            boolean southBlocked = isBlocked(x, y - 1, z);
-            boolean northBlocked = isBlocked(x, y + 1, z);
-            boolean southWestBlocked = isBlocked(x - 1, y - 1, z);
-            boolean southEastBlocked = isBlocked(x + 1, y - 1, z);
-            boolean northWestBlocked = isBlocked(x - 1, y + 1, z);
-            boolean northEastBlocked = isBlocked(x + 1, y + 1, z);
-            traversable[0] = !westBlocked;
-            traversable[1] = !eastBlocked;
-            traversable[2] = !southBlocked;
-            traversable[3] = !northBlocked;
-            traversable[4] = !southWestBlocked && !westBlocked && !southBlocked;
-            traversable[5] = !southEastBlocked && !eastBlocked && !southBlocked;
-            traversable[6] = !northWestBlocked && !westBlocked && !northBlocked;
-            traversable[7] = !northEastBlocked && !eastBlocked && !northBlocked;
-        } else {
-            traversable[0] = w(x, y, z);
-            traversable[1] = e(x, y, z);
-            traversable[2] = s(x, y, z);
-            traversable[3] = n(x, y, z);
-            traversable[4] = sw(x, y, z);
-            traversable[5] = se(x, y, z);
-            traversable[6] = nw(x, y, z);
-            traversable[7] = ne(x, y, z);
-        }
+        final int traversable = traversableMask(x, y, z);
+        final boolean ignoreCollision = isCollisionIgnored(node.packedPosition);
 
-        for (int i = 0; i < traversable.length; i++) {
+        for (int i = 0; i < ORDINAL_VALUES.length; i++) {
             OrdinalDirection d = ORDINAL_VALUES[i];
             int neighborPacked = packedPointFromOrdinal(node.packedPosition, d);
             if (visited.get(neighborPacked)) continue;
             if (config.getRestrictedPointsPacked().contains(neighborPacked)) continue;
             if (config.getCustomRestrictions().contains(neighborPacked)) continue;
 
-            if (ignoreCollision.contains(new WorldPoint(x, y, z))) {
+            if (ignoreCollision) {
                 neighbors.add(new Node(neighborPacked, node));
                 continue;
             }
 
-            /**
-             * This piece of code is designed to allow web walker to be used in toa puzzle room
-             * it will dodge specific tiles in the sequence room
-             */
-            if (Rs2Player.getWorldLocation().getRegionID() == 14162) { //toa puzzle room
-                final int lx = WorldPointUtil.unpackWorldX(neighborPacked);
-                final int ly = WorldPointUtil.unpackWorldY(neighborPacked);
-                final int lz = WorldPointUtil.unpackWorldPlane(neighborPacked);
-                if (targets.stream().noneMatch(tgts -> Objects.equals(tgts, new WorldPoint(lx, ly, lz)))) {
-                    WorldPoint globalWorldPoint = Rs2WorldPoint.convertInstancedWorldPoint(new WorldPoint(lx, ly, lz));
-                    if (globalWorldPoint != null) {
-                        TileObject go = Rs2GameObject.getGroundObject(globalWorldPoint);
-                        if (go != null && go.getId() == 45340) {
-                            continue;
-                        }
-                    }
-                }
+            // Dodges tiles like the traps in the ToA puzzle room, unless they are the destination
+            if (overlay != null && overlay.isAvoided(neighborPacked)
+                    && !targets.contains(WorldPointUtil.unpackWorldPoint(neighborPacked))) {
+                continue;
             }
 
-            if (traversable[i]) {
+            if ((traversable & (1 << i)) != 0) {
                 neighbors.add(new Node(neighborPacked, node));
             } else if (Math.abs(d.x + d.y) == 1 && isBlocked(x + d.x, y + d.y, z)) {
                 // The transport starts from a blocked adjacent tile, e.g. fairy ring
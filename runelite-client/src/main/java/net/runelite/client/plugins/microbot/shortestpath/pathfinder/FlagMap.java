@@ -2,61 +2,44 @@ package net.runelite.client.plugins.microbot.shortestpath.pathfinder;
 
 import lombok.Getter;
 
-import java.util.BitSet;
-import java.util.Locale;
+import java.nio.LongBuffer;
 
 import static net.runelite.api.Constants.REGION_SIZE;
 
+/**
+ * The collision flags of a single region, read a 64-bit word at a time straight from the collision map data.
+ */
 public class FlagMap {
-    private static final byte FLAG_COUNT = 2;
-    private final BitSet flags;
+    private static final int FLAG_COUNT = 2;
+    private static final int PLANE_BITS = REGION_SIZE * REGION_SIZE * FLAG_COUNT;
+    private final LongBuffer words;
     @Getter
     private final byte planeCount;
     private final int minX;
     private final int minY;
 
-    public FlagMap(int minX, int minY, byte planeCount) {
+    public FlagMap(int minX, int minY, LongBuffer words) {
         this.minX = minX;
         this.minY = minY;
-        this.planeCount = planeCount;
-        flags = new BitSet(REGION_SIZE * REGION_SIZE * planeCount * FLAG_COUNT);
+        this.words = words;
+        this.planeCount = planeCount(words.limit());
     }
 
-    public FlagMap(int minX, int minY, byte[] bytes) {
-        this.minX = minX;
-        this.minY = minY;
-        flags = BitSet.valueOf(bytes);
-        int scale = REGION_SIZE * REGION_SIZE * FLAG_COUNT;
-        this.planeCount = (byte) ((flags.size() + scale - 1) / scale);
-    }
-
-    public byte[] toBytes() {
-        return flags.toByteArray();
+    /** Returns the number of planes covered by the given number of flag words */
+    static byte planeCount(int wordCount) {
+        return (byte) ((wordCount * Long.SIZE + PLANE_BITS - 1) / PLANE_BITS);
     }
 
     public boolean get(int x, int y, int z, int flag) {
-        if (x < minX || x >= (minX + REGION_SIZE) || y < minY || y >= (minY + REGION_SIZE) || z < 0 || z >= planeCount) {
+        final int localX = x - minX;
+        final int localY = y - minY;
+        if (localX < 0 || localX >= REGION_SIZE || localY < 0 || localY >= REGION_SIZE || z < 0 || z >= planeCount) {
             return false;
         }
 
-        return flags.get(index(x, y, z, flag));
-    }
-
-    public void set(int x, int y, int z, int flag, boolean value) {
-        flags.set(index(x, y, z, flag), value);
-    }
-
-    private int index(int x, int y, int z, int flag) {
-        if (x < minX || x >= (minX + REGION_SIZE) || y < minY || y >= (minY + REGION_SIZE) || z < 0 || z >= planeCount || flag < 0 || flag >= FLAG_COUNT) {
-            throw new IndexOutOfBoundsException(
-                    String.format(Locale.ENGLISH, "[%d,%d,%d,%d] when extents are [>=%d,>=%d,>=%d,>=%d] - [<=%d,<=%d,<%d,<%d]",
-                            x, y, z, flag,
-                            minX, minY, 0, 0,
-                            minX + REGION_SIZE - 1, minY + REGION_SIZE - 1, planeCount, FLAG_COUNT
-                    )
-            );
-        }
-
-        return (z * REGION_SIZE * REGION_SIZE + (y - minY) * REGION_SIZE + (x - minX)) * FLAG_COUNT + flag;
+        final int bit = z * PLANE_BITS + (localY * REGION_SIZE + localX) * FLAG_COUNT + flag;
+        final int word = bit >>> 6;
+        // Trailing words without any set flag are not stored
+        return word < words.limit() && (words.get(word) & (1L << bit)) != 0;
     }
 }
@@ -0,0 +1,199 @@
+package net.runelite.client.plugins.microbot.shortestpath.pathfinder;
+
+import lombok.Value;
+import net.runelite.api.coords.WorldPoint;
+import net.runelite.client.plugins.microbot.shortestpath.PrimitiveIntHashMap;
+import net.runelite.client.plugins.microbot.shortestpath.Transport;
+import net.runelite.client.plugins.microbot.shortestpath.WorldPointUtil;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Least recently used cache of completed paths.
+ * <p>
+ * Entries are keyed by the 8x8 tile bucket of the start, the target set and the transport fingerprint of the
+ * {@link PathfinderConfig} at the time of the search. Since the fingerprint changes whenever a quest, varbit, item
+ * or setting changes which transports are usable, stale routes are never looked up again and simply age out.
+ */
+public class PathCache {
+    // Start tiles are grouped into buckets of 2^BUCKET_BITS by 2^BUCKET_BITS tiles
+    private static final int BUCKET_BITS = 3;
+
+    private final Map<Key, Entry> entries;
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong savedNanos = new AtomicLong();
+
+    public PathCache(int capacity) {
+        entries = new LinkedHashMap<>(capacity, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, PathCache.Entry> eldest) {
+                return size() > capacity;
+            }
+        };
+    }
+
+    /**
+     * Returns a cached path from {@code start} to one of the {@code targets}, or null if there is none that
+     * passes through or next to {@code start} and is still walkable with the currently usable transports.
+     */
+    List<WorldPoint> get(WorldPoint start, Set<WorldPoint> targets, PathfinderConfig config) {
+        final long lookupStart = System.nanoTime();
+        final Key key = new Key(bucket(start), targets, config.getCacheFingerprint());
+        final Entry entry;
+        synchronized (entries) {
+            entry = entries.get(key);
+        }
+
+        final List<WorldPoint> path = entry == null ? null : resume(entry.path, start, config);
+        if (path == null) {
+            misses.incrementAndGet();
+            return null;
+        }
+
+        hits.incrementAndGet();
+        savedNanos.addAndGet(Math.max(0, entry.computeNanos - (System.nanoTime() - lookupStart)));
+        return path;
+    }
+
+    /** Stores a path that reached one of the {@code targets}, found with the given search time */
+    void put(WorldPoint start, Set<WorldPoint> targets, PathfinderConfig config, List<WorldPoint> path, long computeNanos) {
+        final int[] packed = new int[path.size()];
+        for (int i = 0; i < packed.length; i++) {
+            packed[i] = WorldPointUtil.packWorldPoint(path.get(i));
+        }
+
+        final Key key = new Key(bucket(start), Set.copyOf(targets), config.getCacheFingerprint());
+        synchronized (entries) {
+            entries.put(key, new Entry(packed, computeNanos));
+        }
+    }
+
+    public void clear() {
+        synchronized (entries) {
+            entries.clear();
+        }
+    }
+
+    public long getHits() {
+        return hits.get();
+    }
+
+    public long getMisses() {
+        return misses.get();
+    }
+
+    public long getSavedNanos() {
+        return savedNanos.get();
+    }
+
+    private static int bucket(WorldPoint point) {
+        return WorldPointUtil.packWorldPoint(
+                point.getX() >> BUCKET_BITS << BUCKET_BITS,
+                point.getY() >> BUCKET_BITS << BUCKET_BITS,
+                point.getPlane());
+    }
+
+    /** Returns the part of a cached path that starts at, or right next to, {@code start} if it is still valid */
+    private static List<WorldPoint> resume(int[] path, WorldPoint start, PathfinderConfig config) {
+        final CollisionMap map = config.getMap();
+        map.captureOverlay();
+        final int startPacked = WorldPointUtil.packWorldPoint(start);
+
+        int from = -1;
+        boolean prependStart = false;
+        for (int i = 0; i < path.length; i++) {
+            if (path[i] == startPacked) {
+                from = i;
+                prependStart = false;
+                break;
+            }
+            if (from < 0 && isWalkable(map, startPacked, path[i])) {
+                from = i;
+                prependStart = true;
+            }
+        }
+        if (from < 0 || !isValid(path, from, map, config)) {
+            return null;
+        }
+
+        final List<WorldPoint> result = new ArrayList<>(path.length - from + 1);
+        if (prependStart) {
+            result.add(start);
+        }
+        for (int i = from; i < path.length; i++) {
+            result.add(WorldPointUtil.unpackWorldPoint(path[i]));
+        }
+        return result;
+    }
+
+    /** Checks every step after {@code from} against the collision map and the usable transports */
+    private static boolean isValid(int[] path, int from, CollisionMap map, PathfinderConfig config) {
+        final PrimitiveIntHashMap<Set<Transport>> transports = config.getTransportsPacked();
+        for (int i = from + 1; i < path.length; i++) {
+            // Blocked tiles next to the path are still entered when they hold a transport, e.g. fairy rings
+            if (!isWalkable(map, path[i - 1], path[i])
+                    && !(transports.get(path[i]) != null && WorldPointUtil.distanceBetween(path[i - 1], path[i]) == 1)
+                    && !hasTransport(transports.get(path[i - 1]), path[i])
+                    && (config.isIgnoreTeleportAndItems() || !hasTransport(config.getUsableTeleports(), path[i]))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isWalkable(CollisionMap map, int from, int to) {
+        final int z = WorldPointUtil.unpackWorldPlane(from);
+        if (z != WorldPointUtil.unpackWorldPlane(to)) {
+            return false;
+        }
+
+        final int x = WorldPointUtil.unpackWorldX(from);
+        final int y = WorldPointUtil.unpackWorldY(from);
+        final int dx = WorldPointUtil.unpackWorldX(to) - x;
+        final int dy = WorldPointUtil.unpackWorldY(to) - y;
+        if (Math.abs(dx) > 1 || Math.abs(dy) > 1 || (dx == 0 && dy == 0)) {
+            return false;
+        }
+
+        final int traversable = map.traversableMask(x, y, z);
+        for (OrdinalDirection direction : OrdinalDirection.values()) {
+            if (direction.x == dx && direction.y == dy) {
+                return (traversable & (1 << direction.ordinal())) != 0;
+            }
+        }
+        return false;
+    }
+
+    private static boolean hasTransport(Set<Transport> transports, int destination) {
+        if (transports == null) {
+            return false;
+        }
+        for (Transport transport : transports) {
+            if (transport.getDestination() != null
+                    && WorldPointUtil.packWorldPoint(transport.getDestination()) == destination) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Value
+    private static class Key {
+        int startBucket;
+        Set<WorldPoint> targets;
+        long fingerprint;
+    }
+
+    @Value
+    private static class Entry {
+        int[] path;
+        long computeNanos;
+    }
+}
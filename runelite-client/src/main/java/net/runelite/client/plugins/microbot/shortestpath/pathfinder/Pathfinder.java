@@ -2,6 +2,7 @@ package net.runelite.client.plugins.microbot.shortestpath.pathfinder;
 
 import lombok.Getter;
 import net.runelite.api.coords.WorldPoint;
+import net.runelite.client.plugins.microbot.shortestpath.PathfinderAlgorithm;
 import net.runelite.client.plugins.microbot.shortestpath.WorldPointUtil;
 
 import java.util.*;
@@ -17,6 +18,8 @@ public class Pathfinder implements Runnable {
     private final Set<WorldPoint> targets;
 
     private final PathfinderConfig config;
+    @Getter
+    private final PathfinderAlgorithm algorithm;
     private final CollisionMap map;
     private final boolean targetInWilderness;
 
@@ -24,10 +27,11 @@ public class Pathfinder implements Runnable {
     // They were found by checking the max queue size
     private final Deque<Node> boundary = new ArrayDeque<>(4096);
     private final Queue<Node> pending = new PriorityQueue<>(256);
+    // Only used by the legacy flood fill; the A* engine keeps its own per-region state
     private final VisitedTiles visited;
 
     @SuppressWarnings("unchecked") // Casting EMPTY_LIST is safe here
-    private List<WorldPoint> path = (List<WorldPoint>)Collections.EMPTY_LIST;
+    private volatile List<WorldPoint> path = (List<WorldPoint>)Collections.EMPTY_LIST;
     private boolean pathNeedsUpdate = false;
     private Node bestLastNode;
     /**
@@ -40,23 +44,25 @@ public class Pathfinder implements Runnable {
     private int wildernessLevel;
 
     public Pathfinder(PathfinderConfig config, WorldPoint start, WorldPoint target) {
-        stats = new PathfinderStats();
         this.config = config;
+        this.algorithm = config.getAlgorithm();
+        stats = new PathfinderStats(algorithm);
         this.map = config.getMap();
         this.start = start;
         this.targets = Set.of(target);
-        visited = new VisitedTiles(map);
+        visited = algorithm == PathfinderAlgorithm.LEGACY ? new VisitedTiles(map) : null;
         targetInWilderness = PathfinderConfig.isInWilderness(target);
         wildernessLevel = 31;
     }
 
     public Pathfinder(PathfinderConfig config, WorldPoint start, Set<WorldPoint> targets) {
-        stats = new PathfinderStats();
         this.config = config;
+        this.algorithm = config.getAlgorithm();
+        stats = new PathfinderStats(algorithm);
         this.map = config.getMap();
         this.start = start;
         this.targets = targets;
-        visited = new VisitedTiles(map);
+        visited = algorithm == PathfinderAlgorithm.LEGACY ? new VisitedTiles(map) : null;
         targetInWilderness = PathfinderConfig.isInWilderness(targets);
         wildernessLevel = 31;
     }
@@ -69,6 +75,10 @@ public class Pathfinder implements Runnable {
         cancelled = true;
     }
 
+    boolean isCancelled() {
+        return cancelled;
+    }
+
     public PathfinderStats getStats() {
         if (stats.started && stats.ended) {
             return stats;
@@ -113,6 +123,87 @@ public class Pathfinder implements Runnable {
     @Override
     public void run() {
         stats.start();
+
+        PathCache cache = config.getPathCache();
+        List<WorldPoint> cached = cache.get(start, targets, config);
+        if (cached != null) {
+            path = cached;
+            done = !cancelled;
+            stats.end();
+            return;
+        }
+
+        if (algorithm == PathfinderAlgorithm.HIERARCHICAL) {
+            runHierarchical();
+        } else if (algorithm == PathfinderAlgorithm.ASTAR) {
+            runAStar();
+        } else {
+            runLegacy();
+        }
+
+        done = !cancelled;
+
+        stats.end(); // Include cleanup in stats to get the total cost of pathfinding
+        if (done) {
+            config.recordStats(stats);
+
+            List<WorldPoint> result = getPath();
+            if (!result.isEmpty() && targets.contains(result.get(result.size() - 1))) {
+                cache.put(start, targets, config, result, stats.getElapsedTimeNanos());
+            }
+        }
+    }
+
+    private void runAStar() {
+        AStarSearch search = config.getSearch();
+        List<WorldPoint> result = search.search(this, config);
+        stats.nodesChecked = search.getNodesChecked();
+        stats.transportsChecked = search.getTransportsChecked();
+        if (result != null) {
+            path = result;
+        }
+    }
+
+    private void runHierarchical() {
+        long startMillis = System.currentTimeMillis();
+        RegionGraph graph = config.getRegionGraph();
+        boolean[] corridor = graph == null ? null : graph.findCorridor(start, targets, config);
+        if (corridor == null) {
+            runAStar();
+            return;
+        }
+
+        AStarSearch search = config.getSearch();
+        List<WorldPoint> result = search.search(this, config, corridor);
+        stats.nodesChecked = search.getNodesChecked();
+        stats.transportsChecked = search.getTransportsChecked();
+        if (result == null || search.isTargetReached()) {
+            if (result != null) {
+                path = result;
+            }
+            return;
+        }
+
+        // The corridor is planned without restrictions such as the wilderness, so it can miss a valid route.
+        // The time spent on the corridor counts against the cutoff, so a miss does not double the search time.
+        long remainingMillis = config.getCalculationCutoffMillis() - (System.currentTimeMillis() - startMillis);
+        if (remainingMillis <= 0) {
+            path = result;
+            return;
+        }
+        List<WorldPoint> corridorResult = result;
+        // The corridor search already lowered the wilderness level, which would stop this search from adding the
+        // teleports where it leaves the wilderness, so start again from the teleports usable at the start
+        wildernessLevel = 31;
+        config.refreshTeleports(WorldPointUtil.packWorldPoint(start), 31);
+        result = search.search(this, config, null, remainingMillis);
+        stats.nodesChecked += search.getNodesChecked();
+        stats.transportsChecked += search.getTransportsChecked();
+        path = result != null ? result : corridorResult;
+    }
+
+    private void runLegacy() {
+        map.captureOverlay();
         boundary.addFirst(new Node(start, null));
 
         int bestDistance = Integer.MAX_VALUE;
@@ -130,31 +221,7 @@ public class Pathfinder implements Runnable {
                 node = boundary.removeFirst();
             }
 
-            if (wildernessLevel > 0) {
-                // We don't need to remove teleports when going from 20 to 21 or higher,
-                // because the teleport is either used at the very start of the
-                // path or when going from 31 or higher to 30, or from 21 or higher to 20.
-
-                boolean update = false;
-
-                // These are overlapping boundaries, so if the node isn't in level 30, it's in 0-29
-                // likewise, if the node isn't in level 20, it's in 0-19
-                if (wildernessLevel > 29 && !config.isInLevel29Wilderness(node.packedPosition)) {
-                    wildernessLevel = 29;
-                    update = true;
-                }
-                if (wildernessLevel > 19 && !config.isInLevel19Wilderness(node.packedPosition)) {
-                    wildernessLevel = 19;
-                    update = true;
-                }
-                if (wildernessLevel > 0 && !config.isInWilderness(node.packedPosition)) {
-                    wildernessLevel = 0;
-                    update = true;
-                }
-                if (update) {
-                    config.refreshTeleports(node.packedPosition, wildernessLevel);
-                }
-            }
+            updateWildernessLevel(node.packedPosition);
 
             if (targets.contains(WorldPointUtil.unpackWorldPoint(node.packedPosition))) {
                 bestLastNode = node;
@@ -183,21 +250,58 @@ public class Pathfinder implements Runnable {
             addNeighbors(node);
         }
 
-        done = !cancelled;
-
         boundary.clear();
         visited.clear();
         pending.clear();
+    }
 
-        stats.end(); // Include cleanup in stats to get the total cost of pathfinding
+    /**
+     * Makes the player-held teleports available from the first node that is below each wilderness teleport limit.
+     *
+     * @return whether the teleports were refreshed, which replaces {@link PathfinderConfig#getTransportsPacked()}
+     */
+    boolean updateWildernessLevel(int packedPosition) {
+        if (wildernessLevel > 0) {
+            // We don't need to remove teleports when going from 20 to 21 or higher,
+            // because the teleport is either used at the very start of the
+            // path or when going from 31 or higher to 30, or from 21 or higher to 20.
+
+            boolean update = false;
+
+            // These are overlapping boundaries, so if the node isn't in level 30, it's in 0-29
+            // likewise, if the node isn't in level 20, it's in 0-19
+            if (wildernessLevel > 29 && !config.isInLevel29Wilderness(packedPosition)) {
+                wildernessLevel = 29;
+                update = true;
+            }
+            if (wildernessLevel > 19 && !config.isInLevel19Wilderness(packedPosition)) {
+                wildernessLevel = 19;
+                update = true;
+            }
+            if (wildernessLevel > 0 && !config.isInWilderness(packedPosition)) {
+                wildernessLevel = 0;
+                update = true;
+            }
+            if (update) {
+                config.refreshTeleports(packedPosition, wildernessLevel);
+                return true;
+            }
+        }
+        return false;
     }
 
     public static class PathfinderStats {
+        @Getter
+        private final PathfinderAlgorithm algorithm;
         @Getter
         private int nodesChecked = 0, transportsChecked = 0;
         private long startNanos, endNanos;
         private volatile boolean started = false, ended = false;
 
+        private PathfinderStats(PathfinderAlgorithm algorithm) {
+            this.algorithm = algorithm;
+        }
+
         public int getTotalNodesChecked() {
             return nodesChecked + transportsChecked;
         }
@@ -1,10 +1,16 @@
 package net.runelite.client.plugins.microbot.shortestpath.pathfinder;
 
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import lombok.Getter;
 import lombok.Setter;
+import lombok.extern.slf4j.Slf4j;
 import net.runelite.api.*;
 import net.runelite.api.coords.WorldArea;
 import net.runelite.api.coords.WorldPoint;
+import net.runelite.api.events.GameStateChanged;
+import net.runelite.api.events.ItemContainerChanged;
+import net.runelite.api.events.StatChanged;
+import net.runelite.api.events.VarbitChanged;
 import net.runelite.client.plugins.itemcharges.ItemChargeConfig;
 import net.runelite.client.plugins.microbot.Microbot;
 import net.runelite.client.plugins.microbot.shortestpath.*;
@@ -14,18 +20,21 @@ import net.runelite.client.plugins.microbot.util.inventory.Rs2Inventory;
 import net.runelite.client.plugins.microbot.util.magic.Rs2Magic;
 import net.runelite.client.plugins.microbot.util.magic.Rs2Spells;
 import net.runelite.client.plugins.microbot.util.magic.RuneFilter;
+import net.runelite.client.plugins.microbot.util.misc.QuestVars;
 import net.runelite.client.plugins.microbot.util.player.Rs2Player;
 import net.runelite.client.plugins.microbot.util.tabs.Rs2Tab;
 import net.runelite.client.plugins.microbot.util.walker.Rs2Walker;
 
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import static net.runelite.client.plugins.microbot.shortestpath.TransportType.TELEPORTATION_ITEM;
 import static net.runelite.client.plugins.microbot.shortestpath.TransportType.TELEPORTATION_SPELL;
 
+@Slf4j
 public class PathfinderConfig {
     private static final WorldArea WILDERNESS_ABOVE_GROUND = new WorldArea(2944, 3523, 448, 448, 0);
     private static final WorldArea WILDERNESS_ABOVE_GROUND_LEVEL_19 = new WorldArea(2944, 3672, 448, 448, 0);
@@ -45,19 +54,34 @@ public class PathfinderConfig {
 
     private final SplitFlagMap mapData;
     private final ThreadLocal<CollisionMap> map;
+    private final ThreadLocal<AStarSearch> search;
+    /** Region-level route planner, built once the hierarchical engine is selected; null until {@link #buildRegionGraph()} has finished */
+    @Getter
+    private volatile RegionGraph regionGraph;
+    private final AtomicBoolean regionGraphRequested = new AtomicBoolean();
     /** All transports by origin {@link WorldPoint}. The null key is used for transports centered on the player. */
 	@Getter
     private final Map<WorldPoint, Set<Transport>> allTransports;
+    @Getter
     @Setter
     private Set<Transport> usableTeleports;
     private final List<WorldPoint> filteredTargets = new ArrayList<>(4);
 
     @Getter
     private ConcurrentHashMap<WorldPoint, Set<Transport>> transports;
-    // Copy of transports with packed positions for the hotpath; lists are not copied and are the same reference in both maps
+    // Copy of transports with packed positions for the hotpath; lists are not copied and are the same reference in both maps.
+    // Searches read it while refreshes run on other threads, so a refresh publishes a modified copy instead of
+    // changing the map in place.
     @Getter
     @Setter
-    private PrimitiveIntHashMap<Set<Transport>> transportsPacked;
+    private volatile PrimitiveIntHashMap<Set<Transport>> transportsPacked;
+
+    // Order independent hash of the usable transports and teleports, recomputed by refreshTransports
+    private long transportFingerprint;
+    @Getter
+    private final PathCache pathCache = new PathCache(64);
+    // Latest completed stats per algorithm of the pathfinders using this config, for comparing engines in the debug panel
+    private final Map<PathfinderAlgorithm, Pathfinder.PathfinderStats> lastStats = Collections.synchronizedMap(new EnumMap<>(PathfinderAlgorithm.class));
 
     private final Client client;
     private final ShortestPathConfig config;
@@ -65,6 +89,8 @@ public class PathfinderConfig {
     @Getter
     private long calculationCutoffMillis;
     @Getter
+    private PathfinderAlgorithm algorithm = PathfinderAlgorithm.LEGACY;
+    @Getter
     private boolean avoidWilderness;
     private boolean useAgilityShortcuts,
             useGrappleShortcuts,
@@ -96,9 +122,21 @@ public class PathfinderConfig {
     //END microbot variables
     private TeleportationItem useTeleportationItems;
     private final int[] boostedLevels = new int[Skill.values().length];
-    private Map<Quest, QuestState> questStates = new HashMap<>();
-    private Map<Integer, Integer> varbitValues = new HashMap<>();
-    private Map<Integer, Integer> varplayerValues = new HashMap<>();
+    // Written by event subscribers on the client thread, read while evaluating transports on any thread
+    private final Map<Quest, QuestState> questStates = new ConcurrentHashMap<>();
+    private final Map<Integer, Integer> varbitValues = new ConcurrentHashMap<>();
+    private final Map<Integer, Integer> varplayerValues = new ConcurrentHashMap<>();
+    // The progress vars of the tracked quests; their changes trigger fetching the quest states again
+    private final Set<Integer> questVarbits = new HashSet<>();
+    private final Set<Integer> questVarps = new HashSet<>();
+    private final TransportDependencies dependencies;
+    // Transports that passed useTransport in the latest refresh
+    private final Set<Transport> eligibleTransports = ConcurrentHashMap.newKeySet();
+    // Packed tiles where refreshTeleports added the usable teleports, restored by the next refresh
+    private final Set<Integer> teleportLocations = ConcurrentHashMap.newKeySet();
+    // Settings of the latest full evaluation; when they change every transport is evaluated again
+    private int settingsHash;
+    private int customRestrictionsHash;
 
     @Getter
     @Setter
@@ -115,6 +153,7 @@ public class PathfinderConfig {
                             Client client, ShortestPathConfig config) {
         this.mapData = mapData;
         this.map = ThreadLocal.withInitial(() -> new CollisionMap(this.mapData));
+        this.search = ThreadLocal.withInitial(() -> new AStarSearch(this.map.get()));
         this.allTransports = transports;
         this.usableTeleports = new HashSet<>(allTransports.size() / 20);
         this.transports = new ConcurrentHashMap<>(allTransports.size() / 2);
@@ -126,14 +165,47 @@ public class PathfinderConfig {
         this.customRestrictions = new ArrayList<>();
         this.restrictedPointsPacked = new HashSet<>();
         //END microbot variables
+        this.dependencies = new TransportDependencies(allTransports, restrictions);
+        // Used to gate whole transport types in applyFeatureGates
+        dependencies.watchQuest(Quest.FAIRYTALE_II__CURE_A_QUEEN);
+        dependencies.watchQuest(Quest.THE_GRAND_TREE);
+        dependencies.watchQuest(Quest.TREE_GNOME_VILLAGE);
+        dependencies.watchQuest(Quest.TWILIGHTS_PROMISE);
+        dependencies.watchVarbit(Varbits.DIARY_LUMBRIDGE_ELITE);
+        QuestVars.collect(dependencies.getQuests(), questVarbits, questVarps);
     }
 
     public CollisionMap getMap() {
         return map.get();
     }
 
+    /** Returns the stats of the most recently completed search with this config that used the given algorithm, or null if there is none */
+    public Pathfinder.PathfinderStats getLastStats(PathfinderAlgorithm algorithm) {
+        return lastStats.get(algorithm);
+    }
+
+    void recordStats(Pathfinder.PathfinderStats stats) {
+        lastStats.put(stats.getAlgorithm(), stats);
+    }
+
+    /** Returns the A* search state owned by the calling pathfinding thread */
+    public AStarSearch getSearch() {
+        return search.get();
+    }
+
+    /** Builds the region graph over every known transport. This is slow, so it should not run on the client thread. */
+    public void buildRegionGraph() {
+        regionGraph = RegionGraph.build(mapData, allTransports);
+    }
+
     public void refresh() {
         calculationCutoffMillis = config.calculationCutoff() * Constants.GAME_TICK_LENGTH;
+        algorithm = ShortestPathPlugin.override("pathfinderAlgorithm", config.pathfinderAlgorithm());
+        if (algorithm == PathfinderAlgorithm.HIERARCHICAL && regionGraphRequested.compareAndSet(false, true)) {
+            // Paths fall back to the full A* search until the region graph is ready
+            new ThreadFactoryBuilder().setNameFormat("shortest-path-region-graph").setDaemon(true).build()
+                    .newThread(this::buildRegionGraph).start();
+        }
         avoidWilderness = ShortestPathPlugin.override("avoidWilderness", config.avoidWilderness());
         useAgilityShortcuts = ShortestPathPlugin.override("useAgilityShortcuts", config.useAgilityShortcuts());
         useGrappleShortcuts = ShortestPathPlugin.override("useGrappleShortcuts", config.useGrappleShortcuts());
@@ -159,25 +231,93 @@ public class PathfinderConfig {
         useNpcs = config.useNpcs();
         //END microbot variables
 
-        if (GameState.LOGGED_IN.equals(client.getGameState())) {
+        if (!GameState.LOGGED_IN.equals(client.getGameState())) {
+            return;
+        }
+
+        if (dependencies.takeFullRefresh()) {
             for (int i = 0; i < Skill.values().length; i++) {
                 boostedLevels[i] = client.getBoostedSkillLevel(Skill.values()[i]);
             }
+            fetchRequirementStates();
+            applyFeatureGates();
+            settingsHash = settingsHash();
 
             refreshTransports();
+            publishUsableDoors();
             //START microbot variables
             refreshRestrictionData();
-            
+            customRestrictionsHash = customRestrictions.hashCode();
+
             // Do not switch back to inventory tab if we are inside of the telekinetic room in Mage Training Arena
             if (Rs2Player.getWorldLocation().getRegionID() != 13463) {
                 Rs2Tab.switchToInventoryTab();
             }
             //END microbot variables
+            return;
+        }
+
+        // Only re-evaluate what the events since the previous refresh could have changed
+        if (dependencies.takeQuestRefresh()) {
+            fetchQuestStates();
+        }
+        applyFeatureGates();
+        int currentSettingsHash = settingsHash();
+        if (currentSettingsHash != settingsHash) {
+            settingsHash = currentSettingsHash;
+            refreshTransports();
+        } else {
+            refreshChangedTransports();
+        }
+        publishUsableDoors();
+        //START microbot variables
+        if (dependencies.takeRestrictionRefresh() || customRestrictions.hashCode() != customRestrictionsHash) {
+            refreshRestrictionData();
+            customRestrictionsHash = customRestrictions.hashCode();
+        }
+        //END microbot variables
+    }
+
+    public void onVarbitChanged(VarbitChanged event) {
+        if (event.getVarbitId() != -1 ? questVarbits.contains(event.getVarbitId()) : questVarps.contains(event.getVarpId())) {
+            dependencies.requestQuestRefresh();
+        }
+
+        if (event.getVarbitId() != -1) {
+            if (dependencies.isWatchedVarbit(event.getVarbitId())) {
+                varbitValues.put(event.getVarbitId(), event.getValue());
+                dependencies.varbitChanged(event.getVarbitId());
+            }
+        } else if (dependencies.isWatchedVarplayer(event.getVarpId())) {
+            varplayerValues.put(event.getVarpId(), event.getValue());
+            dependencies.varplayerChanged(event.getVarpId());
+        }
+    }
+
+    public void onStatChanged(StatChanged event) {
+        int index = event.getSkill().ordinal();
+        if (boostedLevels[index] != event.getBoostedLevel()) {
+            boostedLevels[index] = event.getBoostedLevel();
+            dependencies.skillChanged(event.getSkill());
+        }
+    }
+
+    public void onItemContainerChanged(ItemContainerChanged event) {
+        int containerId = event.getContainerId();
+        if (containerId == InventoryID.INVENTORY.getId() || containerId == InventoryID.EQUIPMENT.getId()
+                || containerId == InventoryID.BANK.getId()) {
+            dependencies.itemsChanged();
+        }
+    }
+
+    public void onGameStateChanged(GameStateChanged event) {
+        if (event.getGameState() == GameState.LOGIN_SCREEN || event.getGameState() == GameState.HOPPING) {
+            dependencies.requestFullRefresh();
         }
     }
 
     /** Specialized method for only updating player-held item and spell transports */
-    public void refreshTeleports(int packedLocation, int wildernessLevel) {
+    public synchronized void refreshTeleports(int packedLocation, int wildernessLevel) {
         Set<Transport> usableWildyTeleports = new HashSet<>(usableTeleports.size());
         if (ignoreTeleportAndItems) return;
 
@@ -193,17 +333,34 @@ public class PathfinderConfig {
             // The issue was that the transport list would contain a transport object on the same
             // tile as the player, this would then be overwritten by the usableWildyTeleports
             // therefor losing the original transport object
+            // Running searches may still be reading the existing set, so a merged copy replaces it
             WorldPoint key = WorldPointUtil.unpackWorldPoint(packedLocation);
             Set<Transport> existingTeleports = transports.get(key);
             if (existingTeleports != null) {
-                existingTeleports.addAll(usableWildyTeleports);
-            } else {
-                transports.put(key, usableWildyTeleports);
+                usableWildyTeleports.addAll(existingTeleports);
             }
-            transportsPacked.put(packedLocation, usableWildyTeleports);
+            transports.put(key, usableWildyTeleports);
+            PrimitiveIntHashMap<Set<Transport>> packed = new PrimitiveIntHashMap<>(transportsPacked);
+            packed.remove(packedLocation);
+            packed.put(packedLocation, usableWildyTeleports);
+            transportsPacked = packed;
+            teleportLocations.add(packedLocation);
         }
     }
 
+    /**
+     * Identifies everything besides the collision map that a search result depends on: the usable transports
+     * and the settings that change how they are taken or which tiles may be walked.
+     */
+    public long getCacheFingerprint() {
+        long fingerprint = transportFingerprint;
+        fingerprint = fingerprint * 31 + restrictedPointsPacked.hashCode();
+        fingerprint = fingerprint * 31 + distanceBeforeUsingTeleport;
+        fingerprint = fingerprint * 31 + (avoidWilderness ? 1 : 0);
+        fingerprint = fingerprint * 31 + (ignoreTeleportAndItems ? 1 : 0);
+        return fingerprint;
+    }
+
     public void filterLocations(Set<WorldPoint> locations, boolean canReviveFiltered) {
         if (avoidWilderness) {
             locations.removeIf(location -> {
@@ -224,48 +381,83 @@ public class PathfinderConfig {
         }
     }
 
-    private void refreshTransports() {
-        useFairyRings &= !QuestState.NOT_STARTED.equals(Rs2Player.getQuestState(Quest.FAIRYTALE_II__CURE_A_QUEEN))
+    /** Restricts whole transport types by the quests, items and diaries they need */
+    private void applyFeatureGates() {
+        useFairyRings &= !QuestState.NOT_STARTED.equals(questStates.getOrDefault(Quest.FAIRYTALE_II__CURE_A_QUEEN, QuestState.NOT_STARTED))
                 && (Rs2Inventory.contains(ItemID.DRAMEN_STAFF, ItemID.LUNAR_STAFF)
                 || Rs2Equipment.isWearing(ItemID.DRAMEN_STAFF)
                 || Rs2Equipment.isWearing(ItemID.LUNAR_STAFF)
                 || (ShortestPathPlugin.getPathfinderConfig().useBankItems && (Rs2Bank.hasItem(ItemID.DRAMEN_STAFF)|| Rs2Bank.hasItem(ItemID.LUNAR_STAFF)))
-                || Microbot.getVarbitValue(Varbits.DIARY_LUMBRIDGE_ELITE)  == 1);
-        useGnomeGliders &= QuestState.FINISHED.equals(Rs2Player.getQuestState(Quest.THE_GRAND_TREE));
-        useSpiritTrees &= QuestState.FINISHED.equals(Rs2Player.getQuestState(Quest.TREE_GNOME_VILLAGE));
-        useQuetzals &= QuestState.FINISHED.equals(Rs2Player.getQuestState(Quest.TWILIGHTS_PROMISE));
+                || varbitValues.getOrDefault(Varbits.DIARY_LUMBRIDGE_ELITE, 0) == 1);
+        useGnomeGliders &= QuestState.FINISHED.equals(questStates.get(Quest.THE_GRAND_TREE));
+        useSpiritTrees &= QuestState.FINISHED.equals(questStates.get(Quest.TREE_GNOME_VILLAGE));
+        useQuetzals &= QuestState.FINISHED.equals(questStates.get(Quest.TWILIGHTS_PROMISE));
+    }
 
-        transports.clear();
-        transportsPacked.clear();
-        usableTeleports.clear();
-         Microbot.getClientThread().runOnClientThreadOptional(() -> {
-            for (Map.Entry<WorldPoint, Set<Transport>> entry : allTransports.entrySet()) {
-                for (Transport transport : entry.getValue()) {
-                    for (Quest quest : transport.getQuests()) {
-                        try {
-                            QuestState currentState = questStates.get(quest);
-                            QuestState newState = Rs2Player.getQuestState(quest);
-
-                            // Only update if the new state is more progressed
-                            if (currentState == null || isMoreProgressed(newState, currentState)) {
-                                questStates.put(quest, newState);
-                            }
-                        } catch (NullPointerException ignored) {
-                            System.out.println(ignored.getMessage());
-                        }
-                    }
-                    for (TransportVarbit varbitCheck : transport.getVarbits()) {
-                        varbitValues.put(varbitCheck.getVarbitId(), Microbot.getVarbitValue(varbitCheck.getVarbitId()));
+    /** Hashes every setting that useTransport reads besides the tracked player state */
+    private int settingsHash() {
+        return Objects.hash(useAgilityShortcuts, useGrappleShortcuts, useBoats, useCanoes, useCharterShips, useShips,
+                useFairyRings, useGnomeGliders, useMinecarts, useQuetzals, useSpiritTrees, useTeleportationLevers,
+                useTeleportationMinigames, useTeleportationPortals, useTeleportationSpells, useMagicCarpets,
+                useWildernessObelisks, useNpcs, useTeleportationItems, useBankItems, Rs2Walker.disableTeleports,
+                client.getWorldType().contains(WorldType.MEMBERS));
+    }
+
+    /** Fetches every quest state, varbit and varplayer that a transport depends on */
+    private void fetchRequirementStates() {
+        Microbot.getClientThread().runOnClientThreadOptional(() -> {
+            for (Quest quest : dependencies.getQuests()) {
+                try {
+                    QuestState currentState = questStates.get(quest);
+                    QuestState newState = Rs2Player.getQuestState(quest);
+
+                    // Only update if the new state is more progressed
+                    if (currentState == null || isMoreProgressed(newState, currentState)) {
+                        questStates.put(quest, newState);
                     }
-                    
-                    for (TransportVarPlayer varplayerCheck : transport.getVarplayers()) {
-                        varplayerValues.put(varplayerCheck.getVarplayerId(), Microbot.getVarbitPlayerValue(varplayerCheck.getVarplayerId()));
+                } catch (NullPointerException e) {
+                    log.debug("Unable to get the state of quest {}", quest, e);
+                }
+            }
+            for (Integer varbitId : dependencies.getVarbits()) {
+                varbitValues.put(varbitId, Microbot.getVarbitValue(varbitId));
+            }
+            for (Integer varplayerId : dependencies.getVarplayers()) {
+                varplayerValues.put(varplayerId, Microbot.getVarbitPlayerValue(varplayerId));
+            }
+            return true;
+        });
+    }
+
+    /** Fetches the tracked quest states again and queues the transports of every quest that progressed */
+    private void fetchQuestStates() {
+        Microbot.getClientThread().runOnClientThreadOptional(() -> {
+            for (Quest quest : dependencies.getQuests()) {
+                try {
+                    QuestState currentState = questStates.get(quest);
+                    QuestState newState = Rs2Player.getQuestState(quest);
+                    if (currentState == null || isMoreProgressed(newState, currentState)) {
+                        questStates.put(quest, newState);
+                        dependencies.questChanged(quest);
                     }
+                } catch (NullPointerException ignored) {
+                    // Quest state is unavailable, keep the last known one
                 }
             }
             return true;
         });
+    }
+
+    /** Evaluates every transport again */
+    private synchronized void refreshTransports() {
+        dependencies.takePending();
+        transports.clear();
+        PrimitiveIntHashMap<Set<Transport>> packed = new PrimitiveIntHashMap<>(allTransports.size() / 2);
+        usableTeleports.clear();
+        eligibleTransports.clear();
+        teleportLocations.clear();
 
+        long fingerprint = 0;
         for (Map.Entry<WorldPoint, Set<Transport>> entry : allTransports.entrySet()) {
             WorldPoint point = entry.getKey();
             Set<Transport> usableTransports = new HashSet<>(entry.getValue().size());
@@ -273,16 +465,105 @@ public class PathfinderConfig {
 
                 if (point == null && useTransport(transport)) {
                     usableTeleports.add(transport);
+                    eligibleTransports.add(transport);
+                    fingerprint += mix(System.identityHashCode(transport));
                 } else if (useTransport(transport)) {
                     usableTransports.add(transport);
+                    eligibleTransports.add(transport);
+                    fingerprint += mix(System.identityHashCode(transport));
                 }
             }
 
             if (point != null && !usableTransports.isEmpty()) {
                 transports.put(point, usableTransports);
-                transportsPacked.put(WorldPointUtil.packWorldPoint(point), usableTransports);
+                packed.put(WorldPointUtil.packWorldPoint(point), usableTransports);
             }
         }
+        transportsPacked = packed;
+        transportFingerprint = fingerprint;
+    }
+
+    /** Evaluates only the transports whose requirements changed since the previous refresh */
+    private synchronized void refreshChangedTransports() {
+        Set<WorldPoint> changedOrigins = new HashSet<>();
+        boolean teleportsChanged = false;
+        long fingerprint = transportFingerprint;
+        for (Transport transport : dependencies.takePending()) {
+            boolean usable = useTransport(transport);
+            if (usable == eligibleTransports.contains(transport)) {
+                continue;
+            }
+
+            if (usable) {
+                eligibleTransports.add(transport);
+                fingerprint += mix(System.identityHashCode(transport));
+            } else {
+                eligibleTransports.remove(transport);
+                fingerprint -= mix(System.identityHashCode(transport));
+            }
+            if (transport.getOrigin() == null) {
+                teleportsChanged = true;
+            } else {
+                changedOrigins.add(transport.getOrigin());
+            }
+        }
+        transportFingerprint = fingerprint;
+
+        // Undo the teleports that searches added to their start tiles
+        for (Integer packedLocation : teleportLocations) {
+            changedOrigins.add(WorldPointUtil.unpackWorldPoint(packedLocation));
+        }
+        teleportLocations.clear();
+
+        // Sets are replaced rather than modified since running searches may still be reading them
+        PrimitiveIntHashMap<Set<Transport>> packed = changedOrigins.isEmpty() ? null : new PrimitiveIntHashMap<>(transportsPacked);
+        for (WorldPoint origin : changedOrigins) {
+            Set<Transport> usableTransports = new HashSet<>();
+            for (Transport transport : allTransports.getOrDefault(origin, Collections.emptySet())) {
+                if (eligibleTransports.contains(transport)) {
+                    usableTransports.add(transport);
+                }
+            }
+
+            int packedOrigin = WorldPointUtil.packWorldPoint(origin);
+            packed.remove(packedOrigin);
+            if (usableTransports.isEmpty()) {
+                transports.remove(origin);
+            } else {
+                transports.put(origin, usableTransports);
+                packed.put(packedOrigin, usableTransports);
+            }
+        }
+        if (packed != null) {
+            transportsPacked = packed;
+        }
+
+        if (teleportsChanged) {
+            Set<Transport> teleports = new HashSet<>();
+            for (Transport transport : allTransports.getOrDefault(null, Collections.emptySet())) {
+                if (eligibleTransports.contains(transport)) {
+                    teleports.add(transport);
+                }
+            }
+            usableTeleports = teleports;
+        }
+    }
+
+    /** Lets the scene collision overlay keep the doors passable that a usable transport goes through */
+    private void publishUsableDoors() {
+        Set<Integer> doors = new HashSet<>();
+        for (Transport transport : eligibleTransports) {
+            if (transport.getOrigin() != null && "Open".equals(transport.getAction())) {
+                doors.add(transport.getObjectId());
+            }
+        }
+        SceneCollisionOverlay.setUsableDoors(doors);
+    }
+
+    /** Spreads the bits of a hash so that sums of hashes rarely collide */
+    private static long mix(int hash) {
+        long h = hash * 0x9E3779B97F4A7C15L;
+        return h ^ (h >>> 29);
     }
 
     private void refreshRestrictionData() {
@@ -306,7 +587,10 @@ public class PathfinderConfig {
             }
         }
 
-        // Fetch quest states and varbit values directly
+        // Fetch what the event subscribers do not keep up to date, i.e. custom restrictions
+        questsToFetch.removeAll(questStates.keySet());
+        varbitsToFetch.removeIf(varbitId -> dependencies.isWatchedVarbit(varbitId) && varbitValues.containsKey(varbitId));
+        varplayersToFetch.removeIf(varplayerId -> dependencies.isWatchedVarplayer(varplayerId) && varplayerValues.containsKey(varplayerId));
         for (Quest quest : questsToFetch) {
             try {
                 QuestState currentState = questStates.get(quest);
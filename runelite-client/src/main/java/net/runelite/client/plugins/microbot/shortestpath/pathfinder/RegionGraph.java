@@ -0,0 +1,611 @@
+package net.runelite.client.plugins.microbot.shortestpath.pathfinder;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import net.runelite.api.coords.WorldPoint;
+import net.runelite.client.plugins.microbot.shortestpath.PrimitiveIntHashMap;
+import net.runelite.client.plugins.microbot.shortestpath.Transport;
+import net.runelite.client.plugins.microbot.shortestpath.TransportType;
+import net.runelite.client.plugins.microbot.shortestpath.WorldPointUtil;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static net.runelite.api.Constants.REGION_SIZE;
+
+/**
+ * Region-level abstraction of the collision map, used to plan long routes before refining them tile by tile.
+ * <p>
+ * Nodes are portal tiles on either side of walkable region borders plus the origin and destination tiles of
+ * every {@link Transport}. Walking edges connect the nodes of a region (per plane) with their exact in-region
+ * walking distance, portal pairs are joined with a single step, and transport edges are kept with their
+ * {@link Transport} so they can be filtered against the currently usable transports at query time.
+ * <p>
+ * The graph only depends on the static collision data and transport table, so it is built once and is
+ * safe to query from multiple threads.
+ */
+@Slf4j
+public class RegionGraph {
+    // Longest stretch of a walkable border that is represented by a single portal
+    private static final int PORTAL_SPAN = 16;
+    private static final int UNREACHED = Integer.MAX_VALUE;
+    private static final int NO_NODE = -1;
+    private static final OrdinalDirection[] ORDINAL_VALUES = OrdinalDirection.values();
+
+    private final CollisionMap map;
+    private final SplitFlagMap.RegionExtent regionExtents;
+    private final int widthInclusive;
+    private final int heightInclusive;
+    private final byte[] regionPlanes;
+
+    private final int[] nodePacked;
+    private final PrimitiveIntHashMap<Integer> nodeIndex;
+    // Walking edges in compressed sparse row form; costs are in-region tile distances
+    private final int[] edgeOffsets;
+    private final int[] edgeTargets;
+    private final char[] edgeCosts;
+    // Transport edges in compressed sparse row form, kept apart since they are filtered per query
+    private final int[] transportOffsets;
+    private final int[] transportTargets;
+    private final Transport[] transportEdges;
+    // Nodes grouped by region and plane, indexed by regionIndex * 4 + plane
+    private final int[][] regionNodes;
+    private final PrimitiveIntHashMap<Boolean> transportOrigins;
+
+    @Getter
+    private final int nodeCount;
+    @Getter
+    private final int edgeCount;
+
+    private RegionGraph(CollisionMap map, Builder builder) {
+        this.map = map;
+        this.regionExtents = builder.regionExtents;
+        this.widthInclusive = builder.widthInclusive;
+        this.heightInclusive = builder.heightInclusive;
+        this.regionPlanes = builder.regionPlanes;
+        this.nodePacked = Arrays.copyOf(builder.nodePacked, builder.nodeCount);
+        this.nodeIndex = builder.nodeIndex;
+        this.transportOrigins = builder.transportOrigins;
+        this.nodeCount = builder.nodeCount;
+
+        edgeOffsets = new int[nodeCount + 1];
+        for (int i = 0; i < builder.edgeCount; i++) {
+            ++edgeOffsets[builder.edgeFrom[i] + 1];
+        }
+        for (int i = 0; i < nodeCount; i++) {
+            edgeOffsets[i + 1] += edgeOffsets[i];
+        }
+        edgeTargets = new int[builder.edgeCount];
+        edgeCosts = new char[builder.edgeCount];
+        int[] fill = Arrays.copyOf(edgeOffsets, nodeCount);
+        for (int i = 0; i < builder.edgeCount; i++) {
+            final int slot = fill[builder.edgeFrom[i]]++;
+            edgeTargets[slot] = builder.edgeTo[i];
+            edgeCosts[slot] = (char) Math.min(Character.MAX_VALUE, builder.edgeCost[i]);
+        }
+        edgeCount = builder.edgeCount;
+
+        transportOffsets = new int[nodeCount + 1];
+        for (TransportEdge edge : builder.transportEdges) {
+            ++transportOffsets[edge.from + 1];
+        }
+        for (int i = 0; i < nodeCount; i++) {
+            transportOffsets[i + 1] += transportOffsets[i];
+        }
+        transportTargets = new int[builder.transportEdges.size()];
+        transportEdges = new Transport[builder.transportEdges.size()];
+        fill = Arrays.copyOf(transportOffsets, nodeCount);
+        for (TransportEdge edge : builder.transportEdges) {
+            final int slot = fill[edge.from]++;
+            transportTargets[slot] = edge.to;
+            transportEdges[slot] = edge.transport;
+        }
+
+        regionNodes = new int[builder.regionNodes.length][];
+        for (int i = 0; i < regionNodes.length; i++) {
+            List<Integer> nodes = builder.regionNodes[i];
+            if (nodes != null) {
+                regionNodes[i] = nodes.stream().mapToInt(Integer::intValue).toArray();
+            }
+        }
+    }
+
+    /** Builds the graph from the static collision data and every known transport */
+    public static RegionGraph build(SplitFlagMap mapData, Map<WorldPoint, Set<Transport>> allTransports) {
+        long startTime = System.nanoTime();
+        CollisionMap map = new CollisionMap(mapData);
+        Builder builder = new Builder(map);
+        builder.addTransports(allTransports);
+        builder.addPortals();
+        builder.addRegionEdges();
+        RegionGraph graph = new RegionGraph(map, builder);
+        log.debug("Built shortest path region graph with {} nodes and {} edges in {} ms",
+                graph.nodeCount, graph.edgeCount, (System.nanoTime() - startTime) / 1_000_000);
+        return graph;
+    }
+
+    /**
+     * Plans a route over the region graph and returns the regions it passes through, grown by one region in every
+     * direction, indexed like {@link SplitFlagMap}. Only transports that are currently usable per {@code config}
+     * are taken. Returns null if the start or targets cannot be connected to the graph or no route exists.
+     */
+    public boolean[] findCorridor(WorldPoint start, Set<WorldPoint> targets, PathfinderConfig config) {
+        final int startPacked = WorldPointUtil.packWorldPoint(start);
+        final int startNode = nodeCount;
+        final int goalNode = nodeCount + 1;
+
+        final int[] dist = new int[nodeCount + 2];
+        final int[] previous = new int[nodeCount + 2];
+        Arrays.fill(dist, UNREACHED);
+        Arrays.fill(previous, NO_NODE);
+
+        // Exits from the graph to the virtual goal, by the in-region walking distance to the nearest target
+        final PrimitiveIntHashMap<Integer> exitCosts = new PrimitiveIntHashMap<>(64);
+        final RegionSearch regionSearch = new RegionSearch(map, transportOrigins);
+        boolean anyTarget = false;
+        for (WorldPoint target : targets) {
+            final int targetPacked = WorldPointUtil.packWorldPoint(target);
+            if (!isInGraph(targetPacked)) {
+                continue;
+            }
+            regionSearch.run(targetPacked);
+            anyTarget = true;
+            for (int node : nodesInRegionOf(targetPacked)) {
+                final int distance = regionSearch.distanceTo(nodePacked[node]);
+                if (distance != UNREACHED) {
+                    final Integer current = exitCosts.get(node);
+                    if (current == null || distance < current) {
+                        exitCosts.put(node, distance);
+                    }
+                }
+            }
+        }
+        if (!anyTarget || !isInGraph(startPacked)) {
+            return null;
+        }
+        regionSearch.run(startPacked);
+
+        final LongHeap heap = new LongHeap();
+        dist[startNode] = 0;
+        for (WorldPoint target : targets) {
+            // Start and target share a region; walking there directly may be shorter than leaving it
+            final int distance = regionSearch.distanceTo(WorldPointUtil.packWorldPoint(target));
+            if (distance != UNREACHED && distance < dist[goalNode]) {
+                dist[goalNode] = distance;
+                previous[goalNode] = startNode;
+                heap.push(distance, goalNode);
+            }
+        }
+        for (int node : nodesInRegionOf(startPacked)) {
+            final int distance = regionSearch.distanceTo(nodePacked[node]);
+            if (distance != UNREACHED && distance < dist[node]) {
+                dist[node] = distance;
+                previous[node] = startNode;
+                heap.push(distance, node);
+            }
+        }
+        if (!config.isIgnoreTeleportAndItems()) {
+            for (Transport teleport : config.getUsableTeleports()) {
+                final Integer node = teleport.getDestination() == null ? null
+                        : nodeIndex.get(WorldPointUtil.packWorldPoint(teleport.getDestination()));
+                if (node == null) {
+                    continue;
+                }
+                final int distance = transportCost(teleport, config);
+                if (distance < dist[node]) {
+                    dist[node] = distance;
+                    previous[node] = startNode;
+                    heap.push(distance, node);
+                }
+            }
+        }
+
+        final PrimitiveIntHashMap<Set<Transport>> usableTransports = config.getTransportsPacked();
+        while (!heap.isEmpty()) {
+            final long entry = heap.poll();
+            final int node = (int) entry;
+            final int cost = (int) (entry >>> 32);
+            if (cost > dist[node]) {
+                continue;
+            }
+            if (node == goalNode) {
+                return corridor(previous, goalNode, startPacked, targets);
+            }
+
+            final Integer exitCost = exitCosts.get(node);
+            if (exitCost != null && cost + exitCost < dist[goalNode]) {
+                dist[goalNode] = cost + exitCost;
+                previous[goalNode] = node;
+                heap.push(dist[goalNode], goalNode);
+            }
+
+            for (int i = edgeOffsets[node]; i < edgeOffsets[node + 1]; i++) {
+                final int next = edgeTargets[i];
+                final int nextCost = cost + edgeCosts[i];
+                if (nextCost < dist[next]) {
+                    dist[next] = nextCost;
+                    previous[next] = node;
+                    heap.push(nextCost, next);
+                }
+            }
+
+            if (transportOffsets[node] == transportOffsets[node + 1]) {
+                continue;
+            }
+            final Set<Transport> usable = usableTransports.get(nodePacked[node]);
+            if (usable == null) {
+                continue;
+            }
+            for (int i = transportOffsets[node]; i < transportOffsets[node + 1]; i++) {
+                final Transport transport = transportEdges[i];
+                if (!usable.contains(transport)
+                        || (config.isIgnoreTeleportAndItems() && TransportType.isTeleport(transport.getType()))) {
+                    continue;
+                }
+                final int next = transportTargets[i];
+                final int nextCost = cost + transportCost(transport, config);
+                if (nextCost < dist[next]) {
+                    dist[next] = nextCost;
+                    previous[next] = node;
+                    heap.push(nextCost, next);
+                }
+            }
+        }
+
+        return null;
+    }
+
+    private boolean[] corridor(int[] previous, int goalNode, int startPacked, Set<WorldPoint> targets) {
+        final boolean[] corridor = new boolean[widthInclusive * heightInclusive];
+        markRegion(corridor, startPacked);
+        for (WorldPoint target : targets) {
+            markRegion(corridor, WorldPointUtil.packWorldPoint(target));
+        }
+        for (int node = previous[goalNode]; node != NO_NODE && node < nodeCount; node = previous[node]) {
+            markRegion(corridor, nodePacked[node]);
+        }
+        return corridor;
+    }
+
+    private void markRegion(boolean[] corridor, int packed) {
+        final int regionX = WorldPointUtil.unpackWorldX(packed) / REGION_SIZE - regionExtents.getMinX();
+        final int regionY = WorldPointUtil.unpackWorldY(packed) / REGION_SIZE - regionExtents.getMinY();
+        for (int dy = -1; dy <= 1; dy++) {
+            for (int dx = -1; dx <= 1; dx++) {
+                final int x = regionX + dx;
+                final int y = regionY + dy;
+                if (x >= 0 && x < widthInclusive && y >= 0 && y < heightInclusive) {
+                    corridor[x + y * widthInclusive] = true;
+                }
+            }
+        }
+    }
+
+    private static int transportCost(Transport transport, PathfinderConfig config) {
+        final int duration = TransportType.isTeleport(transport.getType())
+                ? config.getDistanceBeforeUsingTeleport() + transport.getDuration()
+                : transport.getDuration();
+        return Math.max(1, duration);
+    }
+
+    private int[] nodesInRegionOf(int packed) {
+        final int key = regionPlaneKey(WorldPointUtil.unpackWorldX(packed), WorldPointUtil.unpackWorldY(packed),
+                WorldPointUtil.unpackWorldPlane(packed));
+        if (key < 0 || regionNodes[key] == null) {
+            return new int[0];
+        }
+        return regionNodes[key];
+    }
+
+    private boolean isInGraph(int packed) {
+        return regionPlaneKey(WorldPointUtil.unpackWorldX(packed), WorldPointUtil.unpackWorldY(packed),
+                WorldPointUtil.unpackWorldPlane(packed)) >= 0;
+    }
+
+    private int regionPlaneKey(int x, int y, int z) {
+        final int regionX = x / REGION_SIZE - regionExtents.getMinX();
+        final int regionY = y / REGION_SIZE - regionExtents.getMinY();
+        if (regionX < 0 || regionX >= widthInclusive || regionY < 0 || regionY >= heightInclusive) {
+            return -1;
+        }
+        final int regionIndex = regionX + regionY * widthInclusive;
+        if (z < 0 || z >= regionPlanes[regionIndex]) {
+            return -1;
+        }
+        return regionIndex * 4 + z;
+    }
+
+    /** An edge of a {@link Transport} between two graph nodes */
+    private static final class TransportEdge {
+        private final int from;
+        private final int to;
+        private final Transport transport;
+
+        private TransportEdge(int from, int to, Transport transport) {
+            this.from = from;
+            this.to = to;
+            this.transport = transport;
+        }
+    }
+
+    /**
+     * Breadth-first search confined to the region and plane of its source tile. Only needs the collision map and
+     * the transport origins, so the builder can use it before the graph exists.
+     */
+    private static class RegionSearch {
+        private final CollisionMap map;
+        private final PrimitiveIntHashMap<Boolean> transportOrigins;
+        private final int[] distances = new int[REGION_SIZE * REGION_SIZE];
+        private final int[] queue = new int[REGION_SIZE * REGION_SIZE];
+        private int baseX, baseY, plane;
+
+        RegionSearch(CollisionMap map, PrimitiveIntHashMap<Boolean> transportOrigins) {
+            this.map = map;
+            this.transportOrigins = transportOrigins;
+        }
+
+        void run(int sourcePacked) {
+            final int sourceX = WorldPointUtil.unpackWorldX(sourcePacked);
+            final int sourceY = WorldPointUtil.unpackWorldY(sourcePacked);
+            plane = WorldPointUtil.unpackWorldPlane(sourcePacked);
+            baseX = sourceX - sourceX % REGION_SIZE;
+            baseY = sourceY - sourceY % REGION_SIZE;
+            Arrays.fill(distances, UNREACHED);
+
+            int head = 0;
+            int tail = 0;
+            final int source = (sourceY - baseY) * REGION_SIZE + (sourceX - baseX);
+            distances[source] = 0;
+            queue[tail++] = source;
+            while (head < tail) {
+                final int local = queue[head++];
+                final int x = baseX + local % REGION_SIZE;
+                final int y = baseY + local / REGION_SIZE;
+                final int traversable = map.traversableMask(x, y, plane);
+                for (int i = 0; i < ORDINAL_VALUES.length; i++) {
+                    final OrdinalDirection d = ORDINAL_VALUES[i];
+                    final int nx = x + d.x;
+                    final int ny = y + d.y;
+                    if (nx < baseX || nx >= baseX + REGION_SIZE || ny < baseY || ny >= baseY + REGION_SIZE) {
+                        continue;
+                    }
+                    final int next = (ny - baseY) * REGION_SIZE + (nx - baseX);
+                    if (distances[next] != UNREACHED) {
+                        continue;
+                    }
+                    // Transports may start from a blocked adjacent tile, e.g. fairy rings
+                    if ((traversable & (1 << i)) != 0
+                            || (Math.abs(d.x + d.y) == 1 && transportOrigins.get(WorldPointUtil.packWorldPoint(nx, ny, plane)) != null
+                            && map.isBlocked(nx, ny, plane))) {
+                        distances[next] = distances[local] + 1;
+                        queue[tail++] = next;
+                    }
+                }
+            }
+        }
+
+        int distanceTo(int packed) {
+            final int x = WorldPointUtil.unpackWorldX(packed) - baseX;
+            final int y = WorldPointUtil.unpackWorldY(packed) - baseY;
+            if (x < 0 || x >= REGION_SIZE || y < 0 || y >= REGION_SIZE || WorldPointUtil.unpackWorldPlane(packed) != plane) {
+                return UNREACHED;
+            }
+            return distances[y * REGION_SIZE + x];
+        }
+    }
+
+    /** Minimal binary heap of (cost, node) pairs packed into longs; stale entries are skipped by the caller */
+    private static class LongHeap {
+        private long[] entries = new long[1024];
+        private int size;
+
+        boolean isEmpty() {
+            return size == 0;
+        }
+
+        void push(int cost, int node) {
+            if (size == entries.length) {
+                entries = Arrays.copyOf(entries, size * 2);
+            }
+            final long entry = ((long) cost << 32) | node;
+            int position = size++;
+            while (position > 0) {
+                final int parent = (position - 1) >>> 1;
+                if (entries[parent] <= entry) {
+                    break;
+                }
+                entries[position] = entries[parent];
+                position = parent;
+            }
+            entries[position] = entry;
+        }
+
+        long poll() {
+            final long result = entries[0];
+            final long last = entries[--size];
+            int position = 0;
+            final int half = size >>> 1;
+            while (position < half) {
+                int child = 2 * position + 1;
+                if (child + 1 < size && entries[child + 1] < entries[child]) {
+                    ++child;
+                }
+                if (last <= entries[child]) {
+                    break;
+                }
+                entries[position] = entries[child];
+                position = child;
+            }
+            entries[position] = last;
+            return result;
+        }
+    }
+
+    private static class Builder {
+        private final CollisionMap map;
+        private final SplitFlagMap.RegionExtent regionExtents;
+        private final int widthInclusive;
+        private final int heightInclusive;
+        private final byte[] regionPlanes;
+
+        private int[] nodePacked = new int[1 << 16];
+        private int nodeCount;
+        private final PrimitiveIntHashMap<Integer> nodeIndex = new PrimitiveIntHashMap<>(1 << 16);
+        private final PrimitiveIntHashMap<Boolean> transportOrigins = new PrimitiveIntHashMap<>(1 << 12);
+        private final List<Integer>[] regionNodes;
+
+        private int[] edgeFrom = new int[1 << 18];
+        private int[] edgeTo = new int[1 << 18];
+        private int[] edgeCost = new int[1 << 18];
+        private int edgeCount;
+        private final List<TransportEdge> transportEdges = new ArrayList<>();
+
+        @SuppressWarnings("unchecked")
+        Builder(CollisionMap map) {
+            this.map = map;
+            regionExtents = SplitFlagMap.getRegionExtents();
+            widthInclusive = regionExtents.getWidth() + 1;
+            heightInclusive = regionExtents.getHeight() + 1;
+            regionPlanes = map.getPlanes();
+            regionNodes = new List[widthInclusive * heightInclusive * 4];
+        }
+
+        void addTransports(Map<WorldPoint, Set<Transport>> allTransports) {
+            for (Set<Transport> transports : allTransports.values()) {
+                for (Transport transport : transports) {
+                    final WorldPoint origin = transport.getOrigin();
+                    final WorldPoint destination = transport.getDestination();
+                    if (destination == null) {
+                        continue;
+                    }
+                    final int to = node(WorldPointUtil.packWorldPoint(destination));
+                    if (origin == null) {
+                        continue; // Teleports are connected to the start of each query
+                    }
+                    final int originPacked = WorldPointUtil.packWorldPoint(origin);
+                    final int from = node(originPacked);
+                    if (from != NO_NODE && to != NO_NODE) {
+                        transportOrigins.put(originPacked, Boolean.TRUE);
+                        transportEdges.add(new TransportEdge(from, to, transport));
+                    }
+                }
+            }
+        }
+
+        void addPortals() {
+            for (int regionY = 0; regionY < heightInclusive; regionY++) {
+                for (int regionX = 0; regionX < widthInclusive; regionX++) {
+                    final int planes = planes(regionX, regionY);
+                    for (int z = 0; z < planes; z++) {
+                        if (z < planes(regionX + 1, regionY)) {
+                            final int x = (regionExtents.getMinX() + regionX + 1) * REGION_SIZE - 1;
+                            final int baseY = (regionExtents.getMinY() + regionY) * REGION_SIZE;
+                            addBorder(x, baseY, z, true);
+                        }
+                        if (z < planes(regionX, regionY + 1)) {
+                            final int y = (regionExtents.getMinY() + regionY + 1) * REGION_SIZE - 1;
+                            final int baseX = (regionExtents.getMinX() + regionX) * REGION_SIZE;
+                            addBorder(baseX, y, z, false);
+                        }
+                    }
+                }
+            }
+        }
+
+        /** Adds portals along the east (or north) border of a region, one per walkable run of at most PORTAL_SPAN tiles */
+        private void addBorder(int x, int y, int z, boolean east) {
+            int runStart = -1;
+            for (int i = 0; i <= REGION_SIZE; i++) {
+                final boolean crossable = i < REGION_SIZE
+                        && (east ? map.e(x, y + i, z) : map.n(x + i, y, z))
+                        && (i - runStart < PORTAL_SPAN || runStart < 0);
+                if (crossable && runStart < 0) {
+                    runStart = i;
+                } else if (!crossable && runStart >= 0) {
+                    final int middle = (runStart + i - 1) / 2;
+                    final int inside = east ? node(WorldPointUtil.packWorldPoint(x, y + middle, z)) : node(WorldPointUtil.packWorldPoint(x + middle, y, z));
+                    final int outside = east ? node(WorldPointUtil.packWorldPoint(x + 1, y + middle, z)) : node(WorldPointUtil.packWorldPoint(x + middle, y + 1, z));
+                    if (inside != NO_NODE && outside != NO_NODE) {
+                        edge(inside, outside, 1);
+                        edge(outside, inside, 1);
+                    }
+                    // A run cut short by PORTAL_SPAN continues from this tile
+                    runStart = i < REGION_SIZE && (east ? map.e(x, y + i, z) : map.n(x + i, y, z)) ? i : -1;
+                }
+            }
+        }
+
+        void addRegionEdges() {
+            final RegionSearch search = new RegionSearch(map, transportOrigins);
+            for (List<Integer> nodes : regionNodes) {
+                if (nodes == null || nodes.size() < 2) {
+                    continue;
+                }
+                for (int from : nodes) {
+                    search.run(nodePacked[from]);
+                    for (int to : nodes) {
+                        if (to == from) {
+                            continue;
+                        }
+                        final int distance = search.distanceTo(nodePacked[to]);
+                        if (distance != UNREACHED) {
+                            edge(from, to, distance);
+                        }
+                    }
+                }
+            }
+        }
+
+        private int planes(int regionX, int regionY) {
+            if (regionX < 0 || regionX >= widthInclusive || regionY < 0 || regionY >= heightInclusive) {
+                return 0;
+            }
+            return regionPlanes[regionX + regionY * widthInclusive];
+        }
+
+        private int node(int packed) {
+            final Integer existing = nodeIndex.get(packed);
+            if (existing != null) {
+                return existing;
+            }
+
+            final int x = WorldPointUtil.unpackWorldX(packed);
+            final int y = WorldPointUtil.unpackWorldY(packed);
+            final int z = WorldPointUtil.unpackWorldPlane(packed);
+            final int regionX = x / REGION_SIZE - regionExtents.getMinX();
+            final int regionY = y / REGION_SIZE - regionExtents.getMinY();
+            if (z >= planes(regionX, regionY)) {
+                return NO_NODE;
+            }
+
+            if (nodeCount == nodePacked.length) {
+                nodePacked = Arrays.copyOf(nodePacked, nodeCount * 2);
+            }
+            final int node = nodeCount++;
+            nodePacked[node] = packed;
+            nodeIndex.put(packed, node);
+
+            final int key = (regionX + regionY * widthInclusive) * 4 + z;
+            if (regionNodes[key] == null) {
+                regionNodes[key] = new ArrayList<>(8);
+            }
+            regionNodes[key].add(node);
+            return node;
+        }
+
+        private void edge(int from, int to, int cost) {
+            if (edgeCount == edgeFrom.length) {
+                edgeFrom = Arrays.copyOf(edgeFrom, edgeCount * 2);
+                edgeTo = Arrays.copyOf(edgeTo, edgeCount * 2);
+                edgeCost = Arrays.copyOf(edgeCost, edgeCount * 2);
+            }
+            edgeFrom[edgeCount] = from;
+            edgeTo[edgeCount] = to;
+            edgeCost[edgeCount] = cost;
+            ++edgeCount;
+        }
+    }
+}
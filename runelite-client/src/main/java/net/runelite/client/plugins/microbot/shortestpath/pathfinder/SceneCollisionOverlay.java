@@ -0,0 +1,356 @@
+package net.runelite.client.plugins.microbot.shortestpath.pathfinder;
+
+import lombok.extern.slf4j.Slf4j;
+import net.runelite.api.Client;
+import net.runelite.api.CollisionData;
+import net.runelite.api.CollisionDataFlag;
+import net.runelite.api.Constants;
+import net.runelite.api.GameState;
+import net.runelite.api.GroundObject;
+import net.runelite.api.Scene;
+import net.runelite.api.Tile;
+import net.runelite.api.WallObject;
+import net.runelite.api.WorldView;
+import net.runelite.api.coords.LocalPoint;
+import net.runelite.api.coords.WorldPoint;
+import net.runelite.client.plugins.microbot.shortestpath.WorldPointUtil;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+import static net.runelite.api.Constants.REGION_SIZE;
+
+/**
+ * The collision of the loaded scene as reported by the client, laid over the static {@link SplitFlagMap} data.
+ * <p>
+ * The overlay is captured on the client thread after the scene loaded or objects that affect collision spawned or
+ * despawned, at most once per game tick. It holds the same north/east flags as the static map, stored per region
+ * as a bitmap of the tiles it knows and a bitmap of their flags, so {@link CollisionMap} can consult it before the
+ * static data without any object lookups. Instanced scenes are stored at their template coordinates, like the
+ * pathfinder sees them; rotated instance chunks are left to the static data.
+ * <p>
+ * Closed doors are kept passable, as the static map does, only if the transport data has a usable transport through
+ * them; locked doors and doors whose requirements are not met stay blocked. Ground objects that should be stepped around, such as
+ * the trap tiles of the ToA puzzle room, are recorded as avoided tiles.
+ */
+@Slf4j
+public final class SceneCollisionOverlay {
+    public static final int UNKNOWN = -1;
+
+    private static final int PLANES = Constants.MAX_Z;
+    private static final int TILES_PER_REGION = REGION_SIZE * REGION_SIZE;
+    private static final int FLAG_COUNT = 2;
+    // Regions an instance's template chunks may span before the overlay is skipped for it
+    private static final int MAX_REGIONS = 1024;
+    // The client marks the scene border as blocked, so only tiles whose flags and neighbours are real are used
+    private static final int SCENE_MIN = 1;
+    private static final int SCENE_MAX = Constants.SCENE_SIZE - 7;
+    private static final int SCENE_SPAN = SCENE_MAX - SCENE_MIN + 1;
+    private static final int FULL_BLOCK = CollisionDataFlag.BLOCK_MOVEMENT_FULL;
+    private static final List<Integer> AVOIDED_GROUND_OBJECTS = List.of(45340); // ToA puzzle room traps
+
+    private static volatile SceneCollisionOverlay current;
+    private static volatile boolean dirty;
+    // Object ids of the doors that have a usable transport through them
+    private static volatile Set<Integer> usableDoors = Collections.emptySet();
+    private static int lastCaptureTick = -1;
+
+    private final int minRegionX;
+    private final int minRegionY;
+    private final int width;
+    private final int height;
+    private final RegionDelta[] regions;
+    private final int[] avoided;
+
+    private SceneCollisionOverlay(int minRegionX, int minRegionY, int width, int height, RegionDelta[] regions,
+                                  int[] avoided) {
+        this.minRegionX = minRegionX;
+        this.minRegionY = minRegionY;
+        this.width = width;
+        this.height = height;
+        this.regions = regions;
+        this.avoided = avoided;
+    }
+
+    /** Returns the overlay of the loaded scene, or null if there is none */
+    public static SceneCollisionOverlay getCurrent() {
+        return current;
+    }
+
+    /** Sets the doors that are kept passable, capturing the overlay again if they changed */
+    static void setUsableDoors(Set<Integer> doors) {
+        if (doors.equals(usableDoors)) {
+            return;
+        }
+        usableDoors = doors;
+        markDirty();
+    }
+
+    /** Captures the overlay again on the next game tick */
+    public static void markDirty() {
+        dirty = true;
+    }
+
+    public static void clear() {
+        current = null;
+        dirty = false;
+    }
+
+    public static void onGameStateChanged(GameState state) {
+        if (state == GameState.LOGGED_IN) {
+            markDirty();
+        } else if (state == GameState.LOGIN_SCREEN || state == GameState.HOPPING || state == GameState.LOADING) {
+            current = null;
+        }
+    }
+
+    /** Captures the overlay if it was marked dirty; must be called on the client thread */
+    public static void onGameTick(Client client) {
+        if (!dirty || client.getTickCount() == lastCaptureTick || client.getGameState() != GameState.LOGGED_IN) {
+            return;
+        }
+        dirty = false;
+        lastCaptureTick = client.getTickCount();
+
+        long start = System.nanoTime();
+        SceneCollisionOverlay previous = current;
+        SceneCollisionOverlay captured = capture(client, client.getTopLevelWorldView(), previous);
+        if (captured != previous) {
+            current = captured;
+            log.debug("Captured scene collision overlay in {}us", (System.nanoTime() - start) / 1000);
+        }
+    }
+
+    /**
+     * Returns the flag as captured from the scene, or {@link #UNKNOWN} if the tile is not part of the overlay.
+     * Flag 0 is north and flag 1 is east, as in the static collision data.
+     */
+    public int get(int x, int y, int z, int flag) {
+        final int rx = (x >> 6) - minRegionX;
+        final int ry = (y >> 6) - minRegionY;
+        if (rx < 0 || ry < 0 || rx >= width || ry >= height || z < 0 || z >= PLANES) {
+            return UNKNOWN;
+        }
+        final RegionDelta region = regions[rx + ry * width];
+        if (region == null) {
+            return UNKNOWN;
+        }
+        final int tile = z * TILES_PER_REGION + (y & 63) * REGION_SIZE + (x & 63);
+        if ((region.known[tile >>> 6] & (1L << tile)) == 0) {
+            return UNKNOWN;
+        }
+        final int bit = tile * FLAG_COUNT + flag;
+        return (region.flags[bit >>> 6] & (1L << bit)) != 0 ? 1 : 0;
+    }
+
+    public boolean hasAvoidedTiles() {
+        return avoided.length > 0;
+    }
+
+    /** Whether the tile holds an object that paths should step around unless it is the target */
+    public boolean isAvoided(int packedPoint) {
+        return avoided.length > 0 && Arrays.binarySearch(avoided, packedPoint) >= 0;
+    }
+
+    private static SceneCollisionOverlay capture(Client client, WorldView worldView, SceneCollisionOverlay previous) {
+        CollisionData[] collisionMaps = worldView.getCollisionMaps();
+        Scene scene = worldView.getScene();
+        if (collisionMaps == null || scene == null) {
+            return null;
+        }
+
+        int[][][] flags = new int[PLANES][][];
+        for (int z = 0; z < PLANES; z++) {
+            if (collisionMaps[z] != null) {
+                flags[z] = copy(collisionMaps[z].getFlags());
+            }
+        }
+
+        Tile[][][] tiles = scene.getTiles();
+        Set<Integer> doors = usableDoors;
+        int[] avoided = new int[0];
+        int avoidedCount = 0;
+        for (int z = 0; z < PLANES; z++) {
+            for (int sx = 0; sx < Constants.SCENE_SIZE; sx++) {
+                for (int sy = 0; sy < Constants.SCENE_SIZE; sy++) {
+                    Tile tile = tiles[z][sx][sy];
+                    if (tile == null) {
+                        continue;
+                    }
+                    WallObject wall = tile.getWallObject();
+                    if (wall != null && flags[z] != null && doors.contains(wall.getId())) {
+                        clearWall(flags[z], sx, sy, wall.getOrientationA());
+                        clearWall(flags[z], sx, sy, wall.getOrientationB());
+                    }
+                    GroundObject ground = tile.getGroundObject();
+                    if (ground != null && AVOIDED_GROUND_OBJECTS.contains(ground.getId())) {
+                        // Unlike the collision flags, these are also wanted from rotated instance chunks
+                        WorldPoint point = WorldPoint.fromLocalInstance(client, LocalPoint.fromScene(sx, sy, worldView), z);
+                        if (avoidedCount == avoided.length) {
+                            avoided = Arrays.copyOf(avoided, Math.max(16, avoidedCount * 2));
+                        }
+                        avoided[avoidedCount++] = WorldPointUtil.packWorldPoint(point);
+                    }
+                }
+            }
+        }
+        avoided = Arrays.copyOf(avoided, avoidedCount);
+        Arrays.sort(avoided);
+
+        // The position of every used scene tile, at template coordinates for instances
+        int[][][] templates = scene.isInstance() ? scene.getInstanceTemplateChunks() : null;
+        int[] positions = new int[PLANES * SCENE_SPAN * SCENE_SPAN];
+        int minRegionX = Integer.MAX_VALUE;
+        int minRegionY = Integer.MAX_VALUE;
+        int maxRegionX = Integer.MIN_VALUE;
+        int maxRegionY = Integer.MIN_VALUE;
+        for (int z = 0; z < PLANES; z++) {
+            for (int sx = SCENE_MIN; sx <= SCENE_MAX; sx++) {
+                for (int sy = SCENE_MIN; sy <= SCENE_MAX; sy++) {
+                    int packed = flags[z] == null ? WorldPointUtil.UNDEFINED : toWorld(worldView, templates, sx, sy, z);
+                    positions[sceneIndex(sx, sy, z)] = packed;
+                    if (packed == WorldPointUtil.UNDEFINED) {
+                        continue;
+                    }
+                    int regionX = WorldPointUtil.unpackWorldX(packed) >> 6;
+                    int regionY = WorldPointUtil.unpackWorldY(packed) >> 6;
+                    minRegionX = Math.min(minRegionX, regionX);
+                    minRegionY = Math.min(minRegionY, regionY);
+                    maxRegionX = Math.max(maxRegionX, regionX);
+                    maxRegionY = Math.max(maxRegionY, regionY);
+                }
+            }
+        }
+        if (minRegionX > maxRegionX) {
+            return null;
+        }
+        int width = maxRegionX - minRegionX + 1;
+        int height = maxRegionY - minRegionY + 1;
+        if (width * height > MAX_REGIONS) {
+            log.debug("Instance template chunks span {} regions, not capturing a collision overlay", width * height);
+            return null;
+        }
+
+        RegionDelta[] regions = new RegionDelta[width * height];
+        for (int z = 0; z < PLANES; z++) {
+            int[][] planeFlags = flags[z];
+            for (int sx = SCENE_MIN; sx <= SCENE_MAX; sx++) {
+                for (int sy = SCENE_MIN; sy <= SCENE_MAX; sy++) {
+                    int packed = positions[sceneIndex(sx, sy, z)];
+                    if (packed == WorldPointUtil.UNDEFINED) {
+                        continue;
+                    }
+                    int x = WorldPointUtil.unpackWorldX(packed);
+                    int y = WorldPointUtil.unpackWorldY(packed);
+                    int index = ((x >> 6) - minRegionX) + ((y >> 6) - minRegionY) * width;
+                    RegionDelta region = regions[index];
+                    if (region == null) {
+                        region = regions[index] = new RegionDelta();
+                    }
+
+                    int here = planeFlags[sx][sy];
+                    boolean north = (here & (CollisionDataFlag.BLOCK_MOVEMENT_NORTH | FULL_BLOCK)) == 0
+                            && (planeFlags[sx][sy + 1] & (CollisionDataFlag.BLOCK_MOVEMENT_SOUTH | FULL_BLOCK)) == 0;
+                    boolean east = (here & (CollisionDataFlag.BLOCK_MOVEMENT_EAST | FULL_BLOCK)) == 0
+                            && (planeFlags[sx + 1][sy] & (CollisionDataFlag.BLOCK_MOVEMENT_WEST | FULL_BLOCK)) == 0;
+                    int plane = WorldPointUtil.unpackWorldPlane(packed);
+                    region.set(plane * TILES_PER_REGION + (y & 63) * REGION_SIZE + (x & 63), north, east);
+                }
+            }
+        }
+
+        if (previous != null && previous.minRegionX == minRegionX && previous.minRegionY == minRegionY
+                && previous.width == width && previous.height == height && Arrays.equals(previous.regions, regions)
+                && Arrays.equals(previous.avoided, avoided)) {
+            return previous;
+        }
+        return new SceneCollisionOverlay(minRegionX, minRegionY, width, height, regions, avoided);
+    }
+
+    private static int sceneIndex(int sx, int sy, int z) {
+        return (z * SCENE_SPAN + sx - SCENE_MIN) * SCENE_SPAN + sy - SCENE_MIN;
+    }
+
+    /**
+     * Returns the packed world point a scene tile is at, using the template position for instanced scenes, or
+     * {@link WorldPointUtil#UNDEFINED} for tiles of rotated or empty instance chunks.
+     */
+    private static int toWorld(WorldView worldView, int[][][] templates, int sx, int sy, int z) {
+        if (templates == null) {
+            return WorldPointUtil.packWorldPoint(worldView.getBaseX() + sx, worldView.getBaseY() + sy, z);
+        }
+
+        int chunk = templates[z][sx >> 3][sy >> 3];
+        int rotation = chunk >> 1 & 3;
+        if (chunk == -1 || rotation != 0) {
+            return WorldPointUtil.UNDEFINED;
+        }
+        int templateX = (chunk >> 14 & 0x3FF) * 8 + (sx & 7);
+        int templateY = (chunk >> 3 & 0x7FF) * 8 + (sy & 7);
+        return WorldPointUtil.packWorldPoint(templateX, templateY, chunk >> 24 & 3);
+    }
+
+    /** Removes the movement flags of a wall on the given sides of a tile and of the tiles behind it */
+    private static void clearWall(int[][] flags, int sx, int sy, int orientation) {
+        if ((orientation & 1) != 0 && sx > 0) {
+            flags[sx][sy] &= ~CollisionDataFlag.BLOCK_MOVEMENT_WEST;
+            flags[sx - 1][sy] &= ~CollisionDataFlag.BLOCK_MOVEMENT_EAST;
+        }
+        if ((orientation & 2) != 0 && sy < Constants.SCENE_SIZE - 1) {
+            flags[sx][sy] &= ~CollisionDataFlag.BLOCK_MOVEMENT_NORTH;
+            flags[sx][sy + 1] &= ~CollisionDataFlag.BLOCK_MOVEMENT_SOUTH;
+        }
+        if ((orientation & 4) != 0 && sx < Constants.SCENE_SIZE - 1) {
+            flags[sx][sy] &= ~CollisionDataFlag.BLOCK_MOVEMENT_EAST;
+            flags[sx + 1][sy] &= ~CollisionDataFlag.BLOCK_MOVEMENT_WEST;
+        }
+        if ((orientation & 8) != 0 && sy > 0) {
+            flags[sx][sy] &= ~CollisionDataFlag.BLOCK_MOVEMENT_SOUTH;
+            flags[sx][sy - 1] &= ~CollisionDataFlag.BLOCK_MOVEMENT_NORTH;
+        }
+    }
+
+    private static int[][] copy(int[][] flags) {
+        int[][] copy = new int[flags.length][];
+        for (int i = 0; i < flags.length; i++) {
+            copy[i] = flags[i].clone();
+        }
+        return copy;
+    }
+
+    /**
+     * The captured tiles of one region: a bit per tile and plane that is known, and the north and east flags of
+     * each known tile in the bit order of {@link FlagMap}.
+     */
+    private static final class RegionDelta {
+        private final long[] known = new long[PLANES * TILES_PER_REGION / Long.SIZE];
+        private final long[] flags = new long[PLANES * TILES_PER_REGION * FLAG_COUNT / Long.SIZE];
+
+        private void set(int tile, boolean north, boolean east) {
+            known[tile >>> 6] |= 1L << tile;
+            int bit = tile * FLAG_COUNT;
+            if (north) {
+                flags[bit >>> 6] |= 1L << bit;
+            }
+            if (east) {
+                flags[(bit + 1) >>> 6] |= 1L << (bit + 1);
+            }
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof RegionDelta)) {
+                return false;
+            }
+            RegionDelta other = (RegionDelta) o;
+            return Arrays.equals(known, other.known) && Arrays.equals(flags, other.flags);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * Arrays.hashCode(known) + Arrays.hashCode(flags);
+        }
+    }
+}
@@ -2,51 +2,83 @@ package net.runelite.client.plugins.microbot.shortestpath.pathfinder;
 
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import net.runelite.client.RuneLite;
 import net.runelite.client.plugins.microbot.shortestpath.ShortestPathPlugin;
-import net.runelite.client.plugins.microbot.shortestpath.Util;
 
+import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.UncheckedIOException;
-import java.util.HashMap;
-import java.util.Map;
-import java.util.zip.ZipEntry;
-import java.util.zip.ZipInputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Locale;
 
 import static net.runelite.api.Constants.REGION_SIZE;
 
+/**
+ * The collision flags of all regions, read from {@value #MAP_RESOURCE} as written by the cache's CollisionMapDumper.
+ * <p>
+ * The file is copied out of the jar once and memory-mapped, so the flags are not decompressed on startup and
+ * clients running on the same machine share the same pages. Regions are only decoded when first accessed.
+ */
+@Slf4j
 public class SplitFlagMap {
+    private static final String MAP_RESOURCE = "collision-map.bin";
+    private static final File MAP_DIR = new File(RuneLite.CACHE_DIR, "shortestpath");
+    // Format constants, matching CollisionMapDumper
+    private static final int MAP_MAGIC = 0x50414D43;
+    private static final int MAP_VERSION = 1;
+    private static final int HEADER_SIZE = 32;
+    private static final int TABLE_ENTRY_SIZE = 2 * Integer.BYTES;
+
     @Getter
     private static RegionExtent regionExtents;
 
     @Getter
     private final byte[] regionMapPlaneCounts;
+    private final ByteBuffer data;
     // Size is automatically chosen based on the max extents of the collision data
     private final FlagMap[] regionMaps;
     private final int widthInclusive;
 
-    public SplitFlagMap(Map<Integer, byte[]> compressedRegions) {
+    public SplitFlagMap(ByteBuffer data) {
+        this.data = data.order(ByteOrder.LITTLE_ENDIAN);
+        if (data.capacity() < HEADER_SIZE || data.getInt(0) != MAP_MAGIC || data.getInt(4) != MAP_VERSION) {
+            throw new IllegalStateException("Unsupported collision map format");
+        }
+        regionExtents = new RegionExtent(data.getInt(12), data.getInt(16), data.getInt(20), data.getInt(24));
+
         widthInclusive = regionExtents.getWidth() + 1;
         final int heightInclusive = regionExtents.getHeight() + 1;
         regionMaps = new FlagMap[widthInclusive * heightInclusive];
         regionMapPlaneCounts = new byte[regionMaps.length];
 
-        for (Map.Entry<Integer, byte[]> entry : compressedRegions.entrySet()) {
-            final int pos = entry.getKey();
-            final int x = unpackX(pos);
-            final int y = unpackY(pos);
-            final int index = getIndex(x, y);
-            FlagMap flagMap = new FlagMap(x * REGION_SIZE, y * REGION_SIZE, entry.getValue());
-            regionMaps[index] = flagMap;
-            regionMapPlaneCounts[index] = flagMap.getPlaneCount();
+        for (int index = 0; index < regionMaps.length; index++) {
+            final int offset = data.getInt(HEADER_SIZE + index * TABLE_ENTRY_SIZE);
+            final int wordCount = data.getInt(HEADER_SIZE + index * TABLE_ENTRY_SIZE + Integer.BYTES);
+            if (wordCount > 0 && (offset < HEADER_SIZE || offset + (long) wordCount * Long.BYTES > data.capacity())) {
+                throw new IllegalStateException("Collision map region " + index + " is out of bounds");
+            }
+            regionMapPlaneCounts[index] = FlagMap.planeCount(wordCount);
         }
     }
 
     public boolean get(int x, int y, int z, int flag) {
         final int index = getIndex(x / REGION_SIZE, y / REGION_SIZE);
-        if (index < 0 || index >= regionMaps.length || regionMaps[index] == null) {
+        if (index < 0 || index >= regionMaps.length || regionMapPlaneCounts[index] == 0) {
             return false;
         }
 
+        FlagMap flagMap = regionMaps[index];
+        if (flagMap == null) {
+            flagMap = decodeRegion(index);
+        }
+
    /*     try {
             if (Rs2Player.getWorldLocation().getRegionID() == 14162) { //toa puzzle room
                 WorldPoint globalWorldPoint = Rs2WorldPoint.convertInstancedWorldPoint(new WorldPoint(x, y, z));
@@ -66,7 +98,20 @@ public class SplitFlagMap {
 
 
 
-        return regionMaps[index].get(x, y, z, flag);
+        return flagMap.get(x, y, z, flag);
+    }
+
+    // Racing threads may both decode a region, which is harmless as the result is the same view of the data
+    private FlagMap decodeRegion(int index) {
+        final int offset = data.getInt(HEADER_SIZE + index * TABLE_ENTRY_SIZE);
+        final int wordCount = data.getInt(HEADER_SIZE + index * TABLE_ENTRY_SIZE + Integer.BYTES);
+        final int regionX = regionExtents.getMinX() + index % widthInclusive;
+        final int regionY = regionExtents.getMinY() + index / widthInclusive;
+        final ByteBuffer region = ((ByteBuffer) data.duplicate().position(offset).limit(offset + wordCount * Long.BYTES)).slice();
+        FlagMap flagMap = new FlagMap(regionX * REGION_SIZE, regionY * REGION_SIZE,
+                region.order(ByteOrder.LITTLE_ENDIAN).asLongBuffer());
+        regionMaps[index] = flagMap;
+        return flagMap;
     }
 
     private int getIndex(int regionX, int regionY) {
@@ -86,32 +131,67 @@ public class SplitFlagMap {
     }
 
     public static SplitFlagMap fromResources() {
-        Map<Integer, byte[]> compressedRegions = new HashMap<>();
-        try (ZipInputStream in = new ZipInputStream(ShortestPathPlugin.class.getResourceAsStream("collision-map.zip"))) {
-            int minX = Integer.MAX_VALUE;
-            int minY = Integer.MAX_VALUE;
-            int maxX = 0;
-            int maxY = 0;
-
-            ZipEntry entry;
-            while ((entry = in.getNextEntry()) != null) {
-                String[] n = entry.getName().split("_");
-                final int x = Integer.parseInt(n[0]);
-                final int y = Integer.parseInt(n[1]);
-                minX = Math.min(minX, x);
-                minY = Math.min(minY, y);
-                maxX = Math.max(maxX, x);
-                maxY = Math.max(maxY, y);
-
-                compressedRegions.put(SplitFlagMap.packPosition(x, y), Util.readAllBytes(in));
-            }
+        try {
+            return new SplitFlagMap(mapFile(extractResource()));
+        } catch (IOException e) {
+            log.warn("Unable to memory-map the collision map, loading it onto the heap instead", e);
+        }
 
-            regionExtents = new RegionExtent(minX, minY, maxX, maxY);
+        try (InputStream in = openResource()) {
+            return new SplitFlagMap(ByteBuffer.wrap(in.readAllBytes()));
         } catch (IOException e) {
             throw new UncheckedIOException(e);
         }
+    }
 
-        return new SplitFlagMap(compressedRegions);
+    private static InputStream openResource() throws IOException {
+        InputStream in = ShortestPathPlugin.class.getResourceAsStream(MAP_RESOURCE);
+        if (in == null) {
+            throw new IOException("Missing resource " + MAP_RESOURCE);
+        }
+        return in;
+    }
+
+    /**
+     * Copies the map out of the jar unless a previous start already did. The copies are named after the version and
+     * checksum in the header, so only the header is read from the jar when the copy exists.
+     */
+    private static File extractResource() throws IOException {
+        ByteBuffer header;
+        try (InputStream in = openResource()) {
+            header = ByteBuffer.wrap(in.readNBytes(HEADER_SIZE)).order(ByteOrder.LITTLE_ENDIAN);
+        }
+        if (header.capacity() < HEADER_SIZE || header.getInt(0) != MAP_MAGIC) {
+            throw new IOException("Invalid collision map resource");
+        }
+
+        File file = new File(MAP_DIR, String.format(Locale.ENGLISH, "collision-map-%d-%08x.bin", header.getInt(4), header.getInt(8)));
+        if (file.isFile()) {
+            return file;
+        }
+
+        Files.createDirectories(MAP_DIR.toPath());
+        File tmp = File.createTempFile("collision-map", ".tmp", MAP_DIR);
+        try {
+            try (InputStream in = openResource()) {
+                Files.copy(in, tmp.toPath(), StandardCopyOption.REPLACE_EXISTING);
+            }
+            Files.move(tmp.toPath(), file.toPath(), StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            // Another client may have extracted the same file in the meantime, which is just as good
+            if (!file.isFile()) {
+                throw e;
+            }
+        } finally {
+            Files.deleteIfExists(tmp.toPath());
+        }
+        return file;
+    }
+
+    private static ByteBuffer mapFile(File file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            return channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
     }
 
     @RequiredArgsConstructor
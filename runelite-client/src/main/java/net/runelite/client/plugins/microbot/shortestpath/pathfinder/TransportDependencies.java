@@ -0,0 +1,200 @@
+package net.runelite.client.plugins.microbot.shortestpath.pathfinder;
+
+import net.runelite.api.Quest;
+import net.runelite.api.Skill;
+import net.runelite.api.coords.WorldPoint;
+import net.runelite.client.plugins.microbot.shortestpath.Restriction;
+import net.runelite.client.plugins.microbot.shortestpath.Transport;
+import net.runelite.client.plugins.microbot.shortestpath.TransportVarPlayer;
+import net.runelite.client.plugins.microbot.shortestpath.TransportVarbit;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static net.runelite.client.plugins.microbot.shortestpath.TransportType.TELEPORTATION_ITEM;
+import static net.runelite.client.plugins.microbot.shortestpath.TransportType.TELEPORTATION_SPELL;
+
+/**
+ * Indexes transports by the quests, varbits, varplayers, skills and items their eligibility depends on, and
+ * collects the transports that have to be evaluated again after the player state changed.
+ * <p>
+ * Marking happens from event subscribers on the client thread, draining from whichever thread refreshes the
+ * {@link PathfinderConfig}, so all pending state is kept in concurrent collections or volatile fields.
+ */
+class TransportDependencies {
+    private final Map<Quest, List<Transport>> byQuest = new EnumMap<>(Quest.class);
+    private final Map<Integer, List<Transport>> byVarbit = new HashMap<>();
+    private final Map<Integer, List<Transport>> byVarplayer = new HashMap<>();
+    private final List<List<Transport>> bySkill = new ArrayList<>(Skill.values().length);
+    // Transports that need items, currency or runes
+    private final List<Transport> byItems = new ArrayList<>();
+    // Rune requirements also depend on rune pouch contents, which no item container event reports
+    private final List<Transport> alwaysEvaluated = new ArrayList<>();
+
+    private final Set<Integer> restrictionVarbits = new HashSet<>();
+    private final Set<Integer> restrictionVarplayers = new HashSet<>();
+    private final boolean[] restrictionSkills = new boolean[Skill.values().length];
+
+    private final Set<Transport> pending = ConcurrentHashMap.newKeySet();
+    private volatile boolean fullRefreshRequested = true;
+    private volatile boolean questsChanged;
+    private volatile boolean restrictionsChanged;
+
+    TransportDependencies(Map<WorldPoint, Set<Transport>> allTransports, List<Restriction> restrictions) {
+        for (int i = 0; i < Skill.values().length; i++) {
+            bySkill.add(new ArrayList<>());
+        }
+
+        for (Set<Transport> transports : allTransports.values()) {
+            for (Transport transport : transports) {
+                for (Quest quest : transport.getQuests()) {
+                    byQuest.computeIfAbsent(quest, k -> new ArrayList<>()).add(transport);
+                }
+                for (TransportVarbit varbit : transport.getVarbits()) {
+                    byVarbit.computeIfAbsent(varbit.getVarbitId(), k -> new ArrayList<>()).add(transport);
+                }
+                for (TransportVarPlayer varplayer : transport.getVarplayers()) {
+                    byVarplayer.computeIfAbsent(varplayer.getVarplayerId(), k -> new ArrayList<>()).add(transport);
+                }
+                int[] skillLevels = transport.getSkillLevels();
+                for (int i = 0; i < skillLevels.length; i++) {
+                    if (skillLevels[i] > 0) {
+                        bySkill.get(i).add(transport);
+                    }
+                }
+                if (transport.getType() == TELEPORTATION_SPELL) {
+                    alwaysEvaluated.add(transport);
+                } else if (transport.getType() == TELEPORTATION_ITEM || transport.getCurrencyAmount() > 0
+                        || !transport.getItemIdRequirements().isEmpty()) {
+                    byItems.add(transport);
+                }
+            }
+        }
+
+        for (Restriction restriction : restrictions) {
+            for (Quest quest : restriction.getQuests()) {
+                byQuest.computeIfAbsent(quest, k -> new ArrayList<>());
+            }
+            for (TransportVarbit varbit : restriction.getVarbits()) {
+                restrictionVarbits.add(varbit.getVarbitId());
+            }
+            for (TransportVarPlayer varplayer : restriction.getVarplayers()) {
+                restrictionVarplayers.add(varplayer.getVarplayerId());
+            }
+            int[] skillLevels = restriction.getSkillLevels();
+            for (int i = 0; i < skillLevels.length; i++) {
+                restrictionSkills[i] |= skillLevels[i] > 0;
+            }
+        }
+    }
+
+    /** Also tracks a quest that no transport depends on, so its state is fetched with the others */
+    void watchQuest(Quest quest) {
+        byQuest.computeIfAbsent(quest, k -> new ArrayList<>());
+    }
+
+    /** Also tracks a varbit that no transport depends on, so its changes are recorded */
+    void watchVarbit(int varbitId) {
+        byVarbit.computeIfAbsent(varbitId, k -> new ArrayList<>());
+    }
+
+    Set<Quest> getQuests() {
+        return byQuest.keySet();
+    }
+
+    Set<Integer> getVarbits() {
+        return byVarbit.keySet();
+    }
+
+    Set<Integer> getVarplayers() {
+        return byVarplayer.keySet();
+    }
+
+    boolean isWatchedVarbit(int varbitId) {
+        return byVarbit.containsKey(varbitId) || restrictionVarbits.contains(varbitId);
+    }
+
+    boolean isWatchedVarplayer(int varplayerId) {
+        return byVarplayer.containsKey(varplayerId) || restrictionVarplayers.contains(varplayerId);
+    }
+
+    void varbitChanged(int varbitId) {
+        pending.addAll(byVarbit.getOrDefault(varbitId, Collections.emptyList()));
+        restrictionsChanged |= restrictionVarbits.contains(varbitId);
+    }
+
+    void varplayerChanged(int varplayerId) {
+        pending.addAll(byVarplayer.getOrDefault(varplayerId, Collections.emptyList()));
+        restrictionsChanged |= restrictionVarplayers.contains(varplayerId);
+    }
+
+    void skillChanged(Skill skill) {
+        pending.addAll(bySkill.get(skill.ordinal()));
+        restrictionsChanged |= restrictionSkills[skill.ordinal()];
+    }
+
+    void itemsChanged() {
+        pending.addAll(byItems);
+        restrictionsChanged = true;
+    }
+
+    void questChanged(Quest quest) {
+        pending.addAll(byQuest.getOrDefault(quest, Collections.emptyList()));
+        restrictionsChanged = true;
+    }
+
+    /** Quest states have no change event of their own, so they are fetched again on the next refresh */
+    void requestQuestRefresh() {
+        questsChanged = true;
+    }
+
+    /** Every transport is evaluated again with freshly fetched player state on the next refresh */
+    void requestFullRefresh() {
+        fullRefreshRequested = true;
+    }
+
+    boolean takeFullRefresh() {
+        if (!fullRefreshRequested) {
+            return false;
+        }
+        fullRefreshRequested = false;
+        questsChanged = false;
+        restrictionsChanged = false;
+        pending.clear();
+        return true;
+    }
+
+    boolean takeQuestRefresh() {
+        if (!questsChanged) {
+            return false;
+        }
+        questsChanged = false;
+        return true;
+    }
+
+    boolean takeRestrictionRefresh() {
+        if (!restrictionsChanged) {
+            return false;
+        }
+        restrictionsChanged = false;
+        return true;
+    }
+
+    /** Returns and forgets the transports whose eligibility may have changed since the previous call */
+    List<Transport> takePending() {
+        List<Transport> result = new ArrayList<>(pending.size() + alwaysEvaluated.size());
+        for (Transport transport : pending) {
+            result.add(transport);
+        }
+        pending.removeAll(result);
+        result.addAll(alwaysEvaluated);
+        return result;
+    }
+}
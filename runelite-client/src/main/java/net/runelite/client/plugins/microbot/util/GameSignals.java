@@ -0,0 +1,104 @@
+package net.runelite.client.plugins.microbot.util;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Lets script threads wait for a condition while parked, waking them when the client posts one of the events the
+ * condition is likely to depend on instead of polling it on a fixed interval.
+ * <p>
+ * The events are forwarded by the MicrobotPlugin subscribers on the client thread; waking a waiter only unparks its
+ * thread, the condition is always evaluated on the waiting thread.
+ */
+public final class GameSignals {
+    public enum Signal {
+        GAME_TICK,
+        CLIENT_TICK,
+        ITEM_CONTAINER_CHANGED,
+        ANIMATION_CHANGED,
+        WIDGET_LOADED,
+        /** Fired at most once per client tick, however many varbits changed since the previous one */
+        VARBIT_CHANGED;
+
+        private final int bit = 1 << ordinal();
+    }
+
+    /** The signals that wake the compatibility waits of {@link Global}: everything except client ticks */
+    static final int STATE_CHANGES = mask(Signal.GAME_TICK, Signal.ITEM_CONTAINER_CHANGED, Signal.ANIMATION_CHANGED,
+            Signal.WIDGET_LOADED, Signal.VARBIT_CHANGED);
+
+    private static final Set<Waiter> waiters = ConcurrentHashMap.newKeySet();
+
+    private GameSignals() {
+    }
+
+    /** Wakes every thread waiting for the given signal */
+    public static void fire(Signal signal) {
+        for (Waiter waiter : waiters) {
+            if ((waiter.mask & signal.bit) != 0) {
+                LockSupport.unpark(waiter.thread);
+            }
+        }
+    }
+
+    /**
+     * Waits until {@code condition} holds, evaluating it only when one of the {@code signals} fired.
+     *
+     * @return whether the condition held before the timeout, or false if the thread was interrupted
+     */
+    public static boolean waitUntil(BooleanSupplier condition, long timeoutMillis, Signal... signals) {
+        return waitUntil(condition, timeoutMillis, 0, mask(signals));
+    }
+
+    /**
+     * Waits until {@code condition} holds, evaluating it whenever a signal in {@code mask} fired and at least every
+     * {@code pollMillis} in case it depends on state that no signal reports. A {@code pollMillis} of 0 disables polling.
+     * <p>
+     * An interrupt ends the wait with {@code false} and stays set, so a script that is being stopped leaves it at once.
+     */
+    static boolean waitUntil(BooleanSupplier condition, long timeoutMillis, long pollMillis, int mask) {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+        long pollNanos = pollMillis > 0 ? TimeUnit.MILLISECONDS.toNanos(pollMillis) : Long.MAX_VALUE;
+
+        // Registered before the first evaluation, so a signal fired in between still leaves a permit to wake up on
+        Waiter waiter = new Waiter(Thread.currentThread(), mask);
+        waiters.add(waiter);
+        try {
+            while (!condition.getAsBoolean()) {
+                long remaining = deadline - System.nanoTime();
+                if (remaining <= 0) {
+                    return false;
+                }
+                LockSupport.parkNanos(GameSignals.class, Math.min(remaining, pollNanos));
+                if (Thread.interrupted()) {
+                    Thread.currentThread().interrupt();
+                    return false;
+                }
+            }
+            return true;
+        } finally {
+            waiters.remove(waiter);
+        }
+    }
+
+    static int mask(Signal... signals) {
+        int mask = 0;
+        for (Signal signal : signals) {
+            mask |= signal.bit;
+        }
+        return mask;
+    }
+
+    private static final class Waiter {
+        private final Thread thread;
+        private final int mask;
+
+        private Waiter(Thread thread, int mask) {
+            this.thread = thread;
+            this.mask = mask;
+        }
+    }
+}
@@ -9,6 +9,9 @@ import java.util.concurrent.*;
 import java.util.function.BooleanSupplier;
 
 public class Global {
+    // Upper bound between two evaluations of a condition, for conditions that depend on state no signal reports
+    private static final int POLL_MILLIS = 100;
+
     static ScheduledExecutorService scheduledExecutorService = Executors.newScheduledThreadPool(10);
     static ScheduledFuture<?> scheduledFuture;
 
@@ -43,17 +46,24 @@ public class Global {
     }
 
     @SneakyThrows
+    @SuppressWarnings("unchecked")
     public static <T> T sleepUntilNotNull(Callable<T> method, int time) {
         if (Microbot.getClient().isClientThread()) return null;
-        boolean done;
-        T methodResponse;
-        long startTime = System.currentTimeMillis();
-        do {
-            methodResponse = method.call();
-            done = methodResponse != null;
-            sleep(100);
-        } while (!done && System.currentTimeMillis() - startTime < time);
-        return methodResponse;
+        Object[] methodResponse = new Object[1];
+        Exception[] failure = new Exception[1];
+        GameSignals.waitUntil(() -> {
+            try {
+                methodResponse[0] = method.call();
+            } catch (Exception e) {
+                failure[0] = e;
+                return true;
+            }
+            return methodResponse[0] != null;
+        }, time, POLL_MILLIS, GameSignals.STATE_CHANGES);
+        if (failure[0] != null) {
+            throw failure[0];
+        }
+        return (T) methodResponse[0];
     }
 
     public static boolean sleepUntil(BooleanSupplier awaitedCondition) {
@@ -62,17 +72,26 @@ public class Global {
 
     public static boolean sleepUntil(BooleanSupplier awaitedCondition, int time) {
         if (Microbot.getClient().isClientThread()) return false;
-        boolean done = false;
-        long startTime = System.currentTimeMillis();
         try {
-            do {
-                done = awaitedCondition.getAsBoolean();
-                sleep(100);
-            } while (!done && System.currentTimeMillis() - startTime < time);
+            return GameSignals.waitUntil(awaitedCondition, time, POLL_MILLIS, GameSignals.STATE_CHANGES);
         } catch (Exception e) {
             Microbot.logStackTrace("Global Sleep: ", e);
         }
-        return done;
+        return false;
+    }
+
+    /**
+     * Waits until the condition holds, evaluating it only when one of the given signals fires, e.g. once per game tick
+     * for {@link GameSignals.Signal#GAME_TICK}, instead of polling it.
+     */
+    public static boolean sleepUntil(BooleanSupplier awaitedCondition, int time, GameSignals.Signal... wakeOn) {
+        if (Microbot.getClient().isClientThread()) return false;
+        try {
+            return GameSignals.waitUntil(awaitedCondition, time, wakeOn);
+        } catch (Exception e) {
+            Microbot.logStackTrace("Global Sleep: ", e);
+        }
+        return false;
     }
 
     public static boolean sleepUntil(BooleanSupplier awaitedCondition, Runnable action, long timeoutMillis, int sleepMillis) {
@@ -95,14 +114,8 @@ public class Global {
 
     public static boolean sleepUntilTrue(BooleanSupplier awaitedCondition) {
         if (Microbot.getClient().isClientThread()) return false;
-        long startTime = System.currentTimeMillis();
         try {
-            do {
-                if (awaitedCondition.getAsBoolean()) {
-                    return true;
-                }
-                sleep(100);
-            } while (System.currentTimeMillis() - startTime < 5000);
+            return GameSignals.waitUntil(awaitedCondition, 5000, POLL_MILLIS, GameSignals.STATE_CHANGES);
         } catch (Exception e) {
             Microbot.logStackTrace("Global Sleep: ", e);
         }
@@ -111,14 +124,8 @@ public class Global {
 
     public static boolean sleepUntilTrue(BooleanSupplier awaitedCondition, int time, int timeout) {
         if (Microbot.getClient().isClientThread()) return false;
-        long startTime = System.currentTimeMillis();
         try {
-            do {
-                if (awaitedCondition.getAsBoolean()) {
-                    return true;
-                }
-                sleep(time);
-            } while (System.currentTimeMillis() - startTime < timeout);
+            return GameSignals.waitUntil(awaitedCondition, timeout, time, GameSignals.STATE_CHANGES);
         } catch (Exception e) {
             Microbot.logStackTrace("Global Sleep: ", e);
         }
@@ -163,6 +170,6 @@ public class Global {
 
     public boolean sleepUntilTick(int ticksToWait) {
         int startTick = Microbot.getClient().getTickCount();
-        return Global.sleepUntil(() -> Microbot.getClient().getTickCount() >= startTick + ticksToWait, ticksToWait * 600 + 2000);
+        return Global.sleepUntil(() -> Microbot.getClient().getTickCount() >= startTick + ticksToWait, ticksToWait * 600 + 2000, GameSignals.Signal.GAME_TICK);
     }
 }
\ No newline at end of file
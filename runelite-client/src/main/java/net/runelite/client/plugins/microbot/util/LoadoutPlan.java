@@ -0,0 +1,224 @@
+package net.runelite.client.plugins.microbot.util;
+
+import lombok.Getter;
+import lombok.Value;
+import net.runelite.client.plugins.microbot.inventorysetups.InventorySetup;
+import net.runelite.client.plugins.microbot.inventorysetups.InventorySetupsItem;
+import net.runelite.client.plugins.microbot.util.bank.Rs2Bank;
+import net.runelite.client.plugins.microbot.util.equipment.Rs2Equipment;
+import net.runelite.client.plugins.microbot.util.inventory.Rs2Inventory;
+import net.runelite.client.plugins.microbot.util.inventory.Rs2ItemModel;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BiFunction;
+import java.util.function.IntUnaryOperator;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * The difference between the current inventory and equipment and an inventory setup: the items to deposit and how
+ * many, the items to withdraw and how many, and the items to wear.
+ * <p>
+ * The plan is computed in one pass over a snapshot of the inventory against the indexed bank, so the actions can be
+ * issued back to back and verified once, instead of re-reading the inventory after every withdrawal.
+ */
+@Getter
+final class LoadoutPlan {
+    private static final int INVENTORY_SIZE = 28;
+
+    /** An item to put into the bank */
+    @Value
+    static class Deposit {
+        int itemId;
+        int amount;
+        /** Whether to deposit every copy, which is the case unless the setup keeps some of them */
+        boolean all;
+    }
+
+    /** An item to take out of the bank */
+    @Value
+    static class Withdrawal {
+        int itemId;
+        int amount;
+        /** Whether to withdraw the whole stack, which needs no amount prompt */
+        boolean all;
+        boolean stackable;
+    }
+
+    // The inventory, worn equipment and bank the plan is made against; replaced in tests
+    static Supplier<List<Rs2ItemModel>> inventoryItems = () -> Rs2Inventory.items().collect(Collectors.toList());
+    static Predicate<InventorySetupsItem> wornItems = LoadoutPlan::isWorn;
+    static BiFunction<InventorySetupsItem, Integer, Rs2ItemModel> bankItems = LoadoutPlan::findInBank;
+    static IntUnaryOperator bankCounts = Rs2Bank::count;
+
+    private final List<Deposit> deposits = new ArrayList<>();
+    private final List<Withdrawal> withdrawals = new ArrayList<>();
+    /** The ids of the items to wear from the inventory, including the ones withdrawn to be worn */
+    private final Set<Integer> equips = new LinkedHashSet<>();
+    /** The names of the setup inventory items that are neither in the inventory nor in the bank */
+    private final List<String> missing = new ArrayList<>();
+    /** The names of the setup equipment that is neither worn, in the inventory nor in the bank */
+    private final List<String> missingEquipment = new ArrayList<>();
+
+    private LoadoutPlan() {
+    }
+
+    boolean isEmpty() {
+        return deposits.isEmpty() && withdrawals.isEmpty() && equips.isEmpty();
+    }
+
+    /**
+     * Plans loading the setup with the bank open.
+     *
+     * @param inventory whether to plan the inventory of the setup
+     * @param equipment whether to plan the equipment of the setup
+     */
+    static LoadoutPlan create(InventorySetup setup, boolean inventory, boolean equipment) {
+        LoadoutPlan plan = new LoadoutPlan();
+        List<Rs2ItemModel> pool = new ArrayList<>(inventoryItems.get());
+        int freeSlots = INVENTORY_SIZE - pool.size();
+        // The ids of the inventory items the setup keeps
+        Set<Integer> claimedIds = new HashSet<>();
+        int slotsNeeded = 0;
+
+        if (equipment && setup.getEquipment() != null) {
+            for (InventorySetupsItem item : setup.getEquipment()) {
+                if (InventorySetupsItem.itemIsDummy(item) || wornItems.test(item)) continue;
+
+                Rs2ItemModel inInventory = claim(pool, item, claimedIds);
+                if (inInventory != null) {
+                    plan.equips.add(inInventory.getId());
+                    continue;
+                }
+
+                Rs2ItemModel bankItem = bankItems.apply(item, 1);
+                if (bankItem == null) {
+                    plan.missingEquipment.add(item.getName());
+                    continue;
+                }
+                // Worn stacks such as ammunition are withdrawn by amount, so the rest of the bank stack stays there
+                plan.withdrawals.add(new Withdrawal(bankItem.getId(), item.getQuantity(),
+                        item.getQuantity() >= bankCounts.applyAsInt(bankItem.getId()), bankItem.isStackable()));
+                plan.equips.add(bankItem.getId());
+                slotsNeeded++;
+            }
+        }
+
+        if (inventory && setup.getInventory() != null) {
+            for (List<InventorySetupsItem> group : groupBySetupItem(setup.getInventory())) {
+                InventorySetupsItem item = group.get(0);
+                int desired = group.stream().mapToInt(InventorySetupsItem::getQuantity).sum();
+
+                List<Rs2ItemModel> present = new ArrayList<>();
+                for (int i = 0; i < group.size(); i++) {
+                    Rs2ItemModel match = claim(pool, item, claimedIds);
+                    if (match == null) break;
+                    present.add(match);
+                    if (match.isStackable()) break;
+                }
+                int quantity = present.stream().mapToInt(Rs2ItemModel::getQuantity).sum();
+                if (quantity >= desired) continue;
+
+                Rs2ItemModel sample = present.isEmpty() ? bankItems.apply(item, 1) : present.get(0);
+                boolean stackable = sample != null && sample.isStackable();
+                int amount = stackable ? desired - quantity : group.size() - present.size();
+                if (amount <= 0) continue;
+
+                Rs2ItemModel bankItem = bankItems.apply(item, amount);
+                if (bankItem == null) {
+                    plan.missing.add(item.getName());
+                    continue;
+                }
+                plan.withdrawals.add(new Withdrawal(bankItem.getId(), amount,
+                        amount >= bankCounts.applyAsInt(bankItem.getId()), stackable));
+                slotsNeeded += stackable ? (present.isEmpty() ? 1 : 0) : amount;
+            }
+        }
+
+        // Whatever the setup does not use is deposited, and the rest too if the withdrawals would not fit otherwise
+        List<InventorySetupsItem> setupItems = new ArrayList<>();
+        if (setup.getInventory() != null) setupItems.addAll(setup.getInventory());
+        if (setup.getEquipment() != null) setupItems.addAll(setup.getEquipment());
+        List<Rs2ItemModel> surplus = new ArrayList<>();
+        for (Rs2ItemModel item : pool) {
+            if (setupItems.stream().noneMatch(setupItem -> !InventorySetupsItem.itemIsDummy(setupItem) && matchesName(setupItem, item))) {
+                surplus.add(item);
+            }
+        }
+        if (freeSlots + surplus.size() < slotsNeeded) {
+            surplus = pool;
+        }
+        plan.deposit(surplus, claimedIds);
+        return plan;
+    }
+
+    /**
+     * Deposits the given inventory items. Items sharing an id with an item the setup keeps are deposited by amount,
+     * since depositing all of that id would bank the kept copies too.
+     */
+    private void deposit(List<Rs2ItemModel> items, Set<Integer> claimedIds) {
+        Map<Integer, Integer> amounts = new LinkedHashMap<>();
+        for (Rs2ItemModel item : items) {
+            amounts.merge(item.getId(), item.getQuantity(), Integer::sum);
+        }
+        amounts.forEach((id, amount) -> deposits.add(new Deposit(id, amount, !claimedIds.contains(id))));
+    }
+
+    /**
+     * Groups the setup items the way the setup counts them: by id, or by name for fuzzy items, in setup order.
+     */
+    private static List<List<InventorySetupsItem>> groupBySetupItem(List<InventorySetupsItem> items) {
+        Map<String, List<InventorySetupsItem>> groups = new LinkedHashMap<>();
+        for (InventorySetupsItem item : items) {
+            if (InventorySetupsItem.itemIsDummy(item)) continue;
+            String key = item.isFuzzy() ? "name:" + item.getName().toLowerCase() : "id:" + item.getId();
+            groups.computeIfAbsent(key, k -> new ArrayList<>()).add(item);
+        }
+        return new ArrayList<>(groups.values());
+    }
+
+    private static boolean isWorn(InventorySetupsItem item) {
+        boolean exact = !item.isFuzzy() && !InventorySetupsItem.isBarrowsItem(item.getName().toLowerCase());
+        return Rs2Equipment.isWearing(item.getName(), exact);
+    }
+
+    /** Removes and returns the first inventory item in the pool matching the setup item */
+    private static Rs2ItemModel claim(List<Rs2ItemModel> pool, InventorySetupsItem item, Set<Integer> claimedIds) {
+        for (int i = 0; i < pool.size(); i++) {
+            if (matches(item, pool.get(i))) {
+                Rs2ItemModel claimed = pool.remove(i);
+                claimedIds.add(claimed.getId());
+                return claimed;
+            }
+        }
+        return null;
+    }
+
+    static boolean matches(InventorySetupsItem setupItem, Rs2ItemModel item) {
+        return setupItem.isFuzzy()
+                ? item.getName().toLowerCase().contains(setupItem.getName().toLowerCase())
+                : item.getId() == setupItem.getId();
+    }
+
+    /** The rule {@link Rs2InventorySetup#itemsToNotDeposit()} keeps items by */
+    private static boolean matchesName(InventorySetupsItem setupItem, Rs2ItemModel item) {
+        return setupItem.isFuzzy()
+                ? item.getName().toLowerCase().contains(setupItem.getName().toLowerCase())
+                : item.getName().equalsIgnoreCase(setupItem.getName());
+    }
+
+    private static Rs2ItemModel findInBank(InventorySetupsItem item, int amount) {
+        if (item.isFuzzy()) {
+            return Rs2Bank.getBankItem(item.getName(), false, amount);
+        }
+        Rs2ItemModel bankItem = Rs2Bank.getBankItem(item.getId());
+        return bankItem != null && bankItem.getQuantity() >= amount ? bankItem : null;
+    }
+}
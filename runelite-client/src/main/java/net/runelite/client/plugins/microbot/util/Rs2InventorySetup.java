@@ -37,7 +37,7 @@ import java.util.concurrent.ScheduledFuture;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
-import static net.runelite.client.plugins.microbot.util.Global.sleep;
+import static net.runelite.client.plugins.microbot.util.Global.sleepGaussian;
 import static net.runelite.client.plugins.microbot.util.Global.sleepUntil;
 
 /**
@@ -47,6 +47,13 @@ import static net.runelite.client.plugins.microbot.util.Global.sleepUntil;
  */
 public class Rs2InventorySetup {
 
+    private static final int LOADOUT_ATTEMPTS = 3;
+    private static final int LOADOUT_TIMEOUT = 3000;
+    /** The mean delay between the actions of a batch */
+    private static final int LOADOUT_ACTION_DELAY = 120;
+    /** The largest amount of an unstackable item withdrawn by repeating withdraw-1 rather than typing the amount */
+    private static final int MAX_WITHDRAW_ONE_REPEATS = 5;
+
     InventorySetup inventorySetup;
 
     ScheduledFuture<?> _mainScheduler;
@@ -115,39 +122,21 @@ public class Rs2InventorySetup {
             Rs2Bank.toggleAllLocks();
         }
 
-		Rs2Bank.depositAllExcept(itemsToNotDeposit());
-
-		List<InventorySetupsItem> setupItems = inventorySetup.getInventory();
-
-		for (InventorySetupsItem item : setupItems) {
-			if (isMainSchedulerCancelled()) break;
-			if (InventorySetupsItem.itemIsDummy(item)) continue;
-
-			List<InventorySetupsItem> matchingItems = setupItems.stream()
-				.filter(i -> i.matches(item))
-				.collect(Collectors.toList());
-
-			int withdrawQuantity = calculateWithdrawQuantity(matchingItems, item);
-			if (withdrawQuantity == 0) continue;
-
-			String lowerCaseName = item.getName().toLowerCase();
-			boolean isFuzzy = item.isFuzzy();
-			Object identifier = isFuzzy ? lowerCaseName : item.getId();
-
-			boolean hasBankItem = isFuzzy
-				? Rs2Bank.hasBankItem((String) identifier, withdrawQuantity, false)
-				: Rs2Bank.hasBankItem((int) identifier, withdrawQuantity);
-
-			if (!hasBankItem) {
-				Microbot.pauseAllScripts.compareAndSet(false, true);
-				Microbot.log("Bank is missing the following item: " + item.getName(), Level.WARN);
-				return false;
-			}
-
-			withdrawItem(item, withdrawQuantity);
+		if (!applyLoadout(true, false)) {
+			return false;
 		}
 
-		List<InventorySetupsItem> itemsWithSlots = setupItems.stream()
+		return arrangeInventory();
+	}
+
+	/**
+	 * Moves the setup items to their slots, fills the rune pouch and locks the locked slots, once the items are in
+	 * the inventory.
+	 *
+	 * @return true if the inventory matches the setup afterwards, false otherwise.
+	 */
+	private boolean arrangeInventory() {
+		List<InventorySetupsItem> itemsWithSlots = inventorySetup.getInventory().stream()
 			.filter(item -> !InventorySetupsItem.itemIsDummy(item) && item.getSlot() >= 0)
 			.collect(Collectors.toList());
 
@@ -167,103 +156,60 @@ public class Rs2InventorySetup {
 			}
 		}
 
-		sleep(800, 1200);
-
         lockLockedItemsFromSetup(inventorySetup);
 
 		return doesInventoryMatch();
 	}
 
     /**
-     * Calculates the quantity of an item to withdraw based on the current inventory state.
+     * Loads the equipment setup from the bank.
      *
-     * @param setupItems              List of items to consider.
-     * @param setupItem The inventory setup item.
-     * @return The quantity to withdraw.
+     * @return true if the equipment matches the setup after loading, false otherwise.
      */
-	private int calculateWithdrawQuantity(List<InventorySetupsItem> setupItems, InventorySetupsItem setupItem) {
-		int itemId = setupItem.getId();
-		String itemName = setupItem.getName().toLowerCase();
-		boolean isFuzzy = setupItem.isFuzzy();
-
-		Rs2ItemModel rs2Item = Rs2Inventory.get(itemId);
-		boolean isStackable = rs2Item != null && rs2Item.isStackable();
-
-		int desiredQuantity = setupItems.stream()
-			.mapToInt(InventorySetupsItem::getQuantity)
-			.sum();
-
-		int currentQuantity = isFuzzy
-			? Rs2Inventory.itemQuantity(itemName)
-			: Rs2Inventory.itemQuantity(itemId);
-
-		if (currentQuantity >= desiredQuantity) {
-			return 0;
-		}
+    public boolean loadEquipment() {
+        Rs2Bank.openBank();
+        if (!Rs2Bank.isOpen()) {
+            return false;
+        }
 
-		if (!isStackable) {
-			long alreadyPresent = isFuzzy
-				? Rs2Inventory.items(i -> i.getName().toLowerCase().contains(itemName)).count()
-				: Rs2Inventory.items(i -> i.getId() == itemId).count();
+        depositExtraGear();
 
-			int missing = setupItems.size() - (int) alreadyPresent;
-			return Math.max(missing, 0);
-		}
+        if (!applyLoadout(false, true)) {
+            return false;
+        }
 
-		return desiredQuantity - currentQuantity;
-	}
+        return doesEquipmentMatch();
+    }
 
     /**
-     * Withdraws an item from the bank.
+     * Loads the equipment and the inventory of the setup from the bank in a single pass, wearing the gear in the
+     * same batch of actions that fills the inventory.
      *
-     * @param item     The item to withdraw.
-     * @param quantity The quantity to withdraw.
+     * @return true if both the equipment and the inventory match the setup after loading, false otherwise.
      */
-    private void withdrawItem(InventorySetupsItem item, int quantity) {
-		boolean useName = item.isFuzzy();
-		Object identifier = useName ? item.getName().toLowerCase() : item.getId();
-
-		if (quantity > 1) {
-			if (useName) {
-				Rs2Bank.withdrawX((String) identifier, quantity);
-			} else {
-				Rs2Bank.withdrawX((int) identifier, quantity);
-			}
-		} else {
-			if (useName) {
-				Rs2Bank.withdrawItem((String) identifier);
-			} else {
-				Rs2Bank.withdrawItem((int) identifier);
-			}
+	public boolean loadSetup() {
+		Rs2Bank.openBank();
+		if (!Rs2Bank.isOpen()) {
+			return false;
 		}
-		// Using wait for inventory changes here makes sure the inventory is updated more reliably to avoid withdrawing excess items.
-		Rs2Inventory.waitForInventoryChanges(5000);
-    }
 
-    /**
-     * Loads the equipment setup from the bank.
-     *
-     * @return true if the equipment matches the setup after loading, false otherwise.
-     */
-    public boolean loadEquipment() {
-        Rs2Bank.openBank();
-        if (!Rs2Bank.isOpen()) {
-            return false;
-        }
+		if (!Rs2Bank.findLockedSlots().isEmpty()) {
+			Rs2Bank.toggleAllLocks();
+		}
 
-        //Clear inventory if full
-        if (Rs2Inventory.isFull()) {
-            Rs2Bank.depositAll();
-        } else {
-            //only deposit the items we don't need
-            Rs2Bank.depositAllExcept(itemsToNotDeposit());
-        }
+		depositExtraGear();
 
+		if (!applyLoadout(true, true)) {
+			return false;
+		}
+		return arrangeInventory() && doesEquipmentMatch();
+	}
 
-        /*
-            Check if we have extra equipment already equipped before attempting to gear
-            For example, player is wearing full graceful set but your desired inventory setup does not contain boots, keeping the graceful boots equipped
-         */
+    /*
+        Check if we have extra equipment already equipped before attempting to gear
+        For example, player is wearing full graceful set but your desired inventory setup does not contain boots, keeping the graceful boots equipped
+     */
+    private void depositExtraGear() {
         boolean hasExtraGearEquipped = Rs2Equipment.isWearing(equip ->
                 inventorySetup.getEquipment().stream().noneMatch(setup -> setup.isFuzzy() ?
 					equip.getName().toLowerCase().contains(setup.getName().toLowerCase()) :
@@ -275,66 +221,103 @@ public class Rs2InventorySetup {
             Rs2Bank.depositEquipment();
             sleepUntil(() -> Rs2Equipment.items().stream().noneMatch(Objects::nonNull));
         }
+    }
 
-		for (InventorySetupsItem item : inventorySetup.getEquipment()) {
-			if (isMainSchedulerCancelled()) break;
-			if (InventorySetupsItem.itemIsDummy(item)) continue;
-
-			String lowerCaseName = item.getName().toLowerCase();
-
-			boolean isFuzzy = item.isFuzzy();
-			Object identifier = isFuzzy ? item.getName().toLowerCase() : item.getId();
-
-			// Check if already equipped
-			if (Rs2Equipment.isWearing(item.getName())) continue;
-
-			// Check in inventory
-			boolean inInventory = isFuzzy
-				? Rs2Inventory.hasItem((String) identifier) || Rs2Inventory.hasItemAmount((String) identifier, item.getQuantity())
-				: Rs2Inventory.hasItem((int) identifier) || Rs2Inventory.hasItemAmount((int) identifier, item.getQuantity());
-
-			// Check in bank
-			boolean inBank = isFuzzy
-				? Rs2Bank.hasItem((String) identifier) || Rs2Bank.hasBankItem((String) identifier, item.getQuantity(), false)
-				: Rs2Bank.hasItem((int) identifier) || Rs2Bank.hasBankItem((int) identifier, item.getQuantity());
+	/**
+	 * Plans the deposits, withdrawals and equips needed to load the setup and issues them back to back, then waits
+	 * once for the batch to land. Whatever did not land is planned and issued again, up to
+	 * {@link #LOADOUT_ATTEMPTS} times.
+	 *
+	 * Missing equipment is logged and the rest is still worn.
+	 *
+	 * @return false if an inventory item is missing from the bank or the script was cancelled, true otherwise
+	 */
+	private boolean applyLoadout(boolean inventory, boolean equipment) {
+		for (int attempt = 0; attempt < LOADOUT_ATTEMPTS; attempt++) {
+			if (isMainSchedulerCancelled()) return false;
 
-			if (!inInventory && !inBank) {
-				Microbot.log("Missing " + item.getName() + " in the bank and inventory. Shutting down");
+			LoadoutPlan plan = LoadoutPlan.create(inventorySetup, inventory, equipment);
+			if (!plan.getMissing().isEmpty()) {
 				Microbot.pauseAllScripts.compareAndSet(false, true);
-				continue;
+				Microbot.log("Bank is missing the following items: " + String.join(", ", plan.getMissing()), Level.WARN);
+				return false;
 			}
-
-			if (inInventory) {
-				if (isFuzzy) {
-					Rs2Bank.wearItem((String) identifier);
-				} else {
-					Rs2Bank.wearItem((int) identifier);
-				}
-				sleepUntil(() -> Rs2Equipment.isWearing(item.getName()));
-				continue;
+			if (attempt == 0 && !plan.getMissingEquipment().isEmpty()) {
+				Microbot.log("Missing " + String.join(", ", plan.getMissingEquipment()) + " in the bank and inventory", Level.WARN);
 			}
+			if (plan.isEmpty()) return true;
 
-			if (item.getQuantity() > 1) {
-				if (isFuzzy) {
-					Rs2Bank.withdrawAllAndEquip((String) identifier);
-				} else {
-					Rs2Bank.withdrawAllAndEquip((int) identifier);
-				}
-			} else {
-				if (isFuzzy) {
-					Rs2Bank.withdrawAndEquip((String) identifier);
-				} else {
-					Rs2Bank.withdrawAndEquip((int) identifier);
-				}
-			}
+			executeLoadout(plan);
+		}
+		return true;
+	}
 
-			sleepUntil(() -> Rs2Equipment.isWearing(item.getName()));
+	private void executeLoadout(LoadoutPlan plan) {
+		for (LoadoutPlan.Deposit deposit : plan.getDeposits()) {
+			deposit(deposit);
+		}
+		// The withdrawals check for a full inventory client side, so they have to wait for the deposits to land
+		if (!plan.getDeposits().isEmpty() && Rs2Inventory.isFull()) {
+			sleepUntil(() -> !Rs2Inventory.isFull(), LOADOUT_TIMEOUT, GameSignals.Signal.ITEM_CONTAINER_CHANGED);
 		}
 
-        sleep(800, 1200);
+		Map<Integer, Integer> quantitiesBefore = plan.getWithdrawals().stream()
+			.collect(Collectors.toMap(LoadoutPlan.Withdrawal::getItemId, w -> Rs2Inventory.itemQuantity(w.getItemId()), (a, b) -> a));
+		for (LoadoutPlan.Withdrawal withdrawal : plan.getWithdrawals()) {
+			if (isMainSchedulerCancelled()) return;
+			withdraw(withdrawal);
+		}
+		if (!plan.getWithdrawals().isEmpty()) {
+			sleepUntil(() -> quantitiesBefore.entrySet().stream()
+				.allMatch(e -> Rs2Inventory.itemQuantity(e.getKey()) > e.getValue() || Rs2Equipment.isWearing(e.getKey())),
+				LOADOUT_TIMEOUT, GameSignals.Signal.ITEM_CONTAINER_CHANGED);
+		}
 
-        return doesEquipmentMatch();
-    }
+		for (int id : plan.getEquips()) {
+			if (isMainSchedulerCancelled()) return;
+			Rs2Bank.wearItem(id);
+			sleepGaussian(LOADOUT_ACTION_DELAY, LOADOUT_ACTION_DELAY / 3);
+		}
+		if (!plan.getEquips().isEmpty()) {
+			sleepUntil(() -> plan.getEquips().stream().allMatch(Rs2Equipment::isWearing), LOADOUT_TIMEOUT,
+				GameSignals.Signal.ITEM_CONTAINER_CHANGED);
+		}
+	}
+
+	private void deposit(LoadoutPlan.Deposit deposit) {
+		int id = deposit.getItemId();
+		if (deposit.isAll()) {
+			Rs2Bank.depositAll(id);
+		} else if (deposit.getAmount() == 1) {
+			Rs2Bank.depositOne(id);
+		} else {
+			Rs2Bank.depositX(id, deposit.getAmount());
+		}
+		sleepGaussian(LOADOUT_ACTION_DELAY, LOADOUT_ACTION_DELAY / 3);
+	}
+
+	/**
+	 * Withdraws an item with the menu option that needs no amount prompt whenever one fits, so the withdrawal can be
+	 * issued without waiting for the previous one.
+	 */
+	private void withdraw(LoadoutPlan.Withdrawal withdrawal) {
+		int id = withdrawal.getItemId();
+		if (withdrawal.isAll()) {
+			Rs2Bank.withdrawAll(id);
+		} else if (withdrawal.getAmount() == 1) {
+			Rs2Bank.withdrawOne(id);
+		} else if (!withdrawal.isStackable() && withdrawal.getAmount() <= MAX_WITHDRAW_ONE_REPEATS) {
+			for (int i = 0; i < withdrawal.getAmount(); i++) {
+				Rs2Bank.withdrawOne(id);
+				sleepGaussian(LOADOUT_ACTION_DELAY, LOADOUT_ACTION_DELAY / 3);
+			}
+			return;
+		} else {
+			// Uses the configured X amount when it matches, and otherwise waits for the amount prompt
+			Rs2Bank.withdrawX(id, withdrawal.getAmount());
+		}
+		sleepGaussian(LOADOUT_ACTION_DELAY, LOADOUT_ACTION_DELAY / 3);
+	}
 
     /**
      * Wears the equipment items defined in the inventory setup.
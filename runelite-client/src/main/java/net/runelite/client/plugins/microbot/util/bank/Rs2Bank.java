@@ -22,6 +22,7 @@ import net.runelite.client.plugins.microbot.util.bank.enums.BankLocation;
 import net.runelite.client.plugins.microbot.util.coords.Rs2WorldPoint;
 import net.runelite.client.plugins.microbot.util.equipment.Rs2Equipment;
 import net.runelite.client.plugins.microbot.util.gameobject.Rs2GameObject;
+import net.runelite.client.plugins.microbot.util.gamestate.Rs2GameState;
 import net.runelite.client.plugins.microbot.util.grandexchange.Rs2GrandExchange;
 import net.runelite.client.plugins.microbot.util.inventory.Rs2Inventory;
 import net.runelite.client.plugins.microbot.util.inventory.Rs2ItemModel;
@@ -32,6 +33,7 @@ import net.runelite.client.plugins.microbot.util.menu.NewMenuEntry;
 import net.runelite.client.plugins.microbot.util.misc.Predicates;
 import net.runelite.client.plugins.microbot.util.npc.Rs2Npc;
 import net.runelite.client.plugins.microbot.util.npc.Rs2NpcModel;
+import net.runelite.client.plugins.microbot.util.poi.PoiRouter;
 import net.runelite.client.plugins.microbot.util.player.Rs2Player;
 import net.runelite.client.plugins.microbot.util.security.Encryption;
 import net.runelite.client.plugins.microbot.util.security.Login;
@@ -52,7 +54,6 @@ import java.util.stream.Stream;
 import static net.runelite.api.Varbits.*;
 import static net.runelite.api.widgets.ComponentID.BANK_INVENTORY_ITEM_CONTAINER;
 import static net.runelite.api.widgets.ComponentID.BANK_ITEM_CONTAINER;
-import static net.runelite.client.plugins.microbot.Microbot.updateItemContainer;
 import static net.runelite.client.plugins.microbot.util.Global.*;
 import static net.runelite.client.plugins.microbot.util.gameobject.Rs2GameObject.hoverOverObject;
 import static net.runelite.client.plugins.microbot.util.npc.Rs2Npc.hoverOverActor;
@@ -87,6 +88,19 @@ public class Rs2Bank {
     // Array to store the counts of items in each tab
     private static final int[] bankTabCounts = new int[9];
 
+    // Walking distance in tiles within which the nearest bank is found without running the pathfinder
+    private static final int NEAREST_BANK_FIELD_DISTANCE = 48;
+    // The Mining Guild bank is only usable from inside the guild, so its requirements are checked on every lookup
+    private static final PoiRouter<BankLocation> bankRouter = new PoiRouter<>("banks", Arrays.asList(BankLocation.values()),
+            BankLocation::getWorldPoint, BankLocation::hasRequirements, bank -> bank == BankLocation.MINING_GUILD,
+            NEAREST_BANK_FIELD_DISTANCE);
+
+    static {
+        // Read before every withdrawal and deposit to pick the quantity option
+        Rs2GameState.watchVarbit(SELECTED_OPTION_VARBIT);
+        Rs2GameState.watchVarbit(X_AMOUNT_VARBIT);
+    }
+
     /**
      * Executes menu swapping for a specific rs2Item and entry index.
      *
@@ -176,7 +190,7 @@ public class Rs2Bank {
      * @return boolean
      */
     public static boolean hasItem(int id) {
-        return findBankItem(id) != null;
+        return rs2BankData.contains(id);
     }
 
     /**
@@ -267,7 +281,7 @@ public class Rs2Bank {
      */
     public static boolean hasItem(int[] ids) {
         return Arrays.stream(ids)
-                .anyMatch(id -> findBankItem(id) != null);
+                .anyMatch(rs2BankData::contains);
     }
 
     /**
@@ -278,7 +292,7 @@ public class Rs2Bank {
      */
     public static boolean hasAllItems(int[] ids) {
         return Arrays.stream(ids)
-                .allMatch(id -> findBankItem(id) != null);
+                .allMatch(rs2BankData::contains);
     }
 
     /**
@@ -290,10 +304,7 @@ public class Rs2Bank {
      */
     public static boolean hasItem(int[] ids, int amount) {
         return Arrays.stream(ids)
-                .anyMatch(id -> {
-                    Rs2ItemModel item = findBankItem(id);
-                    return item != null && item.getQuantity() >= amount;
-                });
+                .anyMatch(id -> rs2BankData.contains(id) && rs2BankData.count(id) >= amount);
     }
 
     /**
@@ -305,10 +316,7 @@ public class Rs2Bank {
      */
     public static boolean hasAllItems(int[] ids, int amount) {
         return Arrays.stream(ids)
-                .allMatch(id -> {
-                    Rs2ItemModel item = findBankItem(id);
-                    return item != null && item.getQuantity() >= amount;
-                });
+                .allMatch(id -> rs2BankData.contains(id) && rs2BankData.count(id) >= amount);
     }
 
     /**
@@ -365,9 +373,7 @@ public class Rs2Bank {
      * Query count of item inside of bank
      */
     public static int count(int id) {
-        Rs2ItemModel bankItem = findBankItem(id);
-        if (bankItem == null) return 0;
-        return bankItem.getQuantity();
+        return rs2BankData.count(id);
     }
 
     /**
@@ -1402,15 +1408,8 @@ public class Rs2Bank {
      *
      * @return bankItem
      */
-    @SuppressWarnings("UnnecessaryLocalVariable")
     private static Rs2ItemModel findBankItem(int id) {
-        List<Rs2ItemModel> bankItems = rs2BankData.getBankItems();
-        if (bankItems == null) return null;
-        if (bankItems.stream().findAny().isEmpty()) return null;
-
-        Rs2ItemModel bankItem = bankItems.stream().filter(x -> x.getId() == id).findFirst().orElse(null);
-
-        return bankItem;
+        return rs2BankData.get(id);
     }
 
     /**
@@ -1435,19 +1434,9 @@ public class Rs2Bank {
      *
      * @return The item widget, or null if the item isn't found.
      */
-    @SuppressWarnings("UnnecessaryLocalVariable")
     private static Rs2ItemModel findBankItem(String name, boolean exact, int amount) {
-    List<Rs2ItemModel> bankItems = rs2BankData.getBankItems();
-    if (bankItems == null || bankItems.isEmpty()) {
-        return null;
+        return rs2BankData.find(name, exact, amount);
     }
-    final String lowerCaseName = name.toLowerCase();
-    return bankItems.stream()
-            .filter(x -> exact ? x.getName().equalsIgnoreCase(lowerCaseName) : x.getName().toLowerCase().contains(lowerCaseName))
-            .filter(x -> x.getQuantity() >= amount)
-            .findAny()
-            .orElse(null);
-}
 
     /**
      * Finds an item in the bank based on a list of names.
@@ -1458,16 +1447,7 @@ public class Rs2Bank {
      * @return The first matching item widget, or null if no matching item is found.
      */
     private static Rs2ItemModel findBankItem(List<String> names, boolean exact, int amount) {
-        List<Rs2ItemModel> bankItems = rs2BankData.getBankItems();
-        if (bankItems == null || bankItems.isEmpty()) return null;
-
-        return bankItems.stream()
-                .filter(item -> names.stream().anyMatch(name -> exact
-                        ? item.getName().equalsIgnoreCase(name)
-                        : item.getName().toLowerCase().contains(name.toLowerCase())))
-                .filter(item -> item.getQuantity() >= amount)
-                .findFirst()
-                .orElse(null);
+        return rs2BankData.find(names, exact, amount);
     }
 
     /**
@@ -1496,9 +1476,10 @@ public class Rs2Bank {
      * First, searches for bank booth {@link TileObject}s within
      * {@code maxObjectSearchRadius} tiles of the player and picks the closest
      * one whose underlying {@link BankLocation#hasRequirements()} passes. If no booth
-     * is found or none are within range, falls back to running a full pathfinding
-     * search (including configured transports) to all accessible bank coordinates,
-     * then returns the bank at the end of the shortest path.
+     * is found or none are within range, looks the start up in the walking distance
+     * field around the accessible banks. Only when it lies outside of that field a full
+     * pathfinding search (including configured transports) to all accessible bank
+     * coordinates is run, returning the bank at the end of the shortest path.
      * </p>
      *
      * @param worldPoint            the starting location for pathfinding
@@ -1543,7 +1524,7 @@ public class Rs2Bank {
                     .filter(e -> e.getKey() != null && e.getValue() <= maxObjectSearchRadius)
                     .min(Comparator.comparingInt(Map.Entry::getValue))
                     .map(Map.Entry::getKey);                        
-            if (byObject.isPresent() && byObject.get().hasRequirements()) {                
+            if (byObject.isPresent() && bankRouter.isAccessible(byObject.get())) {                
                 Microbot.log("Found nearest bank (object): " + byObject.get());
                 BankLocation returnBankLocation = byObject.get();
                 List<WorldPoint> path = new ArrayList<>(Collections.singletonList(byObject.get().getWorldPoint()));
@@ -1551,19 +1532,19 @@ public class Rs2Bank {
             }
         }
 
-        // Measure accessible banks filtering performance, expensive operation takes up to 2500 ms
-        long accessibleBanksStart = System.nanoTime();
-        Set<BankLocation> accessibleBanks = allBanks.stream()
-                .filter(BankLocation::hasRequirements)
-                .collect(Collectors.toSet());
-        long accessibleBanksTime = System.nanoTime() - accessibleBanksStart;
-        log.info("Accessible banks filtering performance: {}ms, Found {} accessible banks out of {} total", 
-                 accessibleBanksTime / 1_000_000.0, accessibleBanks.size(), BankLocation.values().length);
-
+        // Evaluating every bank's requirements takes up to 2500 ms, the router only does so after they may have changed
+        Set<BankLocation> accessibleBanks = bankRouter.getAccessible();
         if (accessibleBanks.isEmpty()) {
             Microbot.log("No accessible banks found");
             return null;
         }
+
+        PoiRouter.Route<BankLocation> route = bankRouter.findNearest(worldPoint);
+        if (route != null) {
+            Microbot.log("Found nearest bank (distance field): " + route.getPoi());
+            return new AbstractMap.SimpleEntry<>(route.getPath(), route.getPoi());
+        }
+
         Set<WorldPoint> targets = accessibleBanks.stream()
                 .map(BankLocation::getWorldPoint)
                 .collect(Collectors.toSet());
@@ -1761,10 +1742,9 @@ public class Rs2Bank {
      * @param e The event containing the latest bank items.
      */
     public static void updateLocalBank(ItemContainerChanged e) {
-        List<Rs2ItemModel> list = updateItemContainer(InventoryID.BANK.getId(), e);
-        if (list != null) {
-            // Update the centralized bank data
-            rs2BankData.set(list);
+        if (e.getContainerId() == InventoryID.BANK.getId()) {
+            // Only the items that changed since the last update are rebuilt
+            rs2BankData.update(e.getItemContainer().getItems());
         }
     }
 
@@ -2226,10 +2206,7 @@ public class Rs2Bank {
      * @return the Rs2Item matching the item ID, or null if not found.
      */
     public static Rs2ItemModel getBankItem(int itemId) {
-        return bankItems().stream()
-                .filter(item -> item.getId() == itemId)
-                .findFirst()
-                .orElse(null);
+        return rs2BankData.get(itemId);
     }
 
     /**
@@ -2240,12 +2217,19 @@ public class Rs2Bank {
      * @return the Rs2Item matching the item name, or null if not found.
      */
     public static Rs2ItemModel getBankItem(String itemName, boolean exact) {
-        return rs2BankData.getBankItems().stream()
-                .filter(item -> exact
-                        ? item.getName().equalsIgnoreCase(itemName)
-                        : item.getName().toLowerCase().contains(itemName.toLowerCase()))
-                .findFirst()
-                .orElse(null);
+        return rs2BankData.find(itemName, exact, 0);
+    }
+
+    /**
+     * Retrieves an Rs2Item from the bank based on the specified item name, with at least the given quantity of it.
+     *
+     * @param itemName the name of the item to search for.
+     * @param exact whether to search for an exact match (true) or a partial match (false).
+     * @param amount the minimum quantity of the item.
+     * @return the first Rs2Item matching the item name with enough of it, or null if not found.
+     */
+    public static Rs2ItemModel getBankItem(String itemName, boolean exact, int amount) {
+        return rs2BankData.find(itemName, exact, amount);
     }
 
     /**
@@ -1,44 +1,46 @@
 package net.runelite.client.plugins.microbot.util.bank;
 
-import lombok.Data;
+import net.runelite.api.Item;
+import net.runelite.client.plugins.microbot.Microbot;
+import net.runelite.client.plugins.microbot.util.cache.Rs2CompositionCache;
 import net.runelite.client.plugins.microbot.util.inventory.Rs2ItemModel;
+import net.runelite.client.util.NameMatcher;
 
+import java.util.AbstractList;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.IntFunction;
+import java.util.function.IntPredicate;
 
 /**
- * Data class for caching bank items with ID, quantity, and slot information.
+ * Indexed store of the bank items, with ID, quantity, and slot information.
  * Similar to QuestBankData but enhanced for Rs2Bank ecosystem.
+ * <p>
+ * The items are held in an immutable snapshot with an id to entry table and a lower case name index, so id and
+ * exact name lookups are hash lookups. A bank container update is diffed against the previous snapshot: an
+ * unchanged bank keeps its snapshot, and items that kept their slot and quantity keep their {@link Rs2ItemModel}.
+ * Models are only created when an item is first read, from the cached composition data.
  */
-@Data
 public class Rs2BankData {
-    /**
-     * Array storing bank item data in triplets: [id, quantity, slot, id, quantity, slot, ...]
-     * Each item uses 3 consecutive array positions for complete bank state tracking.
-     */
-    int[] idQuantityAndSlot;
-    
-    /**
-     * Cached live list of bank items. Only rebuilt when idQuantityAndSlot changes.
-     * This prevents unnecessary rebuilding on every access.
-     */
-    private List<Rs2ItemModel> bankItems;
-    
-    /**
-     * Flag to track if the cached bankItems list needs to be rebuilt.
-     */
-    private boolean needsRebuild = true;
+    private static final Snapshot EMPTY = new Snapshot(new int[0], new int[0], new int[0], new int[0], null);
 
-    public Rs2BankData() {
-        idQuantityAndSlot = new int[0];
-        bankItems = new ArrayList<>();
-        needsRebuild = true;
-    }
+    // The item name, or null while its composition is not loaded; replaced in tests
+    static IntFunction<String> itemNames = id -> {
+        Rs2CompositionCache.Metadata metadata = Rs2CompositionCache.getItem(id);
+        return metadata == null ? null : metadata.getName() == null ? "" : metadata.getName();
+    };
+    static IntPredicate placeholderItems = id -> Microbot.getItemManager().getItemComposition(id).getPlaceholderTemplateId() > 0;
+
+    private volatile Snapshot snapshot = EMPTY;
 
     /**
      * Sets bank data from a list of Rs2ItemModel objects.
-     * 
+     *
      * @param items List of Rs2ItemModel objects representing bank items
      */
     void set(List<Rs2ItemModel> items) {
@@ -46,26 +48,26 @@ public class Rs2BankData {
             setEmpty();
             return;
         }
-        
-        int[] newIdQuantityAndSlot = new int[items.size() * 3];
+
+        int[] ids = new int[items.size()];
+        int[] quantities = new int[items.size()];
+        int[] slots = new int[items.size()];
         for (int i = 0; i < items.size(); i++) {
             Rs2ItemModel item = items.get(i);
-            int baseIndex = i * 3;
-            newIdQuantityAndSlot[baseIndex] = item.getId();
-            newIdQuantityAndSlot[baseIndex + 1] = item.getQuantity();
-            newIdQuantityAndSlot[baseIndex + 2] = item.getSlot();
+            ids[i] = item.getId();
+            quantities[i] = item.getQuantity();
+            slots[i] = item.getSlot();
+        }
+        Snapshot next = new Snapshot(ids, quantities, slots, snapshot.placeholderIds, null);
+        for (int i = 0; i < items.size(); i++) {
+            next.models.set(i, items.get(i));
         }
-        idQuantityAndSlot = newIdQuantityAndSlot;
-        
-        // Update the live bankItems list directly to avoid rebuilding
-        bankItems.clear();
-        bankItems.addAll(items);
-        needsRebuild = false;
+        snapshot = next;
     }
 
     /**
      * Sets bank data from an array of Rs2ItemModel objects.
-     * 
+     *
      * @param items Array of Rs2ItemModel objects representing bank items
      */
     void set(Rs2ItemModel[] items) {
@@ -76,103 +78,365 @@ public class Rs2BankData {
         set(Arrays.asList(items));
     }
 
+    /**
+     * Updates the bank data from the items of the bank container, keeping whatever did not change since the last
+     * update. Must be called on the client thread.
+     *
+     * @param items the bank container items, indexed by slot
+     * @return whether the bank changed
+     */
+    boolean update(Item[] items) {
+        Snapshot previous = snapshot;
+        int[] ids = new int[items.length];
+        int[] quantities = new int[items.length];
+        int[] slots = new int[items.length];
+        int[] placeholders = new int[items.length];
+        int count = 0;
+        int placeholderCount = 0;
+        boolean changed = false;
+        for (int slot = 0; slot < items.length; slot++) {
+            Item item = items[slot];
+            if (item == null || item.getId() < 0) {
+                continue;
+            }
+
+            int id = item.getId();
+            if (isPlaceholder(previous, id)) {
+                changed |= placeholderCount >= previous.placeholderIds.length
+                        || previous.placeholderIds[placeholderCount] != id;
+                placeholders[placeholderCount++] = id;
+                continue;
+            }
+
+            // Resolve the composition while on the client thread, so building the name index does not hop to it
+            itemNames.apply(id);
+            changed |= count >= previous.size() || previous.ids[count] != id
+                    || previous.quantities[count] != item.getQuantity() || previous.slots[count] != slot;
+            ids[count] = id;
+            quantities[count] = item.getQuantity();
+            slots[count] = slot;
+            count++;
+        }
+        changed |= count != previous.size() || placeholderCount != previous.placeholderIds.length;
+        if (!changed) {
+            return false;
+        }
+
+        Snapshot next = new Snapshot(Arrays.copyOf(ids, count), Arrays.copyOf(quantities, count),
+                Arrays.copyOf(slots, count), Arrays.copyOf(placeholders, placeholderCount), null);
+        for (int i = 0; i < count; i++) {
+            int index = previous.indexOf(next.ids[i]);
+            if (index != -1 && previous.slots[index] == next.slots[i] && previous.quantities[index] == next.quantities[i]) {
+                next.models.set(i, previous.models.get(index));
+            }
+        }
+        snapshot = next;
+        return true;
+    }
+
+    private static boolean isPlaceholder(Snapshot previous, int id) {
+        if (previous.indexOf(id) != -1) {
+            return false;
+        }
+        if (previous.hasPlaceholder(id)) {
+            return true;
+        }
+        return placeholderItems.test(id);
+    }
+
     /**
      * Clears all bank data.
      */
     void setEmpty() {
-        idQuantityAndSlot = new int[0];
-        bankItems.clear();
-        needsRebuild = false;
+        snapshot = EMPTY;
     }
 
     /**
      * Sets the raw array data directly. Used for loading from config.
-     * 
+     *
      * @param data Raw array data in format [id, quantity, slot, ...]
      */
     void setIdQuantityAndSlot(int[] data) {
-        this.idQuantityAndSlot = data != null ? data : new int[0];
-        needsRebuild = true;  // Mark for rebuild since we're loading from config
+        if (data == null || data.length < 3) {
+            setEmpty();
+            return;
+        }
+
+        int count = data.length / 3;
+        int[] ids = new int[count];
+        int[] quantities = new int[count];
+        int[] slots = new int[count];
+        for (int i = 0; i < count; i++) {
+            ids[i] = data[i * 3];
+            quantities[i] = data[i * 3 + 1];
+            slots[i] = data[i * 3 + 2];
+        }
+        snapshot = new Snapshot(ids, quantities, slots, new int[0], null);
     }
 
     /**
      * Gets the raw array data. Used for saving to config.
-     * 
+     *
      * @return Raw array data in format [id, quantity, slot, ...]
      */
     int[] getIdQuantityAndSlot() {
-        return idQuantityAndSlot;
+        Snapshot current = snapshot;
+        int[] data = new int[current.size() * 3];
+        for (int i = 0; i < current.size(); i++) {
+            data[i * 3] = current.ids[i];
+            data[i * 3 + 1] = current.quantities[i];
+            data[i * 3 + 2] = current.slots[i];
+        }
+        return data;
     }
 
     /**
-     * Gets the live bank items list. This is the primary access method that avoids rebuilding.
-     * Only rebuilds the list if the cache data has changed since last access.
-     * 
-     * @return Live list of Rs2ItemModel objects representing the cached bank items
+     * Gets the bank items, in slot order. The list is a read only view of the current bank, whose items are created
+     * when they are first read.
+     *
+     * @return List of Rs2ItemModel objects representing the cached bank items
      */
     public List<Rs2ItemModel> getBankItems() {
-        if (needsRebuild) {
-            rebuildBankItemsList();
-        }
-        return bankItems;
+        return snapshot.view;
+    }
+
+    /**
+     * Converts the stored data back to a list of Rs2ItemModel objects.
+     *
+     * @return List of Rs2ItemModel objects representing the cached bank items
+     * @deprecated Use getBankItems() instead for better performance
+     */
+    @Deprecated
+    List<Rs2ItemModel> getAsList() {
+        return getBankItems();
     }
 
     /**
-     * Rebuilds the bankItems list from the cached array data.
-     * Called only when needsRebuild is true to minimize performance impact.
+     * Returns the bank item with the given id, or null if the bank has none.
      */
-    private void rebuildBankItemsList() {
-        bankItems.clear();
+    public Rs2ItemModel get(int id) {
+        Snapshot current = snapshot;
+        int index = current.indexOf(id);
+        return index == -1 ? null : current.model(index);
+    }
 
-        if (idQuantityAndSlot == null || idQuantityAndSlot.length < 3) {
-            needsRebuild = false;
-            return;
-        }
+    /**
+     * Returns whether the bank has the item, not counting placeholders.
+     */
+    public boolean contains(int id) {
+        return snapshot.indexOf(id) != -1;
+    }
 
-        // Process items in triplets: [id, quantity, slot]
-        for (int i = 0; i < idQuantityAndSlot.length - 2; i += 3) {
-            int id = idQuantityAndSlot[i];
-            int quantity = idQuantityAndSlot[i + 1];
-            int slot = idQuantityAndSlot[i + 2];
-            
-            // Create Rs2ItemModel from cached data
-            try {
-                Rs2ItemModel item = Rs2ItemModel.createFromCache(id, quantity, slot);
-                bankItems.add(item);
-            } catch (Exception e) {
-                // Skip invalid items that can't be recreated
-                continue;
+    /**
+     * Returns the quantity of the item in the bank, or 0 if the bank has none.
+     */
+    public int count(int id) {
+        Snapshot current = snapshot;
+        int index = current.indexOf(id);
+        return index == -1 ? 0 : current.quantities[index];
+    }
+
+    /**
+     * Returns whether the bank holds a placeholder for the item. Placeholders are only known after the bank was
+     * opened, not from the data saved to config.
+     */
+    public boolean hasPlaceholder(int id) {
+        return snapshot.hasPlaceholder(id);
+    }
+
+    /**
+     * Returns the first bank item, in slot order, named {@code name} or containing it, with at least
+     * {@code amount} of it.
+     */
+    public Rs2ItemModel find(String name, boolean exact, int amount) {
+        Snapshot current = snapshot;
+        if (exact) {
+            int[] indexes = current.names().byLowerName.get(name.toLowerCase());
+            if (indexes != null) {
+                for (int index : indexes) {
+                    if (current.quantities[index] >= amount) {
+                        return current.model(index);
+                    }
+                }
             }
+            return null;
         }
-        needsRebuild = false;
+        return find(current, NameMatcher.of(NameMatcher.Mode.CONTAINS, name), amount);
     }
 
     /**
-     * Converts the stored data back to a list of Rs2ItemModel objects.
-     * 
-     * @return List of Rs2ItemModel objects representing the cached bank items
-     * @deprecated Use getBankItems() instead for better performance
+     * Returns the first bank item, in slot order, matching any of the names with at least {@code amount} of it.
      */
-    @Deprecated
-    List<Rs2ItemModel> getAsList() {
-        return getBankItems();
+    public Rs2ItemModel find(Collection<String> names, boolean exact, int amount) {
+        return find(snapshot, NameMatcher.of(exact ? NameMatcher.Mode.EXACT : NameMatcher.Mode.CONTAINS, names), amount);
+    }
+
+    private static Rs2ItemModel find(Snapshot current, NameMatcher matcher, int amount) {
+        String[] names = current.names().names;
+        for (int i = 0; i < names.length; i++) {
+            if (current.quantities[i] >= amount && matcher.matches(names[i])) {
+                return current.model(i);
+            }
+        }
+        return null;
     }
 
     /**
      * Gets the number of cached bank items.
-     * 
+     *
      * @return Number of items stored in the cache
      */
     public int size() {
-        return idQuantityAndSlot != null ? idQuantityAndSlot.length / 3 : 0;
+        return snapshot.size();
     }
 
     /**
      * Checks if the cache is empty.
-     * 
+     *
      * @return true if no items are cached, false otherwise
      */
     public boolean isEmpty() {
         return size() == 0;
     }
+
+    private static final class Snapshot {
+        private final int[] ids;
+        private final int[] quantities;
+        private final int[] slots;
+        private final int[] placeholderIds;
+        // Open addressing tables from item id to entry index, and of the placeholder ids
+        private final int[] idTable;
+        private final int[] placeholderTable;
+        private final AtomicReferenceArray<Rs2ItemModel> models;
+        private final List<Rs2ItemModel> view;
+        private volatile Names names;
+
+        private Snapshot(int[] ids, int[] quantities, int[] slots, int[] placeholderIds, Names names) {
+            this.ids = ids;
+            this.quantities = quantities;
+            this.slots = slots;
+            this.placeholderIds = placeholderIds;
+            this.names = names;
+            this.models = new AtomicReferenceArray<>(ids.length);
+            this.idTable = table(ids.length);
+            for (int i = 0; i < ids.length; i++) {
+                put(idTable, ids[i], i);
+            }
+            this.placeholderTable = table(placeholderIds.length);
+            for (int i = 0; i < placeholderIds.length; i++) {
+                put(placeholderTable, placeholderIds[i], i);
+            }
+            this.view = new AbstractList<>() {
+                @Override
+                public Rs2ItemModel get(int index) {
+                    return model(index);
+                }
+
+                @Override
+                public int size() {
+                    return Snapshot.this.size();
+                }
+            };
+        }
+
+        private int size() {
+            return ids.length;
+        }
+
+        private int indexOf(int id) {
+            return lookup(idTable, id);
+        }
+
+        private boolean hasPlaceholder(int id) {
+            return lookup(placeholderTable, id) != -1;
+        }
+
+        private Rs2ItemModel model(int index) {
+            Rs2ItemModel model = models.get(index);
+            if (model == null) {
+                model = Rs2ItemModel.createFromCache(ids[index], quantities[index], slots[index]);
+                if (!models.compareAndSet(index, null, model)) {
+                    model = models.get(index);
+                }
+            }
+            return model;
+        }
+
+        private Names names() {
+            Names current = names;
+            if (current == null) {
+                current = new Names(ids);
+                // Names of compositions that are not loaded yet are looked up again on the next call
+                if (current.complete) {
+                    names = current;
+                }
+            }
+            return current;
+        }
+
+        /** Returns a table of key and value pairs with room for twice the entries */
+        private static int[] table(int entries) {
+            int size = 2;
+            while (size < entries * 2) {
+                size <<= 1;
+            }
+            int[] table = new int[size * 2];
+            Arrays.fill(table, -1);
+            return table;
+        }
+
+        /** Adds the entry unless the key is already present, keeping the first entry for duplicate ids */
+        private static void put(int[] table, int key, int value) {
+            int mask = table.length / 2 - 1;
+            for (int slot = hash(key) & mask; ; slot = (slot + 1) & mask) {
+                if (table[slot * 2 + 1] == -1) {
+                    table[slot * 2] = key;
+                    table[slot * 2 + 1] = value;
+                    return;
+                }
+                if (table[slot * 2] == key) {
+                    return;
+                }
+            }
+        }
+
+        private static int lookup(int[] table, int key) {
+            int mask = table.length / 2 - 1;
+            for (int slot = hash(key) & mask; table[slot * 2 + 1] != -1; slot = (slot + 1) & mask) {
+                if (table[slot * 2] == key) {
+                    return table[slot * 2 + 1];
+                }
+            }
+            return -1;
+        }
+
+        private static int hash(int key) {
+            int hash = key * 0x9E3779B9;
+            return hash ^ (hash >>> 16);
+        }
+    }
+
+    /**
+     * The names of the items of a snapshot, and the entries by lower case name. Items whose composition is not loaded
+     * yet have an empty name, and the names are not {@link #complete}.
+     */
+    private static final class Names {
+        private final String[] names;
+        private final Map<String, int[]> byLowerName = new HashMap<>();
+        private final boolean complete;
+
+        private Names(int[] ids) {
+            names = new String[ids.length];
+            Map<String, List<Integer>> indexes = new HashMap<>();
+            boolean loaded = true;
+            for (int i = 0; i < ids.length; i++) {
+                String name = itemNames.apply(ids[i]);
+                loaded &= name != null;
+                names[i] = name == null ? "" : name;
+                indexes.computeIfAbsent(names[i].toLowerCase(), k -> new ArrayList<>()).add(i);
+            }
+            indexes.forEach((name, list) -> byLowerName.put(name, list.stream().mapToInt(Integer::intValue).toArray()));
+            complete = loaded;
+        }
+    }
 }
@@ -0,0 +1,220 @@
+package net.runelite.client.plugins.microbot.util.cache;
+
+import lombok.Value;
+import net.runelite.api.ItemComposition;
+import net.runelite.api.NPCComposition;
+import net.runelite.api.ObjectComposition;
+import net.runelite.api.VarbitComposition;
+import net.runelite.api.events.GameStateChanged;
+import net.runelite.client.plugins.microbot.Microbot;
+import net.runelite.client.plugins.microbot.util.gamestate.Rs2GameState;
+import net.runelite.client.plugins.microbot.util.misc.Rs2UiHelper;
+
+import javax.annotation.Nullable;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.IntFunction;
+
+/**
+ * Caches the names, actions and impostor switches of object, NPC and item compositions by id.
+ * <p>
+ * Each id is resolved once on the client thread; after that, lookups are plain {@link ConcurrentHashMap} reads that
+ * scripts can do from their own threads. Object impostors are resolved from the cached varbit layout and the varps of
+ * the {@link Rs2GameState} snapshot, so switching multilocs don't need the client thread either. The cache is dropped whenever the
+ * client returns to the login screen or hops, since the game cache may have been reloaded by then.
+ */
+public class Rs2CompositionCache {
+    private static final Map<Integer, Metadata> objects = new ConcurrentHashMap<>();
+    private static final Map<Integer, Metadata> npcs = new ConcurrentHashMap<>();
+    private static final Map<Integer, Metadata> items = new ConcurrentHashMap<>();
+    private static final Map<Integer, VarbitLayout> varbits = new ConcurrentHashMap<>();
+
+    /**
+     * The cached parts of a composition.
+     */
+    @Value
+    public static class Metadata {
+        int id;
+        /** The name as reported by the composition, or null if it has none */
+        @Nullable
+        String name;
+        /** The name without col tags, or an empty string if it has none */
+        String normalizedName;
+        /** The normalized name in lower case */
+        String lowerName;
+        /** Object and NPC actions, inventory actions for items. Entries may be null */
+        List<String> actions;
+        /** The varbit switching this object between its impostors, or -1 */
+        int impostorVarbitId;
+        /** The varp switching this object between its impostors, or -1 */
+        int impostorVarpId;
+        @Nullable
+        int[] impostorIds;
+
+        public boolean hasName() {
+            return !normalizedName.isEmpty();
+        }
+
+        public boolean hasImpostors() {
+            return impostorIds != null && impostorIds.length > 0;
+        }
+    }
+
+    @Value
+    private static class VarbitLayout {
+        int index;
+        int lsb;
+        int msb;
+    }
+
+    @Nullable
+    public static Metadata getObject(int id) {
+        return get(objects, id, Rs2CompositionCache::loadObject);
+    }
+
+    /**
+     * Returns the metadata of the object with the given id, or of the impostor it currently shows.
+     */
+    @Nullable
+    public static Metadata getObject(int id, boolean resolveImpostor) {
+        Metadata metadata = getObject(id);
+        if (!resolveImpostor || metadata == null || !metadata.hasImpostors()) {
+            return metadata;
+        }
+
+        int impostorId = getImpostorId(metadata);
+        return impostorId == -1 ? null : getObject(impostorId);
+    }
+
+    @Nullable
+    public static Metadata getNpc(int id) {
+        return get(npcs, id, Rs2CompositionCache::loadNpc);
+    }
+
+    @Nullable
+    public static Metadata getItem(int id) {
+        return get(items, id, Rs2CompositionCache::loadItem);
+    }
+
+    public static void invalidate() {
+        objects.clear();
+        npcs.clear();
+        items.clear();
+        varbits.clear();
+    }
+
+    public static void onGameStateChanged(GameStateChanged event) {
+        switch (event.getGameState()) {
+            case LOGIN_SCREEN:
+            case HOPPING:
+                invalidate();
+                break;
+        }
+    }
+
+    private static Metadata get(Map<Integer, Metadata> cache, int id, IntFunction<Metadata> loader) {
+        if (id < 0) {
+            return null;
+        }
+
+        Metadata metadata = cache.get(id);
+        if (metadata != null) {
+            return metadata;
+        }
+
+        // Compositions that can't be loaded yet, e.g. while logging in, are not cached and are asked for again
+        metadata = Microbot.getClientThread().runOnClientThreadOptional(() -> loader.apply(id)).orElse(null);
+        if (metadata != null) {
+            cache.put(id, metadata);
+        }
+        return metadata;
+    }
+
+    private static int getImpostorId(Metadata metadata) {
+        int value;
+        if (metadata.getImpostorVarbitId() != -1) {
+            value = getVarbitValue(metadata.getImpostorVarbitId());
+        } else if (metadata.getImpostorVarpId() != -1) {
+            value = getVarpValue(metadata.getImpostorVarpId());
+        } else {
+            value = -1;
+        }
+
+        // Same selection as ObjectComposition#getImpostor: the last id is the default for out of range values
+        int[] ids = metadata.getImpostorIds();
+        return value >= 0 && value < ids.length - 1 ? ids[value] : ids[ids.length - 1];
+    }
+
+    private static int getVarbitValue(int varbitId) {
+        VarbitLayout layout = varbits.get(varbitId);
+        if (layout == null) {
+            layout = Microbot.getClientThread().runOnClientThreadOptional(() -> {
+                VarbitComposition varbit = Microbot.getClient().getVarbit(varbitId);
+                return varbit == null ? null
+                        : new VarbitLayout(varbit.getIndex(), varbit.getLeastSignificantBit(), varbit.getMostSignificantBit());
+            }).orElse(null);
+            if (layout == null) {
+                return -1;
+            }
+            varbits.put(varbitId, layout);
+        }
+
+        int bits = layout.getMsb() - layout.getLsb() + 1;
+        int mask = bits >= 32 ? -1 : (1 << bits) - 1;
+        return (getVarpValue(layout.getIndex()) >>> layout.getLsb()) & mask;
+    }
+
+    /**
+     * Reads the varp from the game state snapshot, which is kept up to date by varbit change events. A varp that is
+     * not in the snapshot yet is read on the client thread once and watched until it is no longer read.
+     */
+    private static int getVarpValue(int varpId) {
+        if (varpId < 0) {
+            return -1;
+        }
+        Integer value = Rs2GameState.getLeasedVarpValue(varpId);
+        if (value != null) {
+            return value;
+        }
+        return Microbot.getClientThread().runOnClientThreadOptional(() -> Microbot.getClient().getVarpValue(varpId)).orElse(-1);
+    }
+
+    private static Metadata loadObject(int id) {
+        ObjectComposition composition = Microbot.getClient().getObjectDefinition(id);
+        if (composition == null) {
+            return null;
+        }
+        int[] impostorIds = composition.getImpostorIds();
+        return create(id, composition.getName(), composition.getActions(), composition.getVarbitId(),
+                composition.getVarPlayerId(), impostorIds == null ? null : impostorIds.clone());
+    }
+
+    private static Metadata loadNpc(int id) {
+        // NPC ids are already those of the transformed composition, so their impostors are never resolved here
+        NPCComposition composition = Microbot.getClient().getNpcDefinition(id);
+        if (composition == null) {
+            return null;
+        }
+        return create(id, composition.getName(), composition.getActions(), -1, -1, null);
+    }
+
+    private static Metadata loadItem(int id) {
+        ItemComposition composition = Microbot.getClient().getItemDefinition(id);
+        if (composition == null) {
+            return null;
+        }
+        return create(id, composition.getName(), composition.getInventoryActions(), -1, -1, null);
+    }
+
+    private static Metadata create(int id, String name, String[] actions, int varbitId, int varpId, int[] impostorIds) {
+        // Compositions without a name report the literal "null"
+        String normalized = name == null || name.equals("null") ? "" : Rs2UiHelper.stripColTags(name);
+        List<String> actionList = actions == null
+                ? Collections.emptyList()
+                : Collections.unmodifiableList(Arrays.asList(actions.clone()));
+        return new Metadata(id, name, normalized, normalized.toLowerCase(), actionList, varbitId, varpId, impostorIds);
+    }
+}
@@ -1,6 +1,7 @@
 package net.runelite.client.plugins.microbot.util.gameobject;
 
 import lombok.SneakyThrows;
+import lombok.extern.slf4j.Slf4j;
 import net.runelite.api.*;
 import net.runelite.api.coords.LocalPoint;
 import net.runelite.api.coords.WorldArea;
@@ -9,6 +10,7 @@ import net.runelite.api.gameval.ItemID;
 import net.runelite.client.plugins.microbot.Microbot;
 import net.runelite.client.plugins.microbot.util.antiban.Rs2AntibanSettings;
 import net.runelite.client.plugins.microbot.util.bank.enums.BankLocation;
+import net.runelite.client.plugins.microbot.util.cache.Rs2CompositionCache;
 import net.runelite.client.plugins.microbot.util.camera.Rs2Camera;
 import net.runelite.client.plugins.microbot.util.coords.Rs2LocalPoint;
 import net.runelite.client.plugins.microbot.util.coords.Rs2WorldArea;
@@ -19,6 +21,7 @@ import net.runelite.client.plugins.microbot.util.misc.Rs2UiHelper;
 import net.runelite.client.plugins.microbot.util.player.Rs2Player;
 import net.runelite.client.plugins.microbot.util.tile.Rs2Tile;
 import net.runelite.client.plugins.microbot.util.walker.Rs2Walker;
+import net.runelite.client.util.NameMatcher;
 
 import javax.annotation.Nullable;
 import java.lang.reflect.Field;
@@ -33,6 +36,7 @@ import static net.runelite.client.plugins.microbot.util.Global.sleepUntil;
 /**
  * TODO: This class should be cleaned up, less methods by passing filters instead of multiple parameters
  */
+@Slf4j
 public class Rs2GameObject {
 	/**
 	 * Extracts all {@link GameObject}s located on a given {@link Tile}.
@@ -91,6 +95,17 @@ public class Rs2GameObject {
 			tile.getWallObject()
 		);
 
+	/**
+	 * The {@link Rs2SceneObjectIndex} kinds holding the objects each extractor returns.
+	 */
+	private static final Map<Function<Tile, ? extends Collection<? extends TileObject>>, Set<Rs2SceneObjectIndex.Kind>> INDEXED_KINDS = Map.of(
+		GAMEOBJECT_EXTRACTOR, EnumSet.of(Rs2SceneObjectIndex.Kind.GAME),
+		GROUNDOBJECT_EXTRACTOR, EnumSet.of(Rs2SceneObjectIndex.Kind.GROUND),
+		DECORATIVEOBJECT_EXTRACTOR, EnumSet.of(Rs2SceneObjectIndex.Kind.DECORATIVE),
+		WALLOBJECT_EXTRACTOR, EnumSet.of(Rs2SceneObjectIndex.Kind.WALL),
+		TILEOBJECT_EXTRACTOR, EnumSet.of(Rs2SceneObjectIndex.Kind.DECORATIVE, Rs2SceneObjectIndex.Kind.GROUND, Rs2SceneObjectIndex.Kind.WALL)
+	);
+
 
     public static boolean interact(WorldPoint worldPoint) {
         return interact(worldPoint, "");
@@ -213,7 +228,7 @@ public class Rs2GameObject {
 
 	@Deprecated
     public static TileObject findObjectById(int id) {
-        return getAll(o -> o.getId() == id).stream().findFirst().orElse(null);
+        return getAll(idMatches(id)).stream().findFirst().orElse(null);
     }
 
     @Deprecated
@@ -242,7 +257,7 @@ public class Rs2GameObject {
         Player player = Microbot.getClient().getLocalPlayer();
         if (player == null) return null;
         LocalPoint anchor = player.getLocalLocation();
-        return getAll(o -> o.getId() == id).stream().filter(withinTilesPredicate(Rs2LocalPoint.worldToLocalDistance(distance), anchor)).findFirst().orElse(null);
+        return getAll(idMatches(id)).stream().filter(withinTilesPredicate(Rs2LocalPoint.worldToLocalDistance(distance), anchor)).findFirst().orElse(null);
     }
 
     @Deprecated
@@ -300,8 +315,7 @@ public class Rs2GameObject {
             }
 
             if (checkAction) {
-                ObjectComposition comp = convertToObjectComposition(o);
-                return hasAction(comp, action);
+                return hasAction(Rs2CompositionCache.getObject(o.getId(), true), action, true);
             }
 
             return true;
@@ -341,6 +355,15 @@ public class Rs2GameObject {
         return hasAction(objComp, action, true);
     }
 
+    private static boolean hasAction(Rs2CompositionCache.Metadata metadata, String action, boolean exact) {
+        if (metadata == null) return false;
+
+        String lowerAction = action.toLowerCase();
+        return metadata.getActions().stream()
+                .filter(Objects::nonNull)
+                .anyMatch(a -> exact ? a.equalsIgnoreCase(action) : a.toLowerCase().contains(lowerAction));
+    }
+
     /**
      * Imposter objects are objects that have their menu action changed but still remain the same object.
      * for example: farming patches
@@ -352,12 +375,9 @@ public class Rs2GameObject {
 
     @Deprecated
     public static GameObject findObjectByImposter(int id, String optionName, boolean exact) {
-        return getGameObjects(o -> o.getId() == id)
+        return getGameObjects(idMatches(id))
                 .stream()
-                .filter(o -> {
-                    ObjectComposition comp = convertToObjectComposition(o);
-                    return hasAction(comp, optionName, exact);
-                })
+                .filter(o -> hasAction(Rs2CompositionCache.getObject(o.getId(), true), optionName, exact))
                 .findFirst()
                 .orElse(null);
     }
@@ -394,7 +414,7 @@ public class Rs2GameObject {
             return hasAction(comp, "Bank", false) || hasAction(comp, "Collect", false);
         };
 
-        return getGameObjects(o -> Arrays.stream(Rs2BankID.bankIds).anyMatch(bid -> o.getId() == bid), maxSearchRadius).stream()
+        return getGameObjects(idMatches(Rs2BankID.bankIds), maxSearchRadius).stream()
                 .filter(bankableFilter)
                 .findFirst()
                 .orElse(null);
@@ -419,7 +439,7 @@ public class Rs2GameObject {
             if (comp == null) return false;
             return hasAction(comp, "Deposit", false);
         };
-        return getGameObjects(o -> Arrays.stream(Rs2BankID.bankIds).anyMatch(bid -> o.getId() == bid), maxSearchRadius).stream()
+        return getGameObjects(idMatches(Rs2BankID.bankIds), maxSearchRadius).stream()
                 .filter(depositableFilter)
                 .findFirst()
                 .orElse(null);
@@ -522,7 +542,7 @@ public class Rs2GameObject {
     }
 
     public static TileObject getTileObject(int id) {
-        return getTileObject(o -> o.getId() == id);
+        return getTileObject(idMatches(id));
     }
 
     public static TileObject getTileObject(int id, int distance) {
@@ -538,17 +558,15 @@ public class Rs2GameObject {
     }
 
     public static TileObject getTileObject(int id, WorldPoint anchor, int distance) {
-        return getTileObject(o -> o.getId() == id, anchor, distance);
+        return getTileObject(idMatches(id), anchor, distance);
     }
 
     public static TileObject getTileObject(Integer[] ids) {
-        Set<Integer> idSet = Stream.of(ids).collect(Collectors.toSet());
-        return getTileObject(o -> idSet.contains(o.getId()));
+        return getTileObject(idMatches(ids));
     }
 
     public static TileObject getTileObject(Integer[] ids, int distance) {
-        Set<Integer> idSet = Stream.of(ids).collect(Collectors.toSet());
-        return getTileObject(o -> idSet.contains(o.getId()), distance);
+        return getTileObject(idMatches(ids), distance);
     }
 
     public static TileObject getTileObject(String objectName, boolean exact) {
@@ -728,23 +746,20 @@ public class Rs2GameObject {
     }
 
     public static GameObject getGameObject(int id, WorldPoint anchor, int distance) {
-        return getGameObject(o -> o.getId() == id, anchor, distance);
+        return getGameObject(idMatches(id), anchor, distance);
     }
 
     public static GameObject getGameObject(Integer[] ids) {
-        Set<Integer> idSet = Stream.of(ids).collect(Collectors.toSet());
-        return getGameObject(o -> idSet.contains(o.getId()));
+        return getGameObject(idMatches(ids));
     }
 
     @Deprecated
     public static GameObject findObject(Integer[] ids) {
-        Set<Integer> idSet = Stream.of(ids).collect(Collectors.toSet());
-        return getGameObject(o -> idSet.contains(o.getId()));
+        return getGameObject(idMatches(ids));
     }
 
     public static GameObject getGameObject(Integer[] ids, int distance) {
-        Set<Integer> idSet = Stream.of(ids).collect(Collectors.toSet());
-        return getGameObject(o -> idSet.contains(o.getId()), distance);
+        return getGameObject(idMatches(ids), distance);
     }
 
     public static GameObject getGameObject(String objectName, boolean exact, int distance) {
@@ -924,17 +939,15 @@ public class Rs2GameObject {
     }
 
     public static GroundObject getGroundObject(int id, WorldPoint anchor, int distance) {
-        return getGroundObject(o -> o.getId() == id, anchor, distance);
+        return getGroundObject(idMatches(id), anchor, distance);
     }
 
     public static GroundObject getGroundObject(Integer[] ids) {
-        Set<Integer> idSet = Stream.of(ids).collect(Collectors.toSet());
-        return getGroundObject(o -> idSet.contains(o.getId()));
+        return getGroundObject(idMatches(ids));
     }
 
     public static GroundObject getGroundObject(Integer[] ids, int distance) {
-        Set<Integer> idSet = Stream.of(ids).collect(Collectors.toSet());
-        return getGroundObject(o -> idSet.contains(o.getId()), distance);
+        return getGroundObject(idMatches(ids), distance);
     }
 
     public static GroundObject getGroundObject(String objectName, boolean exact, int distance) {
@@ -1114,17 +1127,15 @@ public class Rs2GameObject {
     }
 
     public static WallObject getWallObject(int id, WorldPoint anchor, int distance) {
-        return getWallObject(o -> o.getId() == id, anchor, distance);
+        return getWallObject(idMatches(id), anchor, distance);
     }
 
     public static WallObject getWallObject(Integer[] ids) {
-        Set<Integer> idSet = Stream.of(ids).collect(Collectors.toSet());
-        return getWallObject(o -> idSet.contains(o.getId()));
+        return getWallObject(idMatches(ids));
     }
 
     public static WallObject getWallObject(Integer[] ids, int distance) {
-        Set<Integer> idSet = Stream.of(ids).collect(Collectors.toSet());
-        return getWallObject(o -> idSet.contains(o.getId()), distance);
+        return getWallObject(idMatches(ids), distance);
     }
 
     public static WallObject getWallObject(String objectName, boolean exact, int distance) {
@@ -1304,17 +1315,15 @@ public class Rs2GameObject {
     }
 
     public static DecorativeObject getDecorativeObject(int id, WorldPoint anchor, int distance) {
-        return getDecorativeObject(o -> o.getId() == id, anchor, distance);
+        return getDecorativeObject(idMatches(id), anchor, distance);
     }
 
     public static DecorativeObject getDecorativeObject(Integer[] ids) {
-        Set<Integer> idSet = Stream.of(ids).collect(Collectors.toSet());
-        return getDecorativeObject(o -> idSet.contains(o.getId()));
+        return getDecorativeObject(idMatches(ids));
     }
 
     public static DecorativeObject getDecorativeObject(Integer[] ids, int distance) {
-        Set<Integer> idSet = Stream.of(ids).collect(Collectors.toSet());
-        return getDecorativeObject(o -> idSet.contains(o.getId()), distance);
+        return getDecorativeObject(idMatches(ids), distance);
     }
 
     public static DecorativeObject getDecorativeObject(String objectName, boolean exact, int distance) {
@@ -1548,7 +1557,33 @@ public class Rs2GameObject {
             distance = Rs2LocalPoint.worldToLocalDistance(Constants.SCENE_SIZE);
         }
 
-        return getSceneObjects(extractor)
+        // The index may have missed the login of this scene, e.g. because the plugin was started while logged in
+        List<T> result = Rs2SceneObjectIndex.ensureReady()
+                ? getIndexedSceneObjects(extractor, predicate, anchorLocal, distance)
+                : filterSceneObjects(getSceneObjects(extractor), predicate, anchorLocal, distance);
+
+        if (Microbot.isDebug() && Rs2SceneObjectIndex.isReady()) {
+            List<T> scanned = filterSceneObjects(getSceneObjects(extractor), predicate, anchorLocal, distance);
+            if (!new HashSet<>(scanned).equals(new HashSet<>(result))) {
+                log.warn("Scene object index returned {} objects where a scene scan found {}, rebuilding", result.size(), scanned.size());
+                Microbot.getClientThread().invoke(Rs2SceneObjectIndex::rebuild);
+                return scanned;
+            }
+        }
+        return result;
+    }
+
+    private static <T extends TileObject> List<T> getIndexedSceneObjects(Function<Tile, Collection<? extends T>> extractor, Predicate<T> predicate, LocalPoint anchorLocal, int distance) {
+        Player player = Microbot.getClient().getLocalPlayer();
+        if (player == null) return Collections.emptyList();
+
+        Set<Integer> ids = predicate instanceof IdPredicate ? ((IdPredicate<T>) predicate).ids : null;
+        List<T> candidates = Rs2SceneObjectIndex.query(INDEXED_KINDS.get(extractor), ids, player.getWorldView().getPlane(), anchorLocal, distance);
+        return filterSceneObjects(candidates.stream(), predicate, anchorLocal, distance);
+    }
+
+    private static <T extends TileObject> List<T> filterSceneObjects(Stream<T> objects, Predicate<T> predicate, LocalPoint anchorLocal, int distance) {
+        return objects
                 .filter(withinTilesPredicate(distance, anchorLocal))
                 .filter(predicate)
                 .sorted(Comparator.comparingInt(o -> o.getLocalLocation().distanceTo(anchorLocal)))
@@ -1579,15 +1614,28 @@ public class Rs2GameObject {
         return to -> isWithinTiles(anchor, to.getLocalLocation(), distance);
     }
 
-    public static Optional<String> getCompositionName(TileObject obj) {
-        ObjectComposition comp = convertToObjectComposition(obj);
-        if (comp == null) {
-            return Optional.empty();
+    /**
+     * Id filter that {@link #getSceneObjects(Function, Predicate, LocalPoint, int)} answers from the id buckets of the
+     * scene object index instead of testing every object near the anchor.
+     */
+    private static class IdPredicate<T extends TileObject> implements Predicate<T> {
+        private final Set<Integer> ids;
+
+        private IdPredicate(Set<Integer> ids) {
+            this.ids = ids;
+        }
+
+        @Override
+        public boolean test(T object) {
+            return ids.contains(object.getId());
         }
-        String name = comp.getName();
-        return (name == null || name.equals("null"))
+    }
+
+    public static Optional<String> getCompositionName(TileObject obj) {
+        Rs2CompositionCache.Metadata metadata = Rs2CompositionCache.getObject(obj.getId(), true);
+        return metadata == null || !metadata.hasName()
                 ? Optional.empty()
-                : Optional.of(Rs2UiHelper.stripColTags(name));
+                : Optional.of(metadata.getNormalizedName());
     }
 
 	/**
@@ -1612,9 +1660,11 @@ public class Rs2GameObject {
                 return false;
             }
 
-            return getCompositionName(obj)
-                    .map(compName -> exact ? compName.equalsIgnoreCase(objectName) : compName.toLowerCase().contains(lower))
-                    .orElse(false);
+            Rs2CompositionCache.Metadata metadata = Rs2CompositionCache.getObject(obj.getId(), true);
+            if (metadata == null || !metadata.hasName()) {
+                return false;
+            }
+            return exact ? metadata.getLowerName().equals(lower) : metadata.getLowerName().contains(lower);
         };
     }
 
@@ -1630,6 +1680,46 @@ public class Rs2GameObject {
 		return nameMatches(objectName, false);
 	}
 
+	/**
+	 * Creates a predicate that matches TileObjects whose name matches any of the patterns of a {@link NameMatcher}.
+	 *
+	 * @param names The compiled name patterns.
+	 * @param <T>   A type that extends TileObject.
+	 * @return A predicate that returns true if the object's name matches one of the patterns.
+	 */
+	public static <T extends TileObject> Predicate<T> nameMatches(NameMatcher names)
+	{
+		return obj -> {
+			Rs2CompositionCache.Metadata metadata = Rs2CompositionCache.getObject(obj.getId(), true);
+			return metadata != null && metadata.hasName() && names.matches(metadata.getNormalizedName());
+		};
+	}
+
+	/**
+	 * Creates a predicate that matches TileObjects with the given id. Unlike an equivalent lambda, the scene
+	 * lookups recognise it and answer it from the id buckets of {@link Rs2SceneObjectIndex}.
+	 *
+	 * @param id  The object id to match.
+	 * @param <T> A type that extends TileObject.
+	 * @return A predicate that returns true if the object's id equals the given id.
+	 */
+	public static <T extends TileObject> Predicate<T> idMatches(int id)
+	{
+		return new IdPredicate<>(Set.of(id));
+	}
+
+	/**
+	 * Creates a predicate that matches TileObjects with any of the given ids.
+	 *
+	 * @param ids The object ids to match.
+	 * @param <T> A type that extends TileObject.
+	 * @return A predicate that returns true if the object's id is one of the given ids.
+	 */
+	public static <T extends TileObject> Predicate<T> idMatches(Integer... ids)
+	{
+		return new IdPredicate<>(new HashSet<>(Arrays.asList(ids)));
+	}
+
 	/**
 	 * Creates a predicate that matches TileObjects whose name and one of the actions match the given values.
 	 * Matching can be exact or partial based on the 'exact' parameter.
@@ -1644,10 +1734,7 @@ public class Rs2GameObject {
 	public static <T extends TileObject> Predicate<T> nameAndActionMatches(String objectName, String actionName, boolean exact)
 	{
 		Predicate<T> namePredicate = nameMatches(objectName, exact);
-		Predicate<T> actionPredicate = obj -> {
-			ObjectComposition comp = convertToObjectComposition(obj);
-			return hasAction(comp, actionName, exact);
-		};
+		Predicate<T> actionPredicate = obj -> hasAction(Rs2CompositionCache.getObject(obj.getId(), true), actionName, exact);
 
 		return namePredicate.and(actionPredicate);
 	}
@@ -0,0 +1,309 @@
+package net.runelite.client.plugins.microbot.util.gameobject;
+
+import net.runelite.api.*;
+import net.runelite.api.coords.LocalPoint;
+import net.runelite.api.events.*;
+import net.runelite.client.plugins.microbot.Microbot;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Index of the {@link TileObject}s in the loaded scene, kept up to date from spawn and despawn events so
+ * {@link Rs2GameObject} lookups no longer have to walk every tile of the scene.
+ * <p>
+ * Objects are bucketed by id and by cells of {@value #CELL_SIZE}x{@value #CELL_SIZE} scene tiles, so id lookups
+ * touch only matching objects and distance-limited lookups only the cells around the anchor. Game objects larger than
+ * a tile are added to every cell they cover. Events arrive on the client thread while scripts query from their own
+ * threads, so every bucket is a concurrent set, and updates are serialized with rebuilds, which only run on the client
+ * thread.
+ */
+public class Rs2SceneObjectIndex {
+    public enum Kind {
+        GAME,
+        GROUND,
+        WALL,
+        DECORATIVE
+    }
+
+    private static final int CELL_SIZE = 8;
+    private static final int CELLS = (Constants.SCENE_SIZE + CELL_SIZE - 1) / CELL_SIZE;
+
+    private static final Map<Kind, Index> indexes = new EnumMap<>(Kind.class);
+    // False until the first scene scan, and again while a new scene loads
+    private static volatile boolean ready = false;
+
+    static {
+        for (Kind kind : Kind.values()) {
+            indexes.put(kind, new Index());
+        }
+    }
+
+    public static boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * Builds the index from the scene on the client thread if it is not ready yet, e.g. because the plugin was started
+     * while logged in.
+     *
+     * @return whether the index is ready
+     */
+    public static boolean ensureReady() {
+        if (ready) {
+            return true;
+        }
+        Client client = Microbot.getClient();
+        if (client == null || client.getGameState() != GameState.LOGGED_IN) {
+            return false;
+        }
+        return Microbot.getClientThread().runOnClientThreadOptional(() -> {
+            if (!ready) {
+                rebuild();
+            }
+            return ready;
+        }).orElse(false);
+    }
+
+    public static void onGameObjectSpawned(GameObjectSpawned event) {
+        add(Kind.GAME, event.getGameObject());
+    }
+
+    public static void onGameObjectDespawned(GameObjectDespawned event) {
+        remove(Kind.GAME, event.getGameObject());
+    }
+
+    public static void onGroundObjectSpawned(GroundObjectSpawned event) {
+        add(Kind.GROUND, event.getGroundObject());
+    }
+
+    public static void onGroundObjectDespawned(GroundObjectDespawned event) {
+        remove(Kind.GROUND, event.getGroundObject());
+    }
+
+    public static void onWallObjectSpawned(WallObjectSpawned event) {
+        add(Kind.WALL, event.getWallObject());
+    }
+
+    public static void onWallObjectDespawned(WallObjectDespawned event) {
+        remove(Kind.WALL, event.getWallObject());
+    }
+
+    public static void onDecorativeObjectSpawned(DecorativeObjectSpawned event) {
+        add(Kind.DECORATIVE, event.getDecorativeObject());
+    }
+
+    public static void onDecorativeObjectDespawned(DecorativeObjectDespawned event) {
+        remove(Kind.DECORATIVE, event.getDecorativeObject());
+    }
+
+    public static void onGameStateChanged(GameStateChanged event) {
+        switch (event.getGameState()) {
+            case LOADING:
+            case HOPPING:
+            case LOGIN_SCREEN:
+            case CONNECTION_LOST:
+                ready = false;
+                clear();
+                break;
+            case LOGGED_IN:
+                // Objects of a freshly loaded scene may be added before their spawn events are posted, so scan once
+                rebuild();
+                break;
+        }
+    }
+
+    /** Rebuilds the index from the tiles of the current scene. Must be called on the client thread. */
+    public static synchronized void rebuild() {
+        Client client = Microbot.getClient();
+        Player player = client == null || client.getGameState() != GameState.LOGGED_IN ? null : client.getLocalPlayer();
+        if (player == null) {
+            return;
+        }
+
+        Tile[][][] tiles = player.getWorldView().getScene().getTiles();
+        if (tiles == null) {
+            return;
+        }
+
+        clear();
+        for (int z = 0; z < tiles.length; z++) {
+            for (int x = 0; x < Constants.SCENE_SIZE; x++) {
+                for (int y = 0; y < Constants.SCENE_SIZE; y++) {
+                    Tile tile = tiles[z][x][y];
+                    if (tile == null) {
+                        continue;
+                    }
+                    for (GameObject gameObject : tile.getGameObjects()) {
+                        add(Kind.GAME, gameObject);
+                    }
+                    add(Kind.GROUND, tile.getGroundObject());
+                    add(Kind.WALL, tile.getWallObject());
+                    add(Kind.DECORATIVE, tile.getDecorativeObject());
+                }
+            }
+        }
+        ready = true;
+    }
+
+    /**
+     * Returns the indexed objects of the given kinds on {@code plane} that may lie within {@code distance} local
+     * units of {@code anchor}. Callers still apply their exact distance check.
+     *
+     * @param ids if not null, only objects with one of these ids are returned
+     */
+    @SuppressWarnings("unchecked")
+    public static <T extends TileObject> List<T> query(Set<Kind> kinds, Set<Integer> ids, int plane, LocalPoint anchor, int distance) {
+        List<T> result = new ArrayList<>();
+        if (ids != null) {
+            for (Kind kind : kinds) {
+                Index index = indexes.get(kind);
+                for (Integer id : ids) {
+                    for (TileObject object : index.byId.getOrDefault(id, Collections.emptySet())) {
+                        if (object.getPlane() == plane) {
+                            result.add((T) object);
+                        }
+                    }
+                }
+            }
+            return result;
+        }
+
+        if (plane < 0 || plane >= Constants.MAX_Z) {
+            return result;
+        }
+        int radius = distance / Perspective.LOCAL_TILE_SIZE + 1;
+        int minCellX = cell(anchor.getSceneX() - radius);
+        int maxCellX = cell(anchor.getSceneX() + radius);
+        int minCellY = cell(anchor.getSceneY() - radius);
+        int maxCellY = cell(anchor.getSceneY() + radius);
+        for (Kind kind : kinds) {
+            Set<TileObject>[] cells = indexes.get(kind).byCell[plane];
+            // A game object spanning several of the cells would otherwise be returned once per cell
+            Set<TileObject> seen = kind == Kind.GAME ? new HashSet<>() : null;
+            for (int cellX = minCellX; cellX <= maxCellX; cellX++) {
+                for (int cellY = minCellY; cellY <= maxCellY; cellY++) {
+                    for (TileObject object : cells[cellX * CELLS + cellY]) {
+                        if (seen == null || seen.add(object)) {
+                            result.add((T) object);
+                        }
+                    }
+                }
+            }
+        }
+        return result;
+    }
+
+    private static synchronized void add(Kind kind, TileObject object) {
+        if (object == null) {
+            return;
+        }
+        int plane = object.getPlane();
+        int[] cells = cellsOf(object);
+        if (cells.length == 0 || plane < 0 || plane >= Constants.MAX_Z) {
+            return;
+        }
+
+        Index index = indexes.get(kind);
+        for (int cell : cells) {
+            index.byCell[plane][cell].add(object);
+        }
+        index.byId.computeIfAbsent(object.getId(), k -> ConcurrentHashMap.newKeySet()).add(object);
+    }
+
+    private static synchronized void remove(Kind kind, TileObject object) {
+        if (object == null) {
+            return;
+        }
+        int plane = object.getPlane();
+        int[] cells = cellsOf(object);
+        if (cells.length == 0 || plane < 0 || plane >= Constants.MAX_Z) {
+            return;
+        }
+
+        Index index = indexes.get(kind);
+        for (int cell : cells) {
+            index.byCell[plane][cell].remove(object);
+        }
+        Set<TileObject> sameId = index.byId.get(object.getId());
+        if (sameId != null) {
+            sameId.remove(object);
+        }
+    }
+
+    private static synchronized void clear() {
+        for (Index index : indexes.values()) {
+            index.clear();
+        }
+    }
+
+    /**
+     * Returns the cells of the tiles the object covers: every tile from the min to the max location of a game object,
+     * and the tile of any other object. Tiles outside the scene are left out.
+     */
+    private static int[] cellsOf(TileObject object) {
+        int minX;
+        int minY;
+        int maxX;
+        int maxY;
+        if (object instanceof GameObject) {
+            Point min = ((GameObject) object).getSceneMinLocation();
+            Point max = ((GameObject) object).getSceneMaxLocation();
+            minX = min.getX();
+            minY = min.getY();
+            maxX = max.getX();
+            maxY = max.getY();
+        } else {
+            LocalPoint local = object.getLocalLocation();
+            minX = maxX = local.getSceneX();
+            minY = maxY = local.getSceneY();
+        }
+        minX = Math.max(minX, 0);
+        minY = Math.max(minY, 0);
+        maxX = Math.min(maxX, Constants.SCENE_SIZE - 1);
+        maxY = Math.min(maxY, Constants.SCENE_SIZE - 1);
+        if (minX > maxX || minY > maxY) {
+            return new int[0];
+        }
+
+        int minCellX = minX / CELL_SIZE;
+        int minCellY = minY / CELL_SIZE;
+        int maxCellX = maxX / CELL_SIZE;
+        int maxCellY = maxY / CELL_SIZE;
+        int[] cells = new int[(maxCellX - minCellX + 1) * (maxCellY - minCellY + 1)];
+        int i = 0;
+        for (int cellX = minCellX; cellX <= maxCellX; cellX++) {
+            for (int cellY = minCellY; cellY <= maxCellY; cellY++) {
+                cells[i++] = cellX * CELLS + cellY;
+            }
+        }
+        return cells;
+    }
+
+    private static int cell(int sceneCoordinate) {
+        return Math.max(0, Math.min(CELLS - 1, sceneCoordinate / CELL_SIZE));
+    }
+
+    private static class Index {
+        private final Map<Integer, Set<TileObject>> byId = new ConcurrentHashMap<>();
+        @SuppressWarnings("unchecked")
+        private final Set<TileObject>[][] byCell = new Set[Constants.MAX_Z][CELLS * CELLS];
+
+        private Index() {
+            for (Set<TileObject>[] plane : byCell) {
+                for (int i = 0; i < plane.length; i++) {
+                    plane[i] = ConcurrentHashMap.newKeySet();
+                }
+            }
+        }
+
+        private void clear() {
+            byId.clear();
+            for (Set<TileObject>[] plane : byCell) {
+                for (Set<TileObject> cell : plane) {
+                    cell.clear();
+                }
+            }
+        }
+    }
+}
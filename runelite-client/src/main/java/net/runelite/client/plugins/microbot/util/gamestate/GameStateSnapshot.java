@@ -0,0 +1,36 @@
+package net.runelite.client.plugins.microbot.util.gamestate;
+
+import lombok.Value;
+import lombok.With;
+
+import java.util.Map;
+
+/**
+ * Immutable view of the game state, captured on the client thread once per game tick by {@link Rs2GameState}.
+ * <p>
+ * Everything a snapshot holds was read in the same tick, so scripts see consistent values without blocking on the
+ * client thread. Varbits and varplayers are only captured when registered with {@link Rs2GameState#watchVarbit} or
+ * {@link Rs2GameState#watchVarp}; their changes within a tick are published as an updated copy of the snapshot.
+ * <p>
+ * It only holds what a utility answers from it: the pose for {@code Rs2Player.isMoving} and the watched variables.
+ * A value is added together with the utility that reads it, since every value costs a read on each tick.
+ */
+@Value
+public class GameStateSnapshot {
+    /** The client tick count at capture */
+    int tick;
+    /** {@link System#nanoTime()} at capture */
+    long capturedAtNanos;
+
+    int poseAnimation;
+    int idlePoseAnimation;
+
+    @With
+    Map<Integer, Integer> varbits;
+    @With
+    Map<Integer, Integer> varps;
+
+    public boolean isMoving() {
+        return poseAnimation != idlePoseAnimation;
+    }
+}
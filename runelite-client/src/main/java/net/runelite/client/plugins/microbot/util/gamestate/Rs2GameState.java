@@ -0,0 +1,197 @@
+package net.runelite.client.plugins.microbot.util.gamestate;
+
+import lombok.extern.slf4j.Slf4j;
+import net.runelite.api.*;
+import net.runelite.api.events.GameStateChanged;
+import net.runelite.api.events.GameTick;
+import net.runelite.api.events.VarbitChanged;
+import net.runelite.client.plugins.microbot.Microbot;
+
+import javax.annotation.Nullable;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Captures a {@link GameStateSnapshot} on the client thread every game tick and publishes it for script threads.
+ * <p>
+ * Utilities that would otherwise marshal a single read to the client thread can answer from the current snapshot
+ * instead; every call answered that way is counted in {@link #getHopsAvoided()}. The utilities that poll a varbit or
+ * varplayer register it with {@link #watchVarbit} or {@link #watchVarp}, which {@link Microbot#getVarbitValue} and
+ * {@link Microbot#getVarbitPlayerValue} then answer from the snapshot.
+ */
+@Slf4j
+public class Rs2GameState {
+    private static final Set<Integer> watchedVarbits = ConcurrentHashMap.newKeySet();
+    private static final Set<Integer> watchedVarps = ConcurrentHashMap.newKeySet();
+    // Varps read through getLeasedVarpValue, by the number of captured snapshots at their last read
+    private static final Map<Integer, Long> leasedVarps = new ConcurrentHashMap<>();
+    /** The number of ticks a leased varplayer stays watched without being read */
+    private static final int LEASE_TICKS = 100;
+
+    private static volatile GameStateSnapshot snapshot;
+
+    private static final AtomicLong hopsAvoided = new AtomicLong();
+    private static final AtomicLong snapshotsCaptured = new AtomicLong();
+    private static final AtomicLong captureNanos = new AtomicLong();
+
+    /** Includes the varbit in every snapshot from the next tick on */
+    public static void watchVarbit(int varbitId) {
+        watchedVarbits.add(varbitId);
+    }
+
+    public static void unwatchVarbit(int varbitId) {
+        watchedVarbits.remove(varbitId);
+    }
+
+    /** Includes the varplayer in every snapshot from the next tick on */
+    public static void watchVarp(int varpId) {
+        watchedVarps.add(varpId);
+    }
+
+    public static void unwatchVarp(int varpId) {
+        watchedVarps.remove(varpId);
+    }
+
+    /**
+     * Returns the value of a varplayer like {@link #getVarpValue}, and watches it until it goes unread for
+     * {@link #LEASE_TICKS} ticks. This is for utilities whose varps come from the game data rather than a fixed list,
+     * so the varps they stop reading don't stay in every snapshot.
+     */
+    @Nullable
+    public static Integer getLeasedVarpValue(int varpId) {
+        leasedVarps.put(varpId, snapshotsCaptured.get());
+        return getVarpValue(varpId);
+    }
+
+    /**
+     * Returns the latest snapshot, or null if none was captured since logging in. It may be from an earlier tick
+     * when the client is lagging; use {@link #getCurrentSnapshot()} to only accept the one of the current tick.
+     */
+    @Nullable
+    public static GameStateSnapshot getSnapshot() {
+        return snapshot;
+    }
+
+    /** Returns the snapshot of the current game tick, or null if it has not been captured yet */
+    @Nullable
+    public static GameStateSnapshot getCurrentSnapshot() {
+        GameStateSnapshot current = snapshot;
+        if (current == null || current.getTick() != Microbot.getClient().getTickCount()) {
+            return null;
+        }
+        return current;
+    }
+
+    /** Returns the value of a watched varbit, or null if the current snapshot doesn't hold it */
+    @Nullable
+    public static Integer getVarbitValue(int varbitId) {
+        GameStateSnapshot current = snapshot;
+        Integer value = current == null ? null : current.getVarbits().get(varbitId);
+        if (value != null) {
+            hopsAvoided.incrementAndGet();
+        }
+        return value;
+    }
+
+    /** Returns the value of a watched varplayer, or null if the current snapshot doesn't hold it */
+    @Nullable
+    public static Integer getVarpValue(int varpId) {
+        GameStateSnapshot current = snapshot;
+        Integer value = current == null ? null : current.getVarps().get(varpId);
+        if (value != null) {
+            hopsAvoided.incrementAndGet();
+        }
+        return value;
+    }
+
+    /** Counts a read that was answered from a snapshot instead of the client thread */
+    public static void recordHopAvoided() {
+        hopsAvoided.incrementAndGet();
+    }
+
+    public static long getHopsAvoided() {
+        return hopsAvoided.get();
+    }
+
+    public static long getSnapshotsCaptured() {
+        return snapshotsCaptured.get();
+    }
+
+    /** Returns the average time spent on the client thread to capture a snapshot */
+    public static long getAverageCaptureNanos() {
+        long captured = snapshotsCaptured.get();
+        return captured == 0 ? 0 : captureNanos.get() / captured;
+    }
+
+    public static void onGameTick(GameTick event) {
+        long start = System.nanoTime();
+        long tick = snapshotsCaptured.get();
+        leasedVarps.values().removeIf(lastRead -> tick - lastRead > LEASE_TICKS);
+        GameStateSnapshot captured = capture(Microbot.getClient());
+        snapshot = captured;
+        if (captured != null) {
+            captureNanos.addAndGet(System.nanoTime() - start);
+            if (snapshotsCaptured.incrementAndGet() % 100 == 0) {
+                log.debug("Game state snapshots: {} captured, {}us average, {} client thread hops avoided",
+                        snapshotsCaptured.get(), getAverageCaptureNanos() / 1000, hopsAvoided.get());
+            }
+        }
+    }
+
+    public static void onVarbitChanged(VarbitChanged event) {
+        GameStateSnapshot current = snapshot;
+        if (current == null) {
+            return;
+        }
+
+        // Watched values stay exact between ticks, so callers never see a value older than the last change event
+        if (event.getVarbitId() != -1) {
+            if (current.getVarbits().containsKey(event.getVarbitId())) {
+                snapshot = current.withVarbits(with(current.getVarbits(), event.getVarbitId(), event.getValue()));
+            }
+        } else if (current.getVarps().containsKey(event.getVarpId())) {
+            snapshot = current.withVarps(with(current.getVarps(), event.getVarpId(), event.getValue()));
+        }
+    }
+
+    public static void onGameStateChanged(GameStateChanged event) {
+        if (event.getGameState() != GameState.LOGGED_IN) {
+            snapshot = null;
+        }
+    }
+
+    private static Map<Integer, Integer> with(Map<Integer, Integer> values, int id, int value) {
+        Map<Integer, Integer> copy = new HashMap<>(values);
+        copy.put(id, value);
+        return Collections.unmodifiableMap(copy);
+    }
+
+    @Nullable
+    private static GameStateSnapshot capture(Client client) {
+        Player player = client.getLocalPlayer();
+        if (player == null || client.getGameState() != GameState.LOGGED_IN) {
+            return null;
+        }
+
+        Map<Integer, Integer> varbits = new HashMap<>();
+        for (int varbitId : watchedVarbits) {
+            varbits.put(varbitId, client.getVarbitValue(varbitId));
+        }
+        Map<Integer, Integer> varps = new HashMap<>();
+        for (int varpId : watchedVarps) {
+            varps.put(varpId, client.getVarpValue(varpId));
+        }
+        for (int varpId : leasedVarps.keySet()) {
+            varps.putIfAbsent(varpId, client.getVarpValue(varpId));
+        }
+
+        return new GameStateSnapshot(
+                client.getTickCount(),
+                System.nanoTime(),
+                player.getPoseAnimation(),
+                player.getIdlePoseAnimation(),
+                Collections.unmodifiableMap(varbits),
+                Collections.unmodifiableMap(varps));
+    }
+}
@@ -0,0 +1,139 @@
+package net.runelite.client.plugins.microbot.util.grandexchange;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
+import com.google.gson.JsonParser;
+import lombok.extern.slf4j.Slf4j;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.stream.Collectors;
+
+/**
+ * Fetches prices from the GE Tracker item API.
+ * <p>
+ * The API has no bulk lookup, so a bulk fetch requests the items over a single shared client, at most
+ * {@value #MAX_CONCURRENT_REQUESTS} at a time.
+ */
+@Slf4j
+public class GeTrackerPriceSource implements GrandExchangePriceSource
+{
+	public static final URI DEFAULT_BASE_URI = URI.create("https://www.ge-tracker.com/api/items/");
+	static final int MAX_CONCURRENT_REQUESTS = 4;
+	private static final Duration TIMEOUT = Duration.ofSeconds(10);
+
+	private final HttpClient httpClient;
+	private final URI baseUri;
+
+	public GeTrackerPriceSource()
+	{
+		this(HttpClient.newBuilder().connectTimeout(TIMEOUT).build(), DEFAULT_BASE_URI);
+	}
+
+	/**
+	 * @param baseUri the item endpoint, which the item id is appended to, e.g. a local stub server
+	 */
+	public GeTrackerPriceSource(HttpClient httpClient, URI baseUri)
+	{
+		this.httpClient = httpClient;
+		this.baseUri = baseUri;
+	}
+
+	@Override
+	public CompletableFuture<Map<Integer, GrandExchangePrice>> fetch(Collection<Integer> itemIds)
+	{
+		Queue<Integer> queue = itemIds.stream()
+			.distinct()
+			.collect(Collectors.toCollection(ConcurrentLinkedQueue::new));
+		// Unknown items map to null, which a ConcurrentHashMap can't hold
+		Map<Integer, GrandExchangePrice> prices = Collections.synchronizedMap(new HashMap<>());
+
+		CompletableFuture<?>[] workers = new CompletableFuture[Math.min(MAX_CONCURRENT_REQUESTS, queue.size())];
+		for (int i = 0; i < workers.length; i++)
+		{
+			workers[i] = fetchNext(queue, prices);
+		}
+		return CompletableFuture.allOf(workers).thenApply(v -> new HashMap<>(prices));
+	}
+
+	/**
+	 * Fetches the queued items one after another, so each call adds one request to the ones in flight.
+	 */
+	private CompletableFuture<Void> fetchNext(Queue<Integer> queue, Map<Integer, GrandExchangePrice> prices)
+	{
+		Integer itemId = queue.poll();
+		if (itemId == null)
+		{
+			return CompletableFuture.completedFuture(null);
+		}
+
+		return fetch(itemId)
+			.handle((price, ex) ->
+			{
+				if (ex == null)
+				{
+					prices.put(itemId, price.orElse(null));
+				}
+				else
+				{
+					log.debug("Unable to fetch the price of item {}", itemId, ex);
+				}
+				return null;
+			})
+			.thenCompose(v -> fetchNext(queue, prices));
+	}
+
+	/**
+	 * Fetches the price of one item. Completes with an empty price if GE Tracker does not know the item, and
+	 * exceptionally for any other error response.
+	 */
+	private CompletableFuture<Optional<GrandExchangePrice>> fetch(int itemId)
+	{
+		HttpRequest request = HttpRequest.newBuilder()
+			.uri(baseUri.resolve(Integer.toString(itemId)))
+			.timeout(TIMEOUT)
+			.build();
+
+		return httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofString())
+			.thenApply(response ->
+			{
+				if (response.statusCode() == 404)
+				{
+					return Optional.empty();
+				}
+				if (response.statusCode() != 200)
+				{
+					throw new IllegalStateException("Unexpected response " + response.statusCode());
+				}
+				return Optional.of(parse(itemId, response.body()));
+			});
+	}
+
+	static GrandExchangePrice parse(int itemId, String body)
+	{
+		JsonElement json = new JsonParser().parse(body);
+		JsonObject data = json.isJsonObject() ? json.getAsJsonObject().getAsJsonObject("data") : null;
+		if (data == null)
+		{
+			throw new JsonParseException("Missing price data for item " + itemId);
+		}
+		return new GrandExchangePrice(itemId,
+			data.get("overall").getAsInt(),
+			data.get("buying").getAsInt(),
+			data.get("selling").getAsInt(),
+			data.get("buyingQuantity").getAsInt(),
+			data.get("sellingQuantity").getAsInt());
+	}
+}
@@ -0,0 +1,17 @@
+package net.runelite.client.plugins.microbot.util.grandexchange;
+
+import lombok.Value;
+
+/**
+ * The Grand Exchange prices and trade volumes of an item, as reported by a {@link GrandExchangePriceSource}.
+ */
+@Value
+public class GrandExchangePrice
+{
+	int itemId;
+	int overall;
+	int buying;
+	int selling;
+	int buyingQuantity;
+	int sellingQuantity;
+}
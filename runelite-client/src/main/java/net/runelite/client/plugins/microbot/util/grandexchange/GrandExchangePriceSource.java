@@ -0,0 +1,17 @@
+package net.runelite.client.plugins.microbot.util.grandexchange;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Where {@link Rs2GrandExchangePrices} fetches prices from.
+ */
+public interface GrandExchangePriceSource
+{
+	/**
+	 * Fetches the prices of the given items in one go. Items the source has no price for map to null. Items whose
+	 * price could not be fetched, e.g. because of a network error, are left out of the result so they are retried.
+	 */
+	CompletableFuture<Map<Integer, GrandExchangePrice>> fetch(Collection<Integer> itemIds);
+}
@@ -1,7 +1,5 @@
 package net.runelite.client.plugins.microbot.util.grandexchange;
 
-import com.google.gson.JsonObject;
-import com.google.gson.JsonParser;
 import java.util.Objects;
 import java.util.function.Predicate;
 import net.runelite.api.GrandExchangeOffer;
@@ -30,11 +28,6 @@ import net.runelite.client.plugins.microbot.util.widget.Rs2Widget;
 import org.apache.commons.lang3.tuple.Pair;
 
 import java.awt.*;
-import java.io.StringReader;
-import java.net.URI;
-import java.net.http.HttpClient;
-import java.net.http.HttpRequest;
-import java.net.http.HttpResponse;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
@@ -49,7 +42,6 @@ public class Rs2GrandExchange
 	private static final int COLLECT_ALL_BUTTON = 30474246;
 	@Component
 	private static final int GE_FRAME = InterfaceID.GeOffers.FRAME;
-	private static final String GE_TRACKER_API_URL = "https://www.ge-tracker.com/api/items/";
 
 	/**
 	 * close the grand exchange interface
@@ -946,134 +938,49 @@ public class Rs2GrandExchange
 	}
 
 
+	/**
+	 * Returns the price the item is being bought for, or -1 if it is unknown.
+	 */
 	public static int getOfferPrice(int itemId)
 	{
-		HttpClient httpClient = HttpClient.newHttpClient();
-		HttpRequest request = HttpRequest.newBuilder()
-			.uri(URI.create(GE_TRACKER_API_URL + itemId))
-			.build();
-
-		try
-		{
-			String jsonResponse = httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofString())
-				.thenApply(HttpResponse::body)
-				.join();
-
-			JsonParser parser = new JsonParser();
-			JsonObject jsonElement = parser.parse(new StringReader(jsonResponse)).getAsJsonObject();
-			JsonObject data = jsonElement.getAsJsonObject("data");
-
-			return data.get("buying").getAsInt();
-		}
-		catch (Exception e)
-		{
-			e.printStackTrace();
-			return -1;
-		}
+		GrandExchangePrice price = Rs2GrandExchangePrices.get(itemId);
+		return price == null ? -1 : price.getBuying();
 	}
 
+	/**
+	 * Returns the price the item is being sold for, or -1 if it is unknown.
+	 */
 	public static int getSellPrice(int itemId)
 	{
-		HttpClient httpClient = HttpClient.newHttpClient();
-		HttpRequest request = HttpRequest.newBuilder()
-			.uri(URI.create(GE_TRACKER_API_URL + itemId))
-			.build();
-
-		try
-		{
-			String jsonResponse = httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofString())
-				.thenApply(HttpResponse::body)
-				.join();
-
-			JsonParser parser = new JsonParser();
-			JsonObject jsonElement = parser.parse(new StringReader(jsonResponse)).getAsJsonObject();
-			JsonObject data = jsonElement.getAsJsonObject("data");
-
-			return data.get("selling").getAsInt();
-		}
-		catch (Exception e)
-		{
-			e.printStackTrace();
-			return -1;
-		}
+		GrandExchangePrice price = Rs2GrandExchangePrices.get(itemId);
+		return price == null ? -1 : price.getSelling();
 	}
 
+	/**
+	 * Returns the overall price of the item, or -1 if it is unknown.
+	 */
 	public static int getPrice(int itemId)
 	{
-		HttpClient httpClient = HttpClient.newHttpClient();
-		HttpRequest request = HttpRequest.newBuilder()
-			.uri(URI.create(GE_TRACKER_API_URL + itemId))
-			.build();
-
-		try
-		{
-			String jsonResponse = httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofString())
-				.thenApply(HttpResponse::body)
-				.join();
-
-			JsonParser parser = new JsonParser();
-			JsonObject jsonElement = parser.parse(new StringReader(jsonResponse)).getAsJsonObject();
-			JsonObject data = jsonElement.getAsJsonObject("data");
-
-			return data.get("overall").getAsInt();
-		}
-		catch (Exception e)
-		{
-			e.printStackTrace();
-			return -1;
-		}
+		GrandExchangePrice price = Rs2GrandExchangePrices.get(itemId);
+		return price == null ? -1 : price.getOverall();
 	}
 
+	/**
+	 * Returns the quantity of the item being bought, or -1 if it is unknown.
+	 */
 	public static int getBuyingVolume(int itemId)
 	{
-		HttpClient httpClient = HttpClient.newHttpClient();
-		HttpRequest request = HttpRequest.newBuilder()
-			.uri(URI.create(GE_TRACKER_API_URL + itemId))
-			.build();
-
-		try
-		{
-			String jsonResponse = httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofString())
-				.thenApply(HttpResponse::body)
-				.join();
-
-			JsonParser parser = new JsonParser();
-			JsonObject jsonElement = parser.parse(new StringReader(jsonResponse)).getAsJsonObject();
-			JsonObject data = jsonElement.getAsJsonObject("data");
-
-			return data.get("buyingQuantity").getAsInt();
-		}
-		catch (Exception e)
-		{
-			e.printStackTrace();
-			return -1;
-		}
+		GrandExchangePrice price = Rs2GrandExchangePrices.get(itemId);
+		return price == null ? -1 : price.getBuyingQuantity();
 	}
 
+	/**
+	 * Returns the quantity of the item being sold, or -1 if it is unknown.
+	 */
 	public static int getSellingVolume(int itemId)
 	{
-		HttpClient httpClient = HttpClient.newHttpClient();
-		HttpRequest request = HttpRequest.newBuilder()
-			.uri(URI.create(GE_TRACKER_API_URL + itemId))
-			.build();
-
-		try
-		{
-			String jsonResponse = httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofString())
-				.thenApply(HttpResponse::body)
-				.join();
-
-			JsonParser parser = new JsonParser();
-			JsonObject jsonElement = parser.parse(new StringReader(jsonResponse)).getAsJsonObject();
-			JsonObject data = jsonElement.getAsJsonObject("data");
-
-			return data.get("sellingQuantity").getAsInt();
-		}
-		catch (Exception e)
-		{
-			e.printStackTrace();
-			return -1;
-		}
+		GrandExchangePrice price = Rs2GrandExchangePrices.get(itemId);
+		return price == null ? -1 : price.getSellingQuantity();
 	}
 
 	static int getOfferQuantity()
@@ -0,0 +1,282 @@
+package net.runelite.client.plugins.microbot.util.grandexchange;
+
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+import net.runelite.client.plugins.microbot.Microbot;
+
+import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.LongSupplier;
+
+/**
+ * A shared cache of Grand Exchange prices.
+ * <p>
+ * Prices are fetched from a {@link GrandExchangePriceSource} and kept for a minute. After that a lookup still returns
+ * the cached price for up to ten minutes while a refresh runs in the background. Concurrent lookups of the same item
+ * share a single request, and {@link #getAll} fetches every missing item in one batch.
+ * <p>
+ * Only answers from the source are cached. When fetching an item fails, the last known price is kept and returned,
+ * and the item is not requested again until a backoff, doubling with every failure, has passed.
+ * <p>
+ * Prices from the {@link net.runelite.client.game.ItemManager} are cached as well, so they only need the client
+ * thread when they have expired.
+ */
+@Slf4j
+public final class Rs2GrandExchangePrices
+{
+	private static final long FRESH_NANOS = TimeUnit.MINUTES.toNanos(1);
+	private static final long STALE_NANOS = TimeUnit.MINUTES.toNanos(10);
+	private static final long ITEM_MANAGER_TTL_NANOS = TimeUnit.MINUTES.toNanos(5);
+	private static final long FETCH_TIMEOUT_NANOS = TimeUnit.SECONDS.toNanos(15);
+	private static final long MIN_BACKOFF_NANOS = TimeUnit.SECONDS.toNanos(5);
+	private static final long MAX_BACKOFF_NANOS = TimeUnit.MINUTES.toNanos(5);
+
+	private static volatile GrandExchangePriceSource source = new GeTrackerPriceSource();
+	private static final Map<Integer, Entry> prices = new ConcurrentHashMap<>();
+	private static final Map<Integer, CompletableFuture<GrandExchangePrice>> inFlight = new ConcurrentHashMap<>();
+	private static final Map<Integer, Entry> itemManagerPrices = new ConcurrentHashMap<>();
+	private static final Map<Integer, Failure> failures = new ConcurrentHashMap<>();
+	// Replaced by tests to move the cache through time
+	static LongSupplier clock = System::nanoTime;
+
+	private Rs2GrandExchangePrices()
+	{
+	}
+
+	/**
+	 * Replaces the source prices are fetched from and discards the cached prices.
+	 */
+	public static void setSource(GrandExchangePriceSource source)
+	{
+		Rs2GrandExchangePrices.source = source;
+		clear();
+	}
+
+	/**
+	 * Discards every cached price.
+	 */
+	public static void clear()
+	{
+		prices.clear();
+		itemManagerPrices.clear();
+		failures.clear();
+	}
+
+	/**
+	 * Returns the price of the item, waiting for it to be fetched if it is not cached.
+	 *
+	 * @return the price, or null if it is unknown or could not be fetched in time
+	 */
+	@Nullable
+	public static GrandExchangePrice get(int itemId)
+	{
+		return getAll(List.of(itemId)).get(itemId);
+	}
+
+	/**
+	 * Returns the price of the item without blocking. The future completes with null if the price is unknown.
+	 */
+	public static CompletableFuture<GrandExchangePrice> getAsync(int itemId)
+	{
+		return lookup(List.of(itemId)).get(itemId);
+	}
+
+	/**
+	 * Returns the prices of the given items, fetching every missing item in one batch.
+	 * Items whose price is unknown or could not be fetched in time are left out.
+	 */
+	public static Map<Integer, GrandExchangePrice> getAll(Collection<Integer> itemIds)
+	{
+		Map<Integer, CompletableFuture<GrandExchangePrice>> futures = lookup(itemIds);
+		Map<Integer, GrandExchangePrice> result = new HashMap<>();
+		long deadline = System.nanoTime() + FETCH_TIMEOUT_NANOS;
+		for (Map.Entry<Integer, CompletableFuture<GrandExchangePrice>> entry : futures.entrySet())
+		{
+			try
+			{
+				GrandExchangePrice price = entry.getValue().get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+				if (price != null)
+				{
+					result.put(entry.getKey(), price);
+				}
+			}
+			catch (TimeoutException | ExecutionException ex)
+			{
+				log.debug("Unable to get the price of item {}", entry.getKey(), ex);
+			}
+			catch (InterruptedException ex)
+			{
+				Thread.currentThread().interrupt();
+				break;
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Fetches the prices of the given items in the background, e.g. before a script needs them.
+	 */
+	public static void prefetch(Collection<Integer> itemIds)
+	{
+		lookup(itemIds);
+	}
+
+	/**
+	 * Returns the {@link net.runelite.client.game.ItemManager} price of a single item, or 0 if it is not available.
+	 */
+	public static int getItemManagerPrice(int itemId)
+	{
+		Entry entry = itemManagerPrices.get(itemId);
+		if (entry != null && System.nanoTime() - entry.fetchedAt < ITEM_MANAGER_TTL_NANOS)
+		{
+			return entry.price.getOverall();
+		}
+
+		Optional<Integer> price = Microbot.getClientThread()
+			.runOnClientThreadOptional(() -> Microbot.getItemManager().getItemPrice(itemId));
+		if (price.isEmpty())
+		{
+			return 0;
+		}
+		itemManagerPrices.put(itemId, new Entry(new GrandExchangePrice(itemId, price.get(), 0, 0, 0, 0), System.nanoTime()));
+		return price.get();
+	}
+
+	private static Map<Integer, CompletableFuture<GrandExchangePrice>> lookup(Collection<Integer> itemIds)
+	{
+		Map<Integer, CompletableFuture<GrandExchangePrice>> futures = new LinkedHashMap<>();
+		List<Integer> missing = new ArrayList<>();
+		long now = clock.getAsLong();
+		for (int itemId : itemIds)
+		{
+			if (futures.containsKey(itemId))
+			{
+				continue;
+			}
+
+			Entry entry = prices.get(itemId);
+			long age = entry == null ? Long.MAX_VALUE : now - entry.fetchedAt;
+			Failure failure = failures.get(itemId);
+			boolean backingOff = failure != null && now - failure.retryAt < 0;
+			if (age < STALE_NANOS || backingOff)
+			{
+				// Until the backoff has passed the last known price is all there is, however old it is
+				futures.put(itemId, CompletableFuture.completedFuture(entry == null ? null : entry.price));
+				if (age >= FRESH_NANOS && !backingOff)
+				{
+					missing.add(itemId);
+				}
+			}
+			else
+			{
+				futures.put(itemId, null);
+				missing.add(itemId);
+			}
+		}
+
+		if (!missing.isEmpty())
+		{
+			Map<Integer, CompletableFuture<GrandExchangePrice>> requested = request(missing);
+			// Stale prices are returned right away and only refreshed in the background
+			futures.replaceAll((itemId, future) -> future != null ? future : requested.get(itemId));
+		}
+		return futures;
+	}
+
+	private static Map<Integer, CompletableFuture<GrandExchangePrice>> request(List<Integer> itemIds)
+	{
+		Map<Integer, CompletableFuture<GrandExchangePrice>> futures = new HashMap<>();
+		Map<Integer, CompletableFuture<GrandExchangePrice>> batch = new HashMap<>();
+		for (int itemId : itemIds)
+		{
+			CompletableFuture<GrandExchangePrice> future = new CompletableFuture<>();
+			CompletableFuture<GrandExchangePrice> pending = inFlight.putIfAbsent(itemId, future);
+			if (pending != null)
+			{
+				futures.put(itemId, pending);
+			}
+			else
+			{
+				futures.put(itemId, future);
+				batch.put(itemId, future);
+			}
+		}
+		if (batch.isEmpty())
+		{
+			return futures;
+		}
+
+		CompletableFuture<Map<Integer, GrandExchangePrice>> fetched;
+		try
+		{
+			fetched = source.fetch(new ArrayList<>(batch.keySet()));
+		}
+		catch (RuntimeException ex)
+		{
+			fetched = CompletableFuture.failedFuture(ex);
+		}
+
+		fetched.whenComplete((result, ex) ->
+		{
+			if (ex != null)
+			{
+				log.debug("Unable to fetch the prices of {} items", batch.size(), ex);
+			}
+
+			long fetchedAt = clock.getAsLong();
+			batch.forEach((itemId, future) ->
+			{
+				GrandExchangePrice price;
+				if (ex == null && result != null && result.containsKey(itemId))
+				{
+					// Items the source has no price for are cached too, so they are not requested on every lookup
+					price = result.get(itemId);
+					prices.put(itemId, new Entry(price, fetchedAt));
+					failures.remove(itemId);
+				}
+				else
+				{
+					// Keep the last known price rather than caching the failure as an unknown price
+					Entry stale = prices.get(itemId);
+					price = stale == null ? null : stale.price;
+					failures.compute(itemId, (id, previous) -> Failure.after(previous, fetchedAt));
+				}
+				inFlight.remove(itemId, future);
+				future.complete(price);
+			});
+		});
+		return futures;
+	}
+
+	@Value
+	private static class Entry
+	{
+		GrandExchangePrice price;
+		long fetchedAt;
+	}
+
+	@Value
+	private static class Failure
+	{
+		int count;
+		long retryAt;
+
+		static Failure after(@Nullable Failure previous, long now)
+		{
+			int count = previous == null ? 1 : previous.count + 1;
+			long backoff = Math.min(MAX_BACKOFF_NANOS, MIN_BACKOFF_NANOS << Math.min(count - 1, 16));
+			return new Failure(count, now + backoff);
+		}
+	}
+}
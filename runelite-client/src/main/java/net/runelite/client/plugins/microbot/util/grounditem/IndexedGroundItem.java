@@ -0,0 +1,66 @@
+package net.runelite.client.plugins.microbot.util.grounditem;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.Setter;
+import net.runelite.api.ItemComposition;
+import net.runelite.api.Tile;
+import net.runelite.api.TileItem;
+import net.runelite.api.coords.WorldPoint;
+import net.runelite.client.plugins.microbot.Microbot;
+
+/**
+ * A ground item tracked by {@link Rs2GroundItemIndex}. Everything loot rules check is resolved once when the item
+ * spawns, so rules can be tested from script threads without the client thread.
+ */
+@Getter
+public class IndexedGroundItem {
+    private final TileItem tileItem;
+    private final Tile tile;
+    private final WorldPoint location;
+    private final ItemComposition composition;
+    private final int id;
+    private final String name;
+    /** The name in lower case without surrounding whitespace */
+    private final String normalizedName;
+    /** The Grand Exchange price of a single item, looked up by the unnoted id */
+    private final int gePrice;
+    private final int haPrice;
+    private final boolean tradeable;
+    private final boolean stackable;
+    private final int ownership;
+    /** The server tick the item despawns at, comparable with {@link net.runelite.api.Client#getTickCount()} */
+    private final int despawnTick;
+    @Getter(AccessLevel.PACKAGE)
+    private final long sequence;
+    @Setter(AccessLevel.PACKAGE)
+    private volatile int quantity;
+
+    IndexedGroundItem(Tile tile, TileItem tileItem, ItemComposition composition, int gePrice, long sequence) {
+        this.tileItem = tileItem;
+        this.tile = tile;
+        this.location = tile.getWorldLocation();
+        this.composition = composition;
+        this.id = tileItem.getId();
+        this.name = composition.getName();
+        this.normalizedName = name.trim().toLowerCase();
+        this.gePrice = gePrice;
+        this.haPrice = composition.getHaPrice();
+        this.tradeable = composition.isTradeable();
+        this.stackable = composition.isStackable();
+        this.ownership = tileItem.getOwnership();
+        this.despawnTick = tileItem.getDespawnTime();
+        this.sequence = sequence;
+        this.quantity = tileItem.getQuantity();
+    }
+
+    /** Returns the Grand Exchange price of the whole stack */
+    public long getTotalGePrice() {
+        return (long) gePrice * quantity;
+    }
+
+    /** Returns the number of ticks until the item despawns */
+    public int getDespawnTicks() {
+        return Math.max(0, despawnTick - Microbot.getClient().getTickCount());
+    }
+}
@@ -15,14 +15,13 @@ import net.runelite.client.plugins.microbot.util.models.RS2Item;
 import net.runelite.client.plugins.microbot.util.player.Rs2Player;
 import net.runelite.client.plugins.microbot.util.reflection.Rs2Reflection;
 import net.runelite.client.plugins.microbot.util.tile.Rs2Tile;
+import net.runelite.client.util.NameMatcher;
 
 import java.awt.*;
-import java.time.Instant;
 import java.util.List;
 import java.util.*;
 import java.util.function.BooleanSupplier;
 import java.util.function.Predicate;
-import java.util.stream.Collectors;
 
 import static net.runelite.api.TileItem.OWNERSHIP_SELF;
 import static net.runelite.client.plugins.microbot.util.Global.sleepUntil;
@@ -125,22 +124,6 @@ public class Rs2GroundItem {
         return interact(new InteractModel(groundItem.getId(), groundItem.getLocation(), groundItem.getName()), "Take");
     }
 
-    private static int calculateDespawnTime(GroundItem groundItem) {
-        Instant spawnTime = groundItem.getSpawnTime();
-        if (spawnTime == null) {
-            return 0;
-        }
-
-        Instant despawnTime = spawnTime.plus(groundItem.getDespawnTime());
-        if (Instant.now().isAfter(despawnTime)) {
-            // that's weird
-            return 0;
-        }
-        long despawnTimeMillis = despawnTime.toEpochMilli() - Instant.now().toEpochMilli();
-
-        return (int) (despawnTimeMillis / 600);
-    }
-
     private static final RS2Item[] EMPTY_ARRAY = new RS2Item[0];
 
     /**
@@ -182,6 +165,14 @@ public class Rs2GroundItem {
     public static RS2Item[] getAllFromWorldPoint(int range, WorldPoint worldPoint) {
         if (worldPoint == null) return (RS2Item[]) EMPTY_ARRAY;
 
+        if (Rs2GroundItemIndex.ensureReady()) {
+            final LocalPoint playerLocation = Microbot.getClient().getLocalPlayer().getLocalLocation();
+            return Rs2GroundItemIndex.getAll(worldPoint, range).stream()
+                    .map(groundItem -> new RS2Item(groundItem.getComposition(), groundItem.getTile(), groundItem.getTileItem()))
+                    .sorted(Comparator.comparingInt(value -> value.getTile().getLocalLocation().distanceTo(playerLocation)))
+                    .toArray(RS2Item[]::new);
+        }
+
         return Microbot.getClientThread().runOnClientThreadOptional(() -> {
                     List<RS2Item> temp = new ArrayList<>();
                     final int pX = worldPoint.getX();
@@ -260,86 +251,112 @@ public class Rs2GroundItem {
         return groundItem != getGroundItems().get(groundItem.getLocation(), groundItem.getId());
     }
 
-    private static boolean coreLoot(GroundItem groundItem) {
-        int quantity = Math.min(groundItem.isStackable() ? 1 : groundItem.getQuantity(),
-                Rs2Inventory.emptySlotCount());
+    /**
+     * Waits for the indexed ground item to despawn while performing an action, like
+     * {@link #waitForGroundItemDespawn(Runnable, GroundItem)}.
+     *
+     * @return true if the ground item despawns, false otherwise
+     */
+    public static boolean waitForGroundItemDespawn(Runnable actionWhileWaiting, IndexedGroundItem groundItem) {
+        sleepUntil(() -> {
+            actionWhileWaiting.run();
+            sleepUntil(() -> !Rs2GroundItemIndex.contains(groundItem), Rs2Random.between(600, 2100));
+            return !Rs2GroundItemIndex.contains(groundItem);
+        });
+        return !Rs2GroundItemIndex.contains(groundItem);
+    }
 
-        if (quantity == 0 && groundItem.isStackable()) {
-            if (!Rs2Inventory.hasItem(groundItem.getId())) return false;
-            quantity = 1;
+    public static boolean interact(IndexedGroundItem groundItem) {
+        return interact(new InteractModel(groundItem.getId(), groundItem.getLocation(), groundItem.getName()), "Take");
+    }
+
+    private static boolean coreLoot(IndexedGroundItem groundItem) {
+        // Every indexed item is a single ground stack, so it is picked up with one take
+        if (Rs2Inventory.emptySlotCount() == 0 && !(groundItem.isStackable() && Rs2Inventory.hasItem(groundItem.getId()))) {
+            return false;
         }
+        return runWhilePaused(() -> waitForGroundItemDespawn(() -> interact(groundItem), groundItem));
+    }
 
-        final int quantFinal = quantity;
-        return runWhilePaused(() -> {
-            for (int i = 0; i < quantFinal; i++) {
-                waitForGroundItemDespawn(() -> interact(groundItem), groundItem);
-            }
-            return true;
-        });
+    /**
+     * Returns a rule matching the items within range of the player, owned by the player if anti-lure protection is
+     * enabled.
+     */
+    private static Predicate<IndexedGroundItem> nearbyRule(LootingParameters params) {
+        final WorldPoint playerLocation = Microbot.getClient().getLocalPlayer().getWorldLocation();
+        return groundItem -> groundItem.getLocation().distanceTo(playerLocation) < params.getRange() &&
+                (!params.isAntiLureProtection() || groundItem.getOwnership() == OWNERSHIP_SELF);
     }
 
-    private static boolean validateLoot(Predicate<GroundItem> filter) {
-        // If there are no more lootable items we successfully looted everything in the filter
-        // true to let the script know that we successfully looted
-        boolean hasLootableItems = hasLootableItems(filter);
-        // If we reach this statement, we most likely still have items to loot, and we return false to the script
-        // Script above can handle extra logic if the looting failed
-        return !hasLootableItems;
+    /** Returns a rule matching the items {@link #lootItemBasedOnValue(LootingParameters)} loots */
+    public static Predicate<IndexedGroundItem> valueRule(LootingParameters params) {
+        final NameMatcher ignoredNames = NameMatcher.of(NameMatcher.Mode.CONTAINS, params.getIgnoredNames() == null ? new String[0] : params.getIgnoredNames());
+        return nearbyRule(params).and(groundItem -> groundItem.getTotalGePrice() > params.getMinValue() &&
+                groundItem.getGePrice() < params.getMaxValue() &&
+                groundItem.getQuantity() >= params.getMinItems() &&
+                !ignoredNames.matches(groundItem.getName()));
     }
 
+    /** Returns a rule matching the items {@link #lootItemsBasedOnNames(LootingParameters)} loots */
+    public static Predicate<IndexedGroundItem> namesRule(LootingParameters params) {
+        final NameMatcher names = NameMatcher.of(NameMatcher.Mode.CONTAINS, params.getNames() == null ? new String[0] : params.getNames());
+        return nearbyRule(params).and(groundItem -> groundItem.getQuantity() >= params.getMinQuantity() &&
+                names.matches(groundItem.getName()));
+    }
 
-    public static boolean lootItemBasedOnValue(LootingParameters params) {
-        final Predicate<GroundItem> filter = groundItem -> groundItem.getGePrice() > params.getMinValue() && (groundItem.getGePrice() / groundItem.getQuantity()) < params.getMaxValue() &&
-                groundItem.getLocation().distanceTo(Microbot.getClient().getLocalPlayer().getWorldLocation()) < params.getRange() &&
-                (!params.isAntiLureProtection() || (params.isAntiLureProtection() && groundItem.getOwnership() == OWNERSHIP_SELF));
+    /** Returns a rule matching the items {@link #lootUntradables(LootingParameters)} loots */
+    public static Predicate<IndexedGroundItem> untradablesRule(LootingParameters params) {
+        return nearbyRule(params).and(groundItem -> groundItem.getQuantity() >= params.getMinQuantity() &&
+                !groundItem.isTradeable() &&
+                groundItem.getId() != ItemID.COINS_995);
+    }
 
-        List<GroundItem> groundItems = getGroundItems().values().stream()
-                .filter(filter)
-                .collect(Collectors.toList());
+    /** Returns a rule matching the items {@link #lootCoins(LootingParameters)} loots */
+    public static Predicate<IndexedGroundItem> coinsRule(LootingParameters params) {
+        return nearbyRule(params).and(groundItem -> groundItem.getQuantity() >= params.getMinQuantity() &&
+                groundItem.getId() == ItemID.COINS_995);
+    }
 
-        if (groundItems.size() < params.getMinItems()) return false;
+    /**
+     * Loots the items matching the rule, most valuable first. The range, anti-lure protection and minimum quantity of
+     * {@code params} are left to the rule.
+     *
+     * @return true if every matching item was looted or the free inventory slots ran down to the minimum
+     */
+    public static boolean loot(LootingParameters params, Predicate<IndexedGroundItem> rule) {
+        return loot(params, rule, params.getMinInvSlots());
+    }
+
+    /** Loots like {@link #loot(LootingParameters, Predicate)}, stopping once at most {@code minFreeSlots} slots are free */
+    private static boolean loot(LootingParameters params, Predicate<IndexedGroundItem> rule, int minFreeSlots) {
+        if (!Rs2GroundItemIndex.ensureReady()) return false;
+        List<IndexedGroundItem> groundItems = Rs2GroundItemIndex.getAll(rule);
+        if (groundItems.isEmpty() || groundItems.size() < params.getMinItems()) return false;
         if (params.isDelayedLooting()) {
-            // Get the ground item with the lowest despawn time
-            GroundItem item = groundItems.stream().min(Comparator.comparingInt(Rs2GroundItem::calculateDespawnTime)).orElse(null);
-            assert item != null;
-            if (calculateDespawnTime(item) > 150) return false;
+            // Wait until the item closest to despawning is about to
+            int despawnTicks = groundItems.stream().mapToInt(IndexedGroundItem::getDespawnTicks).min().orElse(0);
+            if (despawnTicks > 150) return false;
         }
 
         return runWhilePaused(() -> {
-            for (GroundItem groundItem : groundItems) {
-                if (groundItem.getQuantity() < params.getMinItems()) continue;
-                if (params.getIgnoredNames() != null && Arrays.stream(params.getIgnoredNames()).anyMatch(name -> groundItem.getName().trim().toLowerCase().contains(name.trim().toLowerCase()))) continue;
-                if (Rs2Inventory.emptySlotCount() < params.getMinInvSlots()) return true;
-                coreLoot(groundItem);
+            for (IndexedGroundItem groundItem : groundItems) {
+                if (Rs2Inventory.emptySlotCount() <= minFreeSlots) return true;
+                if (Rs2GroundItemIndex.contains(groundItem)) {
+                    coreLoot(groundItem);
+                }
             }
-            return validateLoot(filter);
+            // If there are no more lootable items we successfully looted everything the rule matches
+            return Rs2GroundItemIndex.peek(rule) == null;
         });
     }
 
-    public static boolean lootItemsBasedOnNames(LootingParameters params) {
-        final Predicate<GroundItem> filter = groundItem ->
-                groundItem.getLocation().distanceTo(Microbot.getClient().getLocalPlayer().getWorldLocation()) < params.getRange() &&
-                        (!params.isAntiLureProtection() || (params.isAntiLureProtection() && groundItem.getOwnership() == OWNERSHIP_SELF)) &&
-                        Arrays.stream(params.getNames()).anyMatch(name -> groundItem.getName().trim().toLowerCase().contains(name.trim().toLowerCase()));
-        List<GroundItem> groundItems = getGroundItems().values().stream()
-                .filter(filter)
-                .collect(Collectors.toList());
-        if (groundItems.size() < params.getMinItems()) return false;
-        if (params.isDelayedLooting()) {
-            // Get the ground item with the lowest despawn time
-            GroundItem item = groundItems.stream().min(Comparator.comparingInt(Rs2GroundItem::calculateDespawnTime)).orElse(null);
-            assert item != null;
-            if (calculateDespawnTime(item) > 150) return false;
-        }
+    public static boolean lootItemBasedOnValue(LootingParameters params) {
+        // Looting by value has always gone on until fewer than minInvSlots slots are free, a slot past the other rules
+        return loot(params, valueRule(params), params.getMinInvSlots() - 1);
+    }
 
-        return runWhilePaused(() -> {
-            for (GroundItem groundItem : groundItems) {
-                if (groundItem.getQuantity() < params.getMinQuantity()) continue;
-                if (Rs2Inventory.emptySlotCount() <= params.getMinInvSlots()) return true;
-                coreLoot(groundItem);
-            }
-            return validateLoot(filter);
-        });
+    public static boolean lootItemsBasedOnNames(LootingParameters params) {
+        return loot(params, namesRule(params));
     }
 
     /**
@@ -349,86 +366,36 @@ public class Rs2GroundItem {
      * @return
      */
     public static boolean lootItemsBasedOnLocation(WorldPoint location, int itemId) {
-        final Predicate<GroundItem> filter = groundItem ->
-                groundItem.getLocation().equals(location) && groundItem.getItemId() == itemId;
+        final Predicate<IndexedGroundItem> rule = groundItem ->
+                groundItem.getLocation().equals(location) && groundItem.getId() == itemId;
 
-        List<GroundItem> groundItems = getGroundItems().values().stream()
-                .filter(filter)
-                .collect(Collectors.toList());
+        if (!Rs2GroundItemIndex.ensureReady()) return false;
+        List<IndexedGroundItem> groundItems = Rs2GroundItemIndex.getAll(location, 0);
+        groundItems.removeIf(rule.negate());
 
         return runWhilePaused(() -> {
-            for (GroundItem groundItem : groundItems) {
+            for (IndexedGroundItem groundItem : groundItems) {
                 coreLoot(groundItem);
             }
-            return validateLoot(filter);
+            return Rs2GroundItemIndex.peek(rule) == null;
         });
     }
 
     // Loot untradables
     public static boolean lootUntradables(LootingParameters params) {
-        final Predicate<GroundItem> filter = groundItem ->
-                groundItem.getLocation().distanceTo(Microbot.getClient().getLocalPlayer().getWorldLocation()) < params.getRange() &&
-                        (!params.isAntiLureProtection() || (params.isAntiLureProtection() && groundItem.getOwnership() == OWNERSHIP_SELF)) &&
-                        !groundItem.isTradeable() &&
-                        groundItem.getId() != ItemID.COINS_995;
-        List<GroundItem> groundItems = getGroundItems().values().stream()
-                .filter(filter)
-                .collect(Collectors.toList());
-        if (groundItems.size() < params.getMinItems()) return false;
-        if (params.isDelayedLooting()) {
-            // Get the ground item with the lowest despawn time
-            GroundItem item = groundItems.stream().min(Comparator.comparingInt(Rs2GroundItem::calculateDespawnTime)).orElse(null);
-            assert item != null;
-            if (calculateDespawnTime(item) > 150) return false;
-        }
-
-        return runWhilePaused(() -> {
-            for (GroundItem groundItem : groundItems) {
-                if (groundItem.getQuantity() < params.getMinQuantity()) continue;
-                if (Rs2Inventory.emptySlotCount() <= params.getMinInvSlots()) return true;
-                coreLoot(groundItem);
-            }
-            return validateLoot(filter);
-        });
+        return loot(params, untradablesRule(params));
     }
 
     // Loot coins
     public static boolean lootCoins(LootingParameters params) {
-        final Predicate<GroundItem> filter = groundItem ->
-                groundItem.getLocation().distanceTo(Microbot.getClient().getLocalPlayer().getWorldLocation()) < params.getRange() &&
-                        (!params.isAntiLureProtection() || (params.isAntiLureProtection() && groundItem.getOwnership() == OWNERSHIP_SELF)) &&
-                        groundItem.getId() == ItemID.COINS_995;
-        List<GroundItem> groundItems = getGroundItems().values().stream()
-                .filter(filter)
-                .collect(Collectors.toList());
-        if (groundItems.size() < params.getMinItems()) return false;
-        if (params.isDelayedLooting()) {
-            // Get the ground item with the lowest despawn time
-            GroundItem item = groundItems.stream().min(Comparator.comparingInt(Rs2GroundItem::calculateDespawnTime)).orElse(null);
-            assert item != null;
-            if (calculateDespawnTime(item) > 150) return false;
-        }
-
-        return runWhilePaused(() -> {
-            for (GroundItem groundItem : groundItems) {
-                if (groundItem.getQuantity() < params.getMinQuantity()) continue;
-                if (Rs2Inventory.emptySlotCount() <= params.getMinInvSlots()) return true;
-                coreLoot(groundItem);
-            }
-            return validateLoot(filter);
-        });
-    }
-
-
-    private static boolean hasLootableItems(Predicate<GroundItem> filter) {
-        List<GroundItem> groundItems = getGroundItems().values().stream()
-                .filter(filter)
-                .collect(Collectors.toList());
-
-        return !groundItems.isEmpty();
+        return loot(params, coinsRule(params));
     }
 
     public static boolean isItemBasedOnValueOnGround(int value, int range) {
+        if (Rs2GroundItemIndex.ensureReady()) {
+            return Rs2GroundItemIndex.getAll(Microbot.getClient().getLocalPlayer().getWorldLocation(), range).stream()
+                    .anyMatch(groundItem -> groundItem.getTotalGePrice() >= value);
+        }
         return Arrays.stream(Rs2GroundItem.getAll(range)).anyMatch(rs2Item -> {
             final long totalPrice = (long) Microbot.getClientThread().runOnClientThreadOptional(() ->
                     Microbot.getItemManager().getItemPrice(rs2Item.getItem().getId()) * rs2Item.getTileItem().getQuantity()).orElse(0);
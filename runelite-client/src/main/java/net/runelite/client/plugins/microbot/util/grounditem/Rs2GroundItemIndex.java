@@ -0,0 +1,235 @@
+package net.runelite.client.plugins.microbot.util.grounditem;
+
+import net.runelite.api.Client;
+import net.runelite.api.Constants;
+import net.runelite.api.GameState;
+import net.runelite.api.ItemComposition;
+import net.runelite.api.Player;
+import net.runelite.api.Tile;
+import net.runelite.api.TileItem;
+import net.runelite.api.coords.WorldPoint;
+import net.runelite.api.events.GameStateChanged;
+import net.runelite.api.events.ItemDespawned;
+import net.runelite.api.events.ItemQuantityChanged;
+import net.runelite.api.events.ItemSpawned;
+import net.runelite.api.gameval.ItemID;
+import net.runelite.client.plugins.microbot.Microbot;
+
+import javax.annotation.Nullable;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+
+/**
+ * Index of the ground items in the loaded scene, kept up to date from spawn, despawn and quantity events so loot
+ * lookups no longer scan every ground item or hop to the client thread per tile.
+ * <p>
+ * Items are bucketed by cells of {@value #CELL_SIZE}x{@value #CELL_SIZE} tiles for range lookups, and kept in a set
+ * ordered by the value of their stack, so the most valuable item matching a loot rule is usually found after
+ * testing only the first few items. Events arrive on the client thread while scripts query from their own threads,
+ * so updates are serialized and every structure can be read concurrently.
+ */
+public class Rs2GroundItemIndex {
+    private static final int CELL_SIZE = 8;
+    private static final Comparator<IndexedGroundItem> BY_VALUE = Comparator
+            .comparingLong(IndexedGroundItem::getTotalGePrice).reversed()
+            .thenComparingLong(IndexedGroundItem::getSequence);
+
+    private static final AtomicLong sequence = new AtomicLong();
+    private static final Map<TileItem, IndexedGroundItem> items = new ConcurrentHashMap<>();
+    private static final Map<Integer, Set<IndexedGroundItem>> byCell = new ConcurrentHashMap<>();
+    private static final NavigableSet<IndexedGroundItem> byValue = new ConcurrentSkipListSet<>(BY_VALUE);
+    // False until the first scene scan, and again while a new scene loads
+    private static volatile boolean ready = false;
+
+    public static boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * Builds the index from the scene on the client thread if it is not ready yet, e.g. because the plugin was started
+     * while logged in, so lookups don't depend on a scene load having happened since.
+     *
+     * @return whether the index is ready
+     */
+    public static boolean ensureReady() {
+        if (ready) {
+            return true;
+        }
+        Client client = Microbot.getClient();
+        if (client == null || client.getGameState() != GameState.LOGGED_IN) {
+            return false;
+        }
+        return Microbot.getClientThread().runOnClientThreadOptional(() -> {
+            if (!ready) {
+                rebuild();
+            }
+            return ready;
+        }).orElse(false);
+    }
+
+    public static void onItemSpawned(ItemSpawned event) {
+        add(event.getTile(), event.getItem());
+    }
+
+    public static void onItemDespawned(ItemDespawned event) {
+        remove(event.getItem());
+    }
+
+    public static synchronized void onItemQuantityChanged(ItemQuantityChanged event) {
+        IndexedGroundItem item = items.get(event.getItem());
+        if (item == null) {
+            add(event.getTile(), event.getItem());
+            return;
+        }
+        // The value set is ordered by quantity, so the item is re-inserted around the change
+        byValue.remove(item);
+        item.setQuantity(event.getNewQuantity());
+        byValue.add(item);
+    }
+
+    public static void onGameStateChanged(GameStateChanged event) {
+        switch (event.getGameState()) {
+            case LOADING:
+            case HOPPING:
+            case LOGIN_SCREEN:
+            case CONNECTION_LOST:
+                ready = false;
+                clear();
+                break;
+            case LOGGED_IN:
+                // Picks up the items already on the ground when the index was started
+                rebuild();
+                break;
+        }
+    }
+
+    /** Rebuilds the index from the tiles of the current scene. Must be called on the client thread. */
+    public static synchronized void rebuild() {
+        Client client = Microbot.getClient();
+        Player player = client == null || client.getGameState() != GameState.LOGGED_IN ? null : client.getLocalPlayer();
+        if (player == null) {
+            return;
+        }
+
+        Tile[][][] tiles = player.getWorldView().getScene().getTiles();
+        if (tiles == null) {
+            return;
+        }
+
+        clear();
+        for (Tile[][] plane : tiles) {
+            for (int x = 0; x < Constants.SCENE_SIZE; x++) {
+                for (int y = 0; y < Constants.SCENE_SIZE; y++) {
+                    Tile tile = plane[x][y];
+                    List<TileItem> groundItems = tile == null ? null : tile.getGroundItems();
+                    if (groundItems == null) {
+                        continue;
+                    }
+                    for (TileItem tileItem : groundItems) {
+                        add(tile, tileItem);
+                    }
+                }
+            }
+        }
+        ready = true;
+    }
+
+    /** Returns whether the item is still on the ground */
+    public static boolean contains(IndexedGroundItem item) {
+        return items.get(item.getTileItem()) == item;
+    }
+
+    /**
+     * Returns the most valuable item matching the rule, or null if no item does. Ties are broken by the order the
+     * items spawned in.
+     */
+    @Nullable
+    public static IndexedGroundItem peek(Predicate<IndexedGroundItem> rule) {
+        for (IndexedGroundItem item : byValue) {
+            if (rule.test(item)) {
+                return item;
+            }
+        }
+        return null;
+    }
+
+    /** Returns every item matching the rule, most valuable first */
+    public static List<IndexedGroundItem> getAll(Predicate<IndexedGroundItem> rule) {
+        List<IndexedGroundItem> result = new ArrayList<>();
+        for (IndexedGroundItem item : byValue) {
+            if (rule.test(item)) {
+                result.add(item);
+            }
+        }
+        return result;
+    }
+
+    /** Returns the items on the plane of {@code anchor} at most {@code range} tiles away from it on either axis */
+    public static List<IndexedGroundItem> getAll(WorldPoint anchor, int range) {
+        List<IndexedGroundItem> result = new ArrayList<>();
+        int minCellX = (anchor.getX() - range) / CELL_SIZE;
+        int maxCellX = (anchor.getX() + range) / CELL_SIZE;
+        int minCellY = (anchor.getY() - range) / CELL_SIZE;
+        int maxCellY = (anchor.getY() + range) / CELL_SIZE;
+        for (int cellX = minCellX; cellX <= maxCellX; cellX++) {
+            for (int cellY = minCellY; cellY <= maxCellY; cellY++) {
+                Set<IndexedGroundItem> cell = byCell.get(cellKey(cellX, cellY, anchor.getPlane()));
+                if (cell == null) {
+                    continue;
+                }
+                for (IndexedGroundItem item : cell) {
+                    WorldPoint location = item.getLocation();
+                    if (Math.abs(location.getX() - anchor.getX()) <= range && Math.abs(location.getY() - anchor.getY()) <= range) {
+                        result.add(item);
+                    }
+                }
+            }
+        }
+        return result;
+    }
+
+    private static synchronized void add(Tile tile, TileItem tileItem) {
+        if (tile == null || tileItem == null || items.containsKey(tileItem)) {
+            return;
+        }
+
+        ItemComposition composition = Microbot.getItemManager().getItemComposition(tileItem.getId());
+        int realId = composition.getNote() != -1 ? composition.getLinkedNoteId() : tileItem.getId();
+        int gePrice = realId == ItemID.COINS ? 1 : Microbot.getItemManager().getItemPrice(realId);
+        IndexedGroundItem item = new IndexedGroundItem(tile, tileItem, composition, gePrice, sequence.incrementAndGet());
+
+        items.put(tileItem, item);
+        byCell.computeIfAbsent(cellKey(item.getLocation()), k -> ConcurrentHashMap.newKeySet()).add(item);
+        byValue.add(item);
+    }
+
+    private static synchronized void remove(TileItem tileItem) {
+        IndexedGroundItem item = items.remove(tileItem);
+        if (item == null) {
+            return;
+        }
+
+        byValue.remove(item);
+        Set<IndexedGroundItem> cell = byCell.get(cellKey(item.getLocation()));
+        if (cell != null) {
+            cell.remove(item);
+        }
+    }
+
+    private static synchronized void clear() {
+        items.clear();
+        byCell.clear();
+        byValue.clear();
+    }
+
+    private static int cellKey(WorldPoint location) {
+        return cellKey(location.getX() / CELL_SIZE, location.getY() / CELL_SIZE, location.getPlane());
+    }
+
+    private static int cellKey(int cellX, int cellY, int plane) {
+        return cellX << 14 | cellY << 2 | plane;
+    }
+}
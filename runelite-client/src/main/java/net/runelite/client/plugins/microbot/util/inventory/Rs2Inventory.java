@@ -32,6 +32,7 @@ import net.runelite.client.plugins.microbot.util.player.Rs2Player;
 import net.runelite.client.plugins.microbot.util.shop.Rs2Shop;
 import net.runelite.client.plugins.microbot.util.tabs.Rs2Tab;
 import net.runelite.client.plugins.microbot.util.widget.Rs2Widget;
+import net.runelite.client.util.NameMatcher;
 import org.apache.commons.lang3.NotImplementedException;
 import org.slf4j.event.Level;
 
@@ -295,7 +296,8 @@ public class Rs2Inventory {
      * @return True if the inventory contains all the specified names, false otherwise.
      */
     public static boolean contains(String... names) {
-        return contains(item -> Arrays.stream(names).anyMatch(name -> name.equalsIgnoreCase(item.getName())));
+        final NameMatcher matcher = NameMatcher.of(NameMatcher.Mode.EXACT, names);
+        return contains(item -> matcher.matches(item.getName()));
     }
 
     /**
@@ -475,7 +477,8 @@ public class Rs2Inventory {
      * @return True if all matching items were successfully dropped, false otherwise.
      */
     public static boolean dropAll(String... names) {
-        return dropAll(item -> Arrays.stream(names).anyMatch(name -> item.getName().equalsIgnoreCase(name)));
+        final NameMatcher matcher = NameMatcher.of(NameMatcher.Mode.EXACT, names);
+        return dropAll(item -> matcher.matches(item.getName()));
     }
 
     /**
@@ -539,8 +542,8 @@ public class Rs2Inventory {
      * @return True if all non-matching items were successfully dropped, false otherwise.
      */
     public static boolean dropAllExcept(boolean exact, InteractOrder dropOrder, String... names) {
-        return dropAll(exact ? item -> Arrays.stream(names).noneMatch(name -> name.equalsIgnoreCase(item.getName())) :
-                item -> Arrays.stream(names).noneMatch(name -> item.getName().toLowerCase().contains(name.toLowerCase())), dropOrder);
+        final NameMatcher matcher = NameMatcher.of(exact ? NameMatcher.Mode.EXACT : NameMatcher.Mode.CONTAINS, names);
+        return dropAll(item -> !matcher.matches(item.getName()), dropOrder);
     }
 
     /**
@@ -703,8 +706,8 @@ public class Rs2Inventory {
      * @return The item with one of the specified names, or null if not found.
      */
     public static Rs2ItemModel get(String[] names, boolean exact) {
-        return get(exact ? item -> Arrays.stream(names).anyMatch(name -> name.equalsIgnoreCase(item.getName())) :
-                item -> Arrays.stream(names).anyMatch(name -> item.getName().toLowerCase().contains(name.toLowerCase())));
+        final NameMatcher matcher = NameMatcher.of(exact ? NameMatcher.Mode.EXACT : NameMatcher.Mode.CONTAINS, names);
+        return get(item -> matcher.matches(item.getName()));
     }
 
     /**
@@ -1373,7 +1376,8 @@ public class Rs2Inventory {
      * @return True if the inventory only contains items with the specified names, false otherwise.
      */
     public static boolean onlyContains(String... names) {
-        return onlyContains(item -> Arrays.stream(names).anyMatch(name -> item.getName().equalsIgnoreCase(name)));
+        final NameMatcher matcher = NameMatcher.of(NameMatcher.Mode.EXACT, names);
+        return onlyContains(item -> matcher.matches(item.getName()));
     }
 
     /**
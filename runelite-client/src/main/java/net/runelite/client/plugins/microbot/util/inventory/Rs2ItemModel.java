@@ -9,6 +9,8 @@ import net.runelite.api.ItemComposition;
 import net.runelite.api.gameval.ItemID;
 import net.runelite.api.ParamID;
 import net.runelite.client.plugins.microbot.Microbot;
+import net.runelite.client.plugins.microbot.util.cache.Rs2CompositionCache;
+import net.runelite.client.plugins.microbot.util.grandexchange.Rs2GrandExchangePrices;
 
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -129,11 +131,16 @@ public class Rs2ItemModel {
     }
 
     /**
-     * Gets the item name, loading composition if needed.
+     * Gets the item name, from the composition cache or by loading the composition.
      */
     public String getName() {
         if (name == null) {
-            ensureCompositionLoaded();
+            Rs2CompositionCache.Metadata metadata = Rs2CompositionCache.getItem(id);
+            if (metadata != null) {
+                name = metadata.getName();
+            } else {
+                ensureCompositionLoaded();
+            }
         }
         return name != null ? name : "Unknown Item";
     }
@@ -169,10 +176,14 @@ public class Rs2ItemModel {
     }
 
     /**
-     * Gets the inventory actions, loading composition if needed.
+     * Gets the inventory actions, from the composition cache if the composition is not loaded yet.
      */
     public String[] getInventoryActions() {
         if (itemComposition == null) {
+            Rs2CompositionCache.Metadata metadata = Rs2CompositionCache.getItem(id);
+            if (metadata != null) {
+                return metadata.getActions().toArray(new String[0]);
+            }
             ensureCompositionLoaded();
         }
         return inventoryActions;
@@ -222,8 +233,7 @@ public class Rs2ItemModel {
     }
 
     public int getPrice() {
-        return Microbot.getClientThread().runOnClientThreadOptional(() ->
-                Microbot.getItemManager().getItemPrice(id) * quantity).orElse(0);
+        return Rs2GrandExchangePrices.getItemManagerPrice(id) * quantity;
     }
 
     public int getHaPrice() {
@@ -231,9 +241,8 @@ public class Rs2ItemModel {
     }
 
     public boolean isHaProfitable() {
-        int natureRunePrice = Microbot.getClientThread().runOnClientThreadOptional(() ->
-                Microbot.getItemManager().getItemPrice(ItemID.NATURERUNE)).orElse(0);
-        return (getHaPrice() - natureRunePrice) > (getPrice()/quantity) && isTradeable;
+        int natureRunePrice = Rs2GrandExchangePrices.getItemManagerPrice(ItemID.NATURERUNE);
+        return (getHaPrice() - natureRunePrice) > Rs2GrandExchangePrices.getItemManagerPrice(id) && isTradeable;
 
     }
 
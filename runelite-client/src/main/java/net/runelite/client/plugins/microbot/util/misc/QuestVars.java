@@ -0,0 +1,73 @@
+package net.runelite.client.plugins.microbot.util.misc;
+
+import net.runelite.api.Quest;
+import net.runelite.api.gameval.VarPlayerID;
+import net.runelite.client.plugins.microbot.questhelper.questinfo.QuestVarPlayer;
+import net.runelite.client.plugins.microbot.questhelper.questinfo.QuestVarbits;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Looks up the varbit or varplayer holding the progress of a {@link Quest}, so a change of its state can be noticed
+ * from varbit change events instead of by fetching the quest state again.
+ * <p>
+ * The progress vars come from the quest helper's {@link QuestVarbits} and {@link QuestVarPlayer}, matched to the
+ * quest by name. A few quests are not listed there, e.g. the Recipe for Disaster subquests, but completing any quest
+ * also changes the quest points varplayer.
+ */
+public final class QuestVars {
+    private static final Map<String, Integer> varbits = new HashMap<>();
+    private static final Map<String, Integer> varps = new HashMap<>();
+
+    static {
+        for (QuestVarbits varbit : QuestVarbits.values()) {
+            if (varbit.name().startsWith("QUEST_")) {
+                varbits.put(key(varbit.name().substring("QUEST_".length())), varbit.getId());
+            }
+        }
+        for (QuestVarPlayer varp : QuestVarPlayer.values()) {
+            if (varp.name().startsWith("QUEST_")) {
+                varps.put(key(varp.name().substring("QUEST_".length())), varp.getId());
+            }
+        }
+    }
+
+    private QuestVars() {
+    }
+
+    /** Returns the varbit holding the progress of the quest, or -1 if it is unknown or held in a varplayer */
+    public static int getVarbit(Quest quest) {
+        return varbits.getOrDefault(key(quest.name()), -1);
+    }
+
+    /** Returns the varplayer holding the progress of the quest, or -1 if it is unknown or held in a varbit */
+    public static int getVarp(Quest quest) {
+        return varps.getOrDefault(key(quest.name()), -1);
+    }
+
+    /**
+     * Adds the progress vars of the quests to the given sets, and the quest points varplayer, which changes whenever
+     * a quest is completed.
+     */
+    public static void collect(Collection<Quest> quests, Set<Integer> varbitIds, Set<Integer> varpIds) {
+        for (Quest quest : quests) {
+            int varbit = getVarbit(quest);
+            if (varbit != -1) {
+                varbitIds.add(varbit);
+            }
+            int varp = getVarp(quest);
+            if (varp != -1) {
+                varpIds.add(varp);
+            }
+        }
+        varpIds.add(VarPlayerID.QP);
+    }
+
+    // The enums spell some names differently, e.g. FAIRYTALE_II__CURE_A_QUEEN and QUEST_FAIRYTALE_II_CURE_A_QUEEN
+    private static String key(String name) {
+        return name.replace("_", "");
+    }
+}
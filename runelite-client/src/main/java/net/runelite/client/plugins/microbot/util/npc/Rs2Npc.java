@@ -8,6 +8,7 @@ import net.runelite.client.plugins.microbot.Microbot;
 import net.runelite.client.plugins.microbot.util.ActorModel;
 import net.runelite.client.plugins.microbot.util.antiban.Rs2AntibanSettings;
 import net.runelite.client.plugins.microbot.util.camera.Rs2Camera;
+import net.runelite.client.plugins.microbot.util.cache.Rs2CompositionCache;
 import net.runelite.client.plugins.microbot.util.combat.Rs2Combat;
 import net.runelite.client.plugins.microbot.util.coords.Rs2WorldPoint;
 import net.runelite.client.plugins.microbot.util.math.Rs2Random;
@@ -16,6 +17,7 @@ import net.runelite.client.plugins.microbot.util.misc.Rs2UiHelper;
 import net.runelite.client.plugins.microbot.util.player.Rs2Player;
 import net.runelite.client.plugins.microbot.util.tile.Rs2Tile;
 import net.runelite.client.plugins.microbot.util.walker.Rs2Walker;
+import net.runelite.client.util.NameMatcher;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.*;
@@ -239,11 +241,18 @@ public class Rs2Npc {
      */
     public static Stream<Rs2NpcModel> getNpcs(String name, boolean exact) {
         if (name == null || name.isEmpty()) return Stream.empty();
-        return getNpcs(npc -> {
-            String npcName = npc.getName();
-            if (npcName == null || npcName.isEmpty()) return false;
-            return exact ? npcName.equalsIgnoreCase(name) : npcName.toLowerCase().contains(name.toLowerCase());
-        });
+        return getNpcs(NameMatcher.of(exact ? NameMatcher.Mode.EXACT : NameMatcher.Mode.CONTAINS, name));
+    }
+
+    /**
+     * Retrieves a stream of NPCs whose name matches any of the patterns of a {@link NameMatcher}, such as one
+     * compiled from a comma separated config value.
+     *
+     * @param names The compiled name patterns.
+     * @return A {@link Stream} of {@link Rs2NpcModel} objects whose names match.
+     */
+    public static Stream<Rs2NpcModel> getNpcs(NameMatcher names) {
+        return getNpcs(npc -> names.matches(npc.getName()));
     }
 
     /**
@@ -335,11 +344,8 @@ public class Rs2Npc {
      */
     public static Stream<Rs2NpcModel> getAttackableNpcs(String name, boolean exact) {
         if (name == null || name.isEmpty()) return Stream.empty();
-        return getAttackableNpcs().filter(x -> {
-            String npcName = x.getName();
-            if (npcName == null || npcName.isEmpty()) return false;
-            return exact ? npcName.equalsIgnoreCase(name) : npcName.toLowerCase().contains(name.toLowerCase());
-        });
+        final NameMatcher names = NameMatcher.of(exact ? NameMatcher.Mode.EXACT : NameMatcher.Mode.CONTAINS, name);
+        return getAttackableNpcs().filter(x -> names.matches(x.getName()));
     }
 
     public static Stream<Rs2NpcModel> getAttackableNpcs(String name) {
@@ -499,12 +505,11 @@ public class Rs2Npc {
      * @return {@code true} if the NPC has the specified action, {@code false} otherwise.
      */
     public static boolean hasAction(int id, String action) {
-        NPCComposition npcComposition = Microbot.getClientThread().runOnClientThreadOptional(() ->
-                Microbot.getClient().getNpcDefinition(id)).orElse(null);
+        Rs2CompositionCache.Metadata metadata = Rs2CompositionCache.getNpc(id);
 
-        if (npcComposition == null) return false;
+        if (metadata == null) return false;
 
-        return Arrays.stream(npcComposition.getActions())
+        return metadata.getActions().stream()
                 .anyMatch(x -> x != null && x.equalsIgnoreCase(action));
     }
 
@@ -1120,13 +1125,11 @@ public class Rs2Npc {
     public static String getAvailableAction(Rs2NpcModel npc, List<String> possibleActions) {
         if (npc == null || possibleActions == null || possibleActions.isEmpty()) return "";
 
-        NPCComposition composition = Microbot.getClientThread().runOnClientThreadOptional(
-                        () -> Microbot.getClient().getNpcDefinition(npc.getId()))
-                .orElse(null);
+        Rs2CompositionCache.Metadata metadata = Rs2CompositionCache.getNpc(npc.getId());
 
-        if (composition == null || composition.getActions() == null) return "";
+        if (metadata == null) return "";
 
-        return Arrays.stream(composition.getActions())
+        return metadata.getActions().stream()
                 .filter(Objects::nonNull)
                 .filter(npcAction ->
                         possibleActions.stream()
@@ -5,6 +5,7 @@ import net.runelite.api.NPC;
 import net.runelite.api.NPCComposition;
 import net.runelite.api.NpcOverrides;
 import net.runelite.client.plugins.microbot.util.ActorModel;
+import net.runelite.client.plugins.microbot.util.cache.Rs2CompositionCache;
 import org.jetbrains.annotations.Nullable;
 
 @Getter
@@ -25,6 +26,18 @@ public class Rs2NpcModel extends ActorModel implements NPC
 		return runeliteNpc.getId();
 	}
 
+	@Override
+	public @Nullable String getName()
+	{
+		// Same name as NPC#getName, since the id is already that of the transformed composition
+		Rs2CompositionCache.Metadata metadata = Rs2CompositionCache.getNpc(getId());
+		if (metadata == null || metadata.getName() == null)
+		{
+			return super.getName();
+		}
+		return metadata.getName().replace('\u00A0', ' ');
+	}
+
 	@Override
 	public int getIndex()
 	{
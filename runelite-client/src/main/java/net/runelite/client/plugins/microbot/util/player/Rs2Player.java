@@ -7,6 +7,7 @@ import net.runelite.api.coords.WorldArea;
 import net.runelite.api.coords.WorldPoint;
 import net.runelite.api.events.AnimationChanged;
 import net.runelite.api.events.VarbitChanged;
+import net.runelite.api.gameval.VarPlayerID;
 import net.runelite.api.kit.KitType;
 import net.runelite.api.widgets.Widget;
 import net.runelite.api.widgets.WidgetInfo;
@@ -16,6 +17,8 @@ import net.runelite.client.plugins.microbot.globval.enums.InterfaceTab;
 import net.runelite.client.plugins.microbot.util.coords.Rs2WorldPoint;
 import net.runelite.client.plugins.microbot.util.equipment.Rs2Equipment;
 import net.runelite.client.plugins.microbot.util.gameobject.Rs2GameObject;
+import net.runelite.client.plugins.microbot.util.gamestate.GameStateSnapshot;
+import net.runelite.client.plugins.microbot.util.gamestate.Rs2GameState;
 import net.runelite.client.plugins.microbot.util.grounditem.Rs2GroundItem;
 import net.runelite.client.plugins.microbot.util.inventory.Rs2Inventory;
 import net.runelite.client.plugins.microbot.util.inventory.Rs2ItemModel;
@@ -49,6 +52,12 @@ import static net.runelite.client.plugins.microbot.util.Global.*;
 
 public class Rs2Player {
     static int VENOM_VALUE_CUTOFF = -38;
+
+    static {
+        // Polled by the wilderness and run checks, so they're answered from the game state snapshot
+        Rs2GameState.watchVarbit(Varbits.IN_WILDERNESS);
+        Rs2GameState.watchVarp(VarPlayerID.OPTION_RUN);
+    }
     private static int antiFireTime = -1;
     private static int superAntiFireTime = -1;
     private static int divineRangedTime = -1;
@@ -341,10 +350,18 @@ public class Rs2Player {
     /**
      * Checks if the player is currently moving based on their pose animation.
      * A player is considered moving if their pose animation is different from their idle pose animation.
+     * <p>
+     * The pose is read from the game state snapshot of the current tick when there is one, so a player who starts or
+     * stops moving after the snapshot was captured is only seen to do so from the next tick on, up to a tick late.
      *
      * @return {@code true} if the player is moving, {@code false} if they are idle.
      */
     public static boolean isMoving() {
+        GameStateSnapshot snapshot = Rs2GameState.getCurrentSnapshot();
+        if (snapshot != null) {
+            Rs2GameState.recordHopAvoided();
+            return snapshot.isMoving();
+        }
         return Microbot.getClientThread().runOnClientThreadOptional(() -> {
             Player localPlayer = Microbot.getClient().getLocalPlayer();
             if (localPlayer == null) {
@@ -0,0 +1,113 @@
+package net.runelite.client.plugins.microbot.util.poi;
+
+import net.runelite.api.GameState;
+import net.runelite.api.Item;
+import net.runelite.api.Quest;
+import net.runelite.api.Skill;
+import net.runelite.api.events.GameStateChanged;
+import net.runelite.api.events.ItemContainerChanged;
+import net.runelite.api.events.StatChanged;
+import net.runelite.api.events.VarbitChanged;
+import net.runelite.api.gameval.InventoryID;
+import net.runelite.api.gameval.VarbitID;
+import net.runelite.client.plugins.microbot.util.misc.QuestVars;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Tracks when the requirements of points of interest may have changed, so {@link PoiRouter}s only re-evaluate them
+ * after a change instead of on every lookup.
+ * <p>
+ * The epoch advances when a real skill level, the worn items, the progress var of a quest or a watched varbit changes
+ * value, or when the player logs out or hops worlds. Events that set a value to what it already was, such as an
+ * experience drop or firing worn ammunition, leave the epoch alone. Requirements that depend on anything else are
+ * picked up when a router's evaluation expires.
+ */
+public final class PoiRequirements {
+    private static final AtomicInteger epoch = new AtomicInteger();
+    private static final Set<Integer> watchedVarbits = ConcurrentHashMap.newKeySet();
+    private static final Set<Integer> watchedVarps = ConcurrentHashMap.newKeySet();
+    private static final int[] realLevels = new int[Skill.values().length];
+    // The last seen values of the watched vars and the ids of the worn items, by slot
+    private static final Map<Integer, Integer> varbitValues = new HashMap<>();
+    private static final Map<Integer, Integer> varpValues = new HashMap<>();
+    private static int[] wornItems = new int[0];
+
+    static {
+        // Quest requirements, e.g. a bank that needs a quest to be started, follow the progress vars of every quest
+        QuestVars.collect(Arrays.asList(Quest.values()), watchedVarbits, watchedVarps);
+        // Read by the bank and deposit box requirements
+        watchVarbit(VarbitID.FALADOR_DIARY_HARD_COMPLETE);
+        watchVarbit(VarbitID.VARROCK_DIARY_HARD_COMPLETE);
+        watchVarbit(VarbitID.CLAN_AFFINITYSTATUS);
+    }
+
+    private PoiRequirements() {
+    }
+
+    /** Returns a counter that changes whenever requirements may have changed */
+    public static int getEpoch() {
+        return epoch.get();
+    }
+
+    /** Forces every router to re-evaluate its requirements on the next lookup */
+    public static void invalidate() {
+        epoch.incrementAndGet();
+    }
+
+    /** Re-evaluates requirements whenever the varbit changes, e.g. an achievement diary completion */
+    public static void watchVarbit(int varbitId) {
+        watchedVarbits.add(varbitId);
+    }
+
+    public static void onStatChanged(StatChanged event) {
+        int index = event.getSkill().ordinal();
+        if (realLevels[index] != event.getLevel()) {
+            realLevels[index] = event.getLevel();
+            invalidate();
+        }
+    }
+
+    public static void onItemContainerChanged(ItemContainerChanged event) {
+        if (event.getContainerId() != InventoryID.WORN) {
+            return;
+        }
+        // Only the ids are compared, so the quantity of worn ammunition going down doesn't count as a change
+        int[] items = Arrays.stream(event.getItemContainer().getItems()).mapToInt(Item::getId).toArray();
+        if (!Arrays.equals(wornItems, items)) {
+            wornItems = items;
+            invalidate();
+        }
+    }
+
+    public static void onVarbitChanged(VarbitChanged event) {
+        boolean changed = event.getVarbitId() != -1
+                ? watchedVarbits.contains(event.getVarbitId()) && update(varbitValues, event.getVarbitId(), event.getValue())
+                : watchedVarps.contains(event.getVarpId()) && update(varpValues, event.getVarpId(), event.getValue());
+        if (changed) {
+            invalidate();
+        }
+    }
+
+    public static void onGameStateChanged(GameStateChanged event) {
+        GameState state = event.getGameState();
+        if (state == GameState.LOGIN_SCREEN || state == GameState.HOPPING) {
+            Arrays.fill(realLevels, 0);
+            varbitValues.clear();
+            varpValues.clear();
+            wornItems = new int[0];
+            invalidate();
+        }
+    }
+
+    /** Stores the value of a var and returns whether it differs from the previous one, which is 0 until it is set */
+    private static boolean update(Map<Integer, Integer> values, int id, int value) {
+        Integer previous = values.put(id, value);
+        return (previous == null ? 0 : previous) != value;
+    }
+}
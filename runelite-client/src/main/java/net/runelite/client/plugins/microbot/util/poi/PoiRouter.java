@@ -0,0 +1,301 @@
+package net.runelite.client.plugins.microbot.util.poi;
+
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+import net.runelite.api.coords.WorldPoint;
+import net.runelite.client.plugins.microbot.shortestpath.ShortestPathPlugin;
+import net.runelite.client.plugins.microbot.shortestpath.WorldPointUtil;
+import net.runelite.client.plugins.microbot.shortestpath.pathfinder.CollisionMap;
+import net.runelite.client.plugins.microbot.shortestpath.pathfinder.PathfinderConfig;
+
+import javax.annotation.Nullable;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Finds the nearest accessible point of interest, such as a bank, without running a full path search per lookup.
+ * <p>
+ * Requirements are evaluated once per {@link PoiRequirements} epoch and reused until something they depend on
+ * changes. Points whose requirements depend on the player's location are marked as always evaluated and checked on
+ * every lookup instead.
+ * <p>
+ * From the accessible points a walking distance field is grown backwards over the collision map, up to
+ * {@code maxDistance} tiles. A lookup from a tile inside the field reads the nearest point and walks the field
+ * downhill to build the path. The field ignores transports, so callers should fall back to the pathfinder when the
+ * start is outside of it.
+ */
+@Slf4j
+public class PoiRouter<T> {
+    private static final long EVALUATION_TTL_NANOS = TimeUnit.MINUTES.toNanos(5);
+
+    // A field cell packs (distance + 1) above the index of the point it leads to; 0 marks a tile outside the field
+    private static final int POI_BITS = 10;
+    private static final int POI_MASK = (1 << POI_BITS) - 1;
+    private static final int MAX_DISTANCE = (Character.MAX_VALUE >>> POI_BITS) - 1;
+
+    // In the order of OrdinalDirection, which is the bit order of CollisionMap#traversableMask
+    private static final int[] DX = {-1, 1, 0, 0, -1, 1, -1, 1};
+    private static final int[] DY = {0, 0, -1, 1, -1, -1, 1, 1};
+    private static final int[] OPPOSITE = {1, 0, 3, 2, 7, 6, 5, 4};
+
+    private final String name;
+    private final List<T> pois;
+    private final Function<T, WorldPoint> location;
+    private final Predicate<T> requirements;
+    private final List<T> alwaysEvaluated = new ArrayList<>();
+    private final int maxDistance;
+
+    private volatile Evaluation<T> evaluation;
+    private volatile Field field;
+
+    /**
+     * @param name            used in log messages
+     * @param pois            the points of interest
+     * @param location        the tile each point is reached at
+     * @param requirements    whether the player can use a point
+     * @param alwaysEvaluated points whose requirements are checked on every lookup instead of once per epoch
+     * @param maxDistance     the walking distance in tiles the field covers, at most 62
+     */
+    public PoiRouter(String name, Collection<T> pois, Function<T, WorldPoint> location, Predicate<T> requirements,
+                     Predicate<T> alwaysEvaluated, int maxDistance) {
+        if (pois.size() > POI_MASK) {
+            throw new IllegalArgumentException("At most " + POI_MASK + " points of interest are supported");
+        }
+        if (maxDistance < 0 || maxDistance > MAX_DISTANCE) {
+            throw new IllegalArgumentException("maxDistance must be between 0 and " + MAX_DISTANCE);
+        }
+        this.name = name;
+        this.pois = new ArrayList<>(pois);
+        this.location = location;
+        this.requirements = requirements;
+        this.maxDistance = maxDistance;
+        for (T poi : this.pois) {
+            if (alwaysEvaluated.test(poi)) {
+                this.alwaysEvaluated.add(poi);
+            }
+        }
+    }
+
+    /** Returns the points the player currently meets the requirements of */
+    public Set<T> getAccessible() {
+        Evaluation<T> current = evaluation;
+        int epoch = PoiRequirements.getEpoch();
+        if (current == null || current.epoch != epoch || System.nanoTime() - current.evaluatedAt > EVALUATION_TTL_NANOS) {
+            current = evaluate(epoch);
+        }
+        if (alwaysEvaluated.isEmpty()) {
+            return current.accessible;
+        }
+
+        Set<T> accessible = new LinkedHashSet<>(current.accessible);
+        for (T poi : alwaysEvaluated) {
+            if (requirements.test(poi)) {
+                accessible.add(poi);
+            }
+        }
+        return Collections.unmodifiableSet(accessible);
+    }
+
+    public boolean isAccessible(T poi) {
+        return alwaysEvaluated.contains(poi) ? requirements.test(poi) : getAccessible().contains(poi);
+    }
+
+    /**
+     * Returns the nearest accessible point by walking distance with the path to it, or null if {@code start} is
+     * further than {@code maxDistance} tiles from every accessible point or the pathfinder is not available.
+     */
+    @Nullable
+    public Route<T> findNearest(WorldPoint start) {
+        PathfinderConfig config = ShortestPathPlugin.getPathfinderConfig();
+        if (config == null) {
+            return null;
+        }
+        Set<T> accessible = getAccessible();
+        if (accessible.isEmpty()) {
+            return null;
+        }
+        CollisionMap map = config.getMap();
+        map.captureOverlay();
+        return getField(accessible, map).route(start, map);
+    }
+
+    /** Discards the evaluated requirements and the distance field */
+    public synchronized void invalidate() {
+        evaluation = null;
+        field = null;
+    }
+
+    private synchronized Evaluation<T> evaluate(int epoch) {
+        Evaluation<T> current = evaluation;
+        if (current != null && current.epoch == epoch && System.nanoTime() - current.evaluatedAt <= EVALUATION_TTL_NANOS) {
+            return current;
+        }
+
+        long start = System.nanoTime();
+        Set<T> accessible = new LinkedHashSet<>();
+        for (T poi : pois) {
+            if (!alwaysEvaluated.contains(poi) && requirements.test(poi)) {
+                accessible.add(poi);
+            }
+        }
+        current = new Evaluation<>(epoch, System.nanoTime(), Collections.unmodifiableSet(accessible));
+        evaluation = current;
+        log.debug("Evaluated requirements of {} {} in {}ms, {} accessible", pois.size(), name,
+                (System.nanoTime() - start) / 1_000_000.0, accessible.size());
+        return current;
+    }
+
+    private synchronized Field getField(Set<T> accessible, CollisionMap map) {
+        Field current = field;
+        if (current != null && current.accessible.equals(accessible)) {
+            return current;
+        }
+
+        long start = System.nanoTime();
+        current = new Field(new HashSet<>(accessible));
+        current.build(map);
+        field = current;
+        log.debug("Built {} distance field for {} points in {}ms, {} regions", name, accessible.size(),
+                (System.nanoTime() - start) / 1_000_000.0, current.regions.size());
+        return current;
+    }
+
+    /**
+     * The nearest point found by {@link #findNearest}.
+     */
+    @Value
+    public static class Route<T> {
+        T poi;
+        /** The walking path from the start tile to the point, both included */
+        List<WorldPoint> path;
+        int distance;
+    }
+
+    @Value
+    private static class Evaluation<T> {
+        int epoch;
+        long evaluatedAt;
+        Set<T> accessible;
+    }
+
+    private final class Field {
+        private final Set<T> accessible;
+        private final Map<Integer, char[]> regions = new HashMap<>();
+
+        private Field(Set<T> accessible) {
+            this.accessible = accessible;
+        }
+
+        private void build(CollisionMap map) {
+            int[] queue = new int[1024];
+            int head = 0;
+            int tail = 0;
+            for (int i = 0; i < pois.size(); i++) {
+                T poi = pois.get(i);
+                WorldPoint point = location.apply(poi);
+                if (accessible.contains(poi) && claim(point.getX(), point.getY(), point.getPlane(), 0, i)) {
+                    if (tail == queue.length) {
+                        queue = Arrays.copyOf(queue, queue.length * 2);
+                    }
+                    queue[tail++] = WorldPointUtil.packWorldPoint(point);
+                }
+            }
+
+            while (head < tail) {
+                int packed = queue[head++];
+                int x = WorldPointUtil.unpackWorldX(packed);
+                int y = WorldPointUtil.unpackWorldY(packed);
+                int z = WorldPointUtil.unpackWorldPlane(packed);
+                int cell = get(x, y, z);
+                int distance = distance(cell);
+                if (distance >= maxDistance) {
+                    continue;
+                }
+
+                // Points inside objects, like bank booths, can't be walked into and are left in any direction
+                boolean blocked = map.isBlocked(x, y, z);
+                for (int d = 0; d < DX.length; d++) {
+                    int nx = x + DX[d];
+                    int ny = y + DY[d];
+                    boolean reachable = blocked
+                            ? !map.isBlocked(nx, ny, z)
+                            : (map.traversableMask(nx, ny, z) & (1 << OPPOSITE[d])) != 0;
+                    if (reachable && claim(nx, ny, z, distance + 1, cell & POI_MASK)) {
+                        if (tail == queue.length) {
+                            queue = Arrays.copyOf(queue, queue.length * 2);
+                        }
+                        queue[tail++] = WorldPointUtil.packWorldPoint(nx, ny, z);
+                    }
+                }
+            }
+        }
+
+        @Nullable
+        private Route<T> route(WorldPoint start, CollisionMap map) {
+            int x = start.getX();
+            int y = start.getY();
+            int z = start.getPlane();
+            int cell = get(x, y, z);
+            if (cell == 0) {
+                return null;
+            }
+
+            int poiIndex = cell & POI_MASK;
+            T poi = pois.get(poiIndex);
+            List<WorldPoint> path = new ArrayList<>();
+            path.add(start);
+            int distance = distance(cell);
+            while (distance > 0) {
+                int mask = map.traversableMask(x, y, z);
+                boolean stepped = false;
+                for (int d = 0; d < DX.length && !stepped; d++) {
+                    if ((mask & (1 << d)) == 0) {
+                        continue;
+                    }
+                    int next = get(x + DX[d], y + DY[d], z);
+                    if (next != 0 && (next & POI_MASK) == poiIndex && distance(next) == distance - 1) {
+                        x += DX[d];
+                        y += DY[d];
+                        distance--;
+                        path.add(new WorldPoint(x, y, z));
+                        stepped = true;
+                    }
+                }
+                if (!stepped) {
+                    break;
+                }
+            }
+
+            WorldPoint target = location.apply(poi);
+            if (!path.get(path.size() - 1).equals(target)) {
+                path.add(target);
+            }
+            return new Route<>(poi, path, distance(cell));
+        }
+
+        private int get(int x, int y, int z) {
+            char[] region = regions.get(regionKey(x, y, z));
+            return region == null ? 0 : region[(x & 63) | (y & 63) << 6];
+        }
+
+        private boolean claim(int x, int y, int z, int distance, int poiIndex) {
+            char[] region = regions.computeIfAbsent(regionKey(x, y, z), k -> new char[64 * 64]);
+            int index = (x & 63) | (y & 63) << 6;
+            if (region[index] != 0) {
+                return false;
+            }
+            region[index] = (char) ((distance + 1) << POI_BITS | poiIndex);
+            return true;
+        }
+    }
+
+    private static int distance(int cell) {
+        return (cell >>> POI_BITS) - 1;
+    }
+
+    private static int regionKey(int x, int y, int z) {
+        return (x >> 6) << 11 | (y >> 6) << 2 | z;
+    }
+}
@@ -5,6 +5,7 @@ import net.runelite.api.Skill;
 import net.runelite.api.annotations.Component;
 import net.runelite.api.gameval.VarbitID;
 import net.runelite.client.plugins.microbot.Microbot;
+import net.runelite.client.plugins.microbot.util.gamestate.Rs2GameState;
 import net.runelite.client.plugins.microbot.util.menu.NewMenuEntry;
 import net.runelite.client.plugins.microbot.util.player.Rs2Player;
 import net.runelite.client.plugins.microbot.util.widget.Rs2Widget;
@@ -27,6 +28,10 @@ public class Rs2Prayer {
     @Component
     private static final int QUICK_PRAYER_ORB_COMPONENT_ID = 10485779;
 
+    static {
+        Rs2GameState.watchVarbit(QUICK_PRAYER);
+    }
+
     public static void toggle(Rs2PrayerEnum name) {
         if (!Rs2Player.hasPrayerPoints()) return;
         Microbot.doInvoke(new NewMenuEntry(-1, name.getIndex(), MenuAction.CC_OP.getId(), 1,-1, "Activate"), new Rectangle(1, 1, Microbot.getClient().getCanvasWidth(), Microbot.getClient().getCanvasHeight()));
@@ -0,0 +1,367 @@
+package net.runelite.client.plugins.microbot.util.tile;
+
+import net.runelite.api.Client;
+import net.runelite.api.CollisionData;
+import net.runelite.api.CollisionDataFlag;
+import net.runelite.api.Constants;
+import net.runelite.api.Player;
+import net.runelite.api.WorldView;
+import net.runelite.api.coords.LocalPoint;
+import net.runelite.api.coords.WorldArea;
+import net.runelite.api.coords.WorldPoint;
+import net.runelite.api.events.GameStateChanged;
+import net.runelite.client.plugins.microbot.Microbot;
+import net.runelite.client.plugins.microbot.util.coords.Rs2LocalPoint;
+
+import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Answers reachability questions about the loaded scene from a distance field around the local player.
+ * <p>
+ * The field holds, for every tile of the current plane, the number of steps from the player and the tile it is reached
+ * from. It is computed from the live collision flags with a breadth-first search over the four cardinal directions,
+ * using the same movement rules as {@link Rs2Tile#isTileReachable}. A field is reused until the game tick, the
+ * player's tile or the scene changes, or an object that may block movement spawns or despawns, so repeated queries
+ * within a tick are array lookups.
+ */
+public class Rs2Reachability {
+    private static final int SIZE = Constants.SCENE_SIZE;
+    private static final int UNREACHABLE = -1;
+
+    private static volatile Field field;
+    private static volatile int collisionVersion;
+
+    /**
+     * The distances of one BFS, together with what it was computed for.
+     */
+    private static final class Field {
+        private final int tick;
+        private final int origin;
+        private final int plane;
+        private final int baseX;
+        private final int baseY;
+        private final int version;
+        private final boolean instance;
+        private final int[] distances;
+        private final int[] parents;
+
+        private Field(int tick, int origin, int plane, int baseX, int baseY, int version, boolean instance,
+                      int[] distances, int[] parents) {
+            this.tick = tick;
+            this.origin = origin;
+            this.plane = plane;
+            this.baseX = baseX;
+            this.baseY = baseY;
+            this.version = version;
+            this.instance = instance;
+            this.distances = distances;
+            this.parents = parents;
+        }
+
+        private boolean isFor(int tick, int origin, int plane, int baseX, int baseY, int version) {
+            return this.tick == tick && this.origin == origin && this.plane == plane
+                    && this.baseX == baseX && this.baseY == baseY && this.version == version;
+        }
+    }
+
+    /**
+     * Returns whether the player can walk to the given tile
+     */
+    public static boolean isReachable(WorldPoint worldPoint) {
+        return getDistance(worldPoint) != UNREACHABLE;
+    }
+
+    public static boolean isReachable(LocalPoint localPoint) {
+        return getDistance(localPoint) != UNREACHABLE;
+    }
+
+    /**
+     * Returns the number of steps along the cardinal directions from the player to the given tile, or -1 if it
+     * can't be reached or is not in the loaded scene.
+     */
+    public static int getDistance(WorldPoint worldPoint) {
+        Field current = getField();
+        if (current == null) {
+            return UNREACHABLE;
+        }
+        int index = toIndex(current, worldPoint);
+        return index == UNREACHABLE ? UNREACHABLE : current.distances[index];
+    }
+
+    public static int getDistance(LocalPoint localPoint) {
+        Field current = getField();
+        if (current == null) {
+            return UNREACHABLE;
+        }
+        int index = toIndex(localPoint);
+        return index == UNREACHABLE ? UNREACHABLE : current.distances[index];
+    }
+
+    /**
+     * Returns whether the player can walk to any tile of the given area
+     */
+    public static boolean canReach(WorldArea area) {
+        return getNearestReachableIn(area) != null;
+    }
+
+    /**
+     * Returns the tile of the given area that is the fewest steps away from the player, or null if none can be
+     * reached.
+     */
+    @Nullable
+    public static WorldPoint getNearestReachableIn(WorldArea area) {
+        Field current = getField();
+        if (current == null || area == null) {
+            return null;
+        }
+
+        int bestIndex = UNREACHABLE;
+        int bestDistance = Integer.MAX_VALUE;
+        for (int x = area.getX(); x < area.getX() + area.getWidth(); x++) {
+            for (int y = area.getY(); y < area.getY() + area.getHeight(); y++) {
+                int index = toIndex(current, new WorldPoint(x, y, area.getPlane()));
+                if (index == UNREACHABLE) {
+                    continue;
+                }
+                int distance = current.distances[index];
+                if (distance != UNREACHABLE && distance < bestDistance) {
+                    bestDistance = distance;
+                    bestIndex = index;
+                }
+            }
+        }
+        return bestIndex == UNREACHABLE ? null : toWorldPoint(current, bestIndex);
+    }
+
+    /**
+     * Returns the reachable tile closest to the given one, e.g. a tile to stand on next to a blocked object tile.
+     * Tiles are compared by distance to {@code target} first and by the number of steps from the player second.
+     *
+     * @param maxRadius how far from the target to search, in tiles
+     * @return the tile, or null if no reachable tile lies within {@code maxRadius}
+     */
+    @Nullable
+    public static WorldPoint getNearestReachable(WorldPoint target, int maxRadius) {
+        Field current = getField();
+        if (current == null) {
+            return null;
+        }
+        int center = toIndex(current, target);
+        if (center == UNREACHABLE) {
+            return null;
+        }
+
+        int centerX = center / SIZE;
+        int centerY = center % SIZE;
+        for (int radius = 0; radius <= maxRadius; radius++) {
+            int bestIndex = UNREACHABLE;
+            int bestDistance = Integer.MAX_VALUE;
+            for (int x = centerX - radius; x <= centerX + radius; x++) {
+                for (int y = centerY - radius; y <= centerY + radius; y++) {
+                    // Only the ring at this radius, the inner tiles were checked before
+                    if (Math.max(Math.abs(x - centerX), Math.abs(y - centerY)) != radius || !isInScene(x, y)) {
+                        continue;
+                    }
+                    int distance = current.distances[x * SIZE + y];
+                    if (distance != UNREACHABLE && distance < bestDistance) {
+                        bestDistance = distance;
+                        bestIndex = x * SIZE + y;
+                    }
+                }
+            }
+            if (bestIndex != UNREACHABLE) {
+                return toWorldPoint(current, bestIndex);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Returns the tiles the player walks through to reach the given tile, ending with that tile and excluding the
+     * player's own tile. The list is empty if the tile can't be reached or the player already stands on it.
+     */
+    public static List<LocalPoint> getPath(LocalPoint target) {
+        Field current = getField();
+        if (current == null) {
+            return Collections.emptyList();
+        }
+        int index = toIndex(target);
+        if (index == UNREACHABLE || current.distances[index] == UNREACHABLE) {
+            return Collections.emptyList();
+        }
+
+        WorldView worldView = Microbot.getClient().getTopLevelWorldView();
+        LocalPoint[] path = new LocalPoint[current.distances[index]];
+        for (int step = path.length - 1; step >= 0; step--) {
+            path[step] = LocalPoint.fromScene(index / SIZE, index % SIZE, worldView);
+            index = current.parents[index];
+        }
+        return Arrays.asList(path);
+    }
+
+    /**
+     * Same as {@link #getPath(LocalPoint)} for a world point, in the coordinates {@code Rs2Player.getWorldLocation()}
+     * uses, i.e. template coordinates inside instances.
+     */
+    public static List<WorldPoint> getPath(WorldPoint target) {
+        Field current = getField();
+        if (current == null) {
+            return Collections.emptyList();
+        }
+        int index = toIndex(current, target);
+        if (index == UNREACHABLE) {
+            return Collections.emptyList();
+        }
+
+        WorldView worldView = Microbot.getClient().getTopLevelWorldView();
+        List<WorldPoint> path = new ArrayList<>();
+        for (LocalPoint step : getPath(LocalPoint.fromScene(index / SIZE, index % SIZE, worldView))) {
+            path.add(toWorldPoint(current, step.getSceneX() * SIZE + step.getSceneY()));
+        }
+        return path;
+    }
+
+    /**
+     * Drops the current field, so the next query computes a new one. Called when objects spawn or despawn, since
+     * they may change the collision flags within a tick.
+     */
+    public static void invalidate() {
+        collisionVersion++;
+    }
+
+    public static void onGameStateChanged(GameStateChanged event) {
+        field = null;
+        invalidate();
+    }
+
+    /**
+     * Returns the field for the current tick and player tile, computing it if needed, or null when not logged in.
+     */
+    @Nullable
+    private static Field getField() {
+        Client client = Microbot.getClient();
+        WorldView worldView = client.getTopLevelWorldView();
+        Player player = client.getLocalPlayer();
+        if (worldView == null || player == null) {
+            return null;
+        }
+        LocalPoint location = player.getLocalLocation();
+        if (location == null || !location.isInScene()) {
+            return null;
+        }
+
+        int tick = client.getTickCount();
+        int origin = location.getSceneX() * SIZE + location.getSceneY();
+        int plane = worldView.getPlane();
+        int baseX = worldView.getBaseX();
+        int baseY = worldView.getBaseY();
+        int version = collisionVersion;
+
+        Field current = field;
+        if (current != null && current.isFor(tick, origin, plane, baseX, baseY, version)) {
+            return current;
+        }
+
+        synchronized (Rs2Reachability.class) {
+            current = field;
+            if (current != null && current.isFor(tick, origin, plane, baseX, baseY, version)) {
+                return current;
+            }
+            CollisionData[] collisionMaps = worldView.getCollisionMaps();
+            if (collisionMaps == null || collisionMaps[plane] == null) {
+                return null;
+            }
+            current = compute(collisionMaps[plane].getFlags(), tick, origin, plane, baseX, baseY, version,
+                    worldView.getScene().isInstance());
+            field = current;
+            return current;
+        }
+    }
+
+    private static Field compute(int[][] flags, int tick, int origin, int plane, int baseX, int baseY, int version,
+                                 boolean instance) {
+        int[] distances = new int[SIZE * SIZE];
+        int[] parents = new int[SIZE * SIZE];
+        Arrays.fill(distances, UNREACHABLE);
+
+        // Every tile is queued at most once, so the queue never wraps
+        int[] queue = new int[SIZE * SIZE];
+        int head = 0;
+        int tail = 0;
+        queue[tail++] = origin;
+        distances[origin] = 0;
+        parents[origin] = origin;
+
+        while (head < tail) {
+            int index = queue[head++];
+            int x = index / SIZE;
+            int y = index % SIZE;
+            int data = flags[x][y];
+            int next = distances[index] + 1;
+
+            tail = visit(flags, distances, parents, queue, tail, index, next, data, x - 1, y, CollisionDataFlag.BLOCK_MOVEMENT_WEST);
+            tail = visit(flags, distances, parents, queue, tail, index, next, data, x + 1, y, CollisionDataFlag.BLOCK_MOVEMENT_EAST);
+            tail = visit(flags, distances, parents, queue, tail, index, next, data, x, y - 1, CollisionDataFlag.BLOCK_MOVEMENT_SOUTH);
+            tail = visit(flags, distances, parents, queue, tail, index, next, data, x, y + 1, CollisionDataFlag.BLOCK_MOVEMENT_NORTH);
+        }
+
+        return new Field(tick, origin, plane, baseX, baseY, version, instance, distances, parents);
+    }
+
+    private static int visit(int[][] flags, int[] distances, int[] parents, int[] queue, int tail,
+                             int from, int distance, int fromData, int x, int y, int blockMovementFlag) {
+        if (!isInScene(x, y) || (fromData & blockMovementFlag) != 0
+                || (flags[x][y] & CollisionDataFlag.BLOCK_MOVEMENT_FULL) != 0) {
+            return tail;
+        }
+        int index = x * SIZE + y;
+        if (distances[index] != UNREACHABLE) {
+            return tail;
+        }
+        distances[index] = distance;
+        parents[index] = from;
+        queue[tail] = index;
+        return tail + 1;
+    }
+
+    private static boolean isInScene(int x, int y) {
+        return x >= 0 && y >= 0 && x < SIZE && y < SIZE;
+    }
+
+    private static int toIndex(@Nullable LocalPoint localPoint) {
+        if (localPoint == null || !localPoint.isInScene()) {
+            return UNREACHABLE;
+        }
+        return localPoint.getSceneX() * SIZE + localPoint.getSceneY();
+    }
+
+    private static int toIndex(Field current, @Nullable WorldPoint worldPoint) {
+        if (worldPoint == null) {
+            return UNREACHABLE;
+        }
+        if (current.instance) {
+            // Inside instances, callers use the template coordinates Rs2Player reports
+            return toIndex(Rs2LocalPoint.fromWorldInstance(worldPoint));
+        }
+        if (worldPoint.getPlane() != current.plane) {
+            return UNREACHABLE;
+        }
+        int x = worldPoint.getX() - current.baseX;
+        int y = worldPoint.getY() - current.baseY;
+        return isInScene(x, y) ? x * SIZE + y : UNREACHABLE;
+    }
+
+    private static WorldPoint toWorldPoint(Field current, int index) {
+        int x = index / SIZE;
+        int y = index % SIZE;
+        if (current.instance) {
+            return WorldPoint.fromLocalInstance(Microbot.getClient(),
+                    LocalPoint.fromScene(x, y, Microbot.getClient().getTopLevelWorldView()));
+        }
+        return new WorldPoint(current.baseX + x, current.baseY + y, current.plane);
+    }
+}
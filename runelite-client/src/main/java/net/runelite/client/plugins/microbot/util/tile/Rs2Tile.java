@@ -218,6 +218,88 @@ public abstract class Rs2Tile implements Tile {
      * @return A HashMap containing WorldPoints and their corresponding distances from the start tile.
      */
     public static HashMap<WorldPoint, Integer> getReachableTilesFromTile(WorldPoint tile, int distance, boolean ignoreCollision) {
+        final WorldView wv = Microbot.getClient().getTopLevelWorldView();
+        if (wv.isInstance()) {
+            return getReachableTilesFromInstanceTile(tile, distance, ignoreCollision);
+        }
+
+        final HashMap<WorldPoint, Integer> tileDistances = new HashMap<>();
+        tileDistances.put(tile, 0);
+
+        final CollisionData[] collisionMap = wv.getCollisionMaps();
+        if (collisionMap == null || tile.getPlane() != wv.getPlane()) return tileDistances;
+
+        final int[][] flags = collisionMap[wv.getPlane()].getFlags();
+        final int baseX = wv.getBaseX();
+        final int baseY = wv.getBaseY();
+        final int startX = tile.getX() - baseX;
+        final int startY = tile.getY() - baseY;
+        if (!isWithinBounds(startX, startY)) return tileDistances;
+
+        // BFS over scene indices, every tile is queued at most once
+        final int start = startX * FLAG_DATA_SIZE + startY;
+        final int[] distances = new int[FLAG_DATA_SIZE * FLAG_DATA_SIZE];
+        final int[] queue = new int[FLAG_DATA_SIZE * FLAG_DATA_SIZE];
+        Arrays.fill(distances, -1);
+        distances[start] = 0;
+        queue[0] = start;
+        int head = 0;
+        int tail = 1;
+
+        while (head < tail) {
+            final int index = queue[head++];
+            final int x = index / FLAG_DATA_SIZE;
+            final int y = index % FLAG_DATA_SIZE;
+            final int dist = distances[index];
+            final int data = flags[x][y];
+
+            if (index != start) {
+                if (!ignoreCollision && isAnyFlagSet(data, CollisionDataFlag.BLOCK_MOVEMENT_FULL, CollisionDataFlag.BLOCK_MOVEMENT_FLOOR)) {
+                    continue;
+                }
+                tileDistances.put(new WorldPoint(baseX + x, baseY + y, tile.getPlane()), dist);
+            }
+
+            if (dist >= distance)
+                continue;
+
+            if (!isFlagSet(data, CollisionDataFlag.BLOCK_MOVEMENT_EAST))
+                tail = addReachableNeighbour(tileDistances, distances, queue, tail, tile.getPlane(), baseX, baseY, x + 1, y, dist + 1);
+            if (!isFlagSet(data, CollisionDataFlag.BLOCK_MOVEMENT_WEST))
+                tail = addReachableNeighbour(tileDistances, distances, queue, tail, tile.getPlane(), baseX, baseY, x - 1, y, dist + 1);
+            if (!isFlagSet(data, CollisionDataFlag.BLOCK_MOVEMENT_NORTH))
+                tail = addReachableNeighbour(tileDistances, distances, queue, tail, tile.getPlane(), baseX, baseY, x, y + 1, dist + 1);
+            if (!isFlagSet(data, CollisionDataFlag.BLOCK_MOVEMENT_SOUTH))
+                tail = addReachableNeighbour(tileDistances, distances, queue, tail, tile.getPlane(), baseX, baseY, x, y - 1, dist + 1);
+        }
+
+        return tileDistances;
+    }
+
+    /**
+     * Queues a neighbour found by {@link #getReachableTilesFromTile(WorldPoint, int, boolean)}. Tiles outside the
+     * scene have no collision data; like before, they are reported at their distance but not expanded.
+     *
+     * @return the new tail of the queue
+     */
+    private static int addReachableNeighbour(HashMap<WorldPoint, Integer> tileDistances, int[] distances, int[] queue, int tail,
+                                             int plane, int baseX, int baseY, int x, int y, int dist) {
+        if (!isWithinBounds(x, y)) {
+            tileDistances.putIfAbsent(new WorldPoint(baseX + x, baseY + y, plane), dist);
+            return tail;
+        }
+        final int index = x * FLAG_DATA_SIZE + y;
+        if (distances[index] != -1) return tail;
+        distances[index] = dist;
+        queue[tail] = index;
+        return tail + 1;
+    }
+
+    /**
+     * Instanced variant of {@link #getReachableTilesFromTile(WorldPoint, int, boolean)}, which maps every template
+     * tile to the scene on its own since instance chunks may be rotated.
+     */
+    private static HashMap<WorldPoint, Integer> getReachableTilesFromInstanceTile(WorldPoint tile, int distance, boolean ignoreCollision) {
         final HashMap<WorldPoint, Integer> tileDistances = new HashMap<>();
         tileDistances.put(tile, 0);
 
@@ -315,6 +397,11 @@ public abstract class Rs2Tile implements Tile {
         if (targetPoint.getPlane() != playerLoc.getPlane()) return false;
         if (CollisionMap.ignoreCollision.contains(targetPoint)) return true;
 
+        // Outside instances the search is shared with every other query of this tick, see Rs2Reachability
+        if (!Microbot.getClient().getTopLevelWorldView().getScene().isInstance()) {
+            return Rs2Reachability.isReachable(targetPoint);
+        }
+
         final boolean[][] visited = new boolean[FLAG_DATA_SIZE][FLAG_DATA_SIZE];
         final int[][] flags = getFlags();
         if (flags == null) return false;
@@ -60,6 +60,7 @@ import net.runelite.client.plugins.microbot.util.npc.Rs2NpcModel;
 import net.runelite.client.plugins.microbot.util.player.Rs2Player;
 import net.runelite.client.plugins.microbot.util.player.Rs2Pvp;
 import net.runelite.client.plugins.microbot.util.tabs.Rs2Tab;
+import net.runelite.client.plugins.microbot.util.tile.Rs2Reachability;
 import net.runelite.client.plugins.microbot.util.tile.Rs2Tile;
 import net.runelite.client.plugins.microbot.util.widget.Rs2Widget;
 import net.runelite.client.plugins.skillcalculator.skills.MagicAction;
@@ -622,9 +623,17 @@ public class Rs2Walker {
         return getTotalTiles(Rs2Player.getWorldLocation(), destination);
     }
 
-    // takes an avg 200-300 ms
     // Used mainly for agility, might have to tweak this for other stuff
+    // Targets the player can walk to within the scene are answered from Rs2Reachability; everything else, like
+    // targets behind doors or transports, still runs the pathfinder, which takes an avg 200-300 ms
     public static boolean canReach(WorldPoint worldPoint, int sizeX, int sizeY, int pathSizeX, int pathSizeY,boolean useBankedItems) {
+        // Same test as below: the area of a reachable tile intersects the object area
+        WorldArea reachableArea = new WorldArea(worldPoint.getX() - pathSizeX + 1, worldPoint.getY() - pathSizeY + 1,
+                sizeX + pathSizeX + 1, sizeY + pathSizeY + 1, worldPoint.getPlane());
+        if (Rs2Reachability.canReach(reachableArea)) {
+            return true;
+        }
+
 		boolean originalUseBankItems = ShortestPathPlugin.getPathfinderConfig().isUseBankItems();
         WorldArea pathArea = null;
         WorldArea objectArea = new WorldArea(worldPoint, sizeX + 2, sizeY + 2);
@@ -686,9 +695,6 @@ public class Rs2Walker {
     public static List<WorldPoint> getWalkPath(WorldPoint start, WorldPoint target) {
         long startTime = System.nanoTime();
         
-        if (ShortestPathPlugin.getPathfinderConfig().getTransports().isEmpty()) {
-            ShortestPathPlugin.getPathfinderConfig().refresh();
-        }
         ShortestPathPlugin.getPathfinderConfig().refresh();
         
         long pathfinderStartTime = System.nanoTime();
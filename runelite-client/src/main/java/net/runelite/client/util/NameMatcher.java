@@ -0,0 +1,450 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.util;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Queue;
+import java.util.TreeSet;
+import java.util.function.IntPredicate;
+import lombok.Value;
+
+/**
+ * Matches names against a set of patterns, ignoring case.
+ * <p>
+ * The patterns are compiled once. Exact names are kept in a hash table, and the literal parts of substring and
+ * wildcard patterns in an Aho-Corasick automaton, so a name is scanned once however many patterns there are.
+ * A wildcard pattern is only verified against the name after the automaton finds its longest literal part.
+ * Matching does not allocate.
+ */
+public final class NameMatcher
+{
+	public enum Mode
+	{
+		/**
+		 * The name equals the pattern
+		 */
+		EXACT,
+		/**
+		 * The name contains the pattern
+		 */
+		CONTAINS,
+		/**
+		 * The name matches the pattern, in which {@code *} matches any run of characters, like {@link WildcardMatcher}
+		 */
+		WILDCARD,
+	}
+
+	private static final Cache<Key, NameMatcher> CACHE = CacheBuilder.newBuilder()
+		.maximumSize(256)
+		.build();
+
+	private static final int[] NONE = new int[0];
+
+	private final String[] patterns;
+	private final int[] universal;
+
+	private final int[] exactHashes;
+	private final int[] exactIds;
+
+	private final boolean[] contains;
+	private final String[][] segments;
+	private final boolean[] anchoredStart;
+	private final boolean[] anchoredEnd;
+
+	private final char[] alphabet;
+	private final int stride;
+	private final int[] transitions;
+	private final int[][] outputs;
+
+	/**
+	 * Returns a matcher for the patterns, reusing the one compiled for the same patterns before.
+	 */
+	public static NameMatcher of(Mode mode, String... patterns)
+	{
+		return cached(new Key(mode, Arrays.asList(patterns.clone())));
+	}
+
+	/**
+	 * Returns a matcher for the patterns, reusing the one compiled for the same patterns before.
+	 */
+	public static NameMatcher of(Mode mode, Collection<String> patterns)
+	{
+		return cached(new Key(mode, new ArrayList<>(patterns)));
+	}
+
+	/**
+	 * Returns a matcher for the comma separated patterns of a config value, reusing the one compiled for the same
+	 * value before.
+	 */
+	public static NameMatcher ofCsv(Mode mode, String csv)
+	{
+		return cached(new Key(mode, csv == null ? List.of() : Text.fromCSV(csv)));
+	}
+
+	private static NameMatcher cached(Key key)
+	{
+		NameMatcher matcher = CACHE.getIfPresent(key);
+		if (matcher == null)
+		{
+			matcher = compile(key.mode, key.patterns);
+			CACHE.put(key, matcher);
+		}
+		return matcher;
+	}
+
+	/**
+	 * Compiles a matcher for the patterns. Patterns are trimmed, and empty or null patterns never match.
+	 * The index of a pattern in the list is the index passed to the predicate of {@link #matches(String, IntPredicate)}.
+	 */
+	public static NameMatcher compile(Mode mode, List<String> patterns)
+	{
+		return new NameMatcher(mode, patterns);
+	}
+
+	private NameMatcher(Mode mode, List<String> patterns)
+	{
+		final int count = patterns.size();
+		this.patterns = new String[count];
+		this.contains = new boolean[count];
+		this.segments = new String[count][];
+		this.anchoredStart = new boolean[count];
+		this.anchoredEnd = new boolean[count];
+
+		final List<Integer> universal = new ArrayList<>();
+		final List<Integer> exact = new ArrayList<>();
+		final String[] keys = new String[count];
+		for (int i = 0; i < count; i++)
+		{
+			final String pattern = patterns.get(i) == null ? "" : patterns.get(i).trim();
+			this.patterns[i] = pattern;
+			if (pattern.isEmpty())
+			{
+				continue;
+			}
+
+			if (mode == Mode.EXACT || mode == Mode.WILDCARD && pattern.indexOf('*') == -1)
+			{
+				exact.add(i);
+			}
+			else if (mode == Mode.CONTAINS)
+			{
+				contains[i] = true;
+				keys[i] = pattern;
+			}
+			else
+			{
+				final String[] parts = Arrays.stream(pattern.split("\\*"))
+					.filter(part -> !part.isEmpty())
+					.toArray(String[]::new);
+				if (parts.length == 0)
+				{
+					universal.add(i);
+					continue;
+				}
+
+				segments[i] = parts;
+				anchoredStart[i] = pattern.charAt(0) != '*';
+				anchoredEnd[i] = pattern.charAt(pattern.length() - 1) != '*';
+				String longest = parts[0];
+				for (String part : parts)
+				{
+					if (part.length() > longest.length())
+					{
+						longest = part;
+					}
+				}
+				keys[i] = longest;
+			}
+		}
+		this.universal = universal.stream().mapToInt(Integer::intValue).toArray();
+
+		// Open addressing table of the exact patterns, at most half full
+		int size = 1;
+		while (size < exact.size() * 2)
+		{
+			size <<= 1;
+		}
+		this.exactHashes = new int[exact.isEmpty() ? 0 : size];
+		this.exactIds = new int[exact.isEmpty() ? 0 : size];
+		Arrays.fill(exactIds, -1);
+		for (int id : exact)
+		{
+			final int hash = hash(this.patterns[id]);
+			int slot = hash & (size - 1);
+			while (exactIds[slot] != -1)
+			{
+				slot = (slot + 1) & (size - 1);
+			}
+			exactHashes[slot] = hash;
+			exactIds[slot] = id;
+		}
+
+		// Characters not in any key share class 0, which always leads back to the root
+		final TreeSet<Character> characters = new TreeSet<>();
+		for (String key : keys)
+		{
+			if (key != null)
+			{
+				for (int i = 0; i < key.length(); i++)
+				{
+					characters.add(fold(key.charAt(i)));
+				}
+			}
+		}
+		this.alphabet = new char[characters.size()];
+		int next = 0;
+		for (char c : characters)
+		{
+			alphabet[next++] = c;
+		}
+		this.stride = alphabet.length + 1;
+
+		final List<int[]> trie = new ArrayList<>();
+		final List<List<Integer>> found = new ArrayList<>();
+		trie.add(newRow());
+		found.add(new ArrayList<>());
+		for (int id = 0; id < count; id++)
+		{
+			final String key = keys[id];
+			if (key == null)
+			{
+				continue;
+			}
+
+			int state = 0;
+			for (int i = 0; i < key.length(); i++)
+			{
+				final int cls = classOf(fold(key.charAt(i)));
+				if (trie.get(state)[cls] == -1)
+				{
+					trie.get(state)[cls] = trie.size();
+					trie.add(newRow());
+					found.add(new ArrayList<>());
+				}
+				state = trie.get(state)[cls];
+			}
+			found.get(state).add(id);
+		}
+
+		// Complete the trie into a DFA along the failure links, breadth first so shorter suffixes are done first
+		final int[] fail = new int[trie.size()];
+		final Queue<Integer> queue = new ArrayDeque<>();
+		final int[] root = trie.get(0);
+		for (int cls = 0; cls < stride; cls++)
+		{
+			if (root[cls] == -1)
+			{
+				root[cls] = 0;
+			}
+			else
+			{
+				queue.add(root[cls]);
+			}
+		}
+		while (!queue.isEmpty())
+		{
+			final int state = queue.poll();
+			final int[] row = trie.get(state);
+			found.get(state).addAll(found.get(fail[state]));
+			for (int cls = 0; cls < stride; cls++)
+			{
+				if (row[cls] == -1)
+				{
+					row[cls] = trie.get(fail[state])[cls];
+				}
+				else
+				{
+					fail[row[cls]] = trie.get(fail[state])[cls];
+					queue.add(row[cls]);
+				}
+			}
+		}
+
+		this.transitions = new int[trie.size() * stride];
+		this.outputs = new int[trie.size()][];
+		for (int state = 0; state < trie.size(); state++)
+		{
+			System.arraycopy(trie.get(state), 0, transitions, state * stride, stride);
+			final List<Integer> ids = found.get(state);
+			outputs[state] = ids.isEmpty() ? NONE : ids.stream().mapToInt(Integer::intValue).toArray();
+		}
+	}
+
+	/**
+	 * Returns whether the matcher has no pattern that can match.
+	 */
+	public boolean isEmpty()
+	{
+		return universal.length == 0 && exactIds.length == 0 && transitions.length == stride;
+	}
+
+	public boolean matches(String name)
+	{
+		return matches(name, id -> true);
+	}
+
+	/**
+	 * Returns whether the name matches a pattern accepted by the predicate, which is passed the index of each
+	 * matching pattern until it accepts one.
+	 */
+	public boolean matches(String name, IntPredicate accept)
+	{
+		if (name == null)
+		{
+			return false;
+		}
+
+		for (int id : universal)
+		{
+			if (accept.test(id))
+			{
+				return true;
+			}
+		}
+
+		if (exactIds.length > 0)
+		{
+			final int hash = hash(name);
+			final int mask = exactIds.length - 1;
+			for (int slot = hash & mask; exactIds[slot] != -1; slot = (slot + 1) & mask)
+			{
+				final int id = exactIds[slot];
+				if (exactHashes[slot] == hash && patterns[id].equalsIgnoreCase(name) && accept.test(id))
+				{
+					return true;
+				}
+			}
+		}
+
+		int state = 0;
+		for (int i = 0; i < name.length(); i++)
+		{
+			state = transitions[state * stride + classOf(fold(name.charAt(i)))];
+			for (int id : outputs[state])
+			{
+				if ((contains[id] || matchesWildcard(id, name)) && accept.test(id))
+				{
+					return true;
+				}
+			}
+		}
+		return false;
+	}
+
+	private boolean matchesWildcard(int id, String name)
+	{
+		final String[] parts = segments[id];
+		int start = 0;
+		int end = name.length();
+		int first = 0;
+		int last = parts.length;
+		if (anchoredStart[id])
+		{
+			final String part = parts[first++];
+			if (!name.regionMatches(true, 0, part, 0, part.length()))
+			{
+				return false;
+			}
+			start = part.length();
+		}
+		if (anchoredEnd[id])
+		{
+			final String part = parts[--last];
+			if (end - part.length() < start || !name.regionMatches(true, end - part.length(), part, 0, part.length()))
+			{
+				return false;
+			}
+			end -= part.length();
+		}
+
+		for (int i = first; i < last; i++)
+		{
+			final String part = parts[i];
+			final int at = indexOfIgnoreCase(name, part, start, end);
+			if (at == -1)
+			{
+				return false;
+			}
+			start = at + part.length();
+		}
+		return true;
+	}
+
+	private static int indexOfIgnoreCase(String name, String part, int from, int to)
+	{
+		for (int i = from; i <= to - part.length(); i++)
+		{
+			if (name.regionMatches(true, i, part, 0, part.length()))
+			{
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	private int[] newRow()
+	{
+		final int[] row = new int[stride];
+		Arrays.fill(row, -1);
+		return row;
+	}
+
+	private int classOf(char c)
+	{
+		final int index = Arrays.binarySearch(alphabet, c);
+		return index < 0 ? 0 : index + 1;
+	}
+
+	/**
+	 * Folds the case of a character the way {@link String#equalsIgnoreCase(String)} compares them
+	 */
+	private static char fold(char c)
+	{
+		return Character.toLowerCase(Character.toUpperCase(c));
+	}
+
+	private static int hash(String name)
+	{
+		int hash = 0;
+		for (int i = 0; i < name.length(); i++)
+		{
+			hash = 31 * hash + fold(name.charAt(i));
+		}
+		return hash ^ (hash >>> 16);
+	}
+
+	@Value
+	private static class Key
+	{
+		Mode mode;
+		List<String> patterns;
+	}
+}
@@ -0,0 +1,189 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.config;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.util.HashMap;
+import java.util.Map;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class ConfigDataTest
+{
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	@Test
+	public void testJournal() throws IOException
+	{
+		File file = new File(folder.getRoot(), "test.properties");
+		ConfigData data = new ConfigData(file);
+		data.setProperty("a", "1");
+		data.patch(data.swapChanges());
+		assertTrue(file.length() > 0);
+
+		long snapshotLength = file.length();
+		data.setProperty("b", "2");
+		data.unset("a");
+		data.patch(data.swapChanges());
+		// the second save is journaled
+		assertEquals(snapshotLength, file.length());
+		assertTrue(ConfigData.journalFile(file).length() > 0);
+
+		ConfigData loaded = new ConfigData(file);
+		assertNull(loaded.getProperty("a"));
+		assertEquals("2", loaded.getProperty("b"));
+
+		ConfigData.compact(file);
+		assertEquals(0, ConfigData.journalFile(file).length());
+		loaded = new ConfigData(file);
+		assertNull(loaded.getProperty("a"));
+		assertEquals("2", loaded.getProperty("b"));
+	}
+
+	@Test
+	public void testMerge() throws IOException
+	{
+		File file = new File(folder.getRoot(), "test.properties");
+		ConfigData first = new ConfigData(file);
+		first.setProperty("a", "1");
+		first.patch(first.swapChanges());
+
+		ConfigData second = new ConfigData(file);
+		first.setProperty("b", "2");
+		first.patch(first.swapChanges());
+		second.setProperty("c", "3");
+		second.patch(second.swapChanges());
+
+		ConfigData loaded = new ConfigData(file);
+		assertEquals("1", loaded.getProperty("a"));
+		assertEquals("2", loaded.getProperty("b"));
+		assertEquals("3", loaded.getProperty("c"));
+	}
+
+	@Test
+	public void testIncompleteRecord() throws IOException
+	{
+		File file = new File(folder.getRoot(), "test.properties");
+		ConfigData data = new ConfigData(file);
+		data.setProperty("a", "1");
+		data.patch(data.swapChanges());
+		data.setProperty("b", "2");
+		data.patch(data.swapChanges());
+
+		// cut the last record short, as if the client died while appending it
+		File journal = ConfigData.journalFile(file);
+		data.setProperty("c", "3");
+		data.patch(data.swapChanges());
+		try (RandomAccessFile raf = new RandomAccessFile(journal, "rw"))
+		{
+			raf.setLength(raf.length() - 1);
+		}
+
+		ConfigData loaded = new ConfigData(file);
+		assertEquals("2", loaded.getProperty("b"));
+		assertNull(loaded.getProperty("c"));
+
+		// the next append replaces the incomplete record
+		loaded.setProperty("d", "4");
+		loaded.patch(loaded.swapChanges());
+		loaded = new ConfigData(file);
+		assertEquals("2", loaded.getProperty("b"));
+		assertEquals("4", loaded.getProperty("d"));
+	}
+
+	@Test
+	public void testCorruptRecord() throws IOException
+	{
+		File file = new File(folder.getRoot(), "test.properties");
+		ConfigData data = new ConfigData(file);
+		data.setProperty("a", "1");
+		data.patch(data.swapChanges());
+		data.setProperty("b", "2");
+		data.patch(data.swapChanges());
+
+		// damage the payload of the last record without changing its length, as a torn write would
+		File journal = ConfigData.journalFile(file);
+		data.setProperty("c", "3");
+		data.patch(data.swapChanges());
+		try (RandomAccessFile raf = new RandomAccessFile(journal, "rw"))
+		{
+			raf.seek(raf.length() - 1);
+			int last = raf.read();
+			raf.seek(raf.length() - 1);
+			raf.write(last ^ 0xff);
+		}
+
+		ConfigData loaded = new ConfigData(file);
+		assertEquals("2", loaded.getProperty("b"));
+		assertNull(loaded.getProperty("c"));
+
+		// the next append replaces the corrupt record instead of landing behind it
+		loaded.setProperty("d", "4");
+		loaded.patch(loaded.swapChanges());
+		loaded = new ConfigData(file);
+		assertEquals("2", loaded.getProperty("b"));
+		assertNull(loaded.getProperty("c"));
+		assertEquals("4", loaded.getProperty("d"));
+
+		ConfigData.compact(file);
+		loaded = new ConfigData(file);
+		assertEquals("2", loaded.getProperty("b"));
+		assertEquals("4", loaded.getProperty("d"));
+	}
+
+	@Test
+	public void testCompactsLargeJournal() throws IOException
+	{
+		File file = new File(folder.getRoot(), "test.properties");
+		ConfigData data = new ConfigData(file);
+		data.setProperty("a", "1");
+		data.patch(data.swapChanges());
+
+		Map<String, String> values = new HashMap<>();
+		StringBuilder value = new StringBuilder();
+		for (int i = 0; i < 64 * 1024; ++i)
+		{
+			value.append('x');
+		}
+		for (int i = 0; i < 16; ++i)
+		{
+			values.put("key" + i, value.toString());
+			data.putAll(values);
+			data.patch(data.swapChanges());
+		}
+
+		assertTrue(ConfigData.journalFile(file).length() < 512 * 1024);
+		ConfigData loaded = new ConfigData(file);
+		assertEquals("1", loaded.getProperty("a"));
+		assertEquals(value.toString(), loaded.getProperty("key15"));
+	}
+}
@@ -0,0 +1,153 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.eventbus;
+
+import java.util.ArrayList;
+import java.util.List;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import org.junit.Test;
+
+public class EventBusTest
+{
+	private final List<String> calls = new ArrayList<>();
+
+	private static class TestEvent
+	{
+	}
+
+	private static class OtherEvent
+	{
+	}
+
+	public class Low
+	{
+		@Subscribe
+		public void onTestEvent(TestEvent event)
+		{
+			calls.add("low");
+		}
+
+		@Subscribe
+		public void onOtherEvent(OtherEvent event)
+		{
+			calls.add("low other");
+		}
+	}
+
+	public class High
+	{
+		@Subscribe(priority = 1)
+		public void onTestEvent(TestEvent event)
+		{
+			calls.add("high");
+		}
+	}
+
+	public class Bad
+	{
+		@Subscribe
+		public void onOtherEvent(OtherEvent event)
+		{
+			calls.add("bad other");
+		}
+
+		@Subscribe
+		public void onWrongName(TestEvent event)
+		{
+		}
+	}
+
+	@Test
+	public void testPriority()
+	{
+		EventBus eventBus = new EventBus();
+		eventBus.register(new Low());
+		eventBus.register(new High());
+		eventBus.register(TestEvent.class, e -> calls.add("lambda"), 0.5f);
+
+		eventBus.post(new TestEvent());
+		assertEquals(List.of("high", "lambda", "low"), calls);
+	}
+
+	@Test
+	public void testUnregister()
+	{
+		EventBus eventBus = new EventBus();
+		Low low = new Low();
+		eventBus.register(low);
+		eventBus.register(new High());
+		EventBus.Subscriber lambda = eventBus.register(OtherEvent.class, e -> calls.add("lambda other"), 0);
+
+		eventBus.unregister(low);
+		eventBus.post(new TestEvent());
+		eventBus.post(new OtherEvent());
+		assertEquals(List.of("high", "lambda other"), calls);
+
+		calls.clear();
+		eventBus.unregister(lambda);
+		eventBus.post(new OtherEvent());
+		assertTrue(calls.isEmpty());
+		assertTrue(eventBus.getSubscribers().keySet().contains(TestEvent.class));
+		assertTrue(!eventBus.getSubscribers().containsKey(OtherEvent.class));
+	}
+
+	@Test
+	public void testRegisterFailureRegistersNothing()
+	{
+		EventBus eventBus = new EventBus();
+		try
+		{
+			eventBus.register(new Bad());
+		}
+		catch (IllegalArgumentException ex)
+		{
+			// expected
+		}
+
+		eventBus.post(new OtherEvent());
+		assertTrue(calls.isEmpty());
+	}
+
+	@Test
+	public void testProfiling()
+	{
+		EventBus eventBus = new EventBus();
+		eventBus.register(new Low());
+
+		eventBus.post(new TestEvent());
+		EventBus.Subscriber subscriber = eventBus.getSubscribers().get(TestEvent.class).get(0);
+		assertEquals(0, subscriber.getProfile().getInvocations());
+
+		eventBus.setProfiling(true);
+		eventBus.post(new TestEvent());
+		eventBus.post(new TestEvent());
+		assertEquals(2, subscriber.getProfile().getInvocations());
+		assertTrue(subscriber.getProfile().getMaxNanos() <= subscriber.getProfile().getTotalNanos());
+
+		eventBus.resetProfiles();
+		assertEquals(0, subscriber.getProfile().getInvocations());
+	}
+}
@@ -0,0 +1,70 @@
+package net.runelite.client.plugins.microbot;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class ScriptSchedulerTest {
+    @Test
+    public void testRejectedRunIsRetried() throws Exception {
+        ScriptScheduler.ScriptExecutor blockers = ScriptScheduler.newExecutor("blocker");
+        ScriptScheduler.ScriptExecutor script = ScriptScheduler.newExecutor("script");
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch started = new CountDownLatch(ScriptScheduler.MAX_WORKERS);
+        List<ScheduledFuture<?>> blocked = new ArrayList<>();
+        try {
+            // occupy every worker so the next task is rejected by the pool
+            for (int i = 0; i < ScriptScheduler.MAX_WORKERS; i++) {
+                blocked.add(blockers.schedule(() -> {
+                    started.countDown();
+                    release.await();
+                    return null;
+                }, 0, TimeUnit.MILLISECONDS));
+            }
+            assertTrue(started.await(10, TimeUnit.SECONDS));
+
+            AtomicInteger runs = new AtomicInteger();
+            ScheduledFuture<?> loop = script.scheduleWithFixedDelay(runs::incrementAndGet, 0, 10, TimeUnit.MILLISECONDS);
+            ScheduledFuture<Integer> once = script.schedule(() -> 42, 0, TimeUnit.MILLISECONDS);
+            Thread.sleep(300);
+            assertEquals(0, runs.get());
+            assertFalse(loop.isDone());
+            assertFalse(once.isDone());
+
+            release.countDown();
+            assertEquals(42, (int) once.get(5, TimeUnit.SECONDS));
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (runs.get() < 3 && System.nanoTime() < deadline) {
+                Thread.sleep(10);
+            }
+            assertTrue(runs.get() >= 3);
+            assertFalse(loop.isDone());
+        } finally {
+            release.countDown();
+            script.shutdownNow();
+            blockers.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testAnonymousScriptName() throws Exception {
+        Object anonymous = new Object() {
+        };
+        ScriptScheduler.ScriptExecutor executor = ScriptScheduler.newExecutor(anonymous.getClass());
+        try {
+            String name = executor.submit(() -> Thread.currentThread().getName()).get(5, TimeUnit.SECONDS);
+            assertEquals("ScriptSchedulerTest$1", name);
+        } finally {
+            executor.shutdown();
+        }
+    }
+}
@@ -0,0 +1,160 @@
+package net.runelite.client.plugins.microbot.pluginscheduler;
+
+import net.runelite.client.plugins.PluginManager;
+import net.runelite.client.plugins.microbot.Microbot;
+import net.runelite.client.plugins.microbot.pluginscheduler.model.PluginScheduleEntry;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.lang.reflect.Field;
+import java.time.ZonedDateTime;
+import java.util.Collections;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class SchedulerPluginTest {
+    private PluginManager pluginManager;
+    private boolean loggedIn;
+    private SchedulerPlugin plugin;
+
+    @Before
+    public void before() throws Exception {
+        pluginManager = (PluginManager) getStatic("pluginManager");
+        loggedIn = Microbot.loggedIn;
+
+        // no break handler, antiban or auto login plugins are installed
+        PluginManager plugins = mock(PluginManager.class);
+        when(plugins.getPlugins()).thenReturn(Collections.emptyList());
+        setStatic("pluginManager", plugins);
+        Microbot.loggedIn = true;
+
+        plugin = new SchedulerPlugin();
+        set(plugin, "config", mock(SchedulerConfig.class));
+    }
+
+    @After
+    public void after() throws Exception {
+        setStatic("pluginManager", pluginManager);
+        Microbot.loggedIn = loggedIn;
+    }
+
+    @Test
+    public void testHoldSkipsEvaluation() {
+        PluginScheduleEntry entry = dueEntry();
+        plugin.addScheduledPlugin(entry);
+        plugin.setState(SchedulerState.HOLD);
+
+        plugin.checkSchedule();
+
+        verify(entry, never()).isDueToRun();
+        verify(entry, never()).start(anyBoolean());
+        assertEquals(SchedulerState.HOLD, plugin.getCurrentState());
+    }
+
+    @Test
+    public void testRunningEntryIsSoftStopped() {
+        PluginScheduleEntry entry = dueEntry();
+        when(entry.isRunning()).thenReturn(true);
+        when(entry.checkConditionsAndStop(true)).thenReturn(true);
+        plugin.addScheduledPlugin(entry);
+        plugin.setCurrentPlugin(entry);
+        plugin.setState(SchedulerState.RUNNING_PLUGIN);
+
+        plugin.checkSchedule();
+
+        verify(entry).checkConditionsAndStop(true);
+        assertEquals(SchedulerState.SOFT_STOPPING_PLUGIN, plugin.getCurrentState());
+        assertSame(entry, plugin.getCurrentPlugin());
+    }
+
+    @Test
+    public void testRunningEntryKeepsRunning() {
+        PluginScheduleEntry entry = dueEntry();
+        when(entry.isRunning()).thenReturn(true);
+        PluginScheduleEntry next = dueEntry();
+        plugin.addScheduledPlugin(entry);
+        plugin.addScheduledPlugin(next);
+        plugin.setCurrentPlugin(entry);
+        plugin.setState(SchedulerState.RUNNING_PLUGIN);
+
+        plugin.checkSchedule();
+
+        verify(entry).checkConditionsAndStop(true);
+        verify(next, never()).start(anyBoolean());
+        assertEquals(SchedulerState.RUNNING_PLUGIN, plugin.getCurrentState());
+        assertSame(entry, plugin.getCurrentPlugin());
+    }
+
+    @Test
+    public void testChangesWaitForTheEvaluation() throws Exception {
+        ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor();
+        set(plugin, "evaluationExecutor", executor);
+        try {
+            PluginScheduleEntry entry = dueEntry();
+            plugin.addScheduledPlugin(entry);
+
+            // a panel removes the entry while the main loop is busy evaluating
+            CountDownLatch evaluating = new CountDownLatch(1);
+            CountDownLatch release = new CountDownLatch(1);
+            executor.execute(() -> {
+                evaluating.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+            assertTrue(evaluating.await(5, TimeUnit.SECONDS));
+            plugin.removeScheduledPlugin(entry);
+            assertEquals(1, plugin.getScheduledPlugins().size());
+
+            release.countDown();
+            executor.submit(() -> { }).get(5, TimeUnit.SECONDS);
+            assertFalse(plugin.getScheduledPlugins().contains(entry));
+            verify(entry).setEnabled(false);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static PluginScheduleEntry dueEntry() {
+        PluginScheduleEntry entry = mock(PluginScheduleEntry.class);
+        when(entry.isEnabled()).thenReturn(true);
+        when(entry.isDueToRun()).thenReturn(true);
+        when(entry.getCleanName()).thenReturn("Test");
+        when(entry.getCurrentStartTriggerTime()).thenReturn(Optional.of(ZonedDateTime.now()));
+        return entry;
+    }
+
+    private static Object getStatic(String name) throws Exception {
+        Field field = Microbot.class.getDeclaredField(name);
+        field.setAccessible(true);
+        return field.get(null);
+    }
+
+    private static void setStatic(String name, Object value) throws Exception {
+        Field field = Microbot.class.getDeclaredField(name);
+        field.setAccessible(true);
+        field.set(null, value);
+    }
+
+    private static void set(Object target, String name, Object value) throws Exception {
+        Field field = target.getClass().getDeclaredField(name);
+        field.setAccessible(true);
+        field.set(target, value);
+    }
+}
@@ -0,0 +1,78 @@
+package net.runelite.client.plugins.microbot.shortestpath;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+public class PrimitiveIntHashMapTest {
+    @Test
+    public void testRemove() {
+        PrimitiveIntHashMap<String> map = new PrimitiveIntHashMap<>(8);
+        map.put(1, "a");
+        map.put(2, "b");
+
+        assertEquals("a", map.remove(1));
+        assertEquals(1, map.size());
+        assertNull(map.get(1));
+        assertEquals("b", map.get(2));
+
+        // removing a missing key changes nothing
+        assertNull(map.remove(1));
+        assertNull(map.remove(3));
+        assertEquals(1, map.size());
+
+        map.put(1, "c");
+        assertEquals("c", map.get(1));
+        assertEquals(2, map.size());
+    }
+
+    @Test
+    public void testRemoveFromSharedBuckets() {
+        // enough tiles that most buckets hold several of them and grow past their initial size
+        PrimitiveIntHashMap<Integer> map = new PrimitiveIntHashMap<>(8);
+        List<Integer> keys = new ArrayList<>();
+        for (int x = 3200; x < 3264; x++) {
+            for (int y = 3200; y < 3264; y++) {
+                int key = WorldPointUtil.packWorldPoint(x, y, 0);
+                map.put(key, keys.size());
+                keys.add(key);
+            }
+        }
+        assertEquals(keys.size(), map.size());
+
+        // the nodes that move into the gaps must stay reachable
+        for (int i = 0; i < keys.size(); i += 3) {
+            assertEquals(Integer.valueOf(i), map.remove(keys.get(i)));
+        }
+        for (int i = 0; i < keys.size(); i++) {
+            if (i % 3 == 0) {
+                assertNull(map.get(keys.get(i)));
+            } else {
+                assertEquals(Integer.valueOf(i), map.get(keys.get(i)));
+            }
+        }
+        assertEquals(keys.size() - (keys.size() + 2) / 3, map.size());
+
+        for (int i = 0; i < keys.size(); i++) {
+            map.remove(keys.get(i));
+        }
+        assertEquals(0, map.size());
+        assertNull(map.get(keys.get(0)));
+    }
+
+    @Test
+    public void testRemoveFromCopy() {
+        PrimitiveIntHashMap<List<Integer>> map = new PrimitiveIntHashMap<>(8);
+        map.put(1, new ArrayList<>(Arrays.asList(1, 2)));
+        PrimitiveIntHashMap<List<Integer>> copy = new PrimitiveIntHashMap<>(map);
+
+        assertEquals(Arrays.asList(1, 2), copy.remove(1));
+        assertNull(copy.get(1));
+        assertEquals(Arrays.asList(1, 2), map.get(1));
+    }
+}
@@ -0,0 +1,153 @@
+package net.runelite.client.plugins.microbot.shortestpath.pathfinder;
+
+import net.runelite.api.Client;
+import net.runelite.api.coords.WorldPoint;
+import net.runelite.client.plugins.microbot.shortestpath.PathfinderAlgorithm;
+import net.runelite.client.plugins.microbot.shortestpath.PrimitiveIntHashMap;
+import net.runelite.client.plugins.microbot.shortestpath.ShortestPathConfig;
+import net.runelite.client.plugins.microbot.shortestpath.Transport;
+import net.runelite.client.plugins.microbot.shortestpath.WorldPointUtil;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Compares the A* engine with the legacy flood fill on the bundled collision map. They must agree on whether a target
+ * is reachable. Walking, both find a shortest path; with transports the flood fill weighs a transport by the distance
+ * walked before it as well, so it may only find a path that is at least as long as the A* one.
+ */
+public class AStarSearchTest {
+    private static final WorldPoint LUMBRIDGE = new WorldPoint(3222, 3218, 0);
+    private static final WorldPoint GRAND_EXCHANGE = new WorldPoint(3164, 3486, 0);
+    private static final WorldPoint DRAYNOR = new WorldPoint(3093, 3244, 0);
+    // Across the Tirannwn border, which can't be crossed on foot
+    private static final WorldPoint TIRANNWN = new WorldPoint(2336, 3171, 0);
+    // Level 36 wilderness, above the level 30 limit of every teleport
+    private static final WorldPoint DEEP_WILDERNESS = new WorldPoint(3090, 3800, 0);
+
+    private static SplitFlagMap map;
+    private static Map<WorldPoint, Set<Transport>> allTransports;
+
+    @BeforeClass
+    public static void load() {
+        map = SplitFlagMap.fromResources();
+        allTransports = Transport.loadAllFromResources();
+    }
+
+    @Test
+    public void testWalking() {
+        assertSamePath(LUMBRIDGE, GRAND_EXCHANGE, false, false);
+        assertSamePath(LUMBRIDGE, DRAYNOR, false, false);
+        assertSamePath(LUMBRIDGE, new WorldPoint(3222, 3219, 0), false, false);
+    }
+
+    @Test
+    public void testUnreachable() {
+        List<WorldPoint> path = assertSamePath(LUMBRIDGE, TIRANNWN, false, false);
+        assertFalse(path.get(path.size() - 1).equals(TIRANNWN));
+    }
+
+    @Test
+    public void testTransports() {
+        List<WorldPoint> walking = assertSamePath(LUMBRIDGE, TIRANNWN, false, false);
+        List<WorldPoint> path = assertSamePath(LUMBRIDGE, TIRANNWN, true, false);
+        assertEquals(TIRANNWN, path.get(path.size() - 1));
+        assertFalse(walking.equals(path));
+    }
+
+    @Test
+    public void testWildernessStart() {
+        List<WorldPoint> walking = assertSamePath(DEEP_WILDERNESS, LUMBRIDGE, false, false);
+        List<WorldPoint> path = assertSamePath(DEEP_WILDERNESS, LUMBRIDGE, false, true);
+        assertEquals(LUMBRIDGE, path.get(path.size() - 1));
+        // the teleport is only taken once the path is below the level 30 limit
+        assertTrue(path.size() < walking.size());
+        for (int i = 1; i < path.size(); i++) {
+            WorldPoint from = path.get(i - 1);
+            if (from.distanceTo(path.get(i)) > 1) {
+                assertTrue(from + " is above level 30", from.getY() < 3752);
+            }
+        }
+    }
+
+    /** Finds the path with both engines, checks that they agree and returns the A* path */
+    private static List<WorldPoint> assertSamePath(WorldPoint start, WorldPoint target, boolean transports, boolean teleports) {
+        List<WorldPoint> legacy = findPath(PathfinderAlgorithm.LEGACY, start, target, transports, teleports);
+        List<WorldPoint> astar = findPath(PathfinderAlgorithm.ASTAR, start, target, transports, teleports);
+        String route = start + " -> " + target;
+        assertFalse(route, astar.isEmpty());
+        assertEquals(route, start, astar.get(0));
+        assertEquals(route + " reachability", legacy.get(legacy.size() - 1).equals(target), astar.get(astar.size() - 1).equals(target));
+        if (astar.get(astar.size() - 1).equals(target)) {
+            if (transports || teleports) {
+                assertTrue(route + " length", cost(astar) <= cost(legacy));
+            } else {
+                assertEquals(route + " length", legacy.size(), astar.size());
+            }
+        }
+        return astar;
+    }
+
+    /** The cost of a path as A* counts it: a tick per step and the duration of the fastest transport for a jump */
+    private static int cost(List<WorldPoint> path) {
+        int cost = 0;
+        for (int i = 1; i < path.size(); i++) {
+            WorldPoint from = path.get(i - 1);
+            WorldPoint to = path.get(i);
+            int step = from.distanceTo(to) == 1 ? 1 : Integer.MAX_VALUE;
+            for (Set<Transport> transports : Arrays.asList(allTransports.get(from), allTransports.get(null))) {
+                if (transports == null) {
+                    continue;
+                }
+                for (Transport transport : transports) {
+                    if (to.equals(transport.getDestination())) {
+                        step = Math.min(step, Math.max(1, transport.getDuration()));
+                    }
+                }
+            }
+            assertTrue("no transport from " + from + " to " + to, step != Integer.MAX_VALUE);
+            cost += step;
+        }
+        return cost;
+    }
+
+    private static List<WorldPoint> findPath(PathfinderAlgorithm algorithm, WorldPoint start, WorldPoint target,
+                                             boolean transports, boolean teleports) {
+        ShortestPathConfig settings = mock(ShortestPathConfig.class);
+        when(settings.pathfinderAlgorithm()).thenReturn(algorithm);
+        when(settings.calculationCutoff()).thenReturn(100);
+        // The client is not logged in, so refresh only applies the settings and the transports are set up here
+        PathfinderConfig config = new PathfinderConfig(map, allTransports, new ArrayList<>(), mock(Client.class), settings);
+        config.refresh();
+
+        PrimitiveIntHashMap<Set<Transport>> packed = new PrimitiveIntHashMap<>(1024);
+        if (transports) {
+            for (Map.Entry<WorldPoint, Set<Transport>> entry : allTransports.entrySet()) {
+                if (entry.getKey() != null) {
+                    Set<Transport> set = new HashSet<>(entry.getValue());
+                    config.getTransports().put(entry.getKey(), set);
+                    packed.put(WorldPointUtil.packWorldPoint(entry.getKey()), set);
+                }
+            }
+        }
+        config.setTransportsPacked(packed);
+        config.setUsableTeleports(teleports ? new HashSet<>(allTransports.get(null)) : Collections.emptySet());
+
+        Pathfinder pathfinder = new Pathfinder(config, start, target);
+        pathfinder.run();
+        return pathfinder.getPath();
+    }
+}
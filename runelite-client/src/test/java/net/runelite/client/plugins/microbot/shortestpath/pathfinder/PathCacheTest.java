@@ -0,0 +1,116 @@
+package net.runelite.client.plugins.microbot.shortestpath.pathfinder;
+
+import net.runelite.api.coords.WorldPoint;
+import net.runelite.client.plugins.microbot.shortestpath.PrimitiveIntHashMap;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class PathCacheTest {
+    private static final WorldPoint START = new WorldPoint(3200, 3200, 0);
+
+    // Tiles that can't be walked out of in any direction
+    private final Set<WorldPoint> blocked = new HashSet<>();
+    private PathfinderConfig config;
+
+    @Before
+    public void before() {
+        CollisionMap map = mock(CollisionMap.class);
+        when(map.traversableMask(anyInt(), anyInt(), anyInt()))
+                .thenAnswer(invocation -> blocked.contains(new WorldPoint(invocation.getArgument(0),
+                        invocation.getArgument(1), invocation.getArgument(2))) ? 0 : 0xFF);
+
+        config = mock(PathfinderConfig.class);
+        when(config.getMap()).thenReturn(map);
+        when(config.getCacheFingerprint()).thenReturn(1L);
+        when(config.getTransportsPacked()).thenReturn(new PrimitiveIntHashMap<>(8));
+        when(config.getUsableTeleports()).thenReturn(Collections.emptySet());
+    }
+
+    @Test
+    public void testHit() {
+        PathCache cache = new PathCache(4);
+        List<WorldPoint> path = line(START, 6);
+        cache.put(START, targets(path), config, path, 1000);
+
+        assertEquals(path, cache.get(START, targets(path), config));
+        // a start on the path resumes from there, one next to it is prepended
+        assertEquals(path.subList(2, path.size()), cache.get(path.get(2), targets(path), config));
+        List<WorldPoint> resumed = cache.get(new WorldPoint(3202, 3201, 0), targets(path), config);
+        assertEquals(new WorldPoint(3202, 3201, 0), resumed.get(0));
+        assertEquals(path.get(1), resumed.get(1));
+        assertEquals(3, cache.getHits());
+    }
+
+    @Test
+    public void testEviction() {
+        PathCache cache = new PathCache(2);
+        List<WorldPoint> first = line(START, 3);
+        List<WorldPoint> second = line(START, 4);
+        List<WorldPoint> third = line(START, 5);
+        cache.put(START, targets(first), config, first, 0);
+        cache.put(START, targets(second), config, second, 0);
+
+        // reading the first path makes the second the least recently used one
+        assertEquals(first, cache.get(START, targets(first), config));
+        cache.put(START, targets(third), config, third, 0);
+
+        assertNull(cache.get(START, targets(second), config));
+        assertEquals(first, cache.get(START, targets(first), config));
+        assertEquals(third, cache.get(START, targets(third), config));
+    }
+
+    @Test
+    public void testFingerprintMismatch() {
+        PathCache cache = new PathCache(4);
+        List<WorldPoint> path = line(START, 6);
+        cache.put(START, targets(path), config, path, 0);
+
+        // e.g. a quest was completed and changed which transports are usable
+        when(config.getCacheFingerprint()).thenReturn(2L);
+        assertNull(cache.get(START, targets(path), config));
+        assertEquals(1, cache.getMisses());
+
+        when(config.getCacheFingerprint()).thenReturn(1L);
+        assertEquals(path, cache.get(START, targets(path), config));
+    }
+
+    @Test
+    public void testBlockedStep() {
+        PathCache cache = new PathCache(4);
+        List<WorldPoint> path = line(START, 6);
+        cache.put(START, targets(path), config, path, 0);
+
+        // e.g. a door on the path was closed
+        blocked.add(path.get(3));
+        assertNull(cache.get(START, targets(path), config));
+        // the steps behind the start are not checked, so resuming past the blocked tile still hits
+        assertEquals(path.subList(4, path.size()), cache.get(path.get(4), targets(path), config));
+
+        blocked.clear();
+        assertEquals(path, cache.get(START, targets(path), config));
+    }
+
+    private static List<WorldPoint> line(WorldPoint start, int length) {
+        List<WorldPoint> path = new ArrayList<>();
+        for (int i = 0; i < length; i++) {
+            path.add(start.dx(i));
+        }
+        return path;
+    }
+
+    private static Set<WorldPoint> targets(List<WorldPoint> path) {
+        return Set.of(path.get(path.size() - 1));
+    }
+}
@@ -0,0 +1,101 @@
+package net.runelite.client.plugins.microbot.shortestpath.pathfinder;
+
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+import static net.runelite.api.Constants.REGION_SIZE;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Compares the memory-mapped collision map with the zip of per-region BitSets it was converted from, decoded the way
+ * the previous loader did.
+ */
+public class SplitFlagMapTest {
+    private static final int FLAG_COUNT = 2;
+
+    private static SplitFlagMap map;
+    private static Map<Integer, BitSet> zipRegions;
+
+    @BeforeClass
+    public static void load() throws IOException {
+        try (InputStream in = SplitFlagMapTest.class.getResourceAsStream("/net/runelite/client/plugins/microbot/shortestpath/collision-map.bin")) {
+            assertNotNull(in);
+            map = new SplitFlagMap(ByteBuffer.wrap(in.readAllBytes()));
+        }
+
+        zipRegions = new HashMap<>();
+        try (ZipInputStream in = new ZipInputStream(SplitFlagMapTest.class.getResourceAsStream("collision-map.zip"))) {
+            ZipEntry entry;
+            while ((entry = in.getNextEntry()) != null) {
+                String[] n = entry.getName().split("_");
+                zipRegions.put(SplitFlagMap.packPosition(Integer.parseInt(n[0]), Integer.parseInt(n[1])),
+                        BitSet.valueOf(in.readAllBytes()));
+            }
+        }
+    }
+
+    @Test
+    public void testExtents() {
+        SplitFlagMap.RegionExtent extents = SplitFlagMap.getRegionExtents();
+        int minX = Integer.MAX_VALUE, minY = Integer.MAX_VALUE, maxX = 0, maxY = 0;
+        for (int position : zipRegions.keySet()) {
+            minX = Math.min(minX, SplitFlagMap.unpackX(position));
+            minY = Math.min(minY, SplitFlagMap.unpackY(position));
+            maxX = Math.max(maxX, SplitFlagMap.unpackX(position));
+            maxY = Math.max(maxY, SplitFlagMap.unpackY(position));
+        }
+        assertEquals(minX, extents.getMinX());
+        assertEquals(minY, extents.getMinY());
+        assertEquals(maxX, extents.getMaxX());
+        assertEquals(maxY, extents.getMaxY());
+    }
+
+    @Test
+    public void testPlaneCounts() {
+        SplitFlagMap.RegionExtent extents = SplitFlagMap.getRegionExtents();
+        byte[] planeCounts = map.getRegionMapPlaneCounts();
+        int scale = REGION_SIZE * REGION_SIZE * FLAG_COUNT;
+        for (int regionY = extents.getMinY(); regionY <= extents.getMaxY(); regionY++) {
+            for (int regionX = extents.getMinX(); regionX <= extents.getMaxX(); regionX++) {
+                int index = (regionX - extents.getMinX()) + (regionY - extents.getMinY()) * (extents.getWidth() + 1);
+                BitSet flags = zipRegions.get(SplitFlagMap.packPosition(regionX, regionY));
+                int expected = flags == null ? 0 : (flags.size() + scale - 1) / scale;
+                assertEquals("plane count of region " + regionX + "," + regionY, expected, planeCounts[index]);
+            }
+        }
+    }
+
+    @Test
+    public void testFlags() {
+        assertTrue(zipRegions.size() > 0);
+        for (Map.Entry<Integer, BitSet> entry : zipRegions.entrySet()) {
+            int baseX = SplitFlagMap.unpackX(entry.getKey()) * REGION_SIZE;
+            int baseY = SplitFlagMap.unpackY(entry.getKey()) * REGION_SIZE;
+            BitSet flags = entry.getValue();
+            int planes = (flags.size() + REGION_SIZE * REGION_SIZE * FLAG_COUNT - 1) / (REGION_SIZE * REGION_SIZE * FLAG_COUNT);
+            for (int z = 0; z < planes; z++) {
+                for (int y = 0; y < REGION_SIZE; y++) {
+                    for (int x = 0; x < REGION_SIZE; x++) {
+                        for (int flag = 0; flag < FLAG_COUNT; flag++) {
+                            int bit = (z * REGION_SIZE * REGION_SIZE + y * REGION_SIZE + x) * FLAG_COUNT + flag;
+                            if (flags.get(bit) != map.get(baseX + x, baseY + y, z, flag)) {
+                                throw new AssertionError("flag " + flag + " differs at " + (baseX + x) + "," + (baseY + y) + "," + z);
+                            }
+                        }
+                    }
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package net.runelite.client.plugins.microbot.util;
+
+import net.runelite.api.Client;
+import net.runelite.client.plugins.microbot.Microbot;
+import net.runelite.client.plugins.microbot.util.GameSignals.Signal;
+import org.junit.Test;
+
+import java.lang.reflect.Field;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+
+public class GameSignalsTest {
+    private static final long TIMEOUT = 10_000;
+
+    @Test
+    public void testSignalWakesWaiter() throws Exception {
+        AtomicBoolean ready = new AtomicBoolean();
+        AtomicInteger evaluations = new AtomicInteger();
+        CompletableFuture<Boolean> result = CompletableFuture.supplyAsync(() -> GameSignals.waitUntil(() -> {
+            evaluations.incrementAndGet();
+            return ready.get();
+        }, TIMEOUT, Signal.GAME_TICK));
+        awaitEvaluations(evaluations, 1);
+
+        // other signals don't wake the waiter
+        ready.set(true);
+        GameSignals.fire(Signal.CLIENT_TICK);
+        Thread.sleep(100);
+        assertFalse(result.isDone());
+
+        long start = System.nanoTime();
+        GameSignals.fire(Signal.GAME_TICK);
+        assertTrue(result.get(5, TimeUnit.SECONDS));
+        assertTrue(System.nanoTime() - start < TimeUnit.SECONDS.toNanos(5));
+    }
+
+    @Test
+    public void testTimeout() {
+        long start = System.nanoTime();
+        assertFalse(GameSignals.waitUntil(() -> false, 50, Signal.GAME_TICK));
+        assertTrue(System.nanoTime() - start >= TimeUnit.MILLISECONDS.toNanos(50));
+    }
+
+    @Test
+    public void testPolling() {
+        // conditions that no signal reports are still evaluated every poll interval
+        AtomicInteger evaluations = new AtomicInteger();
+        assertTrue(GameSignals.waitUntil(() -> evaluations.incrementAndGet() >= 3, TIMEOUT, 10,
+                GameSignals.mask(Signal.GAME_TICK)));
+    }
+
+    @Test
+    public void testInterrupt() throws Exception {
+        AtomicInteger evaluations = new AtomicInteger();
+        AtomicBoolean interrupted = new AtomicBoolean();
+        long[] elapsed = new long[1];
+        Thread thread = new Thread(() -> {
+            long start = System.nanoTime();
+            boolean result = GameSignals.waitUntil(() -> {
+                evaluations.incrementAndGet();
+                return false;
+            }, TIMEOUT, Signal.GAME_TICK);
+            elapsed[0] = System.nanoTime() - start;
+            interrupted.set(!result && Thread.currentThread().isInterrupted());
+        });
+        thread.start();
+        awaitEvaluations(evaluations, 1);
+
+        thread.interrupt();
+        thread.join(5000);
+        assertFalse(thread.isAlive());
+        assertTrue(interrupted.get());
+        assertTrue(elapsed[0] < TimeUnit.MILLISECONDS.toNanos(TIMEOUT));
+    }
+
+    @Test
+    public void testSleepUntilWithSignals() throws Exception {
+        Field field = Microbot.class.getDeclaredField("client");
+        field.setAccessible(true);
+        Object client = field.get(null);
+        field.set(null, mock(Client.class));
+        try {
+            AtomicBoolean ready = new AtomicBoolean();
+            AtomicInteger evaluations = new AtomicInteger();
+            CompletableFuture<Boolean> result = CompletableFuture.supplyAsync(() -> Global.sleepUntil(() -> {
+                evaluations.incrementAndGet();
+                return ready.get();
+            }, (int) TIMEOUT, Signal.ITEM_CONTAINER_CHANGED, Signal.VARBIT_CHANGED));
+            awaitEvaluations(evaluations, 1);
+
+            ready.set(true);
+            GameSignals.fire(Signal.VARBIT_CHANGED);
+            assertTrue(result.get(5, TimeUnit.SECONDS));
+
+            assertFalse(Global.sleepUntil(() -> false, 50, Signal.GAME_TICK));
+        } finally {
+            field.set(null, client);
+        }
+    }
+
+    private static void awaitEvaluations(AtomicInteger evaluations, int count) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (evaluations.get() < count && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+        assertTrue(evaluations.get() >= count);
+    }
+}
@@ -0,0 +1,166 @@
+package net.runelite.client.plugins.microbot.util;
+
+import net.runelite.client.plugins.microbot.inventorysetups.InventorySetup;
+import net.runelite.client.plugins.microbot.inventorysetups.InventorySetupsItem;
+import net.runelite.client.plugins.microbot.inventorysetups.InventorySetupsStackCompareID;
+import net.runelite.client.plugins.microbot.util.inventory.Rs2ItemModel;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BiFunction;
+import java.util.function.IntUnaryOperator;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class LoadoutPlanTest {
+    private static final int COINS = 995;
+    private static final int LOBSTER = 379;
+    private static final int NOTED_LOBSTER = 380;
+    private static final int SHARK = 385;
+    private static final int TINDERBOX = 590;
+    private static final int RUNE_ARROW = 892;
+    private static final int RUNE_SCIMITAR = 1333;
+
+    private final List<Rs2ItemModel> inventory = new ArrayList<>();
+    // The quantity of each item in the bank
+    private final Map<Integer, Integer> bank = new HashMap<>();
+    private Supplier<List<Rs2ItemModel>> inventoryItems;
+    private Predicate<InventorySetupsItem> wornItems;
+    private BiFunction<InventorySetupsItem, Integer, Rs2ItemModel> bankItems;
+    private IntUnaryOperator bankCounts;
+
+    @Before
+    public void before() {
+        inventoryItems = LoadoutPlan.inventoryItems;
+        wornItems = LoadoutPlan.wornItems;
+        bankItems = LoadoutPlan.bankItems;
+        bankCounts = LoadoutPlan.bankCounts;
+        LoadoutPlan.inventoryItems = () -> inventory;
+        LoadoutPlan.wornItems = item -> false;
+        LoadoutPlan.bankItems = (item, amount) -> bank.getOrDefault(item.getId(), 0) >= amount
+                ? item(item.getId(), item.getName(), bank.get(item.getId()), stackable(item.getId()))
+                : null;
+        LoadoutPlan.bankCounts = id -> bank.getOrDefault(id, 0);
+    }
+
+    @After
+    public void after() {
+        LoadoutPlan.inventoryItems = inventoryItems;
+        LoadoutPlan.wornItems = wornItems;
+        LoadoutPlan.bankItems = bankItems;
+        LoadoutPlan.bankCounts = bankCounts;
+    }
+
+    @Test
+    public void testPartialStack() {
+        inventory.add(item(COINS, "Coins", 400, true));
+        bank.put(COINS, 5000);
+        InventorySetup setup = setup(Collections.singletonList(setupItem(COINS, "Coins", 1000)), null);
+
+        assertEquals(Collections.singletonList(new LoadoutPlan.Withdrawal(COINS, 600, false, true)),
+                LoadoutPlan.create(setup, true, false).getWithdrawals());
+
+        // taking the whole bank stack needs no amount prompt
+        bank.put(COINS, 600);
+        assertEquals(Collections.singletonList(new LoadoutPlan.Withdrawal(COINS, 600, true, true)),
+                LoadoutPlan.create(setup, true, false).getWithdrawals());
+    }
+
+    @Test
+    public void testNotStackable() {
+        inventory.add(item(SHARK, "Shark", 1, false));
+        bank.put(SHARK, 10);
+        InventorySetup setup = setup(Arrays.asList(setupItem(SHARK, "Shark", 1), setupItem(SHARK, "Shark", 1),
+                setupItem(SHARK, "Shark", 1)), null);
+
+        LoadoutPlan plan = LoadoutPlan.create(setup, true, false);
+        assertEquals(Collections.singletonList(new LoadoutPlan.Withdrawal(SHARK, 2, false, false)), plan.getWithdrawals());
+        assertTrue(plan.getDeposits().isEmpty());
+    }
+
+    @Test
+    public void testEquipmentStack() {
+        bank.put(RUNE_ARROW, 500);
+        bank.put(RUNE_SCIMITAR, 1);
+        InventorySetup setup = setup(null, Arrays.asList(setupItem(RUNE_ARROW, "Rune arrow", 100),
+                setupItem(RUNE_SCIMITAR, "Rune scimitar", 1)));
+
+        LoadoutPlan plan = LoadoutPlan.create(setup, false, true);
+        // only the worn amount of arrows is taken out
+        assertEquals(Arrays.asList(new LoadoutPlan.Withdrawal(RUNE_ARROW, 100, false, true),
+                new LoadoutPlan.Withdrawal(RUNE_SCIMITAR, 1, true, false)), plan.getWithdrawals());
+        assertEquals(Set.of(RUNE_ARROW, RUNE_SCIMITAR), plan.getEquips());
+
+        bank.put(RUNE_ARROW, 100);
+        assertEquals(new LoadoutPlan.Withdrawal(RUNE_ARROW, 100, true, true),
+                LoadoutPlan.create(setup, false, true).getWithdrawals().get(0));
+    }
+
+    @Test
+    public void testDepositSurplus() {
+        inventory.add(item(TINDERBOX, "Tinderbox", 1, false));
+        inventory.add(item(LOBSTER, "Lobster", 1, false));
+        inventory.add(item(LOBSTER, "Lobster", 1, false));
+        // kept since it has the name of a setup item, like Rs2InventorySetup#itemsToNotDeposit keeps it
+        inventory.add(item(NOTED_LOBSTER, "Lobster", 20, true));
+        InventorySetup setup = setup(Collections.singletonList(setupItem(LOBSTER, "Lobster", 1)), null);
+
+        LoadoutPlan plan = LoadoutPlan.create(setup, true, false);
+        assertEquals(Collections.singletonList(new LoadoutPlan.Deposit(TINDERBOX, 1, true)), plan.getDeposits());
+        assertTrue(plan.getWithdrawals().isEmpty());
+    }
+
+    @Test
+    public void testDepositPoolWhenShortOfSlots() {
+        for (int i = 0; i < 26; i++) {
+            inventory.add(item(LOBSTER, "Lobster", 1, false));
+        }
+        inventory.add(item(NOTED_LOBSTER, "Lobster", 20, true));
+        bank.put(SHARK, 10);
+        InventorySetup setup = setup(Arrays.asList(setupItem(LOBSTER, "Lobster", 1), setupItem(SHARK, "Shark", 1),
+                setupItem(SHARK, "Shark", 1), setupItem(SHARK, "Shark", 1)), null);
+
+        // one free slot for three sharks, so everything the setup does not claim goes, but the kept lobster stays
+        LoadoutPlan plan = LoadoutPlan.create(setup, true, false);
+        assertEquals(Arrays.asList(new LoadoutPlan.Deposit(LOBSTER, 25, false), new LoadoutPlan.Deposit(NOTED_LOBSTER, 20, true)),
+                plan.getDeposits());
+        assertEquals(Collections.singletonList(new LoadoutPlan.Withdrawal(SHARK, 3, false, false)), plan.getWithdrawals());
+    }
+
+    private static boolean stackable(int id) {
+        return id == COINS || id == NOTED_LOBSTER || id == RUNE_ARROW;
+    }
+
+    private static Rs2ItemModel item(int id, String name, int quantity, boolean stackable) {
+        Rs2ItemModel item = mock(Rs2ItemModel.class);
+        when(item.getId()).thenReturn(id);
+        when(item.getName()).thenReturn(name);
+        when(item.getQuantity()).thenReturn(quantity);
+        when(item.isStackable()).thenReturn(stackable);
+        return item;
+    }
+
+    private static InventorySetupsItem setupItem(int id, String name, int quantity) {
+        return new InventorySetupsItem(id, name, quantity, false, InventorySetupsStackCompareID.None, false, -1);
+    }
+
+    private static InventorySetup setup(List<InventorySetupsItem> inventory, List<InventorySetupsItem> equipment) {
+        InventorySetup setup = mock(InventorySetup.class);
+        when(setup.getInventory()).thenReturn(inventory);
+        when(setup.getEquipment()).thenReturn(equipment);
+        return setup;
+    }
+}
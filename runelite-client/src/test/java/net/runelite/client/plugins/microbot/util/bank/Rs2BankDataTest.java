@@ -0,0 +1,136 @@
+package net.runelite.client.plugins.microbot.util.bank;
+
+import net.runelite.api.Item;
+import net.runelite.client.plugins.microbot.util.inventory.Rs2ItemModel;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.IntFunction;
+import java.util.function.IntPredicate;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class Rs2BankDataTest {
+    private final Map<Integer, String> names = new HashMap<>();
+    private final Set<Integer> placeholders = new HashSet<>();
+    private IntFunction<String> itemNames;
+    private IntPredicate placeholderItems;
+
+    @Before
+    public void before() {
+        itemNames = Rs2BankData.itemNames;
+        placeholderItems = Rs2BankData.placeholderItems;
+        Rs2BankData.itemNames = names::get;
+        Rs2BankData.placeholderItems = placeholders::contains;
+    }
+
+    @After
+    public void after() {
+        Rs2BankData.itemNames = itemNames;
+        Rs2BankData.placeholderItems = placeholderItems;
+    }
+
+    @Test
+    public void testLookups() {
+        // enough ids to collide in the open addressing table
+        Item[] items = new Item[1000];
+        for (int i = 0; i < items.length; i++) {
+            items[i] = new Item(i * 64, i + 1);
+        }
+        Rs2BankData data = new Rs2BankData();
+        assertTrue(data.update(items));
+
+        assertEquals(items.length, data.size());
+        for (int i = 0; i < items.length; i++) {
+            assertTrue(data.contains(i * 64));
+            assertEquals(i + 1, data.count(i * 64));
+            assertEquals(i, data.get(i * 64).getSlot());
+        }
+        assertFalse(data.contains(1));
+        assertNull(data.get(1));
+        assertEquals(0, data.count(1));
+    }
+
+    @Test
+    public void testUnchangedBankKeepsItems() {
+        Rs2BankData data = new Rs2BankData();
+        Item[] items = {new Item(10, 1), new Item(20, 5)};
+        assertTrue(data.update(items));
+        Rs2ItemModel first = data.get(10);
+
+        assertFalse(data.update(new Item[]{new Item(10, 1), new Item(20, 5)}));
+        assertSame(first, data.get(10));
+    }
+
+    @Test
+    public void testSlotShift() {
+        Rs2BankData data = new Rs2BankData();
+        data.update(new Item[]{new Item(10, 1), new Item(20, 5), null, new Item(30, 2)});
+        Rs2ItemModel kept = data.get(30);
+        Rs2ItemModel shifted = data.get(20);
+
+        // inserting an item in front moves the items after it one slot along
+        assertTrue(data.update(new Item[]{new Item(10, 1), new Item(15, 1), new Item(20, 5), new Item(30, 2)}));
+        assertEquals(4, data.size());
+        assertEquals(1, data.get(15).getSlot());
+        assertEquals(2, data.get(20).getSlot());
+        assertNotSame(shifted, data.get(20));
+        assertSame(kept, data.get(30));
+        assertEquals(15, data.getBankItems().get(1).getId());
+    }
+
+    @Test
+    public void testPlaceholders() {
+        placeholders.add(21);
+        Rs2BankData data = new Rs2BankData();
+        data.update(new Item[]{new Item(10, 1), new Item(21, 0)});
+
+        assertEquals(1, data.size());
+        assertFalse(data.contains(21));
+        assertTrue(data.hasPlaceholder(21));
+        assertFalse(data.hasPlaceholder(10));
+
+        // the placeholder is replaced once the item is deposited again
+        assertTrue(data.update(new Item[]{new Item(10, 1), new Item(20, 3)}));
+        assertFalse(data.hasPlaceholder(21));
+        assertEquals(3, data.count(20));
+        assertEquals(1, data.get(20).getSlot());
+    }
+
+    @Test
+    public void testDuplicateIds() {
+        Rs2BankData data = new Rs2BankData();
+        data.update(new Item[]{new Item(10, 1), new Item(20, 5), new Item(10, 7)});
+
+        // lookups by id find the first slot holding the item
+        assertEquals(3, data.size());
+        assertEquals(0, data.get(10).getSlot());
+        assertEquals(1, data.count(10));
+        assertEquals(7, data.getBankItems().get(2).getQuantity());
+    }
+
+    @Test
+    public void testNamesOfUnloadedItems() {
+        names.put(10, "Lobster");
+        Rs2BankData data = new Rs2BankData();
+        data.update(new Item[]{new Item(10, 1), new Item(20, 5)});
+        assertEquals(10, data.find("lobster", true, 1).getId());
+        assertNull(data.find("Shark", true, 1));
+
+        // names that were not loaded yet are looked up again
+        names.put(20, "Shark");
+        assertEquals(20, data.find("shark", true, 1).getId());
+        assertEquals(20, data.find("Sha", false, 5).getId());
+        assertNull(data.find("Sha", false, 6));
+    }
+}
@@ -0,0 +1,114 @@
+package net.runelite.client.plugins.microbot.util.grandexchange;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class GeTrackerPriceSourceTest
+{
+	private static final String PRICE_JSON = "{\"data\":{\"overall\":100,\"buying\":101,\"selling\":99,\"buyingQuantity\":5,\"sellingQuantity\":6}}";
+
+	private final AtomicInteger running = new AtomicInteger();
+	private final AtomicInteger maxRunning = new AtomicInteger();
+	private HttpServer server;
+	private GeTrackerPriceSource source;
+
+	@Before
+	public void before() throws IOException
+	{
+		server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+		server.createContext("/api/items/", this::handle);
+		server.setExecutor(Executors.newCachedThreadPool());
+		server.start();
+		source = new GeTrackerPriceSource(HttpClient.newHttpClient(),
+			URI.create("http://127.0.0.1:" + server.getAddress().getPort() + "/api/items/"));
+	}
+
+	@After
+	public void after()
+	{
+		server.stop(0);
+	}
+
+	private void handle(HttpExchange exchange) throws IOException
+	{
+		maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+		try
+		{
+			Thread.sleep(20);
+			String path = exchange.getRequestURI().getPath();
+			int itemId = Integer.parseInt(path.substring(path.lastIndexOf('/') + 1));
+			switch (itemId)
+			{
+				case 2:
+					respond(exchange, 404, "{}");
+					break;
+				case 3:
+					respond(exchange, 429, "");
+					break;
+				case 4:
+					respond(exchange, 200, "{\"error\":\"maintenance\"}");
+					break;
+				default:
+					respond(exchange, 200, PRICE_JSON.replace("\"overall\":100", "\"overall\":" + itemId));
+			}
+		}
+		catch (InterruptedException e)
+		{
+			Thread.currentThread().interrupt();
+		}
+		finally
+		{
+			running.decrementAndGet();
+		}
+	}
+
+	private static void respond(HttpExchange exchange, int status, String body) throws IOException
+	{
+		byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+		exchange.sendResponseHeaders(status, bytes.length == 0 ? -1 : bytes.length);
+		try (OutputStream out = exchange.getResponseBody())
+		{
+			out.write(bytes);
+		}
+	}
+
+	@Test
+	public void testFailedItemsAreLeftOut() throws Exception
+	{
+		Map<Integer, GrandExchangePrice> prices = source.fetch(List.of(1, 2, 3, 4)).get(10, TimeUnit.SECONDS);
+		assertEquals(new GrandExchangePrice(1, 1, 101, 99, 5, 6), prices.get(1));
+		// unknown to GE Tracker
+		assertTrue(prices.containsKey(2));
+		assertNull(prices.get(2));
+		// failed, so they are fetched again later
+		assertFalse(prices.containsKey(3));
+		assertFalse(prices.containsKey(4));
+	}
+
+	@Test
+	public void testConcurrencyIsLimited() throws Exception
+	{
+		List<Integer> itemIds = List.of(10, 11, 12, 13, 14, 15, 16, 17, 18, 19, 20, 21, 22, 23, 24, 25);
+		Map<Integer, GrandExchangePrice> prices = source.fetch(itemIds).get(10, TimeUnit.SECONDS);
+		assertEquals(itemIds.size(), prices.size());
+		assertTrue(maxRunning.get() <= GeTrackerPriceSource.MAX_CONCURRENT_REQUESTS);
+	}
+}
@@ -0,0 +1,113 @@
+package net.runelite.client.plugins.microbot.util.grandexchange;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+public class Rs2GrandExchangePricesTest
+{
+	private static final GrandExchangePrice PRICE = new GrandExchangePrice(1, 100, 101, 99, 5, 6);
+
+	private final AtomicLong now = new AtomicLong();
+	private final AtomicInteger fetches = new AtomicInteger();
+	private volatile boolean failing;
+
+	@Before
+	public void before()
+	{
+		Rs2GrandExchangePrices.clock = now::get;
+		Rs2GrandExchangePrices.setSource(this::fetch);
+	}
+
+	@After
+	public void after()
+	{
+		Rs2GrandExchangePrices.clock = System::nanoTime;
+		Rs2GrandExchangePrices.setSource(new GeTrackerPriceSource());
+	}
+
+	private CompletableFuture<Map<Integer, GrandExchangePrice>> fetch(Collection<Integer> itemIds)
+	{
+		fetches.incrementAndGet();
+		if (failing)
+		{
+			return CompletableFuture.failedFuture(new RuntimeException("429 Too Many Requests"));
+		}
+
+		Map<Integer, GrandExchangePrice> prices = new HashMap<>();
+		for (int itemId : itemIds)
+		{
+			// item 2 is unknown to the source, item 3 fails on its own
+			if (itemId == 1)
+			{
+				prices.put(itemId, PRICE);
+			}
+			else if (itemId == 2)
+			{
+				prices.put(itemId, null);
+			}
+		}
+		return CompletableFuture.completedFuture(prices);
+	}
+
+	@Test
+	public void testFailureKeepsLastKnownPrice()
+	{
+		assertEquals(PRICE, Rs2GrandExchangePrices.get(1));
+
+		// a refresh that fails neither replaces nor expires the price
+		failing = true;
+		now.addAndGet(TimeUnit.MINUTES.toNanos(2));
+		assertEquals(PRICE, Rs2GrandExchangePrices.get(1));
+		now.addAndGet(TimeUnit.MINUTES.toNanos(20));
+		assertEquals(PRICE, Rs2GrandExchangePrices.get(1));
+
+		failing = false;
+		now.addAndGet(TimeUnit.MINUTES.toNanos(10));
+		assertEquals(PRICE, Rs2GrandExchangePrices.get(1));
+	}
+
+	@Test
+	public void testFailureBacksOff()
+	{
+		failing = true;
+		assertNull(Rs2GrandExchangePrices.get(1));
+		assertEquals(1, fetches.get());
+
+		// not requested again until the backoff has passed
+		now.addAndGet(TimeUnit.SECONDS.toNanos(1));
+		assertNull(Rs2GrandExchangePrices.get(1));
+		assertEquals(1, fetches.get());
+
+		failing = false;
+		now.addAndGet(TimeUnit.SECONDS.toNanos(5));
+		assertEquals(PRICE, Rs2GrandExchangePrices.get(1));
+		assertEquals(2, fetches.get());
+	}
+
+	@Test
+	public void testItemsLeftOutAreRetried()
+	{
+		Map<Integer, GrandExchangePrice> prices = Rs2GrandExchangePrices.getAll(List.of(1, 2, 3));
+		assertEquals(Map.of(1, PRICE), prices);
+		assertEquals(1, fetches.get());
+
+		// the unknown item is cached, the failed one is retried after its backoff
+		now.addAndGet(TimeUnit.SECONDS.toNanos(10));
+		Rs2GrandExchangePrices.getAll(List.of(1, 2, 3));
+		assertEquals(2, fetches.get());
+		now.addAndGet(TimeUnit.SECONDS.toNanos(1));
+		Rs2GrandExchangePrices.getAll(List.of(1, 2, 3));
+		assertEquals(2, fetches.get());
+	}
+}
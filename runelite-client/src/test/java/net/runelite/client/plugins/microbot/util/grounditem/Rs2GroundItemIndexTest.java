@@ -0,0 +1,166 @@
+package net.runelite.client.plugins.microbot.util.grounditem;
+
+import net.runelite.api.GameState;
+import net.runelite.api.ItemComposition;
+import net.runelite.api.Tile;
+import net.runelite.api.TileItem;
+import net.runelite.api.coords.WorldPoint;
+import net.runelite.api.events.GameStateChanged;
+import net.runelite.api.events.ItemDespawned;
+import net.runelite.api.events.ItemQuantityChanged;
+import net.runelite.api.events.ItemSpawned;
+import net.runelite.client.game.ItemManager;
+import net.runelite.client.plugins.microbot.Microbot;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.lang.reflect.Field;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class Rs2GroundItemIndexTest {
+    // The price of an item is its id, so the value of a stack is the id times the quantity
+    private static final int BONES = 100;
+    private static final int DAGGER = 150;
+    private static final int SWORD = 200;
+
+    private Object itemManager;
+
+    @Before
+    public void before() throws Exception {
+        ItemManager manager = mock(ItemManager.class);
+        when(manager.getItemComposition(anyInt())).thenAnswer(invocation -> {
+            ItemComposition composition = mock(ItemComposition.class);
+            when(composition.getName()).thenReturn("Item " + invocation.getArgument(0));
+            when(composition.getNote()).thenReturn(-1);
+            return composition;
+        });
+        when(manager.getItemPrice(anyInt())).thenAnswer(invocation -> invocation.getArgument(0));
+        itemManager = getStatic("itemManager");
+        setStatic("itemManager", manager);
+        clear();
+    }
+
+    @After
+    public void after() throws Exception {
+        clear();
+        setStatic("itemManager", itemManager);
+    }
+
+    @Test
+    public void testValueOrder() {
+        Tile tile = tile(3200, 3200, 0);
+        TileItem bones = spawn(tile, BONES, 3);
+        TileItem sword = spawn(tile, SWORD, 1);
+        TileItem dagger = spawn(tile, DAGGER, 2);
+        TileItem sword2 = spawn(tile, SWORD, 1);
+        // equal stacks stay in the order they spawned in
+        assertEquals(Arrays.asList(bones, dagger, sword, sword2), values());
+
+        Rs2GroundItemIndex.onItemQuantityChanged(new ItemQuantityChanged(sword2, tile, 1, 2));
+        Rs2GroundItemIndex.onItemQuantityChanged(new ItemQuantityChanged(bones, tile, 3, 1));
+        assertEquals(Arrays.asList(sword2, dagger, sword, bones), values());
+        assertEquals(400, Rs2GroundItemIndex.peek(item -> true).getTotalGePrice());
+
+        IndexedGroundItem indexed = Rs2GroundItemIndex.peek(item -> item.getTileItem() == dagger);
+        assertTrue(Rs2GroundItemIndex.contains(indexed));
+        Rs2GroundItemIndex.onItemDespawned(new ItemDespawned(tile, dagger));
+        assertFalse(Rs2GroundItemIndex.contains(indexed));
+        assertEquals(Arrays.asList(sword2, sword, bones), values());
+        assertNull(Rs2GroundItemIndex.peek(item -> item.getId() == DAGGER));
+
+        // despawning twice or spawning twice changes nothing
+        Rs2GroundItemIndex.onItemDespawned(new ItemDespawned(tile, dagger));
+        Rs2GroundItemIndex.onItemSpawned(new ItemSpawned(tile, sword));
+        assertEquals(Arrays.asList(sword2, sword, bones), values());
+    }
+
+    @Test
+    public void testQuantityOfUnknownItem() {
+        Tile tile = tile(3200, 3200, 0);
+        TileItem sword = item(SWORD, 3);
+
+        // a quantity change for an item that was missed is taken as its spawn
+        Rs2GroundItemIndex.onItemQuantityChanged(new ItemQuantityChanged(sword, tile, 1, 3));
+        assertEquals(Collections.singletonList(sword), values());
+        assertEquals(600, Rs2GroundItemIndex.peek(item -> true).getTotalGePrice());
+    }
+
+    @Test
+    public void testRange() {
+        // the anchor is next to the corner of four 8x8 cells
+        WorldPoint anchor = new WorldPoint(3207, 3207, 0);
+        TileItem sameCell = spawn(tile(3206, 3206, 0), BONES, 1);
+        TileItem east = spawn(tile(3209, 3205, 0), BONES, 1);
+        TileItem north = spawn(tile(3205, 3209, 0), BONES, 1);
+        TileItem northEast = spawn(tile(3209, 3209, 0), BONES, 1);
+        spawn(tile(3210, 3207, 0), BONES, 1);
+        spawn(tile(3207, 3204, 0), BONES, 1);
+        spawn(tile(3207, 3207, 1), BONES, 1);
+
+        assertEquals(new HashSet<>(Arrays.asList(sameCell, east, north, northEast)), tileItems(Rs2GroundItemIndex.getAll(anchor, 2)));
+        assertEquals(Collections.singleton(sameCell), tileItems(Rs2GroundItemIndex.getAll(new WorldPoint(3206, 3206, 0), 0)));
+        assertEquals(6, Rs2GroundItemIndex.getAll(anchor, 3).size());
+        assertTrue(Rs2GroundItemIndex.getAll(new WorldPoint(3230, 3230, 0), 5).isEmpty());
+    }
+
+    private static List<TileItem> values() {
+        return Rs2GroundItemIndex.getAll(item -> true).stream()
+                .map(IndexedGroundItem::getTileItem)
+                .collect(Collectors.toList());
+    }
+
+    private static Set<TileItem> tileItems(List<IndexedGroundItem> items) {
+        return items.stream().map(IndexedGroundItem::getTileItem).collect(Collectors.toSet());
+    }
+
+    private static TileItem spawn(Tile tile, int id, int quantity) {
+        TileItem item = item(id, quantity);
+        Rs2GroundItemIndex.onItemSpawned(new ItemSpawned(tile, item));
+        return item;
+    }
+
+    private static TileItem item(int id, int quantity) {
+        TileItem item = mock(TileItem.class);
+        when(item.getId()).thenReturn(id);
+        when(item.getQuantity()).thenReturn(quantity);
+        return item;
+    }
+
+    private static Tile tile(int x, int y, int plane) {
+        Tile tile = mock(Tile.class);
+        when(tile.getWorldLocation()).thenReturn(new WorldPoint(x, y, plane));
+        return tile;
+    }
+
+    private static void clear() {
+        GameStateChanged event = new GameStateChanged();
+        event.setGameState(GameState.LOADING);
+        Rs2GroundItemIndex.onGameStateChanged(event);
+    }
+
+    private static Object getStatic(String name) throws Exception {
+        Field field = Microbot.class.getDeclaredField(name);
+        field.setAccessible(true);
+        return field.get(null);
+    }
+
+    private static void setStatic(String name, Object value) throws Exception {
+        Field field = Microbot.class.getDeclaredField(name);
+        field.setAccessible(true);
+        field.set(null, value);
+    }
+}
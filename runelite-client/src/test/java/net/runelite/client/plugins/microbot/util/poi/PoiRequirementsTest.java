@@ -0,0 +1,137 @@
+package net.runelite.client.plugins.microbot.util.poi;
+
+import net.runelite.api.GameState;
+import net.runelite.api.Item;
+import net.runelite.api.ItemContainer;
+import net.runelite.api.Skill;
+import net.runelite.api.events.GameStateChanged;
+import net.runelite.api.events.ItemContainerChanged;
+import net.runelite.api.events.StatChanged;
+import net.runelite.api.events.VarbitChanged;
+import net.runelite.api.gameval.InventoryID;
+import net.runelite.api.gameval.VarPlayerID;
+import net.runelite.api.gameval.VarbitID;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class PoiRequirementsTest {
+    private static final int UNWATCHED_VARBIT = 1;
+
+    private int epoch;
+
+    @Before
+    public void before() {
+        PoiRequirements.onGameStateChanged(gameState(GameState.LOGIN_SCREEN));
+        epoch = PoiRequirements.getEpoch();
+    }
+
+    @Test
+    public void testLevels() {
+        PoiRequirements.onStatChanged(new StatChanged(Skill.MINING, 273_742, 60, 60));
+        assertChanged();
+
+        // experience drops and boosts leave the real level alone
+        PoiRequirements.onStatChanged(new StatChanged(Skill.MINING, 274_000, 60, 60));
+        PoiRequirements.onStatChanged(new StatChanged(Skill.MINING, 274_000, 60, 63));
+        assertUnchanged();
+
+        PoiRequirements.onStatChanged(new StatChanged(Skill.MINING, 302_288, 61, 61));
+        assertChanged();
+    }
+
+    @Test
+    public void testWornItems() {
+        PoiRequirements.onItemContainerChanged(worn(new Item(1333, 1), new Item(892, 100)));
+        assertChanged();
+
+        // firing arrows only changes the quantity
+        PoiRequirements.onItemContainerChanged(worn(new Item(1333, 1), new Item(892, 99)));
+        PoiRequirements.onItemContainerChanged(new ItemContainerChanged(InventoryID.INV, mock(ItemContainer.class)));
+        assertUnchanged();
+
+        PoiRequirements.onItemContainerChanged(worn(new Item(-1, 0), new Item(892, 99)));
+        assertChanged();
+    }
+
+    @Test
+    public void testVarbits() {
+        // unset vars are 0, so setting a var to 0 doesn't change it
+        PoiRequirements.onVarbitChanged(varbit(VarbitID.FALADOR_DIARY_HARD_COMPLETE, 0));
+        PoiRequirements.onVarbitChanged(varbit(UNWATCHED_VARBIT, 1));
+        assertUnchanged();
+
+        PoiRequirements.onVarbitChanged(varbit(VarbitID.FALADOR_DIARY_HARD_COMPLETE, 1));
+        assertChanged();
+        PoiRequirements.onVarbitChanged(varbit(VarbitID.FALADOR_DIARY_HARD_COMPLETE, 1));
+        assertUnchanged();
+    }
+
+    @Test
+    public void testVarps() {
+        PoiRequirements.onVarbitChanged(varp(VarPlayerID.QP, 100));
+        assertChanged();
+
+        // the server sends a varp again when another varbit it holds changes
+        PoiRequirements.onVarbitChanged(varp(VarPlayerID.QP, 100));
+        assertUnchanged();
+
+        PoiRequirements.onVarbitChanged(varp(VarPlayerID.QP, 102));
+        assertChanged();
+    }
+
+    @Test
+    public void testHop() {
+        PoiRequirements.onStatChanged(new StatChanged(Skill.MINING, 273_742, 60, 60));
+        PoiRequirements.onVarbitChanged(varbit(VarbitID.FALADOR_DIARY_HARD_COMPLETE, 1));
+        epoch = PoiRequirements.getEpoch();
+
+        PoiRequirements.onGameStateChanged(gameState(GameState.HOPPING));
+        assertChanged();
+
+        // the values were forgotten, so the ones sent after the hop count as changes
+        PoiRequirements.onStatChanged(new StatChanged(Skill.MINING, 273_742, 60, 60));
+        assertChanged();
+        PoiRequirements.onVarbitChanged(varbit(VarbitID.FALADOR_DIARY_HARD_COMPLETE, 1));
+        assertChanged();
+    }
+
+    private void assertChanged() {
+        assertNotEquals(epoch, PoiRequirements.getEpoch());
+        epoch = PoiRequirements.getEpoch();
+    }
+
+    private void assertUnchanged() {
+        assertEquals(epoch, PoiRequirements.getEpoch());
+    }
+
+    private static GameStateChanged gameState(GameState state) {
+        GameStateChanged event = new GameStateChanged();
+        event.setGameState(state);
+        return event;
+    }
+
+    private static ItemContainerChanged worn(Item... items) {
+        ItemContainer container = mock(ItemContainer.class);
+        when(container.getItems()).thenReturn(items);
+        return new ItemContainerChanged(InventoryID.WORN, container);
+    }
+
+    private static VarbitChanged varbit(int varbitId, int value) {
+        VarbitChanged event = new VarbitChanged();
+        event.setVarbitId(varbitId);
+        event.setValue(value);
+        return event;
+    }
+
+    private static VarbitChanged varp(int varpId, int value) {
+        VarbitChanged event = new VarbitChanged();
+        event.setVarpId(varpId);
+        event.setValue(value);
+        return event;
+    }
+}
@@ -0,0 +1,139 @@
+package net.runelite.client.plugins.microbot.util.poi;
+
+import net.runelite.api.coords.WorldPoint;
+import net.runelite.client.plugins.microbot.shortestpath.ShortestPathPlugin;
+import net.runelite.client.plugins.microbot.shortestpath.pathfinder.CollisionMap;
+import net.runelite.client.plugins.microbot.shortestpath.pathfinder.PathfinderConfig;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class PoiRouterTest {
+    // In the order of OrdinalDirection
+    private static final int[] DX = {-1, 1, 0, 0, -1, 1, -1, 1};
+    private static final int[] DY = {0, 0, -1, 1, -1, -1, 1, 1};
+
+    private static final WorldPoint WEST = new WorldPoint(3200, 3200, 0);
+    private static final WorldPoint EAST = new WorldPoint(3220, 3200, 0);
+    private static final WorldPoint START = new WorldPoint(3205, 3200, 0);
+
+    private final Set<WorldPoint> blocked = new HashSet<>();
+    private final Set<WorldPoint> accessible = new HashSet<>(Arrays.asList(WEST, EAST));
+    private PathfinderConfig previousConfig;
+    private PoiRouter<WorldPoint> router;
+
+    @Before
+    public void before() {
+        CollisionMap map = mock(CollisionMap.class);
+        when(map.isBlocked(anyInt(), anyInt(), anyInt())).thenAnswer(invocation -> blocked.contains(
+                new WorldPoint(invocation.getArgument(0), invocation.getArgument(1), invocation.getArgument(2))));
+        when(map.traversableMask(anyInt(), anyInt(), anyInt())).thenAnswer(invocation ->
+                traversableMask(invocation.getArgument(0), invocation.getArgument(1), invocation.getArgument(2)));
+        PathfinderConfig config = mock(PathfinderConfig.class);
+        when(config.getMap()).thenReturn(map);
+
+        previousConfig = ShortestPathPlugin.pathfinderConfig;
+        ShortestPathPlugin.pathfinderConfig = config;
+        router = new PoiRouter<>("points", Arrays.asList(WEST, EAST), point -> point, accessible::contains,
+                point -> false, 30);
+    }
+
+    @After
+    public void after() {
+        ShortestPathPlugin.pathfinderConfig = previousConfig;
+    }
+
+    @Test
+    public void testNearest() {
+        PoiRouter.Route<WorldPoint> route = router.findNearest(START);
+        assertEquals(WEST, route.getPoi());
+        assertEquals(5, route.getDistance());
+        assertWalkable(route.getPath(), START, WEST);
+        assertEquals(6, route.getPath().size());
+    }
+
+    @Test
+    public void testAroundWall() {
+        for (int y = 3190; y <= 3210; y++) {
+            blocked.add(new WorldPoint(3203, y, 0));
+        }
+
+        // the way around the wall to the west is longer than the way east
+        PoiRouter.Route<WorldPoint> route = router.findNearest(START);
+        assertEquals(EAST, route.getPoi());
+        assertEquals(15, route.getDistance());
+        assertWalkable(route.getPath(), START, EAST);
+
+        route = router.findNearest(new WorldPoint(3202, 3200, 0));
+        assertEquals(WEST, route.getPoi());
+        assertEquals(2, route.getDistance());
+    }
+
+    @Test
+    public void testBlockedPoint() {
+        // like a bank booth, which is used from the tiles around it
+        blocked.add(WEST);
+
+        PoiRouter.Route<WorldPoint> route = router.findNearest(START);
+        assertEquals(WEST, route.getPoi());
+        assertEquals(5, route.getDistance());
+        assertEquals(WEST, route.getPath().get(route.getPath().size() - 1));
+        assertWalkable(route.getPath().subList(0, route.getPath().size() - 1), START, WEST.dx(1));
+    }
+
+    @Test
+    public void testOutsideField() {
+        assertNull(router.findNearest(new WorldPoint(3260, 3200, 0)));
+        assertNull(router.findNearest(new WorldPoint(3205, 3200, 1)));
+    }
+
+    @Test
+    public void testRequirements() {
+        accessible.remove(WEST);
+        assertEquals(EAST, router.findNearest(START).getPoi());
+
+        // the requirements are only evaluated again once the epoch changes
+        accessible.add(WEST);
+        assertFalse(router.isAccessible(WEST));
+        assertEquals(EAST, router.findNearest(START).getPoi());
+
+        PoiRequirements.invalidate();
+        assertTrue(router.isAccessible(WEST));
+        assertEquals(WEST, router.findNearest(START).getPoi());
+    }
+
+    private int traversableMask(int x, int y, int z) {
+        if (blocked.contains(new WorldPoint(x, y, z))) {
+            return 0;
+        }
+        int mask = 0;
+        for (int d = 0; d < DX.length; d++) {
+            if (!blocked.contains(new WorldPoint(x + DX[d], y + DY[d], z))) {
+                mask |= 1 << d;
+            }
+        }
+        return mask;
+    }
+
+    private void assertWalkable(List<WorldPoint> path, WorldPoint start, WorldPoint end) {
+        assertEquals(start, path.get(0));
+        assertEquals(end, path.get(path.size() - 1));
+        for (int i = 1; i < path.size(); i++) {
+            assertEquals(1, path.get(i - 1).distanceTo(path.get(i)));
+            assertFalse(blocked.contains(path.get(i)));
+        }
+    }
+}
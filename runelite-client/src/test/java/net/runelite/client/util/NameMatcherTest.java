@@ -0,0 +1,98 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.util;
+
+import java.util.Arrays;
+import java.util.List;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import org.junit.Test;
+
+public class NameMatcherTest
+{
+	@Test
+	public void testExact()
+	{
+		NameMatcher matcher = NameMatcher.compile(NameMatcher.Mode.EXACT, Arrays.asList("Goblin", " cow ", ""));
+		assertTrue(matcher.matches("goblin"));
+		assertTrue(matcher.matches("COW"));
+		assertFalse(matcher.matches("Cow calf"));
+		assertFalse(matcher.matches(""));
+		assertFalse(matcher.matches(null));
+	}
+
+	@Test
+	public void testContains()
+	{
+		NameMatcher matcher = NameMatcher.compile(NameMatcher.Mode.CONTAINS, Arrays.asList("he", "she", "hers", "bones"));
+		assertTrue(matcher.matches("Big bones"));
+		assertTrue(matcher.matches("usher"));
+		assertTrue(matcher.matches("SHE"));
+		assertFalse(matcher.matches("bone"));
+		assertFalse(matcher.matches("Abyssal whip"));
+	}
+
+	@Test
+	public void testWildcard()
+	{
+		List<String> patterns = Arrays.asList("rune*", "*bones", "dragon*bolts", "Abyssal whip", "a*b*c", "string $ with special character");
+		NameMatcher matcher = NameMatcher.compile(NameMatcher.Mode.WILDCARD, patterns);
+		String[] names = {"rune pouch", "Runeite Ore", "Rune", "Big bones", "bones of a dragon", "Dragon bolts", "dragon bolts (e)",
+			"Abyssal whip", "Adamant dagger", "abc", "acb", "a b c", "string $ with special character", "Dragon"};
+		for (String name : names)
+		{
+			boolean expected = patterns.stream().anyMatch(pattern -> WildcardMatcher.matches(pattern, name));
+			assertEquals(name, expected, matcher.matches(name));
+		}
+	}
+
+	@Test
+	public void testMatchAll()
+	{
+		NameMatcher matcher = NameMatcher.compile(NameMatcher.Mode.WILDCARD, Arrays.asList("*"));
+		assertTrue(matcher.matches("Anything"));
+		assertFalse(matcher.isEmpty());
+		assertTrue(NameMatcher.compile(NameMatcher.Mode.CONTAINS, Arrays.asList("", " ")).isEmpty());
+	}
+
+	@Test
+	public void testPatternIndex()
+	{
+		NameMatcher matcher = NameMatcher.compile(NameMatcher.Mode.WILDCARD, Arrays.asList("coins", "coin*", "*bones"));
+		assertTrue(matcher.matches("Coins", id -> id == 1));
+		assertFalse(matcher.matches("Coins", id -> id == 2));
+		assertTrue(matcher.matches("Big bones", id -> id == 2));
+	}
+
+	@Test
+	public void testCached()
+	{
+		assertSame(NameMatcher.ofCsv(NameMatcher.Mode.EXACT, "Goblin, Cow"), NameMatcher.ofCsv(NameMatcher.Mode.EXACT, "Goblin, Cow"));
+		assertSame(NameMatcher.of(NameMatcher.Mode.CONTAINS, "arrow"), NameMatcher.of(NameMatcher.Mode.CONTAINS, "arrow"));
+		assertTrue(NameMatcher.ofCsv(NameMatcher.Mode.EXACT, "Goblin, Cow").matches("cow"));
+	}
+}
@@ -0,0 +1,133 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.mvn;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.apache.maven.plugin.AbstractMojo;
+import org.apache.maven.plugin.MojoExecutionException;
+import org.apache.maven.plugin.MojoFailureException;
+import org.apache.maven.plugins.annotations.LifecyclePhase;
+import org.apache.maven.plugins.annotations.Mojo;
+import org.apache.maven.plugins.annotations.Parameter;
+import org.objectweb.asm.AnnotationVisitor;
+import org.objectweb.asm.ClassReader;
+import org.objectweb.asm.ClassVisitor;
+import org.objectweb.asm.Opcodes;
+
+/**
+ * Lists the top level classes of the plugin package which are plugins or have a plugin descriptor,
+ * so the client only has to load those instead of every class in the package.
+ */
+@Mojo(
+	name = "build-plugin-index",
+	defaultPhase = LifecyclePhase.PROCESS_CLASSES
+)
+public class PluginIndexMojo extends AbstractMojo
+{
+	private static final String PLUGIN = "net/runelite/client/plugins/Plugin";
+	private static final String PLUGIN_DESCRIPTOR = "Lnet/runelite/client/plugins/PluginDescriptor;";
+
+	@Parameter(defaultValue = "${project.build.outputDirectory}", required = true)
+	private File classesDirectory;
+
+	@Parameter(defaultValue = "net/runelite/client/plugins", required = true)
+	private String pluginPackage;
+
+	@Parameter(required = true)
+	private File indexFile;
+
+	@Override
+	public void execute() throws MojoExecutionException, MojoFailureException
+	{
+		Path root = classesDirectory.toPath();
+		List<String> plugins;
+		try (Stream<Path> files = Files.walk(root.resolve(pluginPackage)))
+		{
+			plugins = files
+				.filter(f -> f.getFileName().toString().endsWith(".class") && f.getFileName().toString().indexOf('$') == -1)
+				.filter(this::isPlugin)
+				.map(f ->
+				{
+					String name = root.relativize(f).toString().replace(File.separatorChar, '.');
+					return name.substring(0, name.length() - ".class".length());
+				})
+				.sorted()
+				.collect(Collectors.toList());
+		}
+		catch (IOException | UncheckedIOException ex)
+		{
+			throw new MojoExecutionException("error reading plugin classes", ex);
+		}
+
+		try
+		{
+			Files.createDirectories(indexFile.toPath().getParent());
+			Files.write(indexFile.toPath(), plugins, StandardCharsets.UTF_8);
+		}
+		catch (IOException ex)
+		{
+			throw new MojoExecutionException("error writing plugin index", ex);
+		}
+
+		getLog().info("Indexed " + plugins.size() + " plugins");
+	}
+
+	private boolean isPlugin(Path classFile)
+	{
+		boolean[] plugin = new boolean[1];
+		try (InputStream in = Files.newInputStream(classFile))
+		{
+			new ClassReader(in).accept(new ClassVisitor(Opcodes.ASM9)
+			{
+				@Override
+				public void visit(int version, int access, String name, String signature, String superName, String[] interfaces)
+				{
+					plugin[0] |= PLUGIN.equals(superName);
+				}
+
+				@Override
+				public AnnotationVisitor visitAnnotation(String descriptor, boolean visible)
+				{
+					plugin[0] |= PLUGIN_DESCRIPTOR.equals(descriptor);
+					return null;
+				}
+			}, ClassReader.SKIP_CODE | ClassReader.SKIP_DEBUG | ClassReader.SKIP_FRAMES);
+		}
+		catch (IOException ex)
+		{
+			throw new UncheckedIOException(ex);
+		}
+		return plugin[0];
+	}
+}